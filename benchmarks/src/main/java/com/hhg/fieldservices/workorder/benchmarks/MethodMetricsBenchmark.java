@@ -0,0 +1,113 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.metrics.MethodMetricsInterceptor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the service and repository method metrics: the same proxied call with
+ * and without {@link MethodMetricsInterceptor}, recorded into the Prometheus registry with
+ * the histograms the service configures. The difference between {@code plain} and the timed benchmarks is the
+ * overhead each request pays per timed call.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MethodMetricsBenchmark {
+
+    private Lookup plain;
+    private Lookup timed;
+    private Lookup timedWithRows;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                // Matches management.metrics.distribution in application.yml
+                if (id.getType() != Meter.Type.TIMER) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(20))
+                    .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(10))
+                    .build()
+                    .merge(config);
+            }
+        });
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        plain = proxy(null);
+        timed = proxy(new MethodMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class),
+            "benchmark.service", "service", null, false));
+        timedWithRows = proxy(new MethodMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class),
+            "benchmark.repository", "repository", "Lookup", true));
+    }
+
+    @Benchmark
+    public List<Long> plain() {
+        return plain.find(7L);
+    }
+
+    @Benchmark
+    public List<Long> timed() {
+        return timed.find(7L);
+    }
+
+    @Benchmark
+    public List<Long> timedWithRows() {
+        return timedWithRows.find(7L);
+    }
+
+    private static Lookup proxy(MethodMetricsInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(new ListLookup());
+        proxyFactory.addInterface(Lookup.class);
+        if (interceptor != null) {
+            proxyFactory.addAdvice(interceptor);
+        }
+        return (Lookup) proxyFactory.getProxy();
+    }
+
+    public interface Lookup {
+
+        List<Long> find(Long id);
+    }
+
+    static class ListLookup implements Lookup {
+
+        private final List<Long> rows = List.of(1L, 2L, 3L);
+
+        @Override
+        public List<Long> find(Long id) {
+            return rows;
+        }
+    }
+}
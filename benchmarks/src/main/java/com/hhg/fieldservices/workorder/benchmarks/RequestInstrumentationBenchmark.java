@@ -0,0 +1,74 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the request instrumentation on a whole request path: the cache-miss lookup behind
+ * {@code GET /api/v1/work-orders/{id}} (service call, repository load, mapping) with the
+ * per-method timers ({@code workorder.method-metrics}) and the statement diagnostics
+ * ({@code workorder.queries}) switched on and off. The difference to the run with both off is
+ * what the instrumentation adds to each request.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestInstrumentationBenchmark {
+
+    private static final int WORK_ORDERS = 10_000;
+
+    @Param({"false", "true"})
+    private boolean methodMetrics;
+
+    @Param({"false", "true"})
+    private boolean queryDiagnostics;
+
+    private ConfigurableApplicationContext context;
+    private WorkOrderService workOrderService;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The cache is off so every lookup takes the database path
+        context = WorkOrderFixtures.startService("instrumentation",
+            "workorder.cache.enabled=false",
+            "workorder.method-metrics.enabled=" + methodMetrics,
+            "workorder.queries.enabled=" + queryDiagnostics,
+            "workorder.outbox.enabled=false",
+            "workorder.history.enabled=false");
+        WorkOrderFixtures.seed(context, WORK_ORDERS);
+        workOrderService = context.getBean(WorkOrderService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public WorkOrderDto findById() {
+        return workOrderService.findById(1 + next++ % WORK_ORDERS);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.diagnostics.QueryDiagnostics;
+import com.hhg.fieldservices.workorder.diagnostics.StatementTrackingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-statement cost of the {@code /actuator/queries} diagnostics: the same prepared query
+ * against embedded H2 through a plain connection and through {@link StatementTrackingDataSource}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class StatementTrackingBenchmark {
+
+    private static final String SELECT = "select id, name, quantity from parts where id between ? and ?";
+
+    @Param({"1", "50"})
+    public int rows;
+
+    private Connection plain;
+    private Connection tracked;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        DataSource database = new DriverManagerDataSource("jdbc:h2:mem:statement-tracking;DB_CLOSE_DELAY=-1");
+        try (Connection connection = database.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists parts (id bigint primary key, name varchar(100), quantity int)");
+            statement.execute("merge into parts select x, 'part-' || x, x % 10 from system_range(1, 1000)");
+        }
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("queryDiagnostics", new QueryDiagnostics(new SimpleMeterRegistry(),
+            Clock.systemUTC(), Duration.ofMillis(100), 100, 500, 50));
+        DataSource trackedDataSource = new StatementTrackingDataSource(database,
+            beanFactory.getBeanProvider(QueryDiagnostics.class));
+        plain = database.getConnection();
+        tracked = trackedDataSource.getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        plain.close();
+        tracked.close();
+    }
+
+    @Benchmark
+    public long plain() throws SQLException {
+        return query(plain);
+    }
+
+    @Benchmark
+    public long tracked() throws SQLException {
+        return query(tracked);
+    }
+
+    private long query(Connection connection) throws SQLException {
+        long sum = 0;
+        try (PreparedStatement select = connection.prepareStatement(SELECT)) {
+            select.setLong(1, 100);
+            select.setLong(2, 99 + rows);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    sum += resultSet.getLong(1) + resultSet.getInt(3) + resultSet.getString(2).length();
+                }
+            }
+        }
+        return sum;
+    }
+}
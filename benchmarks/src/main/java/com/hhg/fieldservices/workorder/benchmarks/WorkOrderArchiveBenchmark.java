@@ -0,0 +1,136 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.dto.CursorPage;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSearchCriteria;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderArchiver;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import com.hhg.fieldservices.workorder.service.WorkOrderStatsService;
+import com.hhg.fieldservices.workorder.service.WorkOrderTextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-table queries against a history-heavy {@code work_orders} table, with the closed work
+ * orders left in place and after {@link WorkOrderArchiver} has moved them to the archive.
+ *
+ * <p>The table is seeded like {@link WorkOrderServiceBenchmark} and then closed down to
+ * about 6% open work orders, the share of a table that has kept a year or more of history.
+ * With {@code archived=true} only those open work orders stay in the hot table, so the
+ * paged queries return the same rows either way while the reconciliations read far fewer.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WorkOrderArchiveBenchmark {
+
+    private static final List<WorkOrderStatus> OPEN = List.of(
+        WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED, WorkOrderStatus.IN_PROGRESS, WorkOrderStatus.ON_HOLD);
+
+    /**
+     * Distinct customers in {@link WorkOrderFixtures#createRequest}
+     */
+    private static final int CUSTOMERS = 5000;
+
+    @Param({"10000", "100000"})
+    private int workOrders;
+
+    @Param({"false", "true"})
+    private boolean archived;
+
+    private ConfigurableApplicationContext context;
+    private WorkOrderService workOrderService;
+    private WorkOrderStatsService statsService;
+    private WorkOrderTextIndex textIndex;
+    private int customer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Without the outbox and status history, seeding leaves no background writes behind
+        context = WorkOrderFixtures.startService("archive",
+            "workorder.outbox.enabled=false", "workorder.history.enabled=false");
+        WorkOrderFixtures.seed(context, workOrders);
+        // Keep every tenth block of ten IDs as seeded and close the rest
+        new JdbcTemplate(context.getBean(DataSource.class)).update("""
+            UPDATE work_orders SET status = CASE MOD(id, 10) WHEN 9 THEN 'CANCELLED' ELSE 'COMPLETED' END
+            WHERE MOD(id / 10, 10) <> 0
+            """);
+        if (archived) {
+            context.getBean(WorkOrderArchiver.class).archiveClosedBefore(LocalDateTime.now().plusSeconds(1));
+        }
+        workOrderService = context.getBean(WorkOrderService.class);
+        statsService = context.getBean(WorkOrderStatsService.class);
+        textIndex = context.getBean(WorkOrderTextIndex.class);
+        // Catch the in-memory indexes up with the seeded and closed rows
+        statsService.reconcile();
+        textIndex.reconcile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * First page of the dispatcher's pending list
+     */
+    @Benchmark
+    public CursorPage<WorkOrderDto> pendingPage() {
+        return workOrderService.findByStatus(WorkOrderStatus.PENDING, null, 20);
+    }
+
+    /**
+     * Open work orders of one customer, read through the customer index that also holds
+     * every closed work order of that customer until they are archived
+     */
+    @Benchmark
+    public CursorPage<WorkOrderSummary> openOrdersOfCustomer() {
+        WorkOrderSearchCriteria criteria = WorkOrderSearchCriteria.builder()
+            .customerId(10_000L + customer++ % CUSTOMERS)
+            .status(OPEN)
+            .build();
+        return workOrderService.findSummaries(criteria, null, 20);
+    }
+
+    /**
+     * The periodic {@code /stats} reconciliation, a GROUP BY over the whole hot table
+     */
+    @Benchmark
+    public void statsReconcile() {
+        statsService.reconcile();
+    }
+
+    /**
+     * The periodic search index reconciliation, which re-reads every hot work order and its items
+     */
+    @Benchmark
+    public void textReconcile() {
+        textIndex.reconcile();
+    }
+}
@@ -0,0 +1,57 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs the JMH benchmarks and, unless told otherwise with {@code -rf}/{@code -rff}, writes
+ * the results as JSON to {@code jmh-results/work-order-service-<version>-<timestamp>.json}
+ * so runs of different releases can be compared. Every other argument is passed to JMH,
+ * e.g. {@code WorkOrderMapperBenchmark -p itemsPerWorkOrder=5}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public final class WorkOrderBenchmarks {
+
+    /**
+     * Options that only print information and run nothing
+     */
+    private static final Set<String> INFO_OPTIONS = Set.of("-h", "-l", "-lp", "-lprof", "-lrf");
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private WorkOrderBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (jmhArgs.stream().anyMatch(INFO_OPTIONS::contains)) {
+            Main.main(args);
+            return;
+        }
+        if (!jmhArgs.contains("-rf")) {
+            jmhArgs.addAll(List.of("-rf", "json"));
+        }
+        if (!jmhArgs.contains("-rff")) {
+            jmhArgs.addAll(List.of("-rff", defaultResultFile().toString()));
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+
+    private static Path defaultResultFile() throws IOException {
+        String version = WorkOrderBenchmarks.class.getPackage().getImplementationVersion();
+        Path directory = Files.createDirectories(Path.of("jmh-results"));
+        return directory.resolve("work-order-service-" + (version == null ? "dev" : version)
+            + "-" + LocalDateTime.now().format(TIMESTAMP) + ".json");
+    }
+}
@@ -0,0 +1,194 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.WorkOrderServiceApplication;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderItemRequest;
+import com.hhg.fieldservices.workorder.dto.BatchCreateResponse;
+import com.hhg.fieldservices.workorder.dto.BatchItemResult;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderItem;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderBatchService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic work orders shaped like production data, and an embedded service to run
+ * them against.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class WorkOrderFixtures {
+
+    private static final String[] CITIES = {"Springfield", "Riverton", "Lakeside", "Fairview", "Georgetown"};
+    private static final String[] ITEM_TYPES = {"LABOR", "PART", "MATERIAL"};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 6, 8, 0);
+    /**
+     * Created work orders must be scheduled in the future, so requests start from tomorrow
+     */
+    private static final LocalDateTime SCHEDULE_START = LocalDate.now().plusDays(1).atTime(8, 0);
+    private static final int SEED_CHUNK = 5000;
+
+    private WorkOrderFixtures() {
+    }
+
+    /**
+     * Start the service without a web server on its own in-memory database, with request
+     * logging turned down so it does not dominate the measurements. Settings are passed as
+     * command-line arguments because {@code application.yml} overrides default properties;
+     * {@code properties} are extra {@code name=value} settings.
+     */
+    static ConfigurableApplicationContext startService(String database, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.hhg.fieldservices.workorder=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.springdoc=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(WorkOrderServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Create work orders through the batch service and spread them across statuses, roughly
+     * 20% pending, 20% assigned, 10% in progress, 10% on hold, 30% completed, 10% cancelled.
+     * Fails if any work order is rejected, so a benchmark never runs against a short table.
+     */
+    static void seed(ConfigurableApplicationContext context, int count) {
+        WorkOrderBatchService batchService = context.getBean(WorkOrderBatchService.class);
+        for (int start = 0; start < count; start += SEED_CHUNK) {
+            List<CreateWorkOrderRequest> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int n = start; n < Math.min(count, start + SEED_CHUNK); n++) {
+                chunk.add(createRequest(n));
+            }
+            BatchCreateResponse response = batchService.createAll(chunk);
+            if (response.getFailed() > 0) {
+                BatchItemResult first = response.getResults().stream()
+                    .filter(result -> !result.isCreated())
+                    .findFirst()
+                    .orElseThrow();
+                throw new IllegalStateException("Seeding rejected " + response.getFailed()
+                    + " work orders, first at " + (start + first.getIndex()) + ": " + first.getErrors());
+            }
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        long seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_orders", Long.class);
+        if (seeded != count) {
+            throw new IllegalStateException("Seeded " + seeded + " work orders, expected " + count);
+        }
+        // Bulk status changes bypass change events; the in-memory indexes catch up on their next reconcile
+        jdbcTemplate.update("""
+            UPDATE work_orders SET
+                status = CASE MOD(id, 10)
+                    WHEN 0 THEN 'PENDING' WHEN 1 THEN 'PENDING'
+                    WHEN 2 THEN 'ASSIGNED' WHEN 3 THEN 'ASSIGNED'
+                    WHEN 4 THEN 'IN_PROGRESS' WHEN 5 THEN 'ON_HOLD'
+                    WHEN 9 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+                assigned_technician_id = CASE WHEN MOD(id, 10) BETWEEN 2 AND 8 THEN 1000 + MOD(id, 50) END,
+                assigned_technician_name = CASE WHEN MOD(id, 10) BETWEEN 2 AND 8 THEN 'Technician ' || MOD(id, 50) END
+            """);
+    }
+
+    /**
+     * A create request with zero to four items
+     */
+    static CreateWorkOrderRequest createRequest(int n) {
+        List<CreateWorkOrderItemRequest> items = new ArrayList<>();
+        for (int i = 0; i < n % 5; i++) {
+            items.add(CreateWorkOrderItemRequest.builder()
+                .itemType(ITEM_TYPES[i % ITEM_TYPES.length])
+                .description("Replacement part " + i + " for unit " + n)
+                .quantity(1 + i)
+                .unitPrice(BigDecimal.valueOf(2500 + i * 125L, 2))
+                .build());
+        }
+        return CreateWorkOrderRequest.builder()
+            .title("Service call " + n)
+            .description("Customer reports the unit is not heating; inspect and repair as needed")
+            .priority(WorkOrderPriority.values()[n % WorkOrderPriority.values().length])
+            .customerId(10_000L + n % 5000)
+            .customerName("Customer " + n % 5000)
+            .customerPhone("555-010-" + String.format("%04d", n % 10_000))
+            .customerEmail("customer" + n % 5000 + "@example.com")
+            .serviceAddress(n + " Main Street")
+            .city(CITIES[n % CITIES.length])
+            .state("IL")
+            .zipCode("62701")
+            .scheduledDate(SCHEDULE_START.plusHours(n % 2000))
+            .estimatedCost(BigDecimal.valueOf(15_000 + n % 50_000, 2))
+            .items(items)
+            .build();
+    }
+
+    /**
+     * A fully populated, persisted-looking work order entity with the given number of items
+     */
+    static WorkOrder workOrder(long id, int itemCount) {
+        WorkOrder workOrder = WorkOrder.builder()
+            .id(id)
+            .workOrderNumber(String.format("WO-%010d", id))
+            .title("Service call " + id)
+            .description("Customer reports the unit is not heating; inspect and repair as needed")
+            .status(WorkOrderStatus.ASSIGNED)
+            .priority(WorkOrderPriority.HIGH)
+            .customerId(10_000L + id)
+            .customerName("Customer " + id)
+            .customerPhone("555-010-0000")
+            .customerEmail("customer" + id + "@example.com")
+            .serviceAddress(id + " Main Street")
+            .city("Springfield")
+            .state("IL")
+            .zipCode("62701")
+            .latitude(39.7817)
+            .longitude(-89.6501)
+            .assignedTechnicianId(1000L)
+            .assignedTechnicianName("Technician 0")
+            .scheduledDate(BASE_TIME.plusDays(1))
+            .estimatedCost(new BigDecimal("250.00"))
+            .notes("Gate code 1234")
+            .items(new ArrayList<>())
+            .createdAt(BASE_TIME)
+            .updatedAt(BASE_TIME)
+            .version(3L)
+            .build();
+        for (int i = 0; i < itemCount; i++) {
+            workOrder.addItem(WorkOrderItem.builder()
+                .id(id * 100 + i)
+                .itemType(ITEM_TYPES[i % ITEM_TYPES.length])
+                .description("Replacement part " + i)
+                .quantity(1 + i)
+                .unitPrice(new BigDecimal("25.00"))
+                .totalPrice(new BigDecimal("25.00").multiply(BigDecimal.valueOf(1 + i)))
+                .createdAt(BASE_TIME)
+                .updatedAt(BASE_TIME)
+                .version(0L)
+                .build());
+        }
+        return workOrder;
+    }
+
+    static List<WorkOrder> workOrders(int count, int itemsPerWorkOrder) {
+        List<WorkOrder> workOrders = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            workOrders.add(workOrder(n, itemsPerWorkOrder));
+        }
+        return workOrders;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of work order lists as returned by the list endpoints, using the
+ * same settings as the service's HTTP message converter.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class WorkOrderJsonBenchmark {
+
+    @Param({"1", "20", "500"})
+    private int listSize;
+
+    @Param({"0", "5"})
+    private int itemsPerWorkOrder;
+
+    private ObjectWriter writer;
+    private List<WorkOrderDto> workOrders;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, WorkOrderDto.class));
+        workOrders = Mappers.getMapper(WorkOrderMapper.class)
+            .toDtoList(WorkOrderFixtures.workOrders(listSize, itemsPerWorkOrder));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(workOrders);
+    }
+}
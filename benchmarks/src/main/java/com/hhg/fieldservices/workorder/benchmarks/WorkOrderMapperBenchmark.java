@@ -0,0 +1,65 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost as the number of line items grows.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class WorkOrderMapperBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int itemsPerWorkOrder;
+
+    /**
+     * Work orders per {@code toDtoList} call; 20 is the default page size
+     */
+    @Param({"20", "500"})
+    private int listSize;
+
+    private WorkOrderMapper mapper;
+    private WorkOrder workOrder;
+    private List<WorkOrder> workOrders;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(WorkOrderMapper.class);
+        workOrder = WorkOrderFixtures.workOrder(1L, itemsPerWorkOrder);
+        workOrders = WorkOrderFixtures.workOrders(listSize, itemsPerWorkOrder);
+    }
+
+    @Benchmark
+    public WorkOrderDto toDto() {
+        return mapper.toDto(workOrder);
+    }
+
+    @Benchmark
+    public List<WorkOrderDto> toDtoList() {
+        return mapper.toDtoList(workOrders);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.CursorPage;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WorkOrderService} create and status lookups against an embedded H2 database seeded
+ * with {@code workOrders} rows through the real service stack: transactions, Flyway schema
+ * and indexes, change events, outbox and in-memory indexes.
+ *
+ * <p>Each fork boots and seeds its own service, so larger volumes mostly cost setup time.
+ * Every {@code create} call adds a row; over a run the table grows by the number of
+ * invocations, which is small next to the seeded volume.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WorkOrderServiceBenchmark {
+
+    @Param({"10000", "100000"})
+    private int workOrders;
+
+    private ConfigurableApplicationContext context;
+    private WorkOrderService workOrderService;
+    private int created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = WorkOrderFixtures.startService("benchmark");
+        WorkOrderFixtures.seed(context, workOrders);
+        workOrderService = context.getBean(WorkOrderService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public WorkOrderDto create() {
+        CreateWorkOrderRequest request = WorkOrderFixtures.createRequest(workOrders + created++);
+        return workOrderService.create(request);
+    }
+
+    /**
+     * First page of the status list at the endpoint's default page size
+     */
+    @Benchmark
+    public CursorPage<WorkOrderDto> findByStatus(StatusFilter filter) {
+        return workOrderService.findByStatus(filter.status, null, 20);
+    }
+
+    /**
+     * Kept apart so {@code create} is not repeated for every status
+     */
+    @State(Scope.Benchmark)
+    public static class StatusFilter {
+
+        /**
+         * PENDING is a typical dispatcher filter; COMPLETED is the largest status
+         */
+        @Param({"PENDING", "COMPLETED"})
+        private WorkOrderStatus status;
+    }
+}
@@ -0,0 +1,119 @@
+package com.hhg.fieldservices.workorder.benchmarks;
+
+import com.hhg.fieldservices.workorder.repository.WorkOrderLocation;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.service.GeoPoint;
+import com.hhg.fieldservices.workorder.service.WorkOrderSpatialIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WorkOrderSpatialIndex#findNearest} over 500,000 located open work orders, the size
+ * the nearby search is expected to answer in well under 10 ms.
+ *
+ * <p>Work orders are spread like a national dispatch load: 90% around 60 metro areas
+ * (standard deviation about 30 km) and 10% anywhere in the continental US. Queries start
+ * near a metro area, as a technician's position would, and cycle through a fixed set of
+ * points so every invocation scans a different neighbourhood. The index is seeded through
+ * its reconciliation with the default cell size.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class WorkOrderSpatialIndexBenchmark {
+
+    private static final int METROS = 60;
+    private static final int QUERIES = 1024;
+
+    @Param({"500000"})
+    private int workOrders;
+
+    /**
+     * Matches returned; 10 is the nearby endpoint's default, 100 its maximum
+     */
+    @Param({"10", "100"})
+    private int limit;
+
+    /**
+     * Search radius; 25 km is the nearby endpoint's default
+     */
+    @Param({"25", "100"})
+    private double radiusKm;
+
+    private WorkOrderSpatialIndex index;
+    private GeoPoint[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        GeoPoint[] metros = new GeoPoint[METROS];
+        for (int i = 0; i < METROS; i++) {
+            metros[i] = uniform(random);
+        }
+        List<WorkOrderLocation> locations = new ArrayList<>(workOrders);
+        for (long id = 1; id <= workOrders; id++) {
+            GeoPoint point = random.nextInt(10) == 0 ? uniform(random)
+                : near(metros[random.nextInt(METROS)], 0.3, random);
+            locations.add(new WorkOrderLocation(id, point.latitude(), point.longitude(), 0L));
+        }
+        index = new WorkOrderSpatialIndex(repository(locations), new SimpleMeterRegistry(), true, workOrders, 0.05);
+        index.reconcile();
+
+        queries = new GeoPoint[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = near(metros[random.nextInt(METROS)], 0.2, random);
+        }
+    }
+
+    @Benchmark
+    public List<WorkOrderSpatialIndex.Neighbor> findNearest() {
+        GeoPoint point = queries[next];
+        next = (next + 1) % QUERIES;
+        return index.findNearest(point, radiusKm, limit);
+    }
+
+    /**
+     * Repository that only answers the reconciliation query, with the seeded locations
+     */
+    private static WorkOrderRepository repository(List<WorkOrderLocation> locations) {
+        return (WorkOrderRepository) Proxy.newProxyInstance(WorkOrderRepository.class.getClassLoader(),
+            new Class<?>[] {WorkOrderRepository.class}, (proxy, method, args) -> {
+                if (method.getName().equals("findOpenLocations")) {
+                    return locations;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static GeoPoint uniform(Random random) {
+        return new GeoPoint(25 + random.nextDouble() * 24, -124 + random.nextDouble() * 57);
+    }
+
+    private static GeoPoint near(GeoPoint center, double degrees, Random random) {
+        return new GeoPoint(center.latitude() + random.nextGaussian() * degrees,
+            center.longitude() + random.nextGaussian() * degrees);
+    }
+}
@@ -3,16 +3,18 @@
  * Main component for managing work orders with CRUD operations
  */
 
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import type {
   WorkOrder,
   CreateWorkOrderRequest,
   UpdateWorkOrderRequest,
   WorkOrderStatus,
+  WorkOrderStreamFilter,
 } from '../../types/workOrder';
-import type { PaginatedResponse } from '../../types/common';
+import type { CursorPage } from '../../types/common';
 import workOrderService from '../../services/workOrder.service';
 import { useApi } from '../../hooks/useApi';
+import { applyWorkOrderChange } from '../../hooks/useWorkOrders';
 import WorkOrderList from './WorkOrderList';
 import WorkOrderForm from './WorkOrderForm';
 import WorkOrderDetails from './WorkOrderDetails';
@@ -20,15 +22,56 @@ import WorkOrderFilters, { type FilterCriteria } from './WorkOrderFilters';
 import Button from '../common/Button';
 
 type ViewMode = 'list' | 'create' | 'edit' | 'view';
-type WorkOrderResult = WorkOrder[] | PaginatedResponse<WorkOrder> | null;
+type WorkOrderResult = CursorPage<WorkOrder> | null;
 
 const DEFAULT_PAGE_SIZE = 100;
 
+/**
+ * Delay before reloading the list after work orders are created elsewhere, so a burst
+ * of creates costs one reload
+ */
+const CREATED_RELOAD_DELAY_MS = 1000;
+
+/**
+ * Live stream filter matching a list filter; priority and overdue lists follow every change
+ */
+const toStreamFilter = (filter: FilterCriteria): WorkOrderStreamFilter => {
+  switch (filter.type) {
+    case 'status':
+      return filter.value ? { status: [filter.value as WorkOrderStatus] } : {};
+    case 'customer':
+      return filter.value ? { customerId: Number(filter.value) } : {};
+    case 'technician':
+      return filter.value ? { technicianId: Number(filter.value) } : {};
+    default:
+      return {};
+  }
+};
+
+/**
+ * Whether a loaded work order still belongs in the list after a change
+ */
+const stillMatches = (workOrder: WorkOrder, filter: FilterCriteria): boolean => {
+  switch (filter.type) {
+    case 'status':
+      return !filter.value || workOrder.status === filter.value;
+    case 'priority':
+      return !filter.value || workOrder.priority === filter.value;
+    case 'technician':
+      return !filter.value || workOrder.assignedTechnicianId === Number(filter.value);
+    case 'overdue':
+      return workOrder.status !== 'COMPLETED' && workOrder.status !== 'CANCELLED';
+    default:
+      return true;
+  }
+};
+
 export const WorkOrders = () => {
   const [viewMode, setViewMode] = useState<ViewMode>('list');
   const [selectedWorkOrder, setSelectedWorkOrder] = useState<WorkOrder | undefined>();
   const [workOrders, setWorkOrders] = useState<WorkOrder[]>([]);
   const [currentFilter, setCurrentFilter] = useState<FilterCriteria>({ type: 'all' });
+  const reloadTimer = useRef<ReturnType<typeof setTimeout> | undefined>(undefined);
 
   // API hooks
   const {
@@ -103,41 +146,78 @@ export const WorkOrders = () => {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
+  // Apply live changes to the loaded list instead of reloading it
+  useEffect(() => {
+    const closeStream = workOrderService.streamChanges(
+      toStreamFilter(currentFilter),
+      (change) => {
+        if (change.type === 'CREATED') {
+          reloadTimer.current ??= setTimeout(() => {
+            reloadTimer.current = undefined;
+            loadWorkOrders(currentFilter);
+          }, CREATED_RELOAD_DELAY_MS);
+          return;
+        }
+        setWorkOrders((current) =>
+          applyWorkOrderChange(current, change).filter((workOrder) =>
+            stillMatches(workOrder, currentFilter),
+          ),
+        );
+      },
+      () => loadWorkOrders(currentFilter),
+    );
+    return () => {
+      closeStream();
+      clearTimeout(reloadTimer.current);
+      reloadTimer.current = undefined;
+    };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [currentFilter]);
+
+  const replaceWorkOrder = (workOrder: WorkOrder) => {
+    setWorkOrders((current) =>
+      current
+        .map((loaded) =>
+          loaded.id === workOrder.id && loaded.version <= workOrder.version ? workOrder : loaded,
+        )
+        .filter((loaded) => stillMatches(loaded, currentFilter)),
+    );
+  };
+
   const loadWorkOrders = async (filter: FilterCriteria = currentFilter) => {
     let result: WorkOrderResult = null;
 
     switch (filter.type) {
       case 'status':
         if (filter.value) {
-          result = await fetchByStatus(filter.value as WorkOrderStatus);
+          result = await fetchByStatus(filter.value as WorkOrderStatus, undefined, DEFAULT_PAGE_SIZE);
         }
         break;
       case 'priority':
         if (filter.value) {
-          result = await fetchByPriority(filter.value);
+          result = await fetchByPriority(filter.value, undefined, DEFAULT_PAGE_SIZE);
         }
         break;
       case 'customer':
         if (filter.value) {
-          result = await fetchByCustomerId(Number(filter.value));
+          result = await fetchByCustomerId(Number(filter.value), undefined, DEFAULT_PAGE_SIZE);
         }
         break;
       case 'technician':
         if (filter.value) {
-          result = await fetchByTechnicianId(Number(filter.value));
+          result = await fetchByTechnicianId(Number(filter.value), undefined, DEFAULT_PAGE_SIZE);
         }
         break;
       case 'overdue':
-        result = await fetchOverdue();
+        result = await fetchOverdue(undefined, DEFAULT_PAGE_SIZE);
         break;
       default:
-        result = await fetchWorkOrders(0, DEFAULT_PAGE_SIZE);
+        result = await fetchWorkOrders(undefined, DEFAULT_PAGE_SIZE);
         break;
     }
 
     if (result) {
-      // Handle both array results and paginated results
-      setWorkOrders(Array.isArray(result) ? result : result.content);
+      setWorkOrders(result.content);
     }
   };
 
@@ -169,7 +249,7 @@ export const WorkOrders = () => {
     ) {
       const result = await deleteWorkOrder(workOrder.id);
       if (result !== null) {
-        await loadWorkOrders();
+        setWorkOrders((current) => current.filter((loaded) => loaded.id !== workOrder.id));
         setViewMode('list');
       }
     }
@@ -188,7 +268,7 @@ export const WorkOrders = () => {
 
     const result = await updateWorkOrder(selectedWorkOrder.id, data);
     if (result) {
-      await loadWorkOrders();
+      replaceWorkOrder(result);
       setSelectedWorkOrder(result);
       setViewMode('view');
     }
@@ -205,7 +285,7 @@ export const WorkOrders = () => {
     const result = await assignToTechnician(selectedWorkOrder.id, technicianId, technicianName);
     if (result) {
       setSelectedWorkOrder(result);
-      await loadWorkOrders();
+      replaceWorkOrder(result);
     }
   };
 
@@ -215,7 +295,7 @@ export const WorkOrders = () => {
     const result = await updateStatus(selectedWorkOrder.id, status);
     if (result) {
       setSelectedWorkOrder(result);
-      await loadWorkOrders();
+      replaceWorkOrder(result);
     }
   };
 
@@ -6,7 +6,33 @@
 import { useState, useCallback } from 'react';
 import { useApi } from './useApi';
 import workOrderService from '../services/workOrder.service';
-import type { WorkOrder, WorkOrderStatus } from '../types/workOrder';
+import type { WorkOrder, WorkOrderChangeNotification, WorkOrderStatus } from '../types/workOrder';
+
+/**
+ * Apply a live change notification to a list of loaded work orders.
+ * Deleted work orders are removed; work orders not in the list and notifications older
+ * than the loaded version are ignored.
+ */
+export function applyWorkOrderChange(
+  workOrders: WorkOrder[],
+  change: WorkOrderChangeNotification,
+): WorkOrder[] {
+  if (change.type === 'DELETED') {
+    return workOrders.filter((workOrder) => workOrder.id !== change.id);
+  }
+  return workOrders.map((workOrder) =>
+    workOrder.id === change.id && workOrder.version <= change.version
+      ? {
+          ...workOrder,
+          status: change.status,
+          priority: change.priority,
+          assignedTechnicianId: change.assignedTechnicianId,
+          assignedTechnicianName: change.assignedTechnicianName,
+          version: change.version,
+        }
+      : workOrder,
+  );
+}
 
 /**
  * Hook for managing work order operations
@@ -27,11 +53,11 @@ export function useWorkOrders() {
   const updateStatusApi = useApi(workOrderService.updateStatus);
 
   /**
-   * Load all work orders with pagination
+   * Load a page of work orders
    */
   const loadAll = useCallback(
-    async (page = 0, size = 100) => {
-      const result = await getAllApi.execute(page, size);
+    async (cursor?: string, size = 100) => {
+      const result = await getAllApi.execute(cursor, size);
       if (result) {
         setWorkOrders(result.content);
       }
@@ -47,7 +73,7 @@ export function useWorkOrders() {
     async (status: WorkOrderStatus) => {
       const result = await getByStatusApi.execute(status);
       if (result) {
-        setWorkOrders(result);
+        setWorkOrders(result.content);
       }
       return result;
     },
@@ -61,7 +87,7 @@ export function useWorkOrders() {
     async (priority: string) => {
       const result = await getByPriorityApi.execute(priority);
       if (result) {
-        setWorkOrders(result);
+        setWorkOrders(result.content);
       }
       return result;
     },
@@ -75,7 +101,7 @@ export function useWorkOrders() {
     async (customerId: number) => {
       const result = await getByCustomerIdApi.execute(customerId);
       if (result) {
-        setWorkOrders(result);
+        setWorkOrders(result.content);
       }
       return result;
     },
@@ -89,7 +115,7 @@ export function useWorkOrders() {
     async (technicianId: number) => {
       const result = await getByTechnicianIdApi.execute(technicianId);
       if (result) {
-        setWorkOrders(result);
+        setWorkOrders(result.content);
       }
       return result;
     },
@@ -102,7 +128,7 @@ export function useWorkOrders() {
   const loadOverdue = useCallback(async () => {
     const result = await getOverdueApi.execute();
     if (result) {
-      setWorkOrders(result);
+      setWorkOrders(result.content);
     }
     return result;
   }, [getOverdueApi]);
@@ -127,6 +153,14 @@ export function useWorkOrders() {
     [updateStatusApi],
   );
 
+  /**
+   * Apply a live change notification to the loaded work orders.
+   * Work orders not yet loaded are ignored; callers reload lists they need to grow.
+   */
+  const applyChange = useCallback((change: WorkOrderChangeNotification) => {
+    setWorkOrders((current) => applyWorkOrderChange(current, change));
+  }, []);
+
   // Combined loading state
   const isLoading =
     getAllApi.loading ||
@@ -162,6 +196,7 @@ export function useWorkOrders() {
     getById: getByIdApi.execute,
     assignToTechnician,
     updateStatus,
+    applyChange,
   };
 }
 
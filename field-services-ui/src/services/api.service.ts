@@ -26,6 +26,13 @@ export class ApiException extends Error {
   }
 }
 
+/**
+ * Read-your-writes token issued by the backend after a write. Sent back on every
+ * request so reads served by a lagging read replica still include this session's writes.
+ */
+const CONSISTENCY_TOKEN_HEADER = 'X-Consistency-Token';
+let consistencyToken: string | null = null;
+
 /**
  * HTTP request options
  */
@@ -55,6 +62,9 @@ async function request<T>(endpoint: string, options: RequestOptions = {}): Promi
   if (!headers.has('Content-Type')) {
     headers.set('Content-Type', 'application/json');
   }
+  if (consistencyToken && !headers.has(CONSISTENCY_TOKEN_HEADER)) {
+    headers.set(CONSISTENCY_TOKEN_HEADER, consistencyToken);
+  }
 
   try {
     const response = await fetch(url.toString(), {
@@ -62,6 +72,11 @@ async function request<T>(endpoint: string, options: RequestOptions = {}): Promi
       headers,
     });
 
+    const issuedToken = response.headers.get(CONSISTENCY_TOKEN_HEADER);
+    if (issuedToken && (!consistencyToken || Number(issuedToken) > Number(consistencyToken))) {
+      consistencyToken = issuedToken;
+    }
+
     // Handle non-2xx responses
     if (!response.ok) {
       const errorData = await response.json().catch(() => ({}));
@@ -4,29 +4,38 @@
  */
 
 import apiService from './api.service';
+import config from '../config/env';
 import type {
   WorkOrder,
   WorkOrderStatus,
   CreateWorkOrderRequest,
   UpdateWorkOrderRequest,
+  WorkOrderChangeNotification,
+  WorkOrderStreamFilter,
 } from '../types/workOrder';
-import type { PaginatedResponse } from '../types/common';
+import type { CursorPage } from '../types/common';
 
 const BASE_PATH = '/api/v1/work-orders';
 
+/**
+ * Build keyset pagination query params
+ */
+const pageParams = (cursor?: string, size = 20): Record<string, string> =>
+  cursor ? { cursor, size: String(size) } : { size: String(size) };
+
 /**
  * Work Order Service
  */
 export const workOrderService = {
   /**
-   * Get all work orders with optional pagination
-   * @param page - Page number (0-indexed)
+   * Get a page of work orders
+   * @param cursor - Continuation token from the previous page (omit for the first page)
    * @param size - Page size
-   * @returns Paginated list of work orders
+   * @returns Page of work orders
    */
-  getAll: (page = 0, size = 20): Promise<PaginatedResponse<WorkOrder>> => {
-    return apiService.get<PaginatedResponse<WorkOrder>>(BASE_PATH, {
-      params: { page: String(page), size: String(size) },
+  getAll: (cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(BASE_PATH, {
+      params: pageParams(cursor, size),
     });
   },
 
@@ -78,45 +87,65 @@ export const workOrderService = {
   /**
    * Get work orders by status
    * @param status - Work order status
-   * @returns List of work orders
+   * @param cursor - Continuation token from the previous page
+   * @param size - Page size
+   * @returns Page of work orders
    */
-  getByStatus: (status: WorkOrderStatus): Promise<WorkOrder[]> => {
-    return apiService.get<WorkOrder[]>(`${BASE_PATH}/status/${status}`);
+  getByStatus: (status: WorkOrderStatus, cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(`${BASE_PATH}/status/${status}`, {
+      params: pageParams(cursor, size),
+    });
   },
 
   /**
    * Get work orders by priority
    * @param priority - Work order priority
-   * @returns List of work orders
+   * @param cursor - Continuation token from the previous page
+   * @param size - Page size
+   * @returns Page of work orders
    */
-  getByPriority: (priority: string): Promise<WorkOrder[]> => {
-    return apiService.get<WorkOrder[]>(`${BASE_PATH}/priority/${priority}`);
+  getByPriority: (priority: string, cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(`${BASE_PATH}/priority/${priority}`, {
+      params: pageParams(cursor, size),
+    });
   },
 
   /**
    * Get work orders by customer ID
    * @param customerId - Customer ID
-   * @returns List of work orders
+   * @param cursor - Continuation token from the previous page
+   * @param size - Page size
+   * @returns Page of work orders
    */
-  getByCustomerId: (customerId: number): Promise<WorkOrder[]> => {
-    return apiService.get<WorkOrder[]>(`${BASE_PATH}/customer/${customerId}`);
+  getByCustomerId: (customerId: number, cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(`${BASE_PATH}/customer/${customerId}`, {
+      params: pageParams(cursor, size),
+    });
   },
 
   /**
    * Get work orders by technician ID
    * @param technicianId - Technician ID
-   * @returns List of work orders
+   * @param cursor - Continuation token from the previous page
+   * @param size - Page size
+   * @returns Page of work orders
    */
-  getByTechnicianId: (technicianId: number): Promise<WorkOrder[]> => {
-    return apiService.get<WorkOrder[]>(`${BASE_PATH}/technician/${technicianId}`);
+  getByTechnicianId: (technicianId: number, cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(`${BASE_PATH}/technician/${technicianId}`, {
+      params: pageParams(cursor, size),
+    });
   },
 
   /**
    * Get overdue work orders
-   * @returns List of overdue work orders
+   * @param cursor - Continuation token from the previous page
+   * @param size - Page size
+   * @returns Page of overdue work orders
    */
-  getOverdue: (): Promise<WorkOrder[]> => {
-    return apiService.get<WorkOrder[]>(`${BASE_PATH}/overdue`);
+  getOverdue: (cursor?: string, size = 20): Promise<CursorPage<WorkOrder>> => {
+    return apiService.get<CursorPage<WorkOrder>>(`${BASE_PATH}/overdue`, {
+      params: pageParams(cursor, size),
+    });
   },
 
   /**
@@ -150,6 +179,33 @@ export const workOrderService = {
       params: { status },
     });
   },
+
+  /**
+   * Follow live work order changes over Server-Sent Events.
+   * The browser reconnects on its own and resumes where it left off.
+   * @param filter - Statuses, technician or customer to follow
+   * @param onChange - Called for every change
+   * @param onReset - Called when missed changes cannot be replayed and lists should be reloaded
+   * @returns Function that closes the stream
+   */
+  streamChanges: (
+    filter: WorkOrderStreamFilter,
+    onChange: (change: WorkOrderChangeNotification) => void,
+    onReset: () => void,
+  ): (() => void) => {
+    const url = new URL(`${BASE_PATH}/stream`, config.apiBaseUrl);
+    filter.status?.forEach((status) => url.searchParams.append('status', status));
+    if (filter.technicianId !== undefined) {
+      url.searchParams.set('technicianId', String(filter.technicianId));
+    }
+    if (filter.customerId !== undefined) {
+      url.searchParams.set('customerId', String(filter.customerId));
+    }
+    const source = new EventSource(url.toString());
+    source.addEventListener('change', (event) => onChange(JSON.parse((event as MessageEvent).data)));
+    source.addEventListener('reset', () => onReset());
+    return () => source.close();
+  },
 };
 
 export default workOrderService;
@@ -22,6 +22,16 @@ export interface PaginatedResponse<T> {
   totalPages: number;
 }
 
+/**
+ * Keyset-paginated response; pass nextCursor back as the cursor param for the next page
+ */
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  nextCursor?: string;
+  hasNext: boolean;
+}
+
 /**
  * Error response
  */
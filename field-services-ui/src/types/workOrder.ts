@@ -108,3 +108,32 @@ export interface UpdateWorkOrderRequest {
   actualCost?: number;
   notes?: string;
 }
+
+/**
+ * Kind of work order change
+ */
+export type WorkOrderChangeType = 'CREATED' | 'STATUS_CHANGED' | 'ASSIGNED' | 'UPDATED' | 'DELETED';
+
+/**
+ * Live change notification from the work order stream
+ */
+export interface WorkOrderChangeNotification {
+  type: WorkOrderChangeType;
+  id: number;
+  workOrderNumber: string;
+  status: WorkOrderStatus;
+  priority: WorkOrderPriority;
+  customerId?: number;
+  assignedTechnicianId?: number;
+  assignedTechnicianName?: string;
+  version: number;
+}
+
+/**
+ * Filter for the live work order stream; omitted fields match everything
+ */
+export interface WorkOrderStreamFilter {
+  status?: WorkOrderStatus[];
+  technicianId?: number;
+  customerId?: number;
+}
@@ -0,0 +1,103 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import com.hhg.fieldservices.workorder.dto.BatchCreateResponse;
+import com.hhg.fieldservices.workorder.dto.BatchItemResult;
+import com.hhg.fieldservices.workorder.dto.BulkAssignRequest;
+import com.hhg.fieldservices.workorder.dto.BulkStatusUpdateRequest;
+import com.hhg.fieldservices.workorder.dto.BulkUpdateResponse;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the dataset through the public batch and bulk endpoints, so it works the same
+ * against an in-process service and a deployed one. Work orders end up roughly 20% pending,
+ * 25% assigned, 15% in progress, 30% completed and 10% cancelled.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class DatasetSeeder {
+
+    private static final int CHUNK = 1000;
+
+    private final WorkOrderClient client;
+    private final Random random;
+
+    DatasetSeeder(WorkOrderClient client, Random random) {
+        this.client = client;
+        this.random = random;
+    }
+
+    /**
+     * Seed the work orders and return the pool of those left open
+     */
+    WorkOrderPool seed(int count, int technicians) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int start = 0; start < count; start += CHUNK) {
+            List<CreateWorkOrderRequest> chunk = new ArrayList<>(CHUNK);
+            for (int n = start; n < Math.min(count, start + CHUNK); n++) {
+                chunk.add(client.createRequest(random, n));
+            }
+            BatchCreateResponse response = client.exchange(client.send("POST", "/batch", chunk),
+                BatchCreateResponse.class);
+            for (BatchItemResult result : response.getResults()) {
+                if (result.isCreated()) {
+                    ids.add(result.getId());
+                }
+            }
+        }
+        Collections.shuffle(ids, random);
+
+        int pending = ids.size() * 20 / 100;
+        int cancelled = ids.size() * 10 / 100;
+        List<Long> dispatched = ids.subList(pending + cancelled, ids.size());
+        assign(dispatched, technicians);
+
+        int assignedOnly = ids.size() * 25 / 100;
+        int inProgress = ids.size() * 15 / 100;
+        List<Long> started = dispatched.subList(assignedOnly, Math.min(dispatched.size(), assignedOnly + inProgress));
+        List<Long> completed = dispatched.subList(Math.min(dispatched.size(), assignedOnly + inProgress), dispatched.size());
+        updateStatus(ids.subList(pending, pending + cancelled), WorkOrderStatus.CANCELLED);
+        updateStatus(started, WorkOrderStatus.IN_PROGRESS);
+        updateStatus(completed, WorkOrderStatus.COMPLETED);
+
+        WorkOrderPool pool = new WorkOrderPool();
+        ids.subList(0, pending).forEach(pool::add);
+        dispatched.subList(0, dispatched.size() - completed.size()).forEach(pool::add);
+        return pool;
+    }
+
+    /**
+     * Hand each technician a contiguous slice of the shuffled ids, one bulk call per slice
+     */
+    private void assign(List<Long> ids, int technicians) {
+        int perTechnician = Math.max(1, (ids.size() + technicians - 1) / technicians);
+        for (int start = 0, technician = 0; start < ids.size(); start += perTechnician, technician++) {
+            List<Long> slice = ids.subList(start, Math.min(ids.size(), start + perTechnician));
+            for (int chunkStart = 0; chunkStart < slice.size(); chunkStart += CHUNK) {
+                long technicianId = 1000L + technician;
+                BulkAssignRequest request = BulkAssignRequest.builder()
+                    .ids(new ArrayList<>(slice.subList(chunkStart, Math.min(slice.size(), chunkStart + CHUNK))))
+                    .technicianId(technicianId)
+                    .technicianName("Technician " + technicianId)
+                    .build();
+                client.exchange(client.send("POST", "/bulk/assign", request), BulkUpdateResponse.class);
+            }
+        }
+    }
+
+    private void updateStatus(List<Long> ids, WorkOrderStatus status) {
+        for (int start = 0; start < ids.size(); start += CHUNK) {
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .ids(new ArrayList<>(ids.subList(start, Math.min(ids.size(), start + CHUNK))))
+                .status(status)
+                .build();
+            client.exchange(client.send("PATCH", "/bulk/status", request), BulkUpdateResponse.class);
+        }
+    }
+}
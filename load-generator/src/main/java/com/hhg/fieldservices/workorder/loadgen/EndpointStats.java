@@ -0,0 +1,108 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts for one endpoint. Latencies are recorded in microseconds from
+ * the moment a request was due to be sent, not when it actually went out, so a stalled
+ * service shows up as queueing delay instead of being hidden by the generator waiting on it.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class EndpointStats {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Operation operation;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+    private Histogram interval;
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    void success(long intendedStartNanos, long endNanos) {
+        requests.increment();
+        recorder.recordValue(latencyMicros(intendedStartNanos, endNanos));
+    }
+
+    /**
+     * Failed requests count towards latency as well; a fast 503 is still a failed call
+     */
+    void failure(long intendedStartNanos, long endNanos, String cause) {
+        requests.increment();
+        errors.increment();
+        errorsByCause.computeIfAbsent(cause, c -> new LongAdder()).increment();
+        recorder.recordValue(latencyMicros(intendedStartNanos, endNanos));
+    }
+
+    /**
+     * An arrival that was never sent because too many requests were already outstanding
+     */
+    void dropped() {
+        requests.increment();
+        errors.increment();
+        errorsByCause.computeIfAbsent("dropped", c -> new LongAdder()).increment();
+    }
+
+    /**
+     * Take the latencies recorded since the last call, adding them to the run total when
+     * they fall inside the measured window. Called from the reporting thread only.
+     */
+    Histogram sampleInterval(boolean measured) {
+        interval = recorder.getIntervalHistogram(interval);
+        interval.setTag(operation.key());
+        if (measured) {
+            total.add(interval);
+        }
+        return interval;
+    }
+
+    /**
+     * Forget counts from the warmup, once the measured window starts
+     */
+    void resetCounts() {
+        requests.reset();
+        errors.reset();
+        errorsByCause.clear();
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> errorsByCause() {
+        Map<String, Long> causes = new TreeMap<>();
+        errorsByCause.forEach((cause, count) -> causes.put(cause, count.sum()));
+        return causes;
+    }
+
+    private static long latencyMicros(long startNanos, long endNanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, (endNanos - startNanos) / 1000));
+    }
+}
@@ -0,0 +1,164 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues the traffic mix as an open model: arrivals follow a Poisson process at the
+ * configured rate regardless of how quickly the service answers, the way independent
+ * technicians and dispatchers do. A closed loop of virtual users would slow down with the
+ * service and never show its saturation point.
+ *
+ * <p>All random choices are made on the arrival thread from one seeded {@link Random}, so
+ * the same seed replays the same sequence of arrivals and operations.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class LoadDriver {
+
+    private static final long FIRST_TECHNICIAN_ID = 1000L;
+
+    private final LoadOptions options;
+    private final WorkOrderClient client;
+    private final WorkOrderPool pool;
+    private final Random random;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Semaphore inFlight;
+    private int created;
+
+    LoadDriver(LoadOptions options, WorkOrderClient client, WorkOrderPool pool, Random random) {
+        this.options = options;
+        this.client = client;
+        this.pool = pool;
+        this.random = random;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.created = options.workOrders();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+    }
+
+    Collection<EndpointStats> stats() {
+        return stats.values();
+    }
+
+    /**
+     * Issue arrivals for the given length of time, then return without waiting for the
+     * responses still outstanding
+     */
+    void run(Duration length) {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long end = System.nanoTime() + length.toNanos();
+        long next = System.nanoTime();
+        while (true) {
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (next - end >= 0) {
+                return;
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            issue(options.mix().next(random), next);
+        }
+    }
+
+    /**
+     * Wait for outstanding responses, up to the timeout
+     */
+    boolean awaitOutstanding(Duration timeout) throws InterruptedException {
+        if (inFlight.tryAcquire(options.maxInFlight(), timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(options.maxInFlight());
+            return true;
+        }
+        return false;
+    }
+
+    private void issue(Operation operation, long intendedStart) {
+        EndpointStats endpoint = stats.get(operation);
+        HttpRequest request;
+        boolean trackCreated = false;
+        switch (operation) {
+            case LIST_BY_STATUS -> request = client.listByStatus(random);
+            case LIST_OVERDUE -> request = client.listOverdue();
+            case CREATE -> {
+                request = client.create(client.createRequest(random, created++));
+                trackCreated = true;
+            }
+            default -> {
+                Long id = pool.random(random);
+                if (id == null) {
+                    endpoint.dropped();
+                    return;
+                }
+                request = switch (operation) {
+                    case ASSIGN -> client.assign(id, FIRST_TECHNICIAN_ID + random.nextInt(options.technicians()));
+                    case UPDATE_STATUS -> client.updateStatus(id, nextStatus(id));
+                    default -> client.getById(id);
+                };
+            }
+        }
+
+        if (!inFlight.tryAcquire()) {
+            endpoint.dropped();
+            return;
+        }
+        boolean addToPool = trackCreated;
+        client.sendAsync(request).whenComplete((response, error) -> {
+            long end = System.nanoTime();
+            inFlight.release();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                endpoint.failure(intendedStart, end, cause.getClass().getSimpleName());
+            } else if (response.statusCode() / 100 != 2) {
+                endpoint.failure(intendedStart, end, String.valueOf(response.statusCode()));
+            } else {
+                endpoint.success(intendedStart, end);
+                if (addToPool) {
+                    poolCreated(response);
+                }
+            }
+        });
+    }
+
+    /**
+     * Technicians mostly start or pause work; one update in five closes the order, which
+     * takes it out of the pool straight away so no later arrival targets it
+     */
+    private WorkOrderStatus nextStatus(long id) {
+        int pick = random.nextInt(100);
+        if (pick < 45) {
+            return WorkOrderStatus.IN_PROGRESS;
+        }
+        if (pick < 80) {
+            return WorkOrderStatus.ON_HOLD;
+        }
+        pool.remove(id);
+        return WorkOrderStatus.COMPLETED;
+    }
+
+    private void poolCreated(HttpResponse<byte[]> response) {
+        try {
+            long id = client.objectMapper().readTree(response.body()).path("id").asLong();
+            if (id > 0) {
+                pool.add(id);
+            }
+        } catch (IOException e) {
+            // A create that answered 2xx with an unreadable body is still a success for the numbers
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for one load run, parsed from {@code --name=value} arguments.
+ *
+ * @param target        base URL of a running service, or {@code null} to boot one in-process
+ * @param profiles      Spring profiles for the in-process service
+ * @param workOrders    work orders seeded before the run
+ * @param technicians   technicians the seeded and assigned work orders are spread over
+ * @param rate          mean arrivals per second
+ * @param warmup        load applied before measuring, discarded from the results
+ * @param duration      measured load
+ * @param mix           relative weight of each operation
+ * @param maxInFlight   outstanding requests beyond which new arrivals are dropped and counted as errors
+ * @param seed          seed for arrival times, operation choice and data, so runs are repeatable
+ * @param output        directory the run's results directory is created in
+ * @author Field Services Team
+ * @version 1.0
+ */
+record LoadOptions(
+    URI target,
+    String profiles,
+    int workOrders,
+    int technicians,
+    double rate,
+    Duration warmup,
+    Duration duration,
+    TrafficMix mix,
+    int maxInFlight,
+    long seed,
+    Path output) {
+
+    static final String USAGE = """
+        Usage: java -jar load-generator.jar [--name=value ...]
+
+          --target=URL          drive an already running service instead of booting one in-process
+          --profiles=LIST       Spring profiles for the in-process service (default: production)
+          --work-orders=N       work orders to seed before the run (default: 10000)
+          --technicians=N       technicians to spread assignments over (default: 200)
+          --rate=N              mean arrivals per second, Poisson distributed (default: 200)
+          --warmup=DURATION     load applied before measuring, e.g. 30s (default: 30s)
+          --duration=DURATION   measured load, e.g. 2m (default: 2m)
+          --mix=LIST            operation weights (default: %s)
+          --max-in-flight=N     outstanding requests before arrivals are dropped (default: 2000)
+          --seed=N              seed for arrivals, operation choice and data (default: 42)
+          --output=DIR          where each run's results directory is created (default: load-results)
+        """.formatted(new TrafficMix(TrafficMix.defaultWeights()));
+
+    static LoadOptions parse(String[] args) {
+        URI target = null;
+        String profiles = "production";
+        int workOrders = 10_000;
+        int technicians = 200;
+        double rate = 200;
+        Duration warmup = Duration.ofSeconds(30);
+        Duration duration = Duration.ofMinutes(2);
+        Map<Operation, Integer> weights = TrafficMix.defaultWeights();
+        int maxInFlight = 2000;
+        long seed = 42;
+        Path output = Path.of("load-results");
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "target" -> target = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "profiles" -> profiles = value;
+                case "work-orders" -> workOrders = atLeast(name, Integer.parseInt(value), 1);
+                case "technicians" -> technicians = atLeast(name, Integer.parseInt(value), 1);
+                case "rate" -> {
+                    rate = Double.parseDouble(value);
+                    if (!(rate > 0)) {
+                        throw new IllegalArgumentException("--rate must be positive");
+                    }
+                }
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "mix" -> weights = parseMix(value);
+                case "max-in-flight" -> maxInFlight = atLeast(name, Integer.parseInt(value), 1);
+                case "seed" -> seed = Long.parseLong(value);
+                case "output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive");
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("--warmup must not be negative");
+        }
+        return new LoadOptions(target, profiles, workOrders, technicians, rate, warmup, duration,
+            new TrafficMix(weights), maxInFlight, seed, output);
+    }
+
+    /**
+     * Weights not named in the list keep their default, so {@code --mix=create=0} turns
+     * creates off and leaves the rest of the mix alone
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> weights = TrafficMix.defaultWeights();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in --mix but got '" + entry + "'");
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static int atLeast(String name, int value, int minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException("--" + name + " must be at least " + minimum);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,162 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes a run's results to its own directory:
+ * <ul>
+ *   <li>{@code intervals.hlog} - one histogram per endpoint per second of the measured
+ *       window, tagged with the endpoint, for HdrHistogram's log processor and plotters</li>
+ *   <li>{@code <endpoint>.hgrm} and {@code all.hgrm} - full percentile distributions in
+ *       milliseconds</li>
+ *   <li>{@code summary.txt} - settings, and throughput, p50/p99/p99.9 and error rate per endpoint</li>
+ * </ul>
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class LoadReport implements AutoCloseable {
+
+    private static final DateTimeFormatter RUN_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String ROW = "%-24s %10s %12s %8s %8s %10s %10s %10s %10s%n";
+
+    private final Path directory;
+    private final PrintStream intervalLog;
+    private final HistogramLogWriter intervalWriter;
+    private final Collection<EndpointStats> stats;
+
+    LoadReport(Path output, Collection<EndpointStats> stats) throws IOException {
+        this.directory = Files.createDirectories(output.resolve(LocalDateTime.now().format(RUN_NAME)));
+        this.stats = stats;
+        this.intervalLog = new PrintStream(Files.newOutputStream(directory.resolve("intervals.hlog")),
+            false, StandardCharsets.UTF_8);
+        this.intervalWriter = new HistogramLogWriter(intervalLog);
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * Mark the start of the measured window in the interval log
+     */
+    synchronized void startMeasuring() {
+        long now = System.currentTimeMillis();
+        intervalWriter.outputLogFormatVersion();
+        intervalWriter.outputComment("Latency in microseconds from intended send time, one histogram per endpoint tag");
+        intervalWriter.outputStartTime(now);
+        intervalWriter.setBaseTime(now);
+        intervalWriter.outputLegend();
+    }
+
+    /**
+     * Sample every endpoint's latest interval, logging it when it is part of the measured window
+     */
+    synchronized void sampleInterval(boolean measured) {
+        for (EndpointStats endpoint : stats) {
+            Histogram interval = endpoint.sampleInterval(measured);
+            if (measured && interval.getTotalCount() > 0) {
+                intervalWriter.outputIntervalHistogram(interval);
+            }
+        }
+    }
+
+    /**
+     * Write the percentile distributions and the summary, and return the summary
+     */
+    synchronized String write(String settings, Duration measured) throws IOException {
+        Histogram all = new Histogram(EndpointStats.HIGHEST_TRACKABLE_MICROS, EndpointStats.SIGNIFICANT_DIGITS);
+        for (EndpointStats endpoint : stats) {
+            if (endpoint.requests() > 0) {
+                writeDistribution(endpoint.operation().key(), endpoint.total());
+                all.add(endpoint.total());
+            }
+        }
+        writeDistribution("all", all);
+
+        double seconds = measured.toNanos() / 1e9;
+        StringBuilder summary = new StringBuilder(settings).append(System.lineSeparator());
+        summary.append(String.format(ROW, "endpoint", "requests", "throughput/s", "errors", "error%",
+            "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        long totalRequests = 0;
+        long totalErrors = 0;
+        StringBuilder errorDetail = new StringBuilder();
+        for (EndpointStats endpoint : stats) {
+            if (endpoint.requests() == 0) {
+                continue;
+            }
+            totalRequests += endpoint.requests();
+            totalErrors += endpoint.errors();
+            summary.append(row(endpoint.operation().endpoint(), endpoint.requests(), endpoint.errors(),
+                endpoint.total(), seconds));
+            Map<String, Long> causes = endpoint.errorsByCause();
+            if (!causes.isEmpty()) {
+                errorDetail.append(String.format("  %-22s %s%n", endpoint.operation().endpoint(), causes));
+            }
+        }
+        summary.append(row("all", totalRequests, totalErrors, all, seconds));
+        if (!errorDetail.isEmpty()) {
+            summary.append(System.lineSeparator()).append("errors by cause:").append(System.lineSeparator())
+                .append(errorDetail);
+        }
+
+        Files.writeString(directory.resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+        return summary.toString();
+    }
+
+    static String settings(LoadOptions options, URI target, boolean inProcess) {
+        return String.format("""
+            Work order service load run %s
+            target=%s%s
+            work-orders=%d technicians=%d seed=%d
+            rate=%s/s warmup=%s duration=%s max-in-flight=%d
+            mix=%s
+            """,
+            LocalDateTime.now().withNano(0), target,
+            inProcess ? " (in-process, profiles " + options.profiles() + ")" : "",
+            options.workOrders(), options.technicians(), options.seed(),
+            options.rate(), options.warmup(), options.duration(), options.maxInFlight(),
+            options.mix());
+    }
+
+    @Override
+    public synchronized void close() {
+        intervalLog.close();
+    }
+
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")),
+                false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 5, MICROS_PER_MILLI);
+        }
+    }
+
+    private static String row(String endpoint, long requests, long errors, Histogram latency, double seconds) {
+        return String.format(ROW, endpoint, requests,
+            String.format("%.1f", requests / seconds),
+            errors,
+            String.format("%.2f%%", requests == 0 ? 0.0 : 100.0 * errors / requests),
+            millis(latency.getValueAtPercentile(50)),
+            millis(latency.getValueAtPercentile(99)),
+            millis(latency.getValueAtPercentile(99.9)),
+            millis(latency.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / MICROS_PER_MILLI);
+    }
+}
@@ -0,0 +1,53 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+/**
+ * Endpoints in the dispatch traffic mix, with the share of arrivals each gets by default.
+ * The defaults follow the shape of field traffic: technicians polling their current work
+ * order dominate, dispatcher queue views come next, and writes are a minority.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+enum Operation {
+
+    GET_BY_ID("get", "GET /{id}", 55),
+    LIST_BY_STATUS("status", "GET /status/{status}", 15),
+    LIST_OVERDUE("overdue", "GET /overdue", 5),
+    CREATE("create", "POST /", 10),
+    ASSIGN("assign", "POST /{id}/assign", 7),
+    UPDATE_STATUS("update-status", "PATCH /{id}/status", 8);
+
+    private final String key;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String key, String endpoint, int defaultWeight) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Name used in {@code --mix} and for the per-endpoint report files
+     */
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' in --mix");
+    }
+}
@@ -0,0 +1,70 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of the next operation to issue.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class TrafficMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    TrafficMix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> positive = new EnumMap<>(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight for " + operation.key() + " must not be negative");
+            }
+            if (weight > 0) {
+                positive.put(operation, weight);
+            }
+        });
+        if (positive.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one operation a positive weight");
+        }
+
+        operations = positive.keySet().toArray(new Operation[0]);
+        cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += positive.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        totalWeight = sum;
+    }
+
+    static Map<Operation, Integer> defaultWeights() {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.defaultWeight());
+        }
+        return weights;
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " outside of " + totalWeight);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        for (int i = 0; i < operations.length; i++) {
+            int weight = cumulativeWeights[i] - (i == 0 ? 0 : cumulativeWeights[i - 1]);
+            mix.append(i == 0 ? "" : ",").append(operations[i].key()).append('=').append(weight);
+        }
+        return mix.toString();
+    }
+}
@@ -0,0 +1,198 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderItemRequest;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds the requests in the traffic mix and sends them to the work order API.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class WorkOrderClient {
+
+    private static final String BASE_PATH = "/api/v1/work-orders";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] CITIES = {"Springfield", "Riverton", "Lakeside", "Fairview", "Georgetown"};
+    private static final String[] ITEM_TYPES = {"LABOR", "PART", "MATERIAL"};
+    private static final WorkOrderStatus[] QUEUE_STATUSES = {
+        WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED, WorkOrderStatus.IN_PROGRESS
+    };
+    private static final int QUEUE_PAGE_SIZE = 20;
+    private static final Duration MIN_LEAD = Duration.ofSeconds(30);
+    private static final Duration SCHEDULE_HORIZON = Duration.ofDays(14);
+
+    private final URI baseUri;
+    private final Duration dueSoonWithin;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .build();
+
+    /**
+     * @param dueSoonWithin window in which a share of created work orders fall due, so
+     *                      {@code /overdue} fills up while the load runs
+     */
+    WorkOrderClient(URI target, Duration dueSoonWithin) {
+        this.baseUri = target.resolve(BASE_PATH);
+        this.dueSoonWithin = dueSoonWithin;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    HttpRequest getById(long id) {
+        return get("/" + id);
+    }
+
+    HttpRequest listByStatus(Random random) {
+        return get("/status/" + QUEUE_STATUSES[random.nextInt(QUEUE_STATUSES.length)] + "?size=" + QUEUE_PAGE_SIZE);
+    }
+
+    HttpRequest listOverdue() {
+        return get("/overdue?size=" + QUEUE_PAGE_SIZE);
+    }
+
+    HttpRequest create(CreateWorkOrderRequest request) {
+        return send("POST", "", request);
+    }
+
+    HttpRequest assign(long id, long technicianId) {
+        return send("POST", "/" + id + "/assign?technicianId=" + technicianId
+            + "&technicianName=Technician%20" + technicianId, null);
+    }
+
+    HttpRequest updateStatus(long id, WorkOrderStatus status) {
+        return send("PATCH", "/" + id + "/status?status=" + status, null);
+    }
+
+    HttpRequest send(String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+            .build();
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Send a request and read the 2xx response body as the given type
+     */
+    <T> T exchange(HttpRequest request, Class<T> responseType) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + new String(response.body()));
+            }
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.method() + " " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.uri(), e);
+        }
+    }
+
+    /**
+     * A create request shaped like dispatch intake: zero to four line items, and a scheduled
+     * date up to two weeks out. The API only accepts future dates, so one in five falls due
+     * within the run instead of being backdated.
+     */
+    CreateWorkOrderRequest createRequest(Random random, int n) {
+        List<CreateWorkOrderItemRequest> items = new ArrayList<>();
+        int itemCount = random.nextInt(5);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(CreateWorkOrderItemRequest.builder()
+                .itemType(ITEM_TYPES[i % ITEM_TYPES.length])
+                .description("Replacement part " + i + " for unit " + n)
+                .quantity(1 + random.nextInt(4))
+                .unitPrice(BigDecimal.valueOf(1000 + random.nextInt(20_000), 2))
+                .build());
+        }
+        int customer = random.nextInt(5000);
+        return CreateWorkOrderRequest.builder()
+            .title("Service call " + n)
+            .description("Customer reports the unit is not heating; inspect and repair as needed")
+            .priority(WorkOrderPriority.values()[random.nextInt(WorkOrderPriority.values().length)])
+            .customerId(10_000L + customer)
+            .customerName("Customer " + customer)
+            .customerPhone("555-010-" + String.format("%04d", customer))
+            .customerEmail("customer" + customer + "@example.com")
+            .serviceAddress(n + " Main Street")
+            .city(CITIES[random.nextInt(CITIES.length)])
+            .state("IL")
+            .zipCode("62701")
+            .scheduledDate(scheduledDate(random))
+            .estimatedCost(BigDecimal.valueOf(5_000 + random.nextInt(100_000), 2))
+            .items(items)
+            .build();
+    }
+
+    private LocalDateTime scheduledDate(Random random) {
+        long soonSeconds = Math.max(MIN_LEAD.toSeconds() + 1, dueSoonWithin.toSeconds());
+        if (random.nextInt(5) == 0) {
+            return LocalDateTime.now().plusSeconds(MIN_LEAD.toSeconds()
+                + (long) (random.nextDouble() * (soonSeconds - MIN_LEAD.toSeconds())));
+        }
+        return LocalDateTime.now().plusSeconds(soonSeconds + (long) (random.nextDouble() * SCHEDULE_HORIZON.toSeconds()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUri + path);
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import com.hhg.fieldservices.workorder.WorkOrderServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of {@code load-generator.jar}. Boots the work order service on an in-memory
+ * database (or targets a running one with {@code --target}), seeds a dataset through the
+ * API, applies the dispatch traffic mix for a warmup and then a measured window, and writes
+ * HdrHistogram results per endpoint.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public final class WorkOrderLoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private WorkOrderLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h"))) {
+            System.out.print(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ConfigurableApplicationContext service = null;
+        URI target = options.target();
+        if (target == null) {
+            service = startService(options.profiles());
+            target = URI.create("http://localhost:" + service.getEnvironment().getProperty("local.server.port"));
+        }
+        try {
+            run(options, target, service != null);
+        } finally {
+            if (service != null) {
+                service.close();
+            }
+        }
+    }
+
+    private static void run(LoadOptions options, URI target, boolean inProcess) throws Exception {
+        Random random = new Random(options.seed());
+        WorkOrderClient client = new WorkOrderClient(target, options.warmup().plus(options.duration()));
+
+        System.out.printf("Seeding %d work orders at %s%n", options.workOrders(), target);
+        long seedStart = System.nanoTime();
+        WorkOrderPool pool = new DatasetSeeder(client, random).seed(options.workOrders(), options.technicians());
+        System.out.printf("Seeded in %d ms, %d open%n",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart), pool.size());
+
+        LoadDriver driver = new LoadDriver(options, client, pool, random);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-interval-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (LoadReport report = new LoadReport(options.output(), driver.stats())) {
+            Measurement measurement = new Measurement();
+            sampler.scheduleAtFixedRate(() -> report.sampleInterval(measurement.active), 1, 1, TimeUnit.SECONDS);
+
+            if (!options.warmup().isZero()) {
+                System.out.printf("Warming up for %s at %s/s%n", options.warmup(), options.rate());
+                driver.run(options.warmup());
+            }
+            report.sampleInterval(false);
+            driver.stats().forEach(EndpointStats::resetCounts);
+            report.startMeasuring();
+            measurement.active = true;
+
+            System.out.printf("Measuring for %s at %s/s%n", options.duration(), options.rate());
+            long measureStart = System.nanoTime();
+            driver.run(options.duration());
+            Duration window = Duration.ofNanos(System.nanoTime() - measureStart);
+            if (!driver.awaitOutstanding(DRAIN_TIMEOUT)) {
+                System.out.printf("Requests still outstanding after %s; reporting without them%n", DRAIN_TIMEOUT);
+            }
+            sampler.shutdown();
+            sampler.awaitTermination(5, TimeUnit.SECONDS);
+            report.sampleInterval(true);
+
+            System.out.println();
+            System.out.print(report.write(LoadReport.settings(options, target, inProcess), window));
+            System.out.printf("%nResults written to %s%n", report.directory().toAbsolutePath());
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * Start the service on a random port and its own in-memory database, with request
+     * logging turned down so it does not dominate the measurements
+     */
+    private static ConfigurableApplicationContext startService(String profiles) {
+        return new SpringApplicationBuilder(WorkOrderServiceApplication.class)
+            .profiles(profiles.split(","))
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadgen;DB_CLOSE_DELAY=-1",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.hhg.fieldservices.workorder=WARN",
+                "--logging.level.org.hibernate.SQL=WARN");
+    }
+
+    /**
+     * Whether sampled intervals belong to the measured window
+     */
+    private static final class Measurement {
+        volatile boolean active;
+    }
+}
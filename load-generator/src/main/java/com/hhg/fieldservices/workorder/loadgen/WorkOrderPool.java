@@ -0,0 +1,49 @@
+package com.hhg.fieldservices.workorder.loadgen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Ids of the work orders that are still open, so reads and writes in the mix hit rows that
+ * exist and can still change. Creates add to the pool, completions take out of it.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class WorkOrderPool {
+
+    private final List<Long> ids = new ArrayList<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    synchronized void add(long id) {
+        if (positions.putIfAbsent(id, ids.size()) == null) {
+            ids.add(id);
+        }
+    }
+
+    synchronized void remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+        Long last = ids.remove(ids.size() - 1);
+        if (position < ids.size()) {
+            ids.set(position, last);
+            positions.put(last, position);
+        }
+    }
+
+    /**
+     * A random open id, or {@code null} once everything has been closed
+     */
+    synchronized Long random(Random random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
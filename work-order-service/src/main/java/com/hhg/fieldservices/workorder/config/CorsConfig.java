@@ -1,5 +1,6 @@
 package com.hhg.fieldservices.workorder.config;
 
+import com.hhg.fieldservices.workorder.datasource.ConsistencyTokenFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +29,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "HEAD")
                 .allowedHeaders("*")
+                .exposedHeaders(ConsistencyTokenFilter.HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
         
@@ -51,6 +53,9 @@ public class CorsConfig implements WebMvcConfigurer {
         // Allow all headers
         configuration.setAllowedHeaders(Collections.singletonList("*"));
         
+        // Let browser clients read the token they need for read-your-writes
+        configuration.setExposedHeaders(Collections.singletonList(ConsistencyTokenFilter.HEADER));
+        
         // Allow credentials
         configuration.setAllowCredentials(true);
         
@@ -1,8 +1,14 @@
 package com.hhg.fieldservices.workorder.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 /**
  * Configuration for JPA auditing.
  * Enables automatic population of @CreatedDate and @LastModifiedDate fields.
@@ -11,6 +17,15 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @version 1.0
  */
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class JpaAuditingConfig {
+    
+    /**
+     * Audit timestamps at the database's microsecond precision, so values held in memory
+     * (cursors, cached DTOs, change events) compare equal to the ones read back
+     */
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
@@ -0,0 +1,99 @@
+package com.hhg.fieldservices.workorder.config;
+
+import com.hhg.fieldservices.workorder.metrics.MethodMetricsInterceptor;
+import com.hhg.fieldservices.workorder.service.TechnicianWorkloadService;
+import com.hhg.fieldservices.workorder.service.WorkOrderBatchService;
+import com.hhg.fieldservices.workorder.service.WorkOrderEventLogService;
+import com.hhg.fieldservices.workorder.service.WorkOrderExportService;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * Per-method latency metrics for the services behind the API and for every Spring Data
+ * repository, published as {@code workorder.service.calls}, {@code workorder.repository.calls}
+ * and {@code workorder.repository.rows}. See {@link MethodMetricsInterceptor}.
+ *
+ * <p>In-flight requests and connection pool waits are already published by Spring Boot as
+ * {@code http.server.requests.active}, {@code hikaricp.connections.pending} and
+ * {@code hikaricp.connections.acquire}; their histograms are switched on in
+ * {@code application.yml}.
+ *
+ * <p>Enabled unless {@code workorder.method-metrics.enabled} is {@code false}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "workorder.method-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodMetricsConfig {
+
+    /**
+     * Services whose public methods are timed. Event listeners and scheduled jobs in them
+     * are left out; they run off the request path.
+     */
+    static final Set<Class<?>> TIMED_SERVICES = Set.of(
+        WorkOrderService.class,
+        WorkOrderBatchService.class,
+        WorkOrderExportService.class,
+        TechnicianWorkloadService.class,
+        WorkOrderEventLogService.class);
+
+    @Bean
+    public static BeanPostProcessor serviceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ServiceMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repository) -> proxyFactory.addAdvice(new MethodMetricsInterceptor(
+                            meterRegistry, "workorder.repository", "repository",
+                            repository.getRepositoryInterface().getSimpleName(), true))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Adds the timing advice to the services, outside of their transaction advice so the
+     * timings include commit and the lock conflicts it can raise
+     */
+    static class ServiceMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+        ServiceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+                @Override
+                public boolean matches(Method method, Class<?> targetClass) {
+                    return TIMED_SERVICES.contains(targetClass)
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() == targetClass
+                        && !AnnotatedElementUtils.hasAnnotation(method, EventListener.class)
+                        && !AnnotatedElementUtils.hasAnnotation(method, Scheduled.class);
+                }
+            }, new MethodMetricsInterceptor(meterRegistry, "workorder.service", "service", null, false));
+            setBeforeExistingAdvisors(true);
+            setProxyTargetClass(true);
+        }
+    }
+}
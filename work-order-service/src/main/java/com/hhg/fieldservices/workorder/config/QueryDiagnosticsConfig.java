@@ -0,0 +1,67 @@
+package com.hhg.fieldservices.workorder.config;
+
+import com.hhg.fieldservices.workorder.diagnostics.QueriesEndpoint;
+import com.hhg.fieldservices.workorder.diagnostics.QueryDiagnostics;
+import com.hhg.fieldservices.workorder.diagnostics.StatementCountFilter;
+import com.hhg.fieldservices.workorder.diagnostics.StatementTrackingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Statement statistics, slow query log and per-request statement counts, served at
+ * {@code /actuator/queries}. Everything JPA, JDBC templates and Flyway run through the
+ * {@code dataSource} bean is tracked; the replica heartbeat, which uses the underlying
+ * pools directly, is not.
+ *
+ * <p>Enabled unless {@code workorder.queries.enabled} is {@code false}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "workorder.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryDiagnosticsConfig {
+
+    @Bean
+    public QueryDiagnostics queryDiagnostics(MeterRegistry meterRegistry,
+                                             @Value("${workorder.queries.slow-threshold:100ms}") Duration slowThreshold,
+                                             @Value("${workorder.queries.slow-log-size:100}") int slowLogSize,
+                                             @Value("${workorder.queries.max-statements:500}") int maxStatements,
+                                             @Value("${workorder.queries.request-statement-warning:50}") int requestStatementWarning) {
+        return new QueryDiagnostics(meterRegistry, Clock.systemUTC(), slowThreshold, slowLogSize, maxStatements,
+            requestStatementWarning);
+    }
+
+    @Bean
+    public static BeanPostProcessor statementTrackingPostProcessor(ObjectProvider<QueryDiagnostics> diagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementTrackingDataSource)) {
+                    return new StatementTrackingDataSource(dataSource, diagnostics);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public StatementCountFilter statementCountFilter(QueryDiagnostics queryDiagnostics) {
+        return new StatementCountFilter(queryDiagnostics);
+    }
+
+    @Bean
+    public QueriesEndpoint queriesEndpoint(QueryDiagnostics queryDiagnostics) {
+        return new QueriesEndpoint(queryDiagnostics);
+    }
+}
@@ -0,0 +1,86 @@
+package com.hhg.fieldservices.workorder.config;
+
+import com.hhg.fieldservices.workorder.datasource.ConsistencyTokenFilter;
+import com.hhg.fieldservices.workorder.datasource.ReplicaLagMonitor;
+import com.hhg.fieldservices.workorder.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Read/write splitting: read-only transactions go to a read replica, everything else to the
+ * primary configured under {@code spring.datasource}.
+ *
+ * <p>Enabled with {@code workorder.datasource.replica.enabled}. The replica must receive the
+ * primary's changes through database replication, including the {@code replication_heartbeat}
+ * row used to measure its lag.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "workorder.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("workorder.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${workorder.datasource.replica.url}") String url,
+                                              @Value("${workorder.datasource.replica.username:}") String username,
+                                              @Value("${workorder.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    }
+
+    /**
+     * Checked once on creation, so the primary clock is known before the first commit
+     */
+    @Bean(initMethod = "check")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${workorder.datasource.replica.heartbeat-enabled:true}") boolean heartbeatEnabled) {
+        return new ReplicaLagMonitor(primary, replica, Clock.systemUTC(), heartbeatEnabled, meterRegistry);
+    }
+
+    /**
+     * The data source used by JPA, JDBC templates and Flyway
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${workorder.datasource.replica.max-lag:PT5S}") Duration maxLag) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            primary, replica, replicaLagMonitor, maxLag, meterRegistry));
+    }
+
+    @Bean
+    public ConsistencyTokenFilter consistencyTokenFilter() {
+        return new ConsistencyTokenFilter();
+    }
+}
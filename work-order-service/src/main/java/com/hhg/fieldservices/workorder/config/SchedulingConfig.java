@@ -0,0 +1,16 @@
+package com.hhg.fieldservices.workorder.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks such as overdue tracking and its
+ * reconciliation against the database.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
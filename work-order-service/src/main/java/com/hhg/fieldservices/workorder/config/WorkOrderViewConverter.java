@@ -0,0 +1,20 @@
+package com.hhg.fieldservices.workorder.config;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderView;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Binds the {@code view} request parameter case-insensitively, so clients can write {@code ?view=summary}.
+ */
+@Component
+public class WorkOrderViewConverter implements Converter<String, WorkOrderView> {
+
+    @Override
+    public WorkOrderView convert(@NonNull String source) {
+        return WorkOrderView.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,60 @@
+package com.hhg.fieldservices.workorder.controller;
+
+import com.hhg.fieldservices.workorder.dto.TechnicianWorkload;
+import com.hhg.fieldservices.workorder.exception.ErrorResponse;
+import com.hhg.fieldservices.workorder.service.TechnicianWorkloadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for technician dispatch information.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/technicians")
+@CrossOrigin(originPatterns = "*", methods = {RequestMethod.GET, RequestMethod.OPTIONS})
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Technicians", description = "Technician Dispatch API")
+public class TechnicianController {
+    
+    private static final String DEFAULT_LIMIT = "2000";
+    
+    private final TechnicianWorkloadService technicianWorkloadService;
+    
+    /**
+     * Get technician workloads
+     */
+    @Operation(
+        summary = "Get technician workloads",
+        description = "Returns open work order counts, booked labor hours and the next scheduled job per technician, " +
+            "least loaded first. Served from memory without querying the database."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved workloads"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/workload")
+    public ResponseEntity<List<TechnicianWorkload>> getWorkloads(
+            @Parameter(description = "Technicians to include; all known technicians when omitted")
+            @RequestParam(required = false) List<Long> technicianId,
+            @Parameter(description = "Maximum number of technicians to return", example = "1")
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        log.debug("GET /api/v1/technicians/workload - Fetching technician workloads");
+        return ResponseEntity.ok(technicianWorkloadService.findWorkloads(technicianId, limit));
+    }
+}
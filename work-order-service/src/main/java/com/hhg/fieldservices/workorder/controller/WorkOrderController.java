@@ -2,9 +2,14 @@ package com.hhg.fieldservices.workorder.controller;
 
 import com.hhg.fieldservices.workorder.dto.*;
 import com.hhg.fieldservices.workorder.exception.ErrorResponse;
+import com.hhg.fieldservices.workorder.exception.WorkOrderPreconditionFailedException;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderBatchService;
+import com.hhg.fieldservices.workorder.service.WorkOrderExportService;
 import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import com.hhg.fieldservices.workorder.service.WorkOrderStatsService;
+import com.hhg.fieldservices.workorder.service.WorkOrderStreamBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,11 +20,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for work order operations.
@@ -30,28 +44,46 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/work-orders")
-@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH, RequestMethod.OPTIONS})
+@CrossOrigin(originPatterns = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH, RequestMethod.OPTIONS})
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Work Orders", description = "Work Order Management API")
 public class WorkOrderController {
     
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    
     private final WorkOrderService workOrderService;
+    private final WorkOrderExportService workOrderExportService;
+    private final WorkOrderBatchService workOrderBatchService;
+    private final WorkOrderStatsService workOrderStatsService;
+    private final WorkOrderStreamBroadcaster workOrderStreamBroadcaster;
     
     /**
      * Get all work orders
      */
     @Operation(
         summary = "Get all work orders",
-        description = "Retrieves a list of all work orders in the system"
+        description = "Retrieves a page of work orders ordered by creation time. " +
+            "Pass the returned nextCursor as the cursor parameter to fetch the next page."
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<List<WorkOrderDto>> getAllWorkOrders() {
-        log.debug("GET /api/v1/work-orders - Fetching all work orders");
-        List<WorkOrderDto> workOrders = workOrderService.findAll();
+    public ResponseEntity<CursorPage<?>> getAllWorkOrders(
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
+        log.debug("GET /api/v1/work-orders - Fetching page of work orders");
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(new WorkOrderSearchCriteria(), cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findAll(cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
@@ -60,21 +92,29 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get work order by ID",
-        description = "Retrieves a specific work order by its unique identifier"
+        description = "Retrieves a specific work order by its unique identifier. The response carries an ETag; " +
+            "send it back in If-None-Match to get an empty 304 while the work order is unchanged."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Work order found",
             content = @Content(schema = @Schema(implementation = WorkOrderDto.class))),
+        @ApiResponse(responseCode = "304", description = "Work order unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Work order not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{id}")
     public ResponseEntity<WorkOrderDto> getWorkOrderById(
             @Parameter(description = "Work order ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         log.debug("GET /api/v1/work-orders/{} - Fetching work order by id", id);
+        // Answer revalidation from the version alone, without loading or serializing the work order
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(WorkOrderETag.of(id, workOrderService.findVersion(id)))) {
+            return null;
+        }
         WorkOrderDto workOrder = workOrderService.findById(id);
-        return ResponseEntity.ok(workOrder);
+        return ResponseEntity.ok().eTag(WorkOrderETag.of(workOrder)).body(workOrder);
     }
     
     /**
@@ -91,11 +131,38 @@ public class WorkOrderController {
     })
     @GetMapping("/number/{workOrderNumber}")
     public ResponseEntity<WorkOrderDto> getWorkOrderByNumber(
-            @Parameter(description = "Work order number", required = true, example = "WO-20251024123456")
+            @Parameter(description = "Work order number", required = true, example = "WO-0000000101")
             @PathVariable String workOrderNumber) {
         log.debug("GET /api/v1/work-orders/number/{} - Fetching work order by number", workOrderNumber);
         WorkOrderDto workOrder = workOrderService.findByWorkOrderNumber(workOrderNumber);
-        return ResponseEntity.ok(workOrder);
+        return ResponseEntity.ok().eTag(WorkOrderETag.of(workOrder)).body(workOrder);
+    }
+    
+    /**
+     * Get the status history of a work order
+     */
+    @Operation(
+        summary = "Get work order status history",
+        description = "Retrieves the statuses a work order went through, oldest first, with the time spent in each. " +
+            "History is written asynchronously, so a change can take a fraction of a second to appear."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved status history"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Work order not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CursorPage<WorkOrderStatusHistoryEntry>> getWorkOrderHistory(
+            @Parameter(description = "Work order ID", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.debug("GET /api/v1/work-orders/{}/history - Fetching status history", id);
+        return ResponseEntity.ok(workOrderService.findStatusHistory(id, cursor, size));
     }
     
     /**
@@ -103,17 +170,27 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get work orders by status",
-        description = "Retrieves all work orders with the specified status"
+        description = "Retrieves a page of work orders with the specified status"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<WorkOrderDto>> getWorkOrdersByStatus(
+    public ResponseEntity<CursorPage<?>> getWorkOrdersByStatus(
             @Parameter(description = "Work order status", required = true)
-            @PathVariable WorkOrderStatus status) {
+            @PathVariable WorkOrderStatus status,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
         log.debug("GET /api/v1/work-orders/status/{} - Fetching work orders by status", status);
-        List<WorkOrderDto> workOrders = workOrderService.findByStatus(status);
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(
+                WorkOrderSearchCriteria.builder().status(List.of(status)).build(), cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findByStatus(status, cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
@@ -122,17 +199,27 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get work orders by priority",
-        description = "Retrieves all work orders with the specified priority level"
+        description = "Retrieves a page of work orders with the specified priority level"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders")
     })
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<WorkOrderDto>> getWorkOrdersByPriority(
+    public ResponseEntity<CursorPage<?>> getWorkOrdersByPriority(
             @Parameter(description = "Work order priority", required = true)
-            @PathVariable WorkOrderPriority priority) {
+            @PathVariable WorkOrderPriority priority,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
         log.debug("GET /api/v1/work-orders/priority/{} - Fetching work orders by priority", priority);
-        List<WorkOrderDto> workOrders = workOrderService.findByPriority(priority);
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(
+                WorkOrderSearchCriteria.builder().priority(List.of(priority)).build(), cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findByPriority(priority, cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
@@ -141,17 +228,27 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get work orders by customer",
-        description = "Retrieves all work orders for a specific customer"
+        description = "Retrieves a page of work orders for a specific customer"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders")
     })
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<WorkOrderDto>> getWorkOrdersByCustomerId(
+    public ResponseEntity<CursorPage<?>> getWorkOrdersByCustomerId(
             @Parameter(description = "Customer ID", required = true, example = "100")
-            @PathVariable Long customerId) {
+            @PathVariable Long customerId,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
         log.debug("GET /api/v1/work-orders/customer/{} - Fetching work orders by customer", customerId);
-        List<WorkOrderDto> workOrders = workOrderService.findByCustomerId(customerId);
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(
+                WorkOrderSearchCriteria.builder().customerId(customerId).build(), cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findByCustomerId(customerId, cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
@@ -160,17 +257,27 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get work orders by technician",
-        description = "Retrieves all work orders assigned to a specific technician"
+        description = "Retrieves a page of work orders assigned to a specific technician"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders")
     })
     @GetMapping("/technician/{technicianId}")
-    public ResponseEntity<List<WorkOrderDto>> getWorkOrdersByTechnicianId(
+    public ResponseEntity<CursorPage<?>> getWorkOrdersByTechnicianId(
             @Parameter(description = "Technician ID", required = true, example = "200")
-            @PathVariable Long technicianId) {
+            @PathVariable Long technicianId,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
         log.debug("GET /api/v1/work-orders/technician/{} - Fetching work orders by technician", technicianId);
-        List<WorkOrderDto> workOrders = workOrderService.findByAssignedTechnicianId(technicianId);
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(
+                WorkOrderSearchCriteria.builder().technicianId(technicianId).build(), cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findByAssignedTechnicianId(technicianId, cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
@@ -179,18 +286,166 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Get overdue work orders",
-        description = "Retrieves all work orders that are past their scheduled date and not yet completed"
+        description = "Retrieves a page of work orders that are past their scheduled date and not yet completed"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved overdue work orders")
     })
     @GetMapping("/overdue")
-    public ResponseEntity<List<WorkOrderDto>> getOverdueWorkOrders() {
+    public ResponseEntity<CursorPage<?>> getOverdueWorkOrders(
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
         log.debug("GET /api/v1/work-orders/overdue - Fetching overdue work orders");
-        List<WorkOrderDto> workOrders = workOrderService.findOverdueWorkOrders();
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findOverdueSummaries(cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.findOverdueWorkOrders(cursor, size);
+        return ResponseEntity.ok(workOrders);
+    }
+    
+    /**
+     * Stream live work order changes
+     */
+    @Operation(
+        summary = "Stream work order changes",
+        description = "Server-Sent Events stream of committed work order changes. Each 'change' event carries a " +
+            "compact notification; filters match a work order before or after the change, so clients also see it " +
+            "leave their view. Reconnecting with Last-Event-ID resends missed changes while they are buffered; " +
+            "otherwise a 'reset' event asks the client to reload. Clients that fall behind are disconnected."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = WorkOrderChangeNotification.class)))
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "Statuses to follow (any of)", example = "PENDING")
+            @RequestParam(required = false) Set<WorkOrderStatus> status,
+            @Parameter(description = "Technician to follow", example = "200")
+            @RequestParam(required = false) Long technicianId,
+            @Parameter(description = "Customer to follow", example = "100")
+            @RequestParam(required = false) Long customerId,
+            @Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("GET /api/v1/work-orders/stream - status: {}, technicianId: {}, customerId: {}",
+            status, technicianId, customerId);
+        return workOrderStreamBroadcaster.subscribe(
+            new WorkOrderStreamBroadcaster.Filter(status, technicianId, customerId), lastEventId);
+    }
+    
+    /**
+     * Find open work orders near a location
+     */
+    @Operation(
+        summary = "Find nearby work orders",
+        description = "Retrieves the open work orders nearest a location, nearest first, within the given radius. " +
+            "Only work orders whose service address could be located are included."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved nearby work orders"),
+        @ApiResponse(responseCode = "400", description = "Invalid coordinates, radius or limit",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyWorkOrder>> getNearbyWorkOrders(
+            @Parameter(description = "Latitude in degrees", required = true, example = "39.7817")
+            @RequestParam double latitude,
+            @Parameter(description = "Longitude in degrees", required = true, example = "-89.6501")
+            @RequestParam double longitude,
+            @Parameter(description = "Search radius in kilometres (at most " + WorkOrderService.MAX_NEARBY_RADIUS_KM + ")",
+                example = "25")
+            @RequestParam(defaultValue = "25") double radiusKm,
+            @Parameter(description = "Maximum number of work orders (1-" + WorkOrderService.MAX_NEARBY_LIMIT + ")",
+                example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/v1/work-orders/nearby - Finding work orders near {}, {}", latitude, longitude);
+        return ResponseEntity.ok(workOrderService.findNearby(latitude, longitude, radiusKm, limit));
+    }
+    
+    /**
+     * Search work orders by multiple criteria
+     */
+    @Operation(
+        summary = "Search work orders",
+        description = "Retrieves a page of work orders matching every supplied filter. " +
+            "Status and priority accept multiple values; all filters are optional. " +
+            "With q, results are full-text matches ranked by relevance instead of creation order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved work orders"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or query",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "Full-text search index is still being built",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<?>> searchWorkOrders(
+            @ParameterObject WorkOrderSearchCriteria criteria,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + WorkOrderService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Response shape: FULL work orders or SUMMARY list rows")
+            @RequestParam(defaultValue = "FULL") WorkOrderView view) {
+        log.debug("GET /api/v1/work-orders/search - Searching work orders: {}", criteria);
+        if (view == WorkOrderView.SUMMARY) {
+            return ResponseEntity.ok(workOrderService.findSummaries(criteria, cursor, size));
+        }
+        CursorPage<WorkOrderDto> workOrders = workOrderService.search(criteria, cursor, size);
         return ResponseEntity.ok(workOrders);
     }
     
+    /**
+     * Get dashboard counters
+     */
+    @Operation(
+        summary = "Get work order statistics",
+        description = "Returns work order counts by status, priority and assigned technician. " +
+            "Counts are kept in memory and do not query the database."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<WorkOrderStats> getWorkOrderStats() {
+        log.debug("GET /api/v1/work-orders/stats - Fetching work order statistics");
+        return ResponseEntity.ok(workOrderStatsService.getStats());
+    }
+    
+    /**
+     * Export work orders as newline-delimited JSON
+     */
+    @Operation(
+        summary = "Export work orders",
+        description = "Streams every matching work order as newline-delimited JSON (one work order per line). " +
+            "Memory use is independent of the number of rows exported."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream started")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportWorkOrders(
+            @Parameter(description = "Only export work orders with this status")
+            @RequestParam(required = false) WorkOrderStatus status,
+            @Parameter(description = "Only export work orders for this customer", example = "100")
+            @RequestParam(required = false) Long customerId,
+            @Parameter(description = "Scheduled date lower bound (inclusive)", example = "2025-10-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime scheduledFrom,
+            @Parameter(description = "Scheduled date upper bound (exclusive)", example = "2025-11-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime scheduledTo) {
+        log.debug("GET /api/v1/work-orders/export - Exporting work orders");
+        StreamingResponseBody body = out ->
+            workOrderExportService.export(status, customerId, scheduledFrom, scheduledTo, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
     /**
      * Create a new work order
      */
@@ -213,7 +468,33 @@ public class WorkOrderController {
             @Valid @RequestBody CreateWorkOrderRequest request) {
         log.debug("POST /api/v1/work-orders - Creating new work order: {}", request.getTitle());
         WorkOrderDto created = workOrderService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(WorkOrderETag.of(created)).body(created);
+    }
+    
+    /**
+     * Create work orders in bulk
+     */
+    @Operation(
+        summary = "Create work orders in bulk",
+        description = "Validates and creates each work order in the list. Invalid or rejected entries are " +
+            "reported individually and do not prevent the rest of the batch from being created."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-entry results",
+            content = @Content(schema = @Schema(implementation = BatchCreateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createWorkOrders(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Work order creation requests",
+                required = true
+            )
+            @RequestBody List<CreateWorkOrderRequest> requests) {
+        log.debug("POST /api/v1/work-orders/batch - Creating {} work orders", requests.size());
+        BatchCreateResponse response = workOrderBatchService.createAll(requests);
+        return ResponseEntity.ok(response);
     }
     
     /**
@@ -221,7 +502,8 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Update work order",
-        description = "Updates an existing work order with the provided details"
+        description = "Updates an existing work order with the provided details. " +
+            "Send the ETag of the version being edited in If-Match to reject the update if it has since changed."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Work order updated successfully",
@@ -229,6 +511,8 @@ public class WorkOrderController {
         @ApiResponse(responseCode = "404", description = "Work order not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid request data",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Work order no longer matches If-Match",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PutMapping("/{id}")
@@ -239,10 +523,11 @@ public class WorkOrderController {
                 description = "Work order update request",
                 required = true
             )
-            @Valid @RequestBody UpdateWorkOrderRequest request) {
+            @Valid @RequestBody UpdateWorkOrderRequest request,
+            WebRequest webRequest) {
         log.debug("PUT /api/v1/work-orders/{} - Updating work order", id);
-        WorkOrderDto updated = workOrderService.update(id, request);
-        return ResponseEntity.ok(updated);
+        WorkOrderDto updated = workOrderService.update(id, request, ifMatchVersion(id, webRequest));
+        return ResponseEntity.ok().eTag(WorkOrderETag.of(updated)).body(updated);
     }
     
     /**
@@ -271,7 +556,7 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Assign work order to technician",
-        description = "Assigns a work order to a technician and updates the status to ASSIGNED"
+        description = "Assigns a work order to a technician and updates the status to ASSIGNED. Honors If-Match."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Work order assigned successfully",
@@ -279,6 +564,8 @@ public class WorkOrderController {
         @ApiResponse(responseCode = "404", description = "Work order not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Work order cannot be assigned (already completed or cancelled)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Work order no longer matches If-Match",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/{id}/assign")
@@ -288,10 +575,12 @@ public class WorkOrderController {
             @Parameter(description = "Technician ID", required = true, example = "200")
             @RequestParam Long technicianId,
             @Parameter(description = "Technician name", required = true, example = "Jane Tech")
-            @RequestParam String technicianName) {
+            @RequestParam String technicianName,
+            WebRequest webRequest) {
         log.debug("POST /api/v1/work-orders/{}/assign - Assigning to technician {}", id, technicianId);
-        WorkOrderDto updated = workOrderService.assignToTechnician(id, technicianId, technicianName);
-        return ResponseEntity.ok(updated);
+        WorkOrderDto updated = workOrderService.assignToTechnician(
+            id, technicianId, technicianName, ifMatchVersion(id, webRequest));
+        return ResponseEntity.ok().eTag(WorkOrderETag.of(updated)).body(updated);
     }
     
     /**
@@ -299,7 +588,8 @@ public class WorkOrderController {
      */
     @Operation(
         summary = "Update work order status",
-        description = "Updates the status of a work order. Automatically sets timestamps based on status transitions."
+        description = "Updates the status of a work order. Automatically sets timestamps based on status transitions. " +
+            "Honors If-Match."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Work order status updated successfully",
@@ -307,6 +597,8 @@ public class WorkOrderController {
         @ApiResponse(responseCode = "404", description = "Work order not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid status transition",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "412", description = "Work order no longer matches If-Match",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PatchMapping("/{id}/status")
@@ -314,9 +606,71 @@ public class WorkOrderController {
             @Parameter(description = "Work order ID", required = true, example = "1")
             @PathVariable Long id,
             @Parameter(description = "New status", required = true)
-            @RequestParam WorkOrderStatus status) {
+            @RequestParam WorkOrderStatus status,
+            WebRequest webRequest) {
         log.debug("PATCH /api/v1/work-orders/{}/status - Updating status to {}", id, status);
-        WorkOrderDto updated = workOrderService.updateStatus(id, status);
-        return ResponseEntity.ok(updated);
+        WorkOrderDto updated = workOrderService.updateStatus(id, status, ifMatchVersion(id, webRequest));
+        return ResponseEntity.ok().eTag(WorkOrderETag.of(updated)).body(updated);
+    }
+    
+    /**
+     * Update the status of many work orders
+     */
+    @Operation(
+        summary = "Bulk update work order status",
+        description = "Moves every targeted work order to the given status in a single set-based update. " +
+            "Targets are given as ids or as a search filter. Completed and cancelled work orders are skipped, " +
+            "and the response lists each skipped ID with the reason."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk update applied",
+            content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or ambiguous targets, or too many work orders",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResponse> bulkUpdateWorkOrderStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        log.debug("PATCH /api/v1/work-orders/bulk/status - Updating status to {}", request.getStatus());
+        BulkUpdateResponse response = workOrderService.bulkUpdateStatus(request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Assign many work orders to a technician
+     */
+    @Operation(
+        summary = "Bulk assign work orders",
+        description = "Assigns every targeted work order to the given technician in a single set-based update. " +
+            "Targets are given as ids or as a search filter. Completed and cancelled work orders are skipped, " +
+            "and the response lists each skipped ID with the reason."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk assignment applied",
+            content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or ambiguous targets, or too many work orders",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk/assign")
+    public ResponseEntity<BulkUpdateResponse> bulkAssignWorkOrders(
+            @Valid @RequestBody BulkAssignRequest request) {
+        log.debug("POST /api/v1/work-orders/bulk/assign - Assigning to technician {}", request.getTechnicianId());
+        BulkUpdateResponse response = workOrderService.bulkAssign(request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Evaluate If-Match against the current version. Returns the version the write must
+     * still find when it loads the work order, or null for an unconditional write.
+     */
+    private Long ifMatchVersion(Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) == null) {
+            return null;
+        }
+        long version = workOrderService.findVersion(id);
+        if (webRequest.checkNotModified(WorkOrderETag.of(id, version))) {
+            throw new WorkOrderPreconditionFailedException(id);
+        }
+        return version;
     }
 }
@@ -0,0 +1,30 @@
+package com.hhg.fieldservices.workorder.controller;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+
+/**
+ * Strong entity tags for single work order representations.
+ *
+ * <p>A tag is derived from the work order ID and its optimistic-lock version, so it can be
+ * computed from a version-only query without loading or serializing the work order. Every
+ * committed change increments the version and therefore changes the tag.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class WorkOrderETag {
+
+    private WorkOrderETag() {
+    }
+
+    /**
+     * Quoted tag for a work order at the given version, e.g. {@code "42-7"}
+     */
+    static String of(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String of(WorkOrderDto workOrder) {
+        return of(workOrder.getId(), workOrder.getVersion());
+    }
+}
@@ -0,0 +1,105 @@
+package com.hhg.fieldservices.workorder.controller;
+
+import com.hhg.fieldservices.workorder.dto.CommitOffsetRequest;
+import com.hhg.fieldservices.workorder.dto.ConsumerOffset;
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.exception.ErrorResponse;
+import com.hhg.fieldservices.workorder.service.WorkOrderEventLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for reading the work order event log.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/work-order-events")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Work Order Events", description = "Work Order Event Log API")
+public class WorkOrderEventController {
+
+    private static final String DEFAULT_LIMIT = "100";
+
+    private final WorkOrderEventLogService workOrderEventLogService;
+
+    /**
+     * Read published events
+     */
+    @Operation(
+        summary = "Read work order events",
+        description = "Returns published work order events after a log position, oldest first. " +
+            "When 'after' is omitted, reading starts at the named consumer's committed offset. " +
+            "Delivery is at-least-once: skip events whose eventId was already processed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved events"),
+        @ApiResponse(responseCode = "400", description = "Invalid position, consumer or limit",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<List<WorkOrderEventMessage>> getEvents(
+            @Parameter(description = "Return events after this log position", example = "1042")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Consumer whose committed offset is used when 'after' is omitted", example = "billing")
+            @RequestParam(required = false) String consumer,
+            @Parameter(description = "Maximum number of events to return (max 1000)", example = "100")
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        log.debug("GET /api/v1/work-order-events - after: {}, consumer: {}", after, consumer);
+        long from = after != null ? after
+            : consumer != null ? workOrderEventLogService.getOffset(consumer).position() : 0L;
+        return ResponseEntity.ok(workOrderEventLogService.read(from, limit));
+    }
+
+    /**
+     * Get a consumer's committed offset
+     */
+    @Operation(summary = "Get consumer offset", description = "Returns the last log position a consumer committed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved offset"),
+        @ApiResponse(responseCode = "400", description = "Invalid consumer name",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/consumers/{consumer}")
+    public ResponseEntity<ConsumerOffset> getOffset(
+            @Parameter(description = "Consumer name", required = true)
+            @PathVariable String consumer) {
+        log.debug("GET /api/v1/work-order-events/consumers/{}", consumer);
+        return ResponseEntity.ok(workOrderEventLogService.getOffset(consumer));
+    }
+
+    /**
+     * Commit a consumer's offset
+     */
+    @Operation(
+        summary = "Commit consumer offset",
+        description = "Records the last log position a consumer has processed. Moving backwards replays events."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Offset committed"),
+        @ApiResponse(responseCode = "400", description = "Invalid consumer name or position",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/consumers/{consumer}")
+    public ResponseEntity<ConsumerOffset> commitOffset(
+            @Parameter(description = "Consumer name", required = true)
+            @PathVariable String consumer,
+            @Valid @RequestBody CommitOffsetRequest request) {
+        log.info("PUT /api/v1/work-order-events/consumers/{} - position: {}", consumer, request.getPosition());
+        return ResponseEntity.ok(workOrderEventLogService.commitOffset(consumer, request.getPosition()));
+    }
+}
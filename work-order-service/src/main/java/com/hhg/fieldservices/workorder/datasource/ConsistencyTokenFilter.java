@@ -0,0 +1,55 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Gives clients read-your-writes consistency across requests when reads may be served by a
+ * replica.
+ *
+ * <p>A response to a request that committed a write carries an {@value #HEADER} header.
+ * A client that sends the newest token it has received back on later requests reads from a
+ * replica only once the replica has applied that write, and from the primary until then.
+ * A token that cannot be parsed sends the request's reads to the primary.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ReadConsistency.begin(parse(request.getHeader(HEADER)), committedAt -> {
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, Long.toString(committedAt));
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.end();
+        }
+    }
+
+    static long parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
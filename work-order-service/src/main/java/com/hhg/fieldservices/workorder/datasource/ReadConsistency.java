@@ -0,0 +1,93 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread consistency requirements that decide whether a read-only transaction may use
+ * a read replica.
+ *
+ * <p>Within a request a replica qualifies only once it has caught up to the newest commit
+ * the client has seen: the consistency token it sent, or a write committed earlier in the
+ * same request. Code whose result must reflect every committed write, such as the
+ * reconciliation of in-memory indexes, runs inside {@link #onPrimary(Supplier)}.
+ *
+ * <p>Without a replica configured these requirements are recorded and ignored.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Request> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    /**
+     * Run an action whose reads must all go to the primary
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PRIMARY.get() != null;
+    }
+
+    /**
+     * Start tracking a request on the current thread
+     *
+     * @param required commit time, in epoch milliseconds, the request's reads must reflect
+     * @param onCommit told the commit time of each write the request commits
+     */
+    static void begin(long required, LongConsumer onCommit) {
+        REQUEST.set(new Request(required, onCommit));
+    }
+
+    static void end() {
+        REQUEST.remove();
+    }
+
+    /**
+     * Commit time, in epoch milliseconds, that a replica must have caught up to; 0 when any
+     * replica within the lag tolerance will do
+     */
+    static long required() {
+        Request request = REQUEST.get();
+        return request == null ? 0 : request.required;
+    }
+
+    /**
+     * Record a write committed by the current request, so its later reads include it
+     */
+    static void committed(long committedAt) {
+        Request request = REQUEST.get();
+        if (request != null && committedAt > request.required) {
+            request.required = committedAt;
+            request.onCommit.accept(committedAt);
+        }
+    }
+
+    private static final class Request {
+
+        private long required;
+        private final LongConsumer onCommit;
+
+        private Request(long required, LongConsumer onCommit) {
+            this.required = required;
+            this.onCommit = onCommit;
+        }
+    }
+}
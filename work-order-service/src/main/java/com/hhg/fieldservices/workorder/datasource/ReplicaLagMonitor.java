@@ -0,0 +1,152 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how far a read replica trails the primary with a heartbeat row.
+ *
+ * <p>Every {@code heartbeat-interval} the primary's current time is written to the
+ * {@code replication_heartbeat} row on the primary; every {@code check-interval} the row is
+ * read back from the replica. The value read is the time up to which the replica has
+ * applied every commit, because replication applies commits in order. Lag measured this way
+ * is overstated by up to one heartbeat and one check interval, never understated, and grows
+ * without bound while the replica cannot be read or replication has stopped.
+ *
+ * <p>All times are on the primary database's clock, so heartbeats written by several
+ * instances and consistency tokens issued by any of them compare correctly whatever the
+ * instances' own clocks say. Each check also measures this instance's offset from the
+ * primary clock; {@link #primaryMillis()} rounds it up, so a time it reports after a commit
+ * returned is never earlier than the commit on the primary. The row only ever moves forward.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * The database's current time in epoch milliseconds, rounded down
+     */
+    private static final String DATABASE_MILLIS = "CAST(FLOOR(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000) AS BIGINT)";
+    private static final String BEAT_SQL = "UPDATE replication_heartbeat SET beat_millis = " + DATABASE_MILLIS
+        + " WHERE id = 1 AND beat_millis < " + DATABASE_MILLIS;
+    private static final String CHECK_SQL = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+    private static final String CLOCK_SQL = "SELECT " + DATABASE_MILLIS;
+
+    /**
+     * {@link #clockOffset} before the primary clock has been measured
+     */
+    private static final long UNMEASURED = Long.MIN_VALUE;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Clock clock;
+    private final boolean heartbeatEnabled;
+    private volatile long caughtUpTo;
+    /**
+     * Primary clock minus this instance's clock, in milliseconds, rounded up
+     */
+    private volatile long clockOffset = UNMEASURED;
+    private volatile boolean replicaFailing;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Clock clock,
+                             boolean heartbeatEnabled, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.clock = clock;
+        this.heartbeatEnabled = heartbeatEnabled;
+        TimeGauge.builder("workorder.datasource.replica.lag", this, TimeUnit.MILLISECONDS, ReplicaLagMonitor::lagMillis)
+            .description("How far the read replica trails the primary, as last measured")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Write the primary's current time to its heartbeat row
+     */
+    @Scheduled(fixedDelayString = "${workorder.datasource.replica.heartbeat-interval:PT1S}")
+    public void beat() {
+        if (!heartbeatEnabled) {
+            return;
+        }
+        try {
+            primary.update(BEAT_SQL);
+        } catch (DataAccessException ex) {
+            log.warn("Writing the replication heartbeat failed: {}",
+                NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+    }
+
+    /**
+     * Read the heartbeat back from the replica and measure the primary clock
+     */
+    @Scheduled(fixedDelayString = "${workorder.datasource.replica.check-interval:PT1S}")
+    public void check() {
+        try {
+            measurePrimaryClock();
+        } catch (DataAccessException ex) {
+            log.warn("Reading the primary clock failed: {}", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+        try {
+            Long beat = replica.queryForObject(CHECK_SQL, Long.class);
+            caughtUpTo = beat == null ? 0 : beat;
+            if (replicaFailing) {
+                replicaFailing = false;
+                log.info("Read replica is reachable again");
+            }
+        } catch (DataAccessException ex) {
+            if (!replicaFailing) {
+                replicaFailing = true;
+                log.warn("Reading the replication heartbeat from the replica failed; reads use the primary: {}",
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            }
+        }
+    }
+
+    /**
+     * Time on the primary clock, in epoch milliseconds, up to which the replica has applied
+     * every commit
+     */
+    public long caughtUpTo() {
+        return caughtUpTo;
+    }
+
+    /**
+     * Current time on the primary clock in epoch milliseconds, never earlier than the actual
+     * one. Measures the clock first if no check has done so yet.
+     */
+    public long primaryMillis() {
+        long offset = clockOffset;
+        if (offset == UNMEASURED) {
+            offset = measurePrimaryClock();
+        }
+        return clock.millis() + offset;
+    }
+
+    long lagMillis() {
+        long offset = clockOffset;
+        return Math.max(0, clock.millis() + (offset == UNMEASURED ? 0 : offset) - caughtUpTo);
+    }
+
+    /**
+     * The primary read its clock somewhere between the two local readings; assuming the
+     * earliest gives the largest offset it can have. One more millisecond covers the
+     * rounding down of the primary time.
+     */
+    private long measurePrimaryClock() {
+        long sentAt = clock.millis();
+        Long primaryNow = primary.queryForObject(CLOCK_SQL, Long.class);
+        long offset = primaryNow + 1 - sentAt;
+        clockOffset = offset;
+        return offset;
+    }
+}
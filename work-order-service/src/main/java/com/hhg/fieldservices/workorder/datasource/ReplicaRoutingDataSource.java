@@ -0,0 +1,96 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the primary.
+ *
+ * <p>A read-only transaction uses the replica when it trails the primary by no more than
+ * {@code maxLag} and has caught up to the commit the current request requires (see
+ * {@link ReadConsistency}); otherwise it reads from the primary. Each write transaction
+ * reports its commit time to {@link ReadConsistency} so the request's later reads see it.
+ * Commit times and lag are taken on the primary clock (see {@link ReplicaLagMonitor}), so
+ * a token issued by one instance holds on every other.
+ *
+ * <p>The target is chosen when a connection is obtained, so this data source must sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transaction
+ * managers open the connection before the transaction's read-only flag is published.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long maxLagMillis;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    Duration maxLag, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.maxLagMillis = maxLag.toMillis();
+        this.primaryReads = reads(meterRegistry, Target.PRIMARY);
+        this.replicaReads = reads(meterRegistry, Target.REPLICA);
+        setTargetDataSources(Map.<Object, Object>of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            reportCommit();
+            return Target.PRIMARY;
+        }
+        if (replicaQualifies()) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment();
+        return Target.PRIMARY;
+    }
+
+    private boolean replicaQualifies() {
+        if (ReadConsistency.isPinnedToPrimary()) {
+            return false;
+        }
+        long caughtUpTo = lagMonitor.caughtUpTo();
+        // A heartbeat stamped in the same millisecond as a commit may predate it
+        return lagMonitor.primaryMillis() - caughtUpTo <= maxLagMillis && caughtUpTo > ReadConsistency.required();
+    }
+
+    private void reportCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadConsistency.committed(lagMonitor.primaryMillis());
+            }
+        });
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder("workorder.datasource.reads")
+            .description("Read-only transactions by the data source they were routed to")
+            .tag("target", target.name().toLowerCase())
+            .register(meterRegistry);
+    }
+}
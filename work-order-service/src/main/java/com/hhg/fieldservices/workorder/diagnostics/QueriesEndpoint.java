@@ -0,0 +1,40 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /actuator/queries}: the top statements by total time, calls or rows, the slow
+ * query log and the statements run per request. {@code DELETE} starts the statistics over.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Endpoint(id = "queries")
+public class QueriesEndpoint {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final QueryDiagnostics diagnostics;
+
+    public QueriesEndpoint(QueryDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * @param orderBy {@code total-time} (default), {@code calls} or {@code rows}
+     * @param limit   statements to list, 20 by default
+     */
+    @ReadOperation
+    public QueryReport queries(@Nullable QueryOrder orderBy, @Nullable Integer limit) {
+        return diagnostics.report(orderBy == null ? QueryOrder.TOTAL_TIME : orderBy,
+            limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        diagnostics.reset();
+    }
+}
@@ -0,0 +1,380 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Statistics of the SQL statements the service runs, fed by
+ * {@link StatementTrackingDataSource} and served by {@link QueriesEndpoint}.
+ *
+ * <p>Three views are kept, each of bounded size:
+ * <ul>
+ *   <li>Totals per distinct statement: calls, rows, total and maximum time. At most
+ *       {@code maxStatements} statements are tracked; further ones are summed under
+ *       {@value #OTHER}. {@code IN} lists such as {@code in (?,?,?)} are collapsed so their
+ *       length does not make a statement distinct.</li>
+ *   <li>The most recent executions slower than {@code slowThreshold}, with the type and
+ *       length of each bind parameter but not its value. They are also logged, at most
+ *       {@value #SLOW_LOGS_PER_SECOND} a second.</li>
+ *   <li>Statements run per request, per endpoint, also published as the
+ *       {@code workorder.request.statements} histogram so an N+1 regression can raise an
+ *       alert. Requests running more than {@code requestStatementWarning} statements are
+ *       logged.</li>
+ * </ul>
+ *
+ * <p>Only statements run on a request thread count towards that request; work handed to
+ * other threads is tracked in the statement totals alone.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Slf4j
+public class QueryDiagnostics {
+
+    /**
+     * Key under which statements beyond the tracked maximum are summed
+     */
+    public static final String OTHER = "(other)";
+
+    private static final int MAX_ENDPOINTS = 500;
+    private static final int MAX_PARAMETER_SHAPES = 100;
+    private static final int SLOW_LOGS_PER_SECOND = 10;
+    private static final Pattern PARAMETER_LIST = Pattern.compile(
+        "(\\bin\\s*)\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+    private static final ThreadLocal<RequestStatements> REQUEST = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final long slowThresholdNanos;
+    private final int slowLogSize;
+    private final int maxStatements;
+    private final int requestStatementWarning;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Deque<QueryReport.SlowQuery> slowQueries = new ArrayDeque<>();
+    private final Counter slowCounter;
+    private final AtomicLong slowLogSecond = new AtomicLong();
+    private final AtomicInteger slowLogsThisSecond = new AtomicInteger();
+    private volatile StatementStats other = new StatementStats(OTHER);
+
+    public QueryDiagnostics(MeterRegistry meterRegistry, Clock clock, Duration slowThreshold, int slowLogSize,
+                            int maxStatements, int requestStatementWarning) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSize = slowLogSize;
+        this.maxStatements = maxStatements;
+        this.requestStatementWarning = requestStatementWarning;
+        this.slowCounter = Counter.builder("workorder.queries.slow")
+            .description("Statement executions above the slow query threshold")
+            .register(meterRegistry);
+        log.info("Query diagnostics enabled (slowThreshold={}, maxStatements={}, requestStatementWarning={})",
+            slowThreshold, maxStatements, requestStatementWarning);
+    }
+
+    /**
+     * The totals a statement is recorded into; resolve once per prepared statement
+     */
+    StatementStats statement(String sql) {
+        String key = normalize(sql);
+        StatementStats stats = statements.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (statements.size() >= maxStatements) {
+            return other;
+        }
+        return statements.computeIfAbsent(key, StatementStats::new);
+    }
+
+    /**
+     * Count a statement against the request running on the current thread, if any
+     */
+    static void countStatement() {
+        RequestStatements request = REQUEST.get();
+        if (request != null) {
+            request.statements++;
+        }
+    }
+
+    /**
+     * Record a finished execution
+     *
+     * @param nanos      time from execution until its rows were read
+     * @param parameters bind parameters by index, only described if the execution was slow
+     */
+    void executed(StatementStats stats, long nanos, long rows, Object[] parameters) {
+        stats.record(nanos, rows);
+        if (nanos >= slowThresholdNanos) {
+            stats.slowCalls.increment();
+            slow(stats.sql, nanos, rows, parameters);
+        }
+    }
+
+    void beginRequest(HttpServletRequest request) {
+        REQUEST.set(new RequestStatements(request));
+    }
+
+    void endRequest(HttpServletRequest request) {
+        RequestStatements current = REQUEST.get();
+        REQUEST.remove();
+        if (current == null) {
+            return;
+        }
+        String method = request.getMethod();
+        String uri = uri(request);
+        endpoint(method, uri).record(current.statements);
+        if (current.statements > requestStatementWarning) {
+            log.warn("{} {} ran {} SQL statements, more than {}; check {} {} for N+1 queries",
+                method, request.getRequestURI(), current.statements, requestStatementWarning, method, uri);
+        }
+    }
+
+    /**
+     * The top {@code limit} statements by the given order, the slow log and the per-endpoint counts
+     */
+    public QueryReport report(QueryOrder orderBy, int limit) {
+        List<StatementStats> ranked = new ArrayList<>(statements.values());
+        StatementStats overflow = other;
+        if (overflow.calls.sum() > 0) {
+            ranked.add(overflow);
+        }
+        List<QueryReport.Statement> top = ranked.stream()
+            .map(StatementStats::snapshot)
+            .sorted(comparator(orderBy))
+            .limit(Math.max(0, limit))
+            .toList();
+        List<QueryReport.Endpoint> requests = endpoints.values().stream()
+            .map(EndpointStats::snapshot)
+            .sorted(Comparator.comparingDouble(QueryReport.Endpoint::meanStatements).reversed())
+            .toList();
+        List<QueryReport.SlowQuery> slow;
+        synchronized (slowQueries) {
+            slow = new ArrayList<>(slowQueries);
+        }
+        return new QueryReport(orderBy, millis(slowThresholdNanos), requestStatementWarning,
+            statements.size(), maxStatements, top, slow, requests);
+    }
+
+    /**
+     * Forget all statement totals, slow executions and endpoint counts. The
+     * {@code workorder.request.statements} histograms keep counting.
+     */
+    public void reset() {
+        statements.clear();
+        other = new StatementStats(OTHER);
+        endpoints.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    /**
+     * Collapse parameter lists so IN clauses of any length share one entry
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        return sql.contains("?,") ? PARAMETER_LIST.matcher(sql).replaceAll("$1(?, ...)") : sql;
+    }
+
+    /**
+     * Type of each bind parameter, with the length of text and binary values
+     */
+    static List<String> parameterShapes(Object[] parameters) {
+        if (parameters == null) {
+            return List.of();
+        }
+        int count = parameters.length;
+        while (count > 0 && parameters[count - 1] == null) {
+            count--;
+        }
+        List<String> shapes = new ArrayList<>(Math.min(count, MAX_PARAMETER_SHAPES + 1));
+        for (int i = 1; i < count && shapes.size() < MAX_PARAMETER_SHAPES; i++) {
+            shapes.add(shape(parameters[i]));
+        }
+        if (count - 1 > MAX_PARAMETER_SHAPES) {
+            shapes.add("... " + (count - 1 - MAX_PARAMETER_SHAPES) + " more");
+        }
+        return shapes;
+    }
+
+    private static String shape(Object value) {
+        if (value == null) {
+            return "unset";
+        }
+        if (value == StatementTrackingDataSource.NULL) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private void slow(String sql, long nanos, long rows, Object[] parameters) {
+        slowCounter.increment();
+        RequestStatements request = REQUEST.get();
+        String requestLabel = request == null ? null
+            : request.request.getMethod() + " " + request.request.getRequestURI();
+        QueryReport.SlowQuery entry = new QueryReport.SlowQuery(clock.instant(), sql, millis(nanos), rows,
+            parameterShapes(parameters), requestLabel);
+        synchronized (slowQueries) {
+            if (slowQueries.size() >= slowLogSize) {
+                slowQueries.removeLast();
+            }
+            slowQueries.addFirst(entry);
+        }
+        if (mayLogSlowQuery()) {
+            log.warn("Slow SQL statement ({} ms, {} rows, parameters {}{}): {}", entry.timeMs(), rows,
+                entry.parameters(), requestLabel == null ? "" : ", request " + requestLabel, sql);
+        }
+    }
+
+    private boolean mayLogSlowQuery() {
+        long second = clock.millis() / 1000;
+        long current = slowLogSecond.get();
+        if (current != second && slowLogSecond.compareAndSet(current, second)) {
+            slowLogsThisSecond.set(0);
+        }
+        return slowLogsThisSecond.incrementAndGet() <= SLOW_LOGS_PER_SECOND;
+    }
+
+    private EndpointStats endpoint(String method, String uri) {
+        String key = method + " " + uri;
+        EndpointStats stats = endpoints.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (endpoints.size() >= MAX_ENDPOINTS) {
+            key = OTHER;
+            method = "OTHER";
+            uri = "OTHER";
+        }
+        String tagMethod = method;
+        String tagUri = uri;
+        return endpoints.computeIfAbsent(key, k -> new EndpointStats(k, DistributionSummary
+            .builder("workorder.request.statements")
+            .description("SQL statements run per HTTP request")
+            .baseUnit("statements")
+            .serviceLevelObjectives(STATEMENT_BUCKETS)
+            .tag("method", tagMethod)
+            .tag("uri", tagUri)
+            .register(meterRegistry)));
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static Comparator<QueryReport.Statement> comparator(QueryOrder orderBy) {
+        Comparator<QueryReport.Statement> comparator = switch (orderBy) {
+            case TOTAL_TIME -> Comparator.comparingDouble(QueryReport.Statement::totalTimeMs);
+            case CALLS -> Comparator.comparingLong(QueryReport.Statement::calls);
+            case ROWS -> Comparator.comparingLong(QueryReport.Statement::rows);
+        };
+        return comparator.reversed();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Running totals of one statement
+     */
+    static final class StatementStats {
+
+        private final String sql;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        private void record(long nanos, long rowCount) {
+            calls.increment();
+            rows.add(rowCount);
+            totalNanos.add(nanos);
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        private QueryReport.Statement snapshot() {
+            long callCount = calls.sum();
+            long total = totalNanos.sum();
+            return new QueryReport.Statement(sql, callCount, rows.sum(), millis(total),
+                callCount == 0 ? 0 : millis(total / callCount), millis(maxNanos.get()), slowCalls.sum());
+        }
+    }
+
+    private static final class EndpointStats {
+
+        private final String endpoint;
+        private final DistributionSummary summary;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        private EndpointStats(String endpoint, DistributionSummary summary) {
+            this.endpoint = endpoint;
+            this.summary = summary;
+        }
+
+        private void record(int count) {
+            requests.increment();
+            statements.add(count);
+            if (count > maxStatements.get()) {
+                maxStatements.accumulateAndGet(count, Math::max);
+            }
+            summary.record(count);
+        }
+
+        private QueryReport.Endpoint snapshot() {
+            long requestCount = requests.sum();
+            long statementCount = statements.sum();
+            return new QueryReport.Endpoint(endpoint, requestCount, statementCount,
+                requestCount == 0 ? 0 : statementCount / (double) requestCount, maxStatements.get());
+        }
+    }
+
+    private static final class RequestStatements {
+
+        private final HttpServletRequest request;
+        private int statements;
+
+        private RequestStatements(HttpServletRequest request) {
+            this.request = request;
+        }
+    }
+}
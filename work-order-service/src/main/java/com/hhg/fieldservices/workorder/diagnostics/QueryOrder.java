@@ -0,0 +1,13 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+/**
+ * Ranking of the statements in a {@link QueryReport}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public enum QueryOrder {
+    TOTAL_TIME,
+    CALLS,
+    ROWS
+}
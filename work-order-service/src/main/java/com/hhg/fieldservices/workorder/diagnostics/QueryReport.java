@@ -0,0 +1,70 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Snapshot of the statement statistics served by {@code /actuator/queries}.
+ *
+ * @param orderBy                   how {@code statements} are ranked
+ * @param slowThresholdMs           time above which a statement enters the slow log
+ * @param requestStatementWarning   statements per request above which a request is logged
+ * @param trackedStatements         distinct statements tracked, at most {@code maxTrackedStatements}
+ * @param maxTrackedStatements      distinct statements tracked before the rest are summed as {@value QueryDiagnostics#OTHER}
+ * @param statements                top statements
+ * @param slowQueries               most recent slow executions, newest first
+ * @param requests                  statements run per endpoint, most per request first
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record QueryReport(
+    QueryOrder orderBy,
+    double slowThresholdMs,
+    int requestStatementWarning,
+    int trackedStatements,
+    int maxTrackedStatements,
+    List<Statement> statements,
+    List<SlowQuery> slowQueries,
+    List<Endpoint> requests
+) {
+
+    /**
+     * Totals of one statement; times include reading the rows of a query
+     */
+    public record Statement(
+        String sql,
+        long calls,
+        long rows,
+        double totalTimeMs,
+        double meanTimeMs,
+        double maxTimeMs,
+        long slowCalls
+    ) {
+    }
+
+    /**
+     * One execution above the slow threshold. Parameters are described by type and, for
+     * text and binary values, length; their values are never kept.
+     */
+    public record SlowQuery(
+        Instant timestamp,
+        String sql,
+        double timeMs,
+        long rows,
+        List<String> parameters,
+        String request
+    ) {
+    }
+
+    /**
+     * Statements run by the requests to one endpoint
+     */
+    public record Endpoint(
+        String endpoint,
+        long requests,
+        long statements,
+        double meanStatements,
+        long maxStatements
+    ) {
+    }
+}
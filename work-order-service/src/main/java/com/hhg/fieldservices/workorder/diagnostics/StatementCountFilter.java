@@ -0,0 +1,38 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request runs on its thread and reports them to
+ * {@link QueryDiagnostics} per endpoint once the request completes.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final QueryDiagnostics diagnostics;
+
+    public StatementCountFilter(QueryDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        diagnostics.beginRequest(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            diagnostics.endRequest(request);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Reports every statement run through its connections to {@link QueryDiagnostics}: the
+ * time from execution until the result set is closed, the rows read or updated, and the
+ * bind parameters of executions that turn out slow.
+ *
+ * <p>Statements are measured below Hibernate, so entity loads, flushes and native queries
+ * are covered alongside JPQL and criteria queries, each under its own SQL.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class StatementTrackingDataSource extends DelegatingDataSource {
+
+    /**
+     * Parameter bound with {@code setNull}, told apart from one not bound at all
+     */
+    static final Object NULL = new Object();
+
+    private final ObjectProvider<QueryDiagnostics> diagnosticsProvider;
+    private volatile QueryDiagnostics diagnostics;
+
+    public StatementTrackingDataSource(DataSource target, ObjectProvider<QueryDiagnostics> diagnostics) {
+        super(target);
+        this.diagnosticsProvider = diagnostics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        QueryDiagnostics queryDiagnostics = diagnostics();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql, queryDiagnostics));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Resolved on first use; the data source is created before the beans it reports to
+     */
+    private QueryDiagnostics diagnostics() {
+        QueryDiagnostics resolved = diagnostics;
+        if (resolved == null) {
+            resolved = diagnosticsProvider.getObject();
+            diagnostics = resolved;
+        }
+        return resolved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementTrackingDataSource.class.getClassLoader(),
+            new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Tracks one statement. JDBC statements are used by one thread at a time, so its state
+     * needs no synchronization.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final QueryDiagnostics diagnostics;
+        private String sql;
+        private String trackedSql;
+        private QueryDiagnostics.StatementStats stats;
+        private Object[] parameters;
+        private long pendingSince = -1;
+        private long pendingRows;
+
+        private StatementHandler(Statement target, String sql, QueryDiagnostics diagnostics) {
+            this.target = target;
+            this.sql = sql;
+            this.diagnostics = diagnostics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? NULL : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters = null;
+            } else if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String text) {
+                sql = text;
+            } else if (name.equals("getResultSet")) {
+                Object result = StatementTrackingDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet && pendingSince >= 0 ? track(resultSet) : result;
+            } else if (name.equals("close")) {
+                complete();
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            return StatementTrackingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            complete();
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            if (stats == null || executed != trackedSql) {
+                stats = diagnostics.statement(executed);
+                trackedSql = executed;
+            }
+            QueryDiagnostics.countStatement();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = StatementTrackingDataSource.invoke(target, method, args);
+            } catch (Throwable ex) {
+                diagnostics.executed(stats, System.nanoTime() - start, 0, parameters);
+                throw ex;
+            }
+            if (result instanceof ResultSet resultSet) {
+                pendingSince = start;
+                return track(resultSet);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                pendingSince = start;
+                return result;
+            }
+            long rows = rows(result);
+            diagnostics.executed(stats, System.nanoTime() - start, rows, parameters);
+            return result;
+        }
+
+        private long rows(Object result) throws SQLException {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            return Math.max(target.getUpdateCount(), 0);
+        }
+
+        private ResultSet track(ResultSet resultSet) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("next")) {
+                    Object next = StatementTrackingDataSource.invoke(resultSet, method, args);
+                    if (Boolean.TRUE.equals(next)) {
+                        pendingRows++;
+                    }
+                    return next;
+                }
+                if (name.equals("close")) {
+                    complete();
+                } else if (name.equals("equals")) {
+                    return proxy == args[0];
+                }
+                return StatementTrackingDataSource.invoke(resultSet, method, args);
+            });
+        }
+
+        /**
+         * Record the pending query once its rows have been read
+         */
+        private void complete() {
+            if (pendingSince < 0) {
+                return;
+            }
+            diagnostics.executed(stats, System.nanoTime() - pendingSince, pendingRows, parameters);
+            pendingSince = -1;
+            pendingRows = 0;
+        }
+
+        private void bind(int index, Object value) {
+            if (!(target instanceof PreparedStatement) || index < 1) {
+                return;
+            }
+            if (parameters == null) {
+                parameters = new Object[Math.max(index + 1, 8)];
+            } else if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+            parameters[index] = value == null ? NULL : value;
+        }
+    }
+}
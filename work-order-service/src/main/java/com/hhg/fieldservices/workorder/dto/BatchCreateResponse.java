@@ -0,0 +1,35 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk create request, one entry per submitted work order in request order.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk create request")
+public class BatchCreateResponse {
+
+    @Schema(description = "Number of work orders submitted", example = "1000")
+    private int requested;
+
+    @Schema(description = "Number of work orders created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of work orders rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "Per-entry outcomes in request order")
+    private List<BatchItemResult> results;
+}
@@ -0,0 +1,38 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of one entry in a bulk create request.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of one entry in a bulk create request")
+public class BatchItemResult {
+
+    @Schema(description = "Zero-based position of the entry in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the work order was created", example = "true")
+    private boolean created;
+
+    @Schema(description = "ID of the created work order", example = "1")
+    private Long id;
+
+    @Schema(description = "Number of the created work order", example = "WO-0000000101")
+    private String workOrderNumber;
+
+    @Schema(description = "Reasons the entry was rejected")
+    private List<String> errors;
+}
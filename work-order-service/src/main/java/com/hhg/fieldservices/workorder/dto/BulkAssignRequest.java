@@ -0,0 +1,42 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request for assigning many work orders to one technician.
+ * Targets are given either as explicit IDs or as a search filter, not both.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request for assigning many work orders to a technician")
+public class BulkAssignRequest {
+
+    @Schema(description = "Work order IDs to assign", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Search filter selecting the work orders to assign")
+    @Valid
+    private WorkOrderSearchCriteria filter;
+
+    @Schema(description = "Technician ID", example = "200", required = true)
+    @NotNull(message = "Technician ID is required")
+    private Long technicianId;
+
+    @Schema(description = "Technician name", example = "Jane Smith")
+    @Size(max = 200, message = "Technician name must not exceed 200 characters")
+    private String technicianName;
+}
@@ -0,0 +1,38 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request for moving many work orders to one status.
+ * Targets are given either as explicit IDs or as a search filter, not both.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request for changing the status of many work orders")
+public class BulkStatusUpdateRequest {
+
+    @Schema(description = "Work order IDs to update", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Search filter selecting the work orders to update")
+    @Valid
+    private WorkOrderSearchCriteria filter;
+
+    @Schema(description = "Target status", example = "CANCELLED", required = true)
+    @NotNull(message = "Status is required")
+    private WorkOrderStatus status;
+}
@@ -0,0 +1,32 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk status change or assignment.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a bulk status change or assignment")
+public class BulkUpdateResponse {
+
+    @Schema(description = "Number of work orders targeted", example = "120")
+    private int requested;
+
+    @Schema(description = "IDs of the work orders that were changed")
+    private List<Long> updatedIds;
+
+    @Schema(description = "Work orders that were left unchanged, with reasons")
+    private List<SkippedWorkOrder> skipped;
+}
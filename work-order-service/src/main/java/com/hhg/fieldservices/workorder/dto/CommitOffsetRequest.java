@@ -0,0 +1,28 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request for committing a consumer's position in the work order event log.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request for committing a consumer offset")
+public class CommitOffsetRequest {
+
+    @Schema(description = "Last log position processed", example = "1042", required = true)
+    @NotNull(message = "Position is required")
+    @PositiveOrZero(message = "Position must not be negative")
+    private Long position;
+}
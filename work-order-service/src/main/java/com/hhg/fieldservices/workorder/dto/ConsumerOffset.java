@@ -0,0 +1,24 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Committed position of one consumer in the work order event log.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Consumer offset in the work order event log")
+public record ConsumerOffset(
+    @Schema(description = "Consumer name", example = "billing")
+    String consumer,
+
+    @Schema(description = "Last log position the consumer has processed; 0 before its first commit", example = "1042")
+    Long position,
+
+    @Schema(description = "When the offset was last committed, or null if never")
+    LocalDateTime updatedAt
+) {
+}
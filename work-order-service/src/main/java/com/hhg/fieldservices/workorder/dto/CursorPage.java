@@ -0,0 +1,36 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ * Clients pass {@code nextCursor} back as the {@code cursor} parameter to fetch the following page.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Keyset-paginated page of results")
+public class CursorPage<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> content;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Opaque token for the next page, absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page follows this one", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * An open work order and its distance from a search point.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Open work order near a location")
+public record NearbyWorkOrder(
+    @Schema(description = "Work order list row")
+    WorkOrderSummary workOrder,
+
+    @Schema(description = "Great-circle distance from the search point in kilometres", example = "3.4")
+    double distanceKm
+) {
+}
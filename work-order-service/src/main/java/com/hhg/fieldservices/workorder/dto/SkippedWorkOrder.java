@@ -0,0 +1,27 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Work order left unchanged by a bulk operation, with the reason.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Work order left unchanged by a bulk operation")
+public class SkippedWorkOrder {
+
+    @Schema(description = "Work order ID", example = "3")
+    private Long id;
+
+    @Schema(description = "Why the work order was not changed", example = "Cannot change status from COMPLETED to CANCELLED")
+    private String reason;
+}
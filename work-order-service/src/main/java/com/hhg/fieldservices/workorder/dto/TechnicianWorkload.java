@@ -0,0 +1,41 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Open work and booked hours of one technician.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Open work and booked hours of a technician")
+public record TechnicianWorkload(
+    @Schema(description = "Technician ID", example = "200")
+    Long technicianId,
+
+    @Schema(description = "Technician name", example = "Jane Smith")
+    String technicianName,
+
+    @Schema(description = "Number of open work orders assigned to the technician", example = "4")
+    int openWorkOrders,
+
+    @Schema(description = "Open work orders per status")
+    Map<WorkOrderStatus, Integer> byStatus,
+
+    @Schema(description = "Labor hours booked on the open work orders", example = "9")
+    long bookedHours,
+
+    @Schema(description = "ID of the earliest scheduled open work order", example = "1")
+    Long nextWorkOrderId,
+
+    @Schema(description = "Number of the earliest scheduled open work order", example = "WO-0000000101")
+    String nextWorkOrderNumber,
+
+    @Schema(description = "Scheduled date of the earliest scheduled open work order")
+    LocalDateTime nextScheduledDate
+) {
+}
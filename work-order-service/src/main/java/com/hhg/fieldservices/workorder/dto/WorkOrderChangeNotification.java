@@ -0,0 +1,44 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Compact change notification pushed to live stream clients; clients re-read the
+ * work order if they need more than these fields.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Live work order change notification")
+public record WorkOrderChangeNotification(
+    @Schema(description = "Kind of change", example = "STATUS_CHANGED")
+    WorkOrderEventType type,
+
+    @Schema(description = "Work order ID", example = "1")
+    Long id,
+
+    @Schema(description = "Work order number", example = "WO-0000000101")
+    String workOrderNumber,
+
+    @Schema(description = "Status after the change (before it, for DELETED)", example = "IN_PROGRESS")
+    WorkOrderStatus status,
+
+    @Schema(description = "Priority after the change (before it, for DELETED)", example = "HIGH")
+    WorkOrderPriority priority,
+
+    @Schema(description = "Customer ID", example = "100")
+    Long customerId,
+
+    @Schema(description = "Assigned technician ID", example = "200")
+    Long assignedTechnicianId,
+
+    @Schema(description = "Assigned technician name", example = "Jane Smith")
+    String assignedTechnicianName,
+
+    @Schema(description = "Work order version after the change (before it, for DELETED)", example = "3")
+    Long version
+) {
+}
@@ -0,0 +1,27 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Number of work orders sharing a status, priority and assigned technician.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Work order count for one status, priority and technician")
+public record WorkOrderCount(
+    @Schema(description = "Work order status", example = "ASSIGNED")
+    WorkOrderStatus status,
+
+    @Schema(description = "Work order priority", example = "HIGH")
+    WorkOrderPriority priority,
+
+    @Schema(description = "Assigned technician ID, or null when unassigned", example = "200")
+    Long assignedTechnicianId,
+
+    @Schema(description = "Number of work orders", example = "12")
+    Long count
+) {
+}
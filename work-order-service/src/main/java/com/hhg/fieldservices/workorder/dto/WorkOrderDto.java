@@ -28,7 +28,7 @@ public class WorkOrderDto {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
     
-    @Schema(description = "Auto-generated work order number", example = "WO-20251024123456")
+    @Schema(description = "Auto-generated work order number", example = "WO-0000000101")
     private String workOrderNumber;
     
     @Schema(description = "Work order title", example = "HVAC Repair")
@@ -67,6 +67,12 @@ public class WorkOrderDto {
     @Schema(description = "ZIP code", example = "62701")
     private String zipCode;
     
+    @Schema(description = "Latitude of the service location", example = "39.8")
+    private Double latitude;
+    
+    @Schema(description = "Longitude of the service location", example = "-89.6495")
+    private Double longitude;
+    
     @Schema(description = "Assigned technician ID", example = "200")
     private Long assignedTechnicianId;
     
@@ -102,4 +108,8 @@ public class WorkOrderDto {
     
     @Schema(description = "Version for optimistic locking", example = "0")
     private Long version;
+    
+    @Schema(description = "When the work order was moved to the archive; absent for live work orders. " +
+        "Archived work orders are read-only")
+    private LocalDateTime archivedAt;
 }
@@ -0,0 +1,46 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.hhg.fieldservices.workorder.model.WorkOrderEvent;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * One published entry of the work order event log, as delivered to sinks and consumers.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Work order change event")
+public record WorkOrderEventMessage(
+    @Schema(description = "Position in the event log; consumers commit this as their offset", example = "1042")
+    Long position,
+
+    @Schema(description = "Event ID; identifies redeliveries of the same event", example = "5120")
+    Long eventId,
+
+    @Schema(description = "Work order ID", example = "1")
+    Long workOrderId,
+
+    @Schema(description = "Work order version after the change (before it, for DELETED); " +
+        "increases with every change of the same work order", example = "3")
+    Long workOrderVersion,
+
+    @Schema(description = "Kind of change", example = "STATUS_CHANGED")
+    WorkOrderEventType type,
+
+    @Schema(description = "When the change was made")
+    LocalDateTime occurredAt,
+
+    @Schema(description = "Work order summary after the change (before it, for DELETED)")
+    @JsonRawValue
+    String payload
+) {
+
+    public static WorkOrderEventMessage of(WorkOrderEvent event) {
+        return new WorkOrderEventMessage(event.getLogPosition(), event.getId(), event.getWorkOrderId(),
+            event.getWorkOrderVersion(), event.getType(), event.getCreatedAt(), event.getPayload());
+    }
+}
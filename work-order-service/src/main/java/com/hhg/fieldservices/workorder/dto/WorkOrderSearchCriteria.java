@@ -0,0 +1,55 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filter criteria for the multi-criteria work order search.
+ * Every field is optional; supplied fields are combined with AND.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Work order search filters")
+public class WorkOrderSearchCriteria {
+
+    @Schema(description = "Free-text query over title, description, notes, address and item descriptions; " +
+        "every word must match a whole word or word prefix", example = "water heater leak elm")
+    private String q;
+
+    @Schema(description = "Match any of these statuses", example = "PENDING")
+    private List<WorkOrderStatus> status;
+
+    @Schema(description = "Match any of these priorities", example = "HIGH")
+    private List<WorkOrderPriority> priority;
+
+    @Schema(description = "Service location city (exact match)", example = "Springfield")
+    private String city;
+
+    @Schema(description = "Assigned technician ID", example = "200")
+    private Long technicianId;
+
+    @Schema(description = "Customer ID", example = "100")
+    private Long customerId;
+
+    @Schema(description = "Scheduled date lower bound (inclusive)", example = "2025-10-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime scheduledFrom;
+
+    @Schema(description = "Scheduled date upper bound (exclusive)", example = "2025-11-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime scheduledTo;
+}
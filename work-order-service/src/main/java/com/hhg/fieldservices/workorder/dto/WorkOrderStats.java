@@ -0,0 +1,48 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard counters for all work orders.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Work order counts by status, priority and technician")
+public class WorkOrderStats {
+
+    @Schema(description = "Total number of work orders", example = "1520")
+    private long total;
+
+    @Schema(description = "Work order count per status")
+    private Map<WorkOrderStatus, Long> byStatus;
+
+    @Schema(description = "Work order count per priority")
+    private Map<WorkOrderPriority, Long> byPriority;
+
+    @Schema(description = "Work order count per assigned technician ID")
+    private Map<Long, Long> byTechnician;
+
+    @Schema(description = "Number of work orders without an assigned technician", example = "87")
+    private long unassigned;
+
+    @Schema(description = "Non-zero counts per status, priority and technician")
+    private List<WorkOrderCount> breakdown;
+
+    @Schema(description = "When the counts were read")
+    private LocalDateTime asOf;
+}
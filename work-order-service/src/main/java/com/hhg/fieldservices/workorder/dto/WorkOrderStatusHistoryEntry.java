@@ -0,0 +1,36 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status a work order entered and how long it stayed there.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Status a work order entered")
+public record WorkOrderStatusHistoryEntry(
+    @Schema(description = "Status before the change, absent for the status the work order was created in",
+        example = "ASSIGNED")
+    WorkOrderStatus fromStatus,
+
+    @Schema(description = "Status entered", example = "IN_PROGRESS")
+    WorkOrderStatus toStatus,
+
+    @Schema(description = "Technician assigned after the change", example = "200")
+    Long technicianId,
+
+    @Schema(description = "Work order version the change produced", example = "3")
+    Long version,
+
+    @Schema(description = "When the change was recorded, shortly after it was committed")
+    LocalDateTime changedAt,
+
+    @Schema(description = "Seconds spent in this status before the next change, absent while it is current",
+        example = "5400")
+    Long secondsInStatus
+) {
+}
@@ -0,0 +1,60 @@
+package com.hhg.fieldservices.workorder.dto;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns shown on work order list screens, selected directly by the
+ * repository without loading entities, descriptions, notes or items.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Schema(description = "Work order list row")
+public record WorkOrderSummary(
+    @Schema(description = "Unique identifier", example = "1")
+    Long id,
+
+    @Schema(description = "Auto-generated work order number", example = "WO-0000000101")
+    String workOrderNumber,
+
+    @Schema(description = "Work order title", example = "HVAC Repair")
+    String title,
+
+    @Schema(description = "Current status", example = "PENDING")
+    WorkOrderStatus status,
+
+    @Schema(description = "Priority level", example = "HIGH")
+    WorkOrderPriority priority,
+
+    @Schema(description = "Customer ID", example = "100")
+    Long customerId,
+
+    @Schema(description = "Customer name", example = "John Doe")
+    String customerName,
+
+    @Schema(description = "Assigned technician ID", example = "200")
+    Long assignedTechnicianId,
+
+    @Schema(description = "Assigned technician name", example = "Jane Smith")
+    String assignedTechnicianName,
+
+    @Schema(description = "Scheduled date and time")
+    LocalDateTime scheduledDate,
+
+    @Schema(description = "Creation timestamp")
+    LocalDateTime createdAt,
+
+    @Schema(description = "Version for optimistic locking", example = "0")
+    Long version,
+
+    @Schema(description = "Latitude of the service location", example = "39.8")
+    Double latitude,
+
+    @Schema(description = "Longitude of the service location", example = "-89.6495")
+    Double longitude
+) {
+}
@@ -0,0 +1,19 @@
+package com.hhg.fieldservices.workorder.dto;
+
+/**
+ * Response shape for list endpoints.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public enum WorkOrderView {
+    /**
+     * Full {@link WorkOrderDto} with items
+     */
+    FULL,
+
+    /**
+     * {@link WorkOrderSummary} list row only
+     */
+    SUMMARY
+}
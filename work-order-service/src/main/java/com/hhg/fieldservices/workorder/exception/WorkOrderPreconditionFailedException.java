@@ -0,0 +1,19 @@
+package com.hhg.fieldservices.workorder.exception;
+
+/**
+ * Exception thrown when a conditional write targets a work order version
+ * that is no longer current.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class WorkOrderPreconditionFailedException extends RuntimeException {
+    
+    public WorkOrderPreconditionFailedException(Long id) {
+        super("Work order " + id + " has been modified since it was read");
+    }
+    
+    public WorkOrderPreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hhg.fieldservices.workorder.exception;
+
+/**
+ * Exception thrown when full-text search is requested before the search index is ready.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class WorkOrderSearchUnavailableException extends RuntimeException {
+    
+    public WorkOrderSearchUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.hhg.fieldservices.workorder.mapper;
 
 import com.hhg.fieldservices.workorder.dto.*;
+import com.hhg.fieldservices.workorder.model.ArchivedWorkOrder;
+import com.hhg.fieldservices.workorder.model.ArchivedWorkOrderItem;
 import com.hhg.fieldservices.workorder.model.WorkOrder;
 import com.hhg.fieldservices.workorder.model.WorkOrderItem;
 import org.mapstruct.*;
@@ -21,6 +23,16 @@ public interface WorkOrderMapper {
      */
     WorkOrderDto toDto(WorkOrder workOrder);
     
+    /**
+     * Convert an archived work order to the DTO served for live ones
+     */
+    WorkOrderDto toDto(ArchivedWorkOrder workOrder);
+    
+    /**
+     * Convert WorkOrder entity to its list-row summary
+     */
+    WorkOrderSummary toSummary(WorkOrder workOrder);
+    
     /**
      * Convert list of WorkOrder entities to DTOs
      */
@@ -38,6 +50,9 @@ public interface WorkOrderMapper {
     @Mapping(target = "startedAt", ignore = true)
     @Mapping(target = "completedAt", ignore = true)
     @Mapping(target = "actualCost", ignore = true)
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
     WorkOrder toEntity(CreateWorkOrderRequest request);
     
     /**
@@ -54,6 +69,8 @@ public interface WorkOrderMapper {
     @Mapping(target = "city", ignore = true)
     @Mapping(target = "state", ignore = true)
     @Mapping(target = "zipCode", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
@@ -65,6 +82,11 @@ public interface WorkOrderMapper {
      */
     WorkOrderItemDto toItemDto(WorkOrderItem item);
     
+    /**
+     * Convert an archived item to DTO
+     */
+    WorkOrderItemDto toItemDto(ArchivedWorkOrderItem item);
+    
     /**
      * Convert CreateWorkOrderItemRequest to WorkOrderItem entity
      */
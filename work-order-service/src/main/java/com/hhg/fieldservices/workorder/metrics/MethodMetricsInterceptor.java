@@ -0,0 +1,184 @@
+package com.hhg.fieldservices.workorder.metrics;
+
+import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderPreconditionFailedException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderSearchUnavailableException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through a proxied service or repository into a {@code <prefix>.calls}
+ * timer tagged with the owning type, the method and an outcome that mirrors how the API
+ * answers the failure: {@code success}, {@code not_found}, {@code validation},
+ * {@code conflict} (optimistic and pessimistic lock conflicts, stale preconditions),
+ * {@code unavailable} or {@code error}.
+ *
+ * <p>With row counting on, the size of each collection or page returned is also recorded
+ * into a {@code <prefix>.rows} distribution summary with fixed buckets. Single entities,
+ * {@link java.util.Optional}s, counts, flags, streams and {@code void} methods are not
+ * recorded: their size is fixed or says nothing, and the summary update would only add to
+ * the cost of point lookups.
+ *
+ * <p>Meters are resolved once per method and outcome and cached, so a call costs a map
+ * lookup, two clock reads and the timer update. Percentiles and histograms for these
+ * meters are configured under {@code management.metrics.distribution}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class MethodMetricsInterceptor implements MethodInterceptor {
+
+    /**
+     * Bucket bounds of the rows histogram; an order of magnitude apart, a few buckets suffice
+     * to tell point lookups from page reads from unbounded scans
+     */
+    private static final double[] ROW_BUCKETS = {1, 10, 100, 1_000, 10_000};
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String prefix;
+    private final String typeTag;
+    private final String typeName;
+    private final boolean countRows;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry looked up on first use, so the interceptor can be created by a
+     *                      bean post-processor before the registry exists
+     * @param prefix        meter name prefix, e.g. {@code workorder.service}
+     * @param typeTag       name of the tag holding the proxied type
+     * @param typeName      value of that tag, or {@code null} for the simple name of the target class
+     * @param countRows     whether to record result sizes
+     */
+    public MethodMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String prefix, String typeTag,
+                                    String typeName, boolean countRows) {
+        this.meterRegistry = meterRegistry;
+        this.prefix = prefix;
+        this.typeTag = typeTag;
+        this.typeName = typeName;
+        this.countRows = countRows;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters methodMeters = meters.get(invocation.getMethod());
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(invocation.getMethod(),
+                method -> new MethodMeters(typeName(invocation), method.getName(),
+                    countRows && returnsRows(method.getReturnType())));
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            methodMeters.failure(ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (methodMeters.rows != null) {
+            methodMeters.rows.record(rows(result));
+        }
+        return result;
+    }
+
+    /**
+     * The outcome tag for a failed call
+     */
+    static String outcome(Throwable ex) {
+        if (ex instanceof WorkOrderNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof WorkOrderValidationException || ex instanceof ConstraintViolationException) {
+            return "validation";
+        }
+        if (ex instanceof ConcurrencyFailureException || ex instanceof WorkOrderPreconditionFailedException) {
+            return "conflict";
+        }
+        if (ex instanceof WorkOrderSearchUnavailableException || ex instanceof CannotCreateTransactionException) {
+            return "unavailable";
+        }
+        return "error";
+    }
+
+    /**
+     * Whether a method returning the given type returns a variable number of rows: a
+     * collection or a page
+     */
+    static boolean returnsRows(Class<?> returnType) {
+        return Collection.class.isAssignableFrom(returnType) || Slice.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * Rows in a collection or page result
+     */
+    static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return 0;
+    }
+
+    private String typeName(MethodInvocation invocation) {
+        if (typeName != null) {
+            return typeName;
+        }
+        return invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis()).getSimpleName()
+            : invocation.getMethod().getDeclaringClass().getSimpleName();
+    }
+
+    private final class MethodMeters {
+
+        private final String type;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private final DistributionSummary rows;
+
+        private MethodMeters(String type, String method, boolean countRows) {
+            this.type = type;
+            this.method = method;
+            this.success = timer("success", "none");
+            this.rows = countRows ? DistributionSummary.builder(prefix + ".rows")
+                .description("Rows returned per call")
+                .baseUnit("rows")
+                .serviceLevelObjectives(ROW_BUCKETS)
+                .tag(typeTag, type)
+                .tag("method", method)
+                .register(meterRegistry.getObject()) : null;
+        }
+
+        private Timer failure(Throwable ex) {
+            return failures.computeIfAbsent(ex.getClass(), c -> timer(outcome(ex), c.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(prefix + ".calls")
+                .description("Time spent in calls, including failed ones")
+                .tag(typeTag, type)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry.getObject());
+        }
+    }
+}
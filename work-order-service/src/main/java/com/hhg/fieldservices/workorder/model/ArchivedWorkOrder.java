@@ -0,0 +1,130 @@
+package com.hhg.fieldservices.workorder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A closed work order moved out of {@code work_orders} by the archiver. Rows are written
+ * by the archiver's INSERT ... SELECT and never change, so the entity is read-only.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Entity
+@Immutable
+@Table(name = "work_orders_archive", indexes = {
+    @Index(name = "idx_archive_work_order_number", columnList = "workOrderNumber", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedWorkOrder {
+    
+    /**
+     * ID the work order had in the hot table
+     */
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, unique = true, length = 50)
+    private String workOrderNumber;
+    
+    @Column(nullable = false, length = 200)
+    private String title;
+    
+    @Column(length = 2000)
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WorkOrderStatus status;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WorkOrderPriority priority;
+    
+    @Column(nullable = false)
+    private Long customerId;
+    
+    @Column(length = 200)
+    private String customerName;
+    
+    @Column(length = 20)
+    private String customerPhone;
+    
+    @Column(length = 100)
+    private String customerEmail;
+    
+    @Column(length = 500)
+    private String serviceAddress;
+    
+    @Column(length = 100)
+    private String city;
+    
+    @Column(length = 50)
+    private String state;
+    
+    @Column(length = 20)
+    private String zipCode;
+    
+    @Column
+    private Double latitude;
+    
+    @Column
+    private Double longitude;
+    
+    @Column
+    private Long assignedTechnicianId;
+    
+    @Column(length = 200)
+    private String assignedTechnicianName;
+    
+    @Column
+    private LocalDateTime scheduledDate;
+    
+    @Column
+    private LocalDateTime startedAt;
+    
+    @Column
+    private LocalDateTime completedAt;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal estimatedCost;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal actualCost;
+    
+    @Column(length = 1000)
+    private String notes;
+    
+    @OneToMany
+    @JoinColumn(name = "work_order_id")
+    @OrderBy("id")
+    @Builder.Default
+    private List<ArchivedWorkOrderItem> items = new ArrayList<>();
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Version the work order had when it was archived
+     */
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
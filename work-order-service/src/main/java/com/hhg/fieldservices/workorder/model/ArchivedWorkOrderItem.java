@@ -0,0 +1,59 @@
+package com.hhg.fieldservices.workorder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * An item of an {@link ArchivedWorkOrder}, moved together with it.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Entity
+@Immutable
+@Table(name = "work_order_items_archive", indexes = {
+    @Index(name = "idx_archive_item_work_order_id", columnList = "work_order_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedWorkOrderItem {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 20)
+    private String itemType;
+    
+    @Column(nullable = false, length = 200)
+    private String description;
+    
+    @Column(nullable = false)
+    private Integer quantity;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+    
+    @Column(length = 500)
+    private String notes;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Column(nullable = false)
+    private Long version;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -29,7 +30,16 @@ import java.util.List;
     @Index(name = "idx_customer_id", columnList = "customerId"),
     @Index(name = "idx_assigned_technician_id", columnList = "assignedTechnicianId"),
     @Index(name = "idx_scheduled_date", columnList = "scheduledDate"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_created_at_id", columnList = "createdAt, id"),
+    @Index(name = "idx_status_created_at_id", columnList = "status, createdAt, id"),
+    @Index(name = "idx_priority_created_at_id", columnList = "priority, createdAt, id"),
+    @Index(name = "idx_customer_created_at_id", columnList = "customerId, createdAt, id"),
+    @Index(name = "idx_technician_created_at_id", columnList = "assignedTechnicianId, createdAt, id"),
+    @Index(name = "idx_status_priority_scheduled", columnList = "status, priority, scheduledDate"),
+    @Index(name = "idx_technician_status", columnList = "assignedTechnicianId, status"),
+    @Index(name = "idx_city_status_scheduled", columnList = "city, status, scheduledDate"),
+    @Index(name = "idx_latitude_longitude", columnList = "latitude, longitude")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -38,8 +48,12 @@ import java.util.List;
 @Builder
 public class WorkOrder {
     
+    /**
+     * Pooled sequence IDs so inserts can be JDBC-batched
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_orders_seq")
+    @SequenceGenerator(name = "work_orders_seq", sequenceName = "work_orders_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 50)
@@ -83,6 +97,15 @@ public class WorkOrder {
     @Column(length = 20)
     private String zipCode;
     
+    /**
+     * Service location in WGS 84 degrees, filled by the geocoder; null when the address could not be located
+     */
+    @Column
+    private Double latitude;
+    
+    @Column
+    private Double longitude;
+    
     @Column
     private Long assignedTechnicianId;
     
@@ -107,7 +130,14 @@ public class WorkOrder {
     @Column(length = 1000)
     private String notes;
     
+    /**
+     * Items are initialized in batches keyed by the owning work order IDs, so mapping a
+     * page of work orders costs one extra query rather than one per work order.
+     * The batch size covers the largest page the list endpoints read: 100 rows plus the one
+     * extra row that tells whether there is a next page.
+     */
     @OneToMany(mappedBy = "workOrder", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 101)
     @Builder.Default
     private List<WorkOrderItem> items = new ArrayList<>();
     
@@ -130,6 +160,16 @@ public class WorkOrder {
         item.setWorkOrder(this);
     }
     
+    /**
+     * Total hours booked as labor items
+     */
+    public long bookedLaborHours() {
+        return items.stream()
+            .filter(item -> WorkOrderItem.LABOR.equals(item.getItemType()) && item.getQuantity() != null)
+            .mapToLong(WorkOrderItem::getQuantity)
+            .sum();
+    }
+    
     /**
      * Helper method to remove an item from the work order
      */
@@ -0,0 +1,71 @@
+package com.hhg.fieldservices.workorder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row recording one work order change, written in the same transaction as the
+ * change and later handed to the event sink by the relay.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "work_order_events", indexes = {
+    @Index(name = "idx_work_order_events_log_position", columnList = "logPosition", unique = true),
+    @Index(name = "idx_work_order_events_published_at_id", columnList = "publishedAt, id"),
+    @Index(name = "idx_work_order_events_work_order", columnList = "workOrderId, workOrderVersion")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkOrderEvent {
+    
+    /**
+     * Sequence IDs taken one at a time, not pooled: changes to one work order are serialized
+     * by its version, so its events get increasing IDs whichever instance writes them
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_order_events_seq")
+    @SequenceGenerator(name = "work_order_events_seq", sequenceName = "work_order_events_seq", allocationSize = 1)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long workOrderId;
+    
+    /**
+     * Work order version after the change (before it, for a delete); orders the events of one work order
+     */
+    @Column(nullable = false)
+    private Long workOrderVersion;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WorkOrderEventType type;
+    
+    /**
+     * Work order summary as JSON: the state after the change, or before it for a delete
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * Position in the published log, assigned by the relay; null until published
+     */
+    private Long logPosition;
+    
+    private LocalDateTime publishedAt;
+}
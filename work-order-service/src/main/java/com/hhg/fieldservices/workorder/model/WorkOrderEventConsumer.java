@@ -0,0 +1,41 @@
+package com.hhg.fieldservices.workorder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Committed offset of one downstream consumer of the work order event log.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "work_order_event_consumers")
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkOrderEventConsumer {
+    
+    @Id
+    @Column(length = 100)
+    private String consumer;
+    
+    /**
+     * Last log position the consumer has processed
+     */
+    @Column(nullable = false)
+    private Long logPosition;
+    
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.hhg.fieldservices.workorder.model;
+
+/**
+ * Kind of change recorded in the work order event log.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+public enum WorkOrderEventType {
+    /**
+     * Work order was created
+     */
+    CREATED,
+    
+    /**
+     * Status changed without a change of technician
+     */
+    STATUS_CHANGED,
+    
+    /**
+     * Assigned technician changed, possibly together with the status
+     */
+    ASSIGNED,
+    
+    /**
+     * Any other field changed
+     */
+    UPDATED,
+    
+    /**
+     * Work order was deleted
+     */
+    DELETED
+}
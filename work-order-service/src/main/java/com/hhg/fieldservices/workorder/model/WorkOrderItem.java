@@ -30,8 +30,17 @@ import java.time.LocalDateTime;
 @Builder
 public class WorkOrderItem {
     
+    /**
+     * Item type for labor; the quantity of a labor item is in hours
+     */
+    public static final String LABOR = "LABOR";
+    
+    /**
+     * Pooled sequence IDs so inserts can be JDBC-batched
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_order_items_seq")
+    @SequenceGenerator(name = "work_order_items_seq", sequenceName = "work_order_items_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
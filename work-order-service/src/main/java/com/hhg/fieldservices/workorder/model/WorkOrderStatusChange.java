@@ -0,0 +1,68 @@
+package com.hhg.fieldservices.workorder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status a work order entered, kept in the status history. History is ordered by
+ * {@code workOrderVersion}, which follows commit order; {@code changedAt} is taken when the
+ * entry is recorded after the commit and is shown only.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "work_order_status_history", indexes = {
+    @Index(name = "idx_status_history_work_order", columnList = "workOrderId, workOrderVersion", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkOrderStatusChange {
+    
+    /**
+     * Pooled sequence IDs so a writer batch is inserted with one sequence call per 50 rows
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_order_status_history_seq")
+    @SequenceGenerator(name = "work_order_status_history_seq", sequenceName = "work_order_status_history_seq",
+        allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long workOrderId;
+    
+    /**
+     * Work order version the change produced; orders the history of one work order
+     */
+    @Column(nullable = false)
+    private Long workOrderVersion;
+    
+    /**
+     * Status before the change; null when the work order was created
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private WorkOrderStatus fromStatus;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WorkOrderStatus toStatus;
+    
+    /**
+     * Technician assigned after the change
+     */
+    private Long technicianId;
+    
+    /**
+     * When the committed change was recorded, shortly after its commit
+     */
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
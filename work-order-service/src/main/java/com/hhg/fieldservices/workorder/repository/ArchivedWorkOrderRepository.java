@@ -0,0 +1,69 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.model.ArchivedWorkOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository for archived work orders. Besides the lookups, it copies work orders and their
+ * items from the hot tables with INSERT ... SELECT, so archiving never loads them into the
+ * persistence context.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Repository
+public interface ArchivedWorkOrderRepository extends JpaRepository<ArchivedWorkOrder, Long> {
+    
+    /**
+     * Find an archived work order by its work order number
+     */
+    Optional<ArchivedWorkOrder> findByWorkOrderNumber(String workOrderNumber);
+    
+    /**
+     * Read only the version an archived work order was archived at
+     */
+    @Query("SELECT a.version FROM ArchivedWorkOrder a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    /**
+     * Copy the listed work orders from {@code work_orders} into the archive
+     *
+     * @return number of rows copied
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO work_orders_archive (id, work_order_number, title, description, status, priority,
+            customer_id, customer_name, customer_phone, customer_email, service_address, city, state, zip_code,
+            latitude, longitude, assigned_technician_id, assigned_technician_name, scheduled_date, started_at,
+            completed_at, estimated_cost, actual_cost, notes, created_at, updated_at, version, archived_at)
+        SELECT id, work_order_number, title, description, status, priority,
+            customer_id, customer_name, customer_phone, customer_email, service_address, city, state, zip_code,
+            latitude, longitude, assigned_technician_id, assigned_technician_name, scheduled_date, started_at,
+            completed_at, estimated_cost, actual_cost, notes, created_at, updated_at, version, :archivedAt
+        FROM work_orders WHERE id IN (:ids)
+        """)
+    int copyWorkOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    /**
+     * Copy the items of the listed work orders from {@code work_order_items} into the archive
+     *
+     * @return number of rows copied
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO work_order_items_archive (id, work_order_id, item_type, description, quantity, unit_price,
+            total_price, notes, created_at, updated_at, version)
+        SELECT id, work_order_id, item_type, description, quantity, unit_price,
+            total_price, notes, created_at, updated_at, version
+        FROM work_order_items WHERE work_order_id IN (:workOrderIds)
+        """)
+    int copyItems(@Param("workOrderIds") Collection<Long> workOrderIds);
+}
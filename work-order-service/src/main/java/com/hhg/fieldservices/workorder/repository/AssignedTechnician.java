@@ -0,0 +1,10 @@
+package com.hhg.fieldservices.workorder.repository;
+
+/**
+ * A technician that work orders have been assigned to, with the name last recorded for them.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record AssignedTechnician(Long technicianId, String technicianName) {
+}
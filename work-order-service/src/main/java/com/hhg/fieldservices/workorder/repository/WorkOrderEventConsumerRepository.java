@@ -0,0 +1,15 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderEventConsumer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the committed offsets of work order event consumers.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Repository
+public interface WorkOrderEventConsumerRepository extends JpaRepository<WorkOrderEventConsumer, String> {
+}
@@ -0,0 +1,39 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the work order event outbox and the published event log.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Repository
+public interface WorkOrderEventRepository extends JpaRepository<WorkOrderEvent, Long> {
+    
+    /**
+     * Oldest events not yet handed to the sink
+     */
+    @Query("SELECT e FROM WorkOrderEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<WorkOrderEvent> findUnpublished(Pageable pageable);
+    
+    /**
+     * Highest log position published so far
+     */
+    @Query("SELECT MAX(e.logPosition) FROM WorkOrderEvent e")
+    Optional<Long> findMaxLogPosition();
+    
+    /**
+     * Published events after a log position, in log order
+     */
+    @Query("SELECT e FROM WorkOrderEvent e WHERE e.logPosition > :after ORDER BY e.logPosition")
+    List<WorkOrderEvent> findPublishedAfter(@Param("after") Long after, Pageable pageable);
+}
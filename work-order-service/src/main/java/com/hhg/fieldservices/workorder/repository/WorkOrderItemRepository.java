@@ -2,8 +2,12 @@ package com.hhg.fieldservices.workorder.repository;
 
 import com.hhg.fieldservices.workorder.model.WorkOrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,4 +29,30 @@ public interface WorkOrderItemRepository extends JpaRepository<WorkOrderItem, Lo
      * Find items by item type
      */
     List<WorkOrderItem> findByItemType(String itemType);
+    
+    /**
+     * Sum the labor hours of every open work order that has labor items
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.repository.WorkOrderLaborHours(" +
+           "i.workOrder.id, SUM(i.quantity)) FROM WorkOrderItem i " +
+           "WHERE i.itemType = 'LABOR' AND i.workOrder.status NOT IN ('COMPLETED', 'CANCELLED') " +
+           "GROUP BY i.workOrder.id")
+    List<WorkOrderLaborHours> sumOpenLaborHours();
+    
+    /**
+     * Item descriptions of the work orders with IDs in {@code (afterId, upToId]}
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.repository.WorkOrderItemText(" +
+           "i.workOrder.id, i.description) FROM WorkOrderItem i " +
+           "WHERE i.workOrder.id > :afterId AND i.workOrder.id <= :upToId")
+    List<WorkOrderItemText> findTextsBetween(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+    
+    /**
+     * Delete the items of the listed work orders in one statement
+     *
+     * @return number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WorkOrderItem i WHERE i.workOrder.id IN :workOrderIds")
+    int deleteByWorkOrderIds(@Param("workOrderIds") Collection<Long> workOrderIds);
 }
@@ -0,0 +1,10 @@
+package com.hhg.fieldservices.workorder.repository;
+
+/**
+ * Description of one work order item, as indexed for full-text search.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderItemText(Long workOrderId, String description) {
+}
@@ -0,0 +1,10 @@
+package com.hhg.fieldservices.workorder.repository;
+
+/**
+ * Hours booked as labor items on one work order.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderLaborHours(Long workOrderId, Long hours) {
+}
@@ -0,0 +1,10 @@
+package com.hhg.fieldservices.workorder.repository;
+
+/**
+ * Service location of one work order.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderLocation(Long id, Double latitude, Double longitude, Long version) {
+}
@@ -1,16 +1,27 @@
 package com.hhg.fieldservices.workorder.repository;
 
+import com.hhg.fieldservices.workorder.dto.WorkOrderCount;
 import com.hhg.fieldservices.workorder.model.WorkOrder;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for WorkOrder entity.
@@ -20,13 +31,72 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
+public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long>, JpaSpecificationExecutor<WorkOrder>,
+        WorkOrderSummaryRepository {
     
     /**
      * Find a work order by its unique work order number
      */
     Optional<WorkOrder> findByWorkOrderNumber(String workOrderNumber);
     
+    /**
+     * Read only the optimistic-lock version of a work order (primary key lookup, no entity hydration)
+     */
+    @Query("SELECT w.version FROM WorkOrder w WHERE w.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    /**
+     * Closed work orders last changed before the cutoff, lowest ID first, locked until the
+     * transaction ends so they cannot change while they are moved to the archive
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WorkOrder w WHERE w.status IN ('COMPLETED', 'CANCELLED') " +
+           "AND w.updatedAt < :cutoff ORDER BY w.id")
+    List<WorkOrder> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    /**
+     * Open work orders without coordinates with an ID above the given one, lowest ID first,
+     * locked until the transaction ends so they cannot change while they are geocoded
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WorkOrder w WHERE w.latitude IS NULL AND w.id > :afterId " +
+           "AND w.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY w.id")
+    List<WorkOrder> findUnlocatedOpen(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Move every listed work order that is still open and not already in the target status
+     * to that status in one statement. {@code startedAt} / {@code completedAt} are only
+     * filled where still empty, so pass null for whichever the target status does not set.
+     *
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrder w SET w.status = :status, " +
+           "w.startedAt = COALESCE(w.startedAt, :startedAt), " +
+           "w.completedAt = COALESCE(w.completedAt, :completedAt), " +
+           "w.updatedAt = :now, w.version = w.version + 1 " +
+           "WHERE w.id IN :ids AND w.status NOT IN ('COMPLETED', 'CANCELLED') AND w.status <> :status")
+    int updateStatusWhereOpen(@Param("ids") Collection<Long> ids,
+                              @Param("status") WorkOrderStatus status,
+                              @Param("startedAt") LocalDateTime startedAt,
+                              @Param("completedAt") LocalDateTime completedAt,
+                              @Param("now") LocalDateTime now);
+    
+    /**
+     * Assign every listed work order that is still open to a technician in one statement
+     *
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrder w SET w.assignedTechnicianId = :technicianId, " +
+           "w.assignedTechnicianName = :technicianName, w.status = 'ASSIGNED', " +
+           "w.updatedAt = :now, w.version = w.version + 1 " +
+           "WHERE w.id IN :ids AND w.status NOT IN ('COMPLETED', 'CANCELLED')")
+    int assignWhereOpen(@Param("ids") Collection<Long> ids,
+                        @Param("technicianId") Long technicianId,
+                        @Param("technicianName") String technicianName,
+                        @Param("now") LocalDateTime now);
+    
     /**
      * Find work orders by status
      */
@@ -62,6 +132,39 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
      */
     long countByStatus(WorkOrderStatus status);
     
+    /**
+     * Count every work order grouped by status, priority and assigned technician
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.dto.WorkOrderCount(" +
+           "w.status, w.priority, w.assignedTechnicianId, COUNT(w)) FROM WorkOrder w " +
+           "GROUP BY w.status, w.priority, w.assignedTechnicianId")
+    List<WorkOrderCount> countByStatusPriorityAndTechnician();
+    
+    /**
+     * Every technician that has been assigned a work order
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.repository.AssignedTechnician(" +
+           "w.assignedTechnicianId, MAX(w.assignedTechnicianName)) FROM WorkOrder w " +
+           "WHERE w.assignedTechnicianId IS NOT NULL GROUP BY w.assignedTechnicianId")
+    List<AssignedTechnician> findAssignedTechnicians();
+    
+    /**
+     * Locations of open work orders that have been geocoded
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.repository.WorkOrderLocation(" +
+           "w.id, w.latitude, w.longitude, w.version) FROM WorkOrder w " +
+           "WHERE w.latitude IS NOT NULL AND w.longitude IS NOT NULL " +
+           "AND w.status NOT IN ('COMPLETED', 'CANCELLED')")
+    List<WorkOrderLocation> findOpenLocations(Pageable pageable);
+    
+    /**
+     * Free-text fields of the work orders after the given ID, in ID order
+     */
+    @Query("SELECT new com.hhg.fieldservices.workorder.repository.WorkOrderText(" +
+           "w.id, w.version, w.title, w.description, w.notes, w.serviceAddress, w.city) FROM WorkOrder w " +
+           "WHERE w.id > :afterId ORDER BY w.id")
+    List<WorkOrderText> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
     /**
      * Find work orders created after a specific date
      */
@@ -77,4 +180,86 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
      * Find work orders by customer ID and status
      */
     List<WorkOrder> findByCustomerIdAndStatus(Long customerId, WorkOrderStatus status);
+    
+    // Keyset pagination queries. Each returns rows strictly after (createdAt, id) in
+    // (createdAt, id) order; callers pass an unsorted page-0 Pageable so only a LIMIT is applied.
+    
+    /**
+     * Find the next page of all work orders after the given keyset position
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                  Pageable pageable);
+    
+    /**
+     * Find the next page of work orders with the given status
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.status = :status " +
+           "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findPageByStatusAfter(@Param("status") WorkOrderStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                          Pageable pageable);
+    
+    /**
+     * Find the next page of work orders with the given priority
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.priority = :priority " +
+           "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findPageByPriorityAfter(@Param("priority") WorkOrderPriority priority,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                            Pageable pageable);
+    
+    /**
+     * Find the next page of work orders for a customer
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.customerId = :customerId " +
+           "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findPageByCustomerIdAfter(@Param("customerId") Long customerId,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Pageable pageable);
+    
+    /**
+     * Find the next page of work orders assigned to a technician
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.assignedTechnicianId = :technicianId " +
+           "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findPageByAssignedTechnicianIdAfter(@Param("technicianId") Long technicianId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Find the next page of overdue work orders
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE w.scheduledDate < :currentDate " +
+           "AND w.status NOT IN ('COMPLETED', 'CANCELLED') " +
+           "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+           "ORDER BY w.createdAt, w.id")
+    List<WorkOrder> findOverduePageAfter(@Param("currentDate") LocalDateTime currentDate,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
+    
+    /**
+     * Stream work orders for export in id order. Every filter is optional; a null parameter
+     * disables that predicate. The stream is forward-only and must be consumed and closed
+     * inside a transaction.
+     */
+    @Query("SELECT w FROM WorkOrder w WHERE (:status IS NULL OR w.status = :status) " +
+           "AND (:customerId IS NULL OR w.customerId = :customerId) " +
+           "AND (:scheduledFrom IS NULL OR w.scheduledDate >= :scheduledFrom) " +
+           "AND (:scheduledTo IS NULL OR w.scheduledDate < :scheduledTo) " +
+           "ORDER BY w.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<WorkOrder> streamForExport(@Param("status") WorkOrderStatus status,
+                                      @Param("customerId") Long customerId,
+                                      @Param("scheduledFrom") LocalDateTime scheduledFrom,
+                                      @Param("scheduledTo") LocalDateTime scheduledTo);
 }
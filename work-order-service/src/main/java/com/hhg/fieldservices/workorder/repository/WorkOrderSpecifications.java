@@ -0,0 +1,143 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSearchCriteria;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * JPA specifications for composing work order search predicates.
+ * Each factory returns {@code null} when its argument is absent, which
+ * {@link Specification#and} treats as "no restriction".
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public final class WorkOrderSpecifications {
+
+    private WorkOrderSpecifications() {
+    }
+
+    /**
+     * Combine all supplied criteria into a single specification
+     */
+    public static Specification<WorkOrder> matching(WorkOrderSearchCriteria criteria) {
+        return Specification.where(hasStatusIn(criteria.getStatus()))
+            .and(hasPriorityIn(criteria.getPriority()))
+            .and(inCity(criteria.getCity()))
+            .and(assignedTo(criteria.getTechnicianId()))
+            .and(forCustomer(criteria.getCustomerId()))
+            .and(scheduledOnOrAfter(criteria.getScheduledFrom()))
+            .and(scheduledBefore(criteria.getScheduledTo()));
+    }
+
+    public static Specification<WorkOrder> hasStatusIn(Collection<WorkOrderStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> statuses.size() == 1
+            ? cb.equal(root.get("status"), statuses.iterator().next())
+            : root.get("status").in(statuses);
+    }
+
+    public static Specification<WorkOrder> hasPriorityIn(Collection<WorkOrderPriority> priorities) {
+        if (priorities == null || priorities.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> priorities.size() == 1
+            ? cb.equal(root.get("priority"), priorities.iterator().next())
+            : root.get("priority").in(priorities);
+    }
+
+    public static Specification<WorkOrder> inCity(String city) {
+        if (city == null || city.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("city"), city);
+    }
+
+    public static Specification<WorkOrder> assignedTo(Long technicianId) {
+        if (technicianId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("assignedTechnicianId"), technicianId);
+    }
+
+    public static Specification<WorkOrder> forCustomer(Long customerId) {
+        if (customerId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("customerId"), customerId);
+    }
+
+    public static Specification<WorkOrder> scheduledOnOrAfter(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("scheduledDate"), from);
+    }
+
+    public static Specification<WorkOrder> scheduledBefore(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("scheduledDate"), to);
+    }
+
+    public static Specification<WorkOrder> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Open work orders that have a scheduled date, i.e. every work order that is or may become overdue
+     */
+    public static Specification<WorkOrder> openAndScheduled() {
+        return (root, query, cb) -> cb.and(
+            cb.isNotNull(root.get("scheduledDate")),
+            root.get("status").in(WorkOrderStatus.COMPLETED, WorkOrderStatus.CANCELLED).not());
+    }
+
+    /**
+     * Open work orders assigned to a technician, i.e. every work order that counts toward a technician's workload
+     */
+    public static Specification<WorkOrder> openAndAssigned() {
+        return (root, query, cb) -> cb.and(
+            cb.isNotNull(root.get("assignedTechnicianId")),
+            root.get("status").in(WorkOrderStatus.COMPLETED, WorkOrderStatus.CANCELLED).not());
+    }
+
+    /**
+     * Open work orders located inside a latitude/longitude box (bounds inclusive)
+     */
+    public static Specification<WorkOrder> openWithin(double minLatitude, double maxLatitude,
+                                                      double minLongitude, double maxLongitude) {
+        return (root, query, cb) -> cb.and(
+            cb.between(root.get("latitude"), minLatitude, maxLatitude),
+            cb.between(root.get("longitude"), minLongitude, maxLongitude),
+            root.get("status").in(WorkOrderStatus.COMPLETED, WorkOrderStatus.CANCELLED).not());
+    }
+
+    /**
+     * Open work orders whose scheduled date is before the given instant
+     */
+    public static Specification<WorkOrder> overdueAt(LocalDateTime now) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThan(root.get("scheduledDate"), now),
+            root.get("status").in(WorkOrderStatus.COMPLETED, WorkOrderStatus.CANCELLED).not());
+    }
+
+    /**
+     * Restrict to rows strictly after the given keyset position in (createdAt, id) order
+     */
+    public static Specification<WorkOrder> after(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.or(
+            cb.greaterThan(root.get("createdAt"), createdAt),
+            cb.and(
+                cb.equal(root.get("createdAt"), createdAt),
+                cb.greaterThan(root.get("id"), id)));
+    }
+}
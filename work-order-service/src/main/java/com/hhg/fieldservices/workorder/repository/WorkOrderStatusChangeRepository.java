@@ -0,0 +1,29 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the work order status history.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Repository
+public interface WorkOrderStatusChangeRepository extends JpaRepository<WorkOrderStatusChange, Long> {
+    
+    /**
+     * Status changes of one work order that produced a version after the given one, in version order
+     */
+    @Query("SELECT h FROM WorkOrderStatusChange h WHERE h.workOrderId = :workOrderId " +
+           "AND h.workOrderVersion > :version ORDER BY h.workOrderVersion")
+    List<WorkOrderStatusChange> findHistoryAfter(@Param("workOrderId") Long workOrderId,
+                                                 @Param("version") long version,
+                                                 Pageable pageable);
+}
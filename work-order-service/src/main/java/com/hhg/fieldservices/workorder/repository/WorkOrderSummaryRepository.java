@@ -0,0 +1,21 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment for list-view queries that select only the summary columns.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public interface WorkOrderSummaryRepository {
+
+    /**
+     * Find up to {@code limit} summaries matching the specification, in (createdAt, id) order
+     */
+    List<WorkOrderSummary> findSummaries(Specification<WorkOrder> specification, int limit);
+}
@@ -0,0 +1,56 @@
+package com.hhg.fieldservices.workorder.repository;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link WorkOrderSummaryRepository}. The select list is a
+ * constructor expression, so only the summary columns are read and no entities are managed.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class WorkOrderSummaryRepositoryImpl implements WorkOrderSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<WorkOrderSummary> findSummaries(Specification<WorkOrder> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<WorkOrderSummary> query = cb.createQuery(WorkOrderSummary.class);
+        Root<WorkOrder> root = query.from(WorkOrder.class);
+        query.select(cb.construct(WorkOrderSummary.class,
+            root.get("id"),
+            root.get("workOrderNumber"),
+            root.get("title"),
+            root.get("status"),
+            root.get("priority"),
+            root.get("customerId"),
+            root.get("customerName"),
+            root.get("assignedTechnicianId"),
+            root.get("assignedTechnicianName"),
+            root.get("scheduledDate"),
+            root.get("createdAt"),
+            root.get("version"),
+            root.get("latitude"),
+            root.get("longitude")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.hhg.fieldservices.workorder.repository;
+
+/**
+ * The free-text fields of one work order, as indexed for full-text search.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderText(Long id, Long version, String title, String description, String notes,
+                            String serviceAddress, String city) {
+}
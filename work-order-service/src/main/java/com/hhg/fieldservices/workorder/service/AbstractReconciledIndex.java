@@ -0,0 +1,195 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.datasource.ReadConsistency;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index kept current from committed changes and periodically reconciled against
+ * the database to correct drift, including changes made by other instances.
+ *
+ * <p>The index is seeded by its first reconciliation once the application has started;
+ * until then {@link #isReady()} is false and callers use the database instead. Each
+ * reconciliation reads a snapshot on the primary, then merges it under the write lock.
+ * Keys the index records as changed while the snapshot is being read keep their in-memory
+ * state, which is at least as new. A snapshot over the index's size limit disables the
+ * index until a later reconciliation fits.
+ *
+ * <p>Subclasses apply changes while holding {@link #lock}, report each changed key with
+ * {@link #changed(Object)}, and schedule {@link #reconcile()} by overriding it.
+ *
+ * @param <K> key recorded for changes made while a snapshot is being read
+ * @param <S> database snapshot, or one part of it
+ * @author Field Services Team
+ * @version 1.0
+ */
+public abstract class AbstractReconciledIndex<K, S> {
+
+    /**
+     * Held exclusively while merging a snapshot; changes hold it shared or exclusively,
+     * depending on whether the index's structures are safe for concurrent writers
+     */
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final String name;
+    private final boolean enabled;
+    private final Counter corrections;
+
+    /**
+     * Keys changed while a reconciliation snapshot is being read, or null outside reconciliation
+     */
+    private volatile Set<K> changedDuringReconcile;
+
+    private volatile boolean ready;
+
+    protected AbstractReconciledIndex(String name, boolean enabled, Counter corrections) {
+        this.name = name;
+        this.enabled = enabled;
+        this.corrections = corrections;
+    }
+
+    /**
+     * Whether the index is seeded and may be used instead of the database
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Seed the index once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Bring the index in line with a fresh database snapshot, read part by part for indexes
+     * that page through the table
+     */
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        Set<K> changed = ConcurrentHashMap.newKeySet();
+        lock.writeLock().lock();
+        try {
+            changedDuringReconcile = changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int corrected = 0;
+        try {
+            S part = ReadConsistency.onPrimary(this::loadSnapshot);
+            while (part != null) {
+                lock.writeLock().lock();
+                try {
+                    if (exceedsLimit(part)) {
+                        ready = false;
+                        disable();
+                        return;
+                    }
+                    corrected += merge(part, changed);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                S previous = part;
+                part = ReadConsistency.onPrimary(() -> loadNextPart(previous));
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringReconcile = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (!ready) {
+            ready = true;
+            log.info("{} seeded with {}", name, describe());
+        } else if (corrected > 0) {
+            corrections.increment(corrected);
+            log.warn("{} reconciliation corrected {} entries", name, corrected);
+        }
+    }
+
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a change to a key; call while holding {@link #lock}
+     */
+    protected void changed(K key) {
+        Set<K> changed = changedDuringReconcile;
+        if (changed != null) {
+            changed.add(key);
+        }
+    }
+
+    /**
+     * Read the snapshot, or its first part, from the database
+     */
+    protected abstract S loadSnapshot();
+
+    /**
+     * The part of the snapshot after {@code previous}, or null once it has all been read.
+     * Indexes read in one part keep this default.
+     */
+    protected S loadNextPart(S previous) {
+        return null;
+    }
+
+    /**
+     * Whether a snapshot part shows the index has outgrown its size limit. Indexes without
+     * a limit keep this default.
+     */
+    protected boolean exceedsLimit(S part) {
+        return false;
+    }
+
+    /**
+     * Correct the index from a snapshot part, leaving the changed keys alone; called under
+     * the write lock
+     *
+     * @return number of entries corrected
+     */
+    protected abstract int merge(S part, Set<K> changed);
+
+    /**
+     * Log why the index stopped and release its contents; called under the write lock once
+     * {@link #exceedsLimit} holds
+     */
+    protected void disable() {
+    }
+
+    /**
+     * Size of the freshly seeded index, for the log
+     */
+    protected abstract String describe();
+
+    /**
+     * Whether a change is older than the indexed state, e.g. a listener for an earlier
+     * commit running after a later one
+     */
+    protected static boolean isOlder(Long version, Long indexedVersion) {
+        return version != null && indexedVersion != null && version < indexedVersion;
+    }
+
+    protected static boolean isOlder(WorkOrderSummary after, WorkOrderSummary indexed) {
+        return after != null && indexed != null && isOlder(after.version(), indexed.version());
+    }
+}
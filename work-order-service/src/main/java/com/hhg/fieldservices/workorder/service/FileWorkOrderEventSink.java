@@ -0,0 +1,56 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link WorkOrderEventSink} that appends every event as one line of JSON to a file, for
+ * local integration testing with tools that tail a file.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "workorder.outbox.sink", havingValue = "file")
+@Slf4j
+public class FileWorkOrderEventSink implements WorkOrderEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileWorkOrderEventSink(ObjectMapper objectMapper,
+                                  @Value("${workorder.outbox.file.path:work-order-events.ndjson}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+        log.info("Publishing work order events to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publish(List<WorkOrderEventMessage> events) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (WorkOrderEventMessage event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize work order event", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot append work order events to " + path, ex);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hhg.fieldservices.workorder.service;
+
+/**
+ * A position in WGS 84 degrees.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    /**
+     * Mean Earth radius used for great-circle distances
+     */
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Great-circle (haversine) distance to another point in kilometres
+     */
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        double dLat = Math.toRadians(otherLatitude - latitude);
+        double dLon = Math.toRadians(otherLongitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
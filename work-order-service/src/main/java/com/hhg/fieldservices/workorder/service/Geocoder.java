@@ -0,0 +1,48 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+
+import java.util.Optional;
+
+/**
+ * Resolves a service address to coordinates when a work order is created.
+ *
+ * <p>The default implementation is {@link ZipCentroidGeocoder}, which works offline from
+ * ZIP code centroids. An online geocoding service can be plugged in by declaring another
+ * {@code Geocoder} bean marked {@code @Primary}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public interface Geocoder {
+
+    /**
+     * Locate an address. Any part may be null.
+     *
+     * @return the location, or empty if the address cannot be located
+     */
+    Optional<GeoPoint> geocode(String serviceAddress, String city, String state, String zipCode);
+
+    /**
+     * Drop any reference data loaded so far, so that addresses that could not be located
+     * before are looked up again. Called before open work orders without coordinates are
+     * backfilled.
+     */
+    default void refresh() {
+    }
+
+    /**
+     * Set the coordinates of a work order from its service address, if it can be located
+     *
+     * @return whether the work order was located
+     */
+    default boolean locate(WorkOrder workOrder) {
+        Optional<GeoPoint> point = geocode(workOrder.getServiceAddress(), workOrder.getCity(), workOrder.getState(),
+            workOrder.getZipCode());
+        point.ifPresent(located -> {
+            workOrder.setLatitude(located.latitude());
+            workOrder.setLongitude(located.longitude());
+        });
+        return point.isPresent();
+    }
+}
@@ -0,0 +1,46 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link WorkOrderEventSink} that keeps the most recent events in memory, for local
+ * development and tests. Consumers read the durable log through the API instead.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "workorder.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryWorkOrderEventSink implements WorkOrderEventSink {
+
+    private final int capacity;
+    private final Deque<WorkOrderEventMessage> events = new ArrayDeque<>();
+
+    public InMemoryWorkOrderEventSink(@Value("${workorder.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<WorkOrderEventMessage> batch) {
+        for (WorkOrderEventMessage event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * Events received so far, oldest first, up to the configured capacity
+     */
+    public synchronized List<WorkOrderEventMessage> getEvents() {
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the {@code (created_at, id)} ordering used by keyset pagination.
+ * Encoded as an opaque URL-safe token so clients never depend on its contents.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * Position before the first row; lets every page share a single query shape
+     */
+    static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final char SEPARATOR = '|';
+
+    static KeysetCursor of(WorkOrder workOrder) {
+        return new KeysetCursor(workOrder.getCreatedAt(), workOrder.getId());
+    }
+
+    /**
+     * Decode a client supplied token, treating a missing token as the first page
+     */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new WorkOrderValidationException("Invalid pagination cursor: " + token);
+            }
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new WorkOrderValidationException("Invalid pagination cursor: " + token, ex);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
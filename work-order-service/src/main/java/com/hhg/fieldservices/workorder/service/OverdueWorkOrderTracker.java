@@ -0,0 +1,282 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderSpecifications;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of overdue work orders, so {@code /overdue} is answered without
+ * scanning the table.
+ *
+ * <p>Every open work order with a scheduled date is tracked. Those not yet due wait in a
+ * priority queue ordered by scheduled date; a periodic tick (and every read) moves the ones
+ * whose deadline has passed into an overdue set kept in list order, and publishes a
+ * {@link WorkOrderBecameOverdueEvent} for each. Changes arrive as committed
+ * {@link WorkOrderChangedEvent}s.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class OverdueWorkOrderTracker extends AbstractReconciledIndex<Long, List<WorkOrderSummary>> {
+
+    private static final Comparator<WorkOrderSummary> BY_DEADLINE =
+        Comparator.comparing(WorkOrderSummary::scheduledDate).thenComparing(WorkOrderSummary::id);
+
+    private static final Comparator<KeysetCursor> BY_POSITION =
+        Comparator.comparing(KeysetCursor::createdAt).thenComparing(KeysetCursor::id);
+
+    private final WorkOrderRepository workOrderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxTracked;
+
+    /**
+     * Every tracked work order by ID; written under the write lock
+     */
+    private final Map<Long, WorkOrderSummary> tracked = new ConcurrentHashMap<>();
+
+    /**
+     * Tracked work orders not yet due, earliest deadline first; guarded by the write lock
+     */
+    private final NavigableSet<WorkOrderSummary> pending = new TreeSet<>(BY_DEADLINE);
+
+    /**
+     * Overdue work orders in (createdAt, id) order; written under the write lock, read without locking
+     */
+    private final ConcurrentSkipListMap<KeysetCursor, WorkOrderSummary> overdue =
+        new ConcurrentSkipListMap<>(BY_POSITION);
+
+    /**
+     * Deadlines passed since the last tick, published from the scheduler thread
+     */
+    private final Queue<WorkOrderBecameOverdueEvent> becameOverdue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Earliest pending deadline, so readers can skip locking while nothing is due
+     */
+    private volatile LocalDateTime nextDeadline;
+
+    public OverdueWorkOrderTracker(WorkOrderRepository workOrderRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${workorder.overdue.enabled:true}") boolean enabled,
+                                   @Value("${workorder.overdue.max-tracked:100000}") int maxTracked) {
+        super("Overdue tracker", enabled, Counter.builder("workorder.overdue.corrections")
+            .description("Tracked work orders corrected by reconciliation against the database")
+            .register(meterRegistry));
+        this.workOrderRepository = workOrderRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxTracked = maxTracked;
+        Gauge.builder("workorder.overdue.count", overdue, Map::size)
+            .description("Work orders currently overdue")
+            .register(meterRegistry);
+        Gauge.builder("workorder.overdue.tracked", tracked, Map::size)
+            .description("Open work orders with a scheduled date held by the overdue tracker")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Up to {@code limit} overdue work orders after the given position, in (createdAt, id) order.
+     * Costs one ordered-map seek plus the rows returned.
+     */
+    List<WorkOrderSummary> findOverdue(KeysetCursor after, int limit) {
+        advance(LocalDateTime.now());
+        List<WorkOrderSummary> rows = new ArrayList<>(Math.min(limit, overdue.size()));
+        for (WorkOrderSummary summary : overdue.tailMap(after, false).values()) {
+            if (rows.size() == limit) {
+                break;
+            }
+            rows.add(summary);
+        }
+        return rows;
+    }
+
+    /**
+     * Apply a committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changed(event.id());
+            WorkOrderSummary current = tracked.get(event.id());
+            if (isOlder(event.after(), current)) {
+                return;
+            }
+            boolean wasOverdue = isOverdue(current);
+            untrack(current);
+            track(event.after(), LocalDateTime.now(), !wasOverdue);
+            updateNextDeadline();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move work orders whose deadline has passed and publish the resulting events
+     */
+    @Scheduled(fixedDelayString = "${workorder.overdue.tick-interval:PT1S}")
+    public void tick() {
+        if (!isEnabled()) {
+            return;
+        }
+        advance(LocalDateTime.now());
+        WorkOrderBecameOverdueEvent event;
+        while ((event = becameOverdue.poll()) != null) {
+            log.info("Work order {} became overdue (scheduled {})",
+                event.workOrder().workOrderNumber(), event.workOrder().scheduledDate());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${workorder.overdue.reconcile-interval:PT1M}",
+               fixedDelayString = "${workorder.overdue.reconcile-interval:PT1M}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected List<WorkOrderSummary> loadSnapshot() {
+        return workOrderRepository.findSummaries(WorkOrderSpecifications.openAndScheduled(), maxTracked + 1);
+    }
+
+    @Override
+    protected boolean exceedsLimit(List<WorkOrderSummary> rows) {
+        return rows.size() > maxTracked;
+    }
+
+    /**
+     * Replace the tracked state with the snapshot. Work orders that became overdue since
+     * the last pass are announced, except on the pass that seeds the tracker.
+     */
+    @Override
+    protected int merge(List<WorkOrderSummary> rows, Set<Long> changed) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, WorkOrderSummary> snapshot = new HashMap<>();
+        rows.forEach(row -> snapshot.put(row.id(), row));
+        int corrected = 0;
+        for (WorkOrderSummary current : new ArrayList<>(tracked.values())) {
+            if (!snapshot.containsKey(current.id()) && !changed.contains(current.id())) {
+                untrack(current);
+                corrected++;
+            }
+        }
+        for (WorkOrderSummary row : rows) {
+            WorkOrderSummary current = tracked.get(row.id());
+            if (changed.contains(row.id()) || row.equals(current)) {
+                continue;
+            }
+            boolean wasOverdue = isOverdue(current);
+            untrack(current);
+            track(row, now, isReady() && !wasOverdue);
+            corrected++;
+        }
+        updateNextDeadline();
+        return corrected;
+    }
+
+    @Override
+    protected void disable() {
+        log.warn("More than {} open scheduled work orders; overdue tracking disabled", maxTracked);
+        tracked.clear();
+        pending.clear();
+        overdue.clear();
+        updateNextDeadline();
+    }
+
+    @Override
+    protected String describe() {
+        return tracked.size() + " open scheduled work orders, " + overdue.size() + " overdue";
+    }
+
+    /**
+     * Move every pending work order whose scheduled date is before {@code now} to the overdue set
+     */
+    void advance(LocalDateTime now) {
+        LocalDateTime deadline = nextDeadline;
+        if (deadline == null || !deadline.isBefore(now)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            while (!pending.isEmpty() && pending.first().scheduledDate().isBefore(now)) {
+                WorkOrderSummary due = pending.pollFirst();
+                overdue.put(position(due), due);
+                becameOverdue.add(new WorkOrderBecameOverdueEvent(due, now));
+            }
+            updateNextDeadline();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void track(WorkOrderSummary summary, LocalDateTime now, boolean notify) {
+        if (summary == null || summary.scheduledDate() == null || isClosed(summary.status())) {
+            return;
+        }
+        tracked.put(summary.id(), summary);
+        if (summary.scheduledDate().isBefore(now)) {
+            overdue.put(position(summary), summary);
+            if (notify) {
+                becameOverdue.add(new WorkOrderBecameOverdueEvent(summary, now));
+            }
+        } else {
+            pending.add(summary);
+        }
+    }
+
+    private void untrack(WorkOrderSummary summary) {
+        if (summary == null) {
+            return;
+        }
+        tracked.remove(summary.id());
+        pending.remove(summary);
+        overdue.remove(position(summary));
+    }
+
+    private boolean isOverdue(WorkOrderSummary summary) {
+        return summary != null && overdue.containsKey(position(summary));
+    }
+
+    private void updateNextDeadline() {
+        nextDeadline = pending.isEmpty() ? null : pending.first().scheduledDate();
+    }
+
+    private static boolean isClosed(WorkOrderStatus status) {
+        return status == WorkOrderStatus.COMPLETED || status == WorkOrderStatus.CANCELLED;
+    }
+
+    private static KeysetCursor position(WorkOrderSummary summary) {
+        return new KeysetCursor(Objects.requireNonNull(summary.createdAt()), summary.id());
+    }
+}
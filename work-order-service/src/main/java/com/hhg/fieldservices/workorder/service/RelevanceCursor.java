@@ -0,0 +1,51 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the {@code (score DESC, id)} ordering of full-text search results.
+ * Encoded as an opaque URL-safe token like {@link KeysetCursor}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+record RelevanceCursor(double score, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Decode a client supplied token, or null for the first page
+     */
+    static RelevanceCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new WorkOrderValidationException("Invalid pagination cursor: " + token);
+            }
+            return new RelevanceCursor(
+                Double.parseDouble(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new WorkOrderValidationException("Invalid pagination cursor: " + token, ex);
+        }
+    }
+
+    /**
+     * Whether a result comes after this position
+     */
+    boolean precedes(WorkOrderTextIndex.Hit hit) {
+        return hit.score() < score || (hit.score() == score && hit.id() > id);
+    }
+
+    String encode() {
+        String raw = Double.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,306 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.TechnicianWorkload;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderLaborHours;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderSpecifications;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of each technician's open work orders, so dispatch decisions such as
+ * "who is least loaded" never load work orders from the database.
+ *
+ * <p>For every technician the index holds the open work orders assigned to them ordered by
+ * scheduled date, and publishes an immutable {@link TechnicianWorkload} (open count per
+ * status, booked labor hours, next scheduled job) that readers use without locking. Changes
+ * arrive as committed {@link WorkOrderChangedEvent}s (assignment, status changes, updates and
+ * deletes, single and bulk alike). Until the index is seeded, workloads are computed from the
+ * database.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class TechnicianWorkloadService extends AbstractReconciledIndex<Long, TechnicianWorkloadService.Workloads> {
+
+    /**
+     * Fewest open work orders first, then fewest booked hours
+     */
+    static final Comparator<TechnicianWorkload> LEAST_LOADED = Comparator
+        .comparingInt(TechnicianWorkload::openWorkOrders)
+        .thenComparingLong(TechnicianWorkload::bookedHours)
+        .thenComparing(TechnicianWorkload::technicianId);
+
+    private static final Comparator<WorkOrderSummary> BY_SCHEDULE = Comparator
+        .comparing(WorkOrderSummary::scheduledDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(WorkOrderSummary::id);
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderItemRepository workOrderItemRepository;
+    private final int maxTracked;
+
+    /**
+     * Published workload per technician; entries are replaced, never mutated, so reads need no lock
+     */
+    private final Map<Long, TechnicianWorkload> workloads = new ConcurrentHashMap<>();
+
+    /**
+     * Tracked work orders and per-technician job sets; guarded by the write lock
+     */
+    private Workloads state = new Workloads();
+
+    public TechnicianWorkloadService(WorkOrderRepository workOrderRepository,
+                                     WorkOrderItemRepository workOrderItemRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${workorder.workload.enabled:true}") boolean enabled,
+                                     @Value("${workorder.workload.max-tracked:100000}") int maxTracked) {
+        super("Technician workload index", enabled, Counter.builder("workorder.workload.corrections")
+            .description("Technician assignments corrected by reconciliation against the database")
+            .register(meterRegistry));
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderItemRepository = workOrderItemRepository;
+        this.maxTracked = maxTracked;
+    }
+
+    /**
+     * Workloads of the given technicians, or of every known technician when none are given,
+     * least loaded first
+     *
+     * @param technicianIds technicians to include; empty or null for all
+     * @param limit         maximum number of workloads to return
+     */
+    public List<TechnicianWorkload> findWorkloads(Collection<Long> technicianIds, int limit) {
+        if (limit < 1) {
+            throw new WorkOrderValidationException("Limit must be at least 1");
+        }
+        Map<Long, TechnicianWorkload> source = workloads;
+        if (!isReady()) {
+            log.debug("Workload index not seeded; loading workloads from the database");
+            source = loadSnapshot().publish();
+        }
+        List<TechnicianWorkload> result;
+        if (technicianIds == null || technicianIds.isEmpty()) {
+            result = new ArrayList<>(source.values());
+        } else {
+            result = new ArrayList<>(technicianIds.size());
+            for (Long technicianId : new HashSet<>(technicianIds)) {
+                result.add(source.getOrDefault(technicianId, Workloads.idle(technicianId, null)));
+            }
+        }
+        result.sort(LEAST_LOADED);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Apply a committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Long id = event.id();
+            changed(id);
+            if (event.laborHours() != null && event.laborHours() > 0) {
+                state.laborHours.put(id, event.laborHours());
+            }
+            WorkOrderSummary current = state.assigned.get(id);
+            if (isOlder(event.after(), current)) {
+                return;
+            }
+            WorkOrderSummary after = event.after();
+            if (after == null || isClosed(after.status())) {
+                state.laborHours.remove(id);
+            }
+            if (current != null) {
+                state.remove(current);
+                publish(current.assignedTechnicianId());
+            }
+            if (state.add(after)) {
+                publish(after.assignedTechnicianId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${workorder.workload.reconcile-interval:PT5M}",
+               fixedDelayString = "${workorder.workload.reconcile-interval:PT5M}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected boolean exceedsLimit(Workloads snapshot) {
+        return snapshot.assigned.size() > maxTracked;
+    }
+
+    /**
+     * Replace the index with the snapshot, carrying over the changed work orders, their labor
+     * hours and technician names the snapshot does not know yet
+     */
+    @Override
+    protected int merge(Workloads snapshot, Set<Long> changed) {
+        int corrected = 0;
+        Set<Long> ids = new HashSet<>(snapshot.assigned.keySet());
+        ids.addAll(state.assigned.keySet());
+        for (Long id : ids) {
+            WorkOrderSummary current = state.assigned.get(id);
+            if (changed.contains(id)) {
+                snapshot.remove(snapshot.assigned.get(id));
+                snapshot.add(current);
+            } else if (!Objects.equals(current, snapshot.assigned.get(id))) {
+                corrected++;
+            }
+        }
+        for (Long id : changed) {
+            Long hours = state.laborHours.get(id);
+            if (hours != null) {
+                snapshot.laborHours.put(id, hours);
+            }
+        }
+        state.names.forEach(snapshot.names::putIfAbsent);
+        state = snapshot;
+        Map<Long, TechnicianWorkload> published = state.publish();
+        workloads.keySet().retainAll(published.keySet());
+        workloads.putAll(published);
+        return corrected;
+    }
+
+    @Override
+    protected void disable() {
+        log.warn("More than {} open assigned work orders; technician workload index disabled", maxTracked);
+        state = new Workloads();
+        workloads.clear();
+    }
+
+    @Override
+    protected String describe() {
+        return workloads.size() + " technicians and " + state.assigned.size() + " open assigned work orders";
+    }
+
+    /**
+     * Read every known technician, the open assigned work orders and their labor hours
+     */
+    @Override
+    protected Workloads loadSnapshot() {
+        Workloads loaded = new Workloads();
+        workOrderRepository.findAssignedTechnicians()
+            .forEach(technician -> loaded.names.put(technician.technicianId(), technician.technicianName()));
+        for (WorkOrderLaborHours hours : workOrderItemRepository.sumOpenLaborHours()) {
+            loaded.laborHours.put(hours.workOrderId(), hours.hours());
+        }
+        workOrderRepository.findSummaries(WorkOrderSpecifications.openAndAssigned(), maxTracked + 1)
+            .forEach(loaded::add);
+        return loaded;
+    }
+
+    private void publish(Long technicianId) {
+        workloads.put(technicianId, state.workload(technicianId));
+    }
+
+    private static boolean isClosed(WorkOrderStatus status) {
+        return status == WorkOrderStatus.COMPLETED || status == WorkOrderStatus.CANCELLED;
+    }
+
+    /**
+     * Open assigned work orders grouped by technician. Not thread-safe.
+     */
+    static final class Workloads {
+
+        private final Map<Long, WorkOrderSummary> assigned = new HashMap<>();
+        private final Map<Long, Long> laborHours = new HashMap<>();
+        private final Map<Long, NavigableSet<WorkOrderSummary>> jobs = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+
+        /**
+         * Track a work order if it is open and assigned
+         *
+         * @return whether it was tracked
+         */
+        boolean add(WorkOrderSummary summary) {
+            if (summary == null || summary.assignedTechnicianId() == null || isClosed(summary.status())) {
+                return false;
+            }
+            Long technicianId = summary.assignedTechnicianId();
+            assigned.put(summary.id(), summary);
+            jobs.computeIfAbsent(technicianId, key -> new TreeSet<>(BY_SCHEDULE)).add(summary);
+            if (summary.assignedTechnicianName() != null) {
+                names.put(technicianId, summary.assignedTechnicianName());
+            } else {
+                names.putIfAbsent(technicianId, null);
+            }
+            return true;
+        }
+
+        void remove(WorkOrderSummary summary) {
+            if (summary == null) {
+                return;
+            }
+            assigned.remove(summary.id());
+            NavigableSet<WorkOrderSummary> technicianJobs = jobs.get(summary.assignedTechnicianId());
+            if (technicianJobs != null) {
+                technicianJobs.remove(summary);
+            }
+        }
+
+        /**
+         * Summarize one technician's open work orders; cost is proportional to their number
+         */
+        TechnicianWorkload workload(Long technicianId) {
+            NavigableSet<WorkOrderSummary> technicianJobs = jobs.get(technicianId);
+            if (technicianJobs == null || technicianJobs.isEmpty()) {
+                return idle(technicianId, names.get(technicianId));
+            }
+            Map<WorkOrderStatus, Integer> byStatus = new EnumMap<>(WorkOrderStatus.class);
+            long hours = 0;
+            for (WorkOrderSummary job : technicianJobs) {
+                byStatus.merge(job.status(), 1, Integer::sum);
+                hours += laborHours.getOrDefault(job.id(), 0L);
+            }
+            WorkOrderSummary next = technicianJobs.first();
+            return new TechnicianWorkload(technicianId, names.get(technicianId), technicianJobs.size(), byStatus,
+                hours, next.id(), next.workOrderNumber(), next.scheduledDate());
+        }
+
+        Map<Long, TechnicianWorkload> publish() {
+            Map<Long, TechnicianWorkload> published = new HashMap<>();
+            for (Long technicianId : names.keySet()) {
+                published.put(technicianId, workload(technicianId));
+            }
+            return published;
+        }
+
+        static TechnicianWorkload idle(Long technicianId, String technicianName) {
+            return new TechnicianWorkload(technicianId, technicianName, 0, Map.of(), 0, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the {@code work_order_version} ordering of one work order's status history.
+ * Encoded as an opaque URL-safe token like {@link KeysetCursor}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+record VersionCursor(long version) {
+
+    /**
+     * Position before the status a work order was created in, at version 0
+     */
+    static final VersionCursor START = new VersionCursor(-1);
+
+    /**
+     * Decode a client supplied token, treating a missing token as the first page
+     */
+    static VersionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            return new VersionCursor(Long.parseLong(
+                new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException ex) {
+            throw new WorkOrderValidationException("Invalid pagination cursor: " + token, ex);
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Long.toString(version).getBytes(StandardCharsets.UTF_8));
+    }
+}
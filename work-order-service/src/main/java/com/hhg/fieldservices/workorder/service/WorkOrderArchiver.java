@@ -0,0 +1,146 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.repository.ArchivedWorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves closed work orders out of the hot tables.
+ *
+ * <p>Every {@code interval}, COMPLETED and CANCELLED work orders last changed more than
+ * {@code min-age} ago are moved with their items to {@code work_orders_archive} /
+ * {@code work_order_items_archive}, in one transaction per {@code chunk-size} work orders.
+ * Each chunk locks its rows, copies them with INSERT ... SELECT and deletes them from the
+ * hot tables, so a work order is always in exactly one of the two places and a failed chunk
+ * leaves nothing behind. Lookups by ID and number fall back to the archive.
+ *
+ * <p>The row locks also keep instances running the job at the same time from archiving a
+ * work order twice; still, enable it on one instance only to avoid lock waits.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderArchiver {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderItemRepository workOrderItemRepository;
+    private final ArchivedWorkOrderRepository archivedWorkOrderRepository;
+    private final WorkOrderMapper workOrderMapper;
+    private final WorkOrderCache workOrderCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Counter archived;
+    private final Counter failures;
+
+    public WorkOrderArchiver(WorkOrderRepository workOrderRepository,
+                             WorkOrderItemRepository workOrderItemRepository,
+                             ArchivedWorkOrderRepository archivedWorkOrderRepository,
+                             WorkOrderMapper workOrderMapper,
+                             WorkOrderCache workOrderCache,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${workorder.archive.enabled:true}") boolean enabled,
+                             @Value("${workorder.archive.min-age:P90D}") Duration minAge,
+                             @Value("${workorder.archive.chunk-size:500}") int chunkSize) {
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderItemRepository = workOrderItemRepository;
+        this.archivedWorkOrderRepository = archivedWorkOrderRepository;
+        this.workOrderMapper = workOrderMapper;
+        this.workOrderCache = workOrderCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.archived = Counter.builder("workorder.archive.archived")
+            .description("Closed work orders moved to the archive")
+            .register(meterRegistry);
+        this.failures = Counter.builder("workorder.archive.failures")
+            .description("Archive chunks that failed and will be retried on the next run")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Archive every closed work order older than the minimum age
+     */
+    @Scheduled(initialDelayString = "${workorder.archive.interval:PT1H}",
+               fixedDelayString = "${workorder.archive.interval:PT1H}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        archiveClosedBefore(LocalDateTime.now().minus(minAge));
+    }
+
+    /**
+     * Archive closed work orders last changed before the cutoff, chunk by chunk until none
+     * are left or a chunk fails
+     *
+     * @return the number of work orders archived
+     */
+    public int archiveClosedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        long started = System.nanoTime();
+        while (true) {
+            int count;
+            try {
+                count = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Archiving closed work orders failed after {} were archived, will retry: {}", total,
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                break;
+            }
+            archived.increment(count);
+            total += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} closed work orders last changed before {} in {} ms", total, cutoff,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<WorkOrder> chunk = workOrderRepository.findArchivable(cutoff, PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = chunk.stream().map(WorkOrder::getId).toList();
+        List<WorkOrderSummary> summaries = chunk.stream().map(workOrderMapper::toSummary).toList();
+        archivedWorkOrderRepository.copyWorkOrders(ids, LocalDateTime.now());
+        archivedWorkOrderRepository.copyItems(ids);
+        workOrderItemRepository.deleteByWorkOrderIds(ids);
+        workOrderRepository.deleteAllByIdInBatch(ids);
+        // Leaves a floor so a hot-table snapshot read concurrently cannot be cached again
+        ids.forEach(workOrderCache::evictAfterCommit);
+        eventPublisher.publishEvent(new WorkOrdersArchivedEvent(summaries));
+        return ids.size();
+    }
+}
@@ -0,0 +1,197 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.BatchCreateResponse;
+import com.hhg.fieldservices.workorder.dto.BatchItemResult;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Service for bulk creation of work orders.
+ *
+ * <p>Each entry is validated on its own, and valid entries are persisted in chunks, one
+ * transaction per chunk. With pooled sequence IDs and ordered inserts Hibernate sends each
+ * chunk as a handful of JDBC batches instead of one round trip per row. If a chunk fails
+ * in the database, its entries are retried one at a time so a single bad row only rejects
+ * itself.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class WorkOrderBatchService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderMapper workOrderMapper;
+    private final WorkOrderNumberAllocator workOrderNumberAllocator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Geocoder geocoder;
+    private final int chunkSize;
+    private final int maxSize;
+
+    public WorkOrderBatchService(WorkOrderRepository workOrderRepository,
+                                 WorkOrderMapper workOrderMapper,
+                                 WorkOrderNumberAllocator workOrderNumberAllocator,
+                                 Validator validator,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Geocoder geocoder,
+                                 @Value("${workorder.batch.chunk-size:500}") int chunkSize,
+                                 @Value("${workorder.batch.max-size:10000}") int maxSize) {
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderMapper = workOrderMapper;
+        this.workOrderNumberAllocator = workOrderNumberAllocator;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.geocoder = geocoder;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Create every valid work order in the request and report the outcome of each entry
+     */
+    public BatchCreateResponse createAll(List<CreateWorkOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new WorkOrderValidationException("Batch must contain at least one work order");
+        }
+        if (requests.size() > maxSize) {
+            throw new WorkOrderValidationException(
+                "Batch must not contain more than " + maxSize + " work orders");
+        }
+        log.debug("Creating batch of {} work orders", requests.size());
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        for (int index = 0; index < requests.size(); index++) {
+            List<String> errors = validate(requests.get(index));
+            if (!errors.isEmpty()) {
+                results.add(failed(index, errors));
+                continue;
+            }
+            chunk.add(index);
+            if (chunk.size() == chunkSize) {
+                results.addAll(persistChunk(requests, chunk));
+                chunk.clear();
+            }
+        }
+        results.addAll(persistChunk(requests, chunk));
+        results.sort(Comparator.comparingInt(BatchItemResult::getIndex));
+
+        int created = (int) results.stream().filter(BatchItemResult::isCreated).count();
+        log.info("Created {} of {} work orders in batch", created, requests.size());
+        return BatchCreateResponse.builder()
+            .requested(requests.size())
+            .created(created)
+            .failed(requests.size() - created)
+            .results(results)
+            .build();
+    }
+
+    private List<String> validate(CreateWorkOrderRequest request) {
+        if (request == null) {
+            return List.of("Work order is required");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateWorkOrderRequest> violation : validator.validate(request)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        errors.sort(null);
+        return errors;
+    }
+
+    /**
+     * Persist one chunk in a single transaction, falling back to one transaction per
+     * entry if the chunk is rejected by the database
+     */
+    private List<BatchItemResult> persistChunk(List<CreateWorkOrderRequest> requests, List<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return transactionTemplate.execute(status -> save(requests, indexes));
+        } catch (DataAccessException | PersistenceException | TransactionSystemException ex) {
+            log.warn("Batch chunk of {} work orders failed, retrying individually: {}",
+                indexes.size(), NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            try {
+                results.addAll(transactionTemplate.execute(status -> save(requests, List.of(index))));
+            } catch (DataAccessException | PersistenceException | TransactionSystemException ex) {
+                results.add(failed(index, List.of(NestedExceptionUtils.getMostSpecificCause(ex).getMessage())));
+            }
+        }
+        return results;
+    }
+
+    private List<BatchItemResult> save(List<CreateWorkOrderRequest> requests, List<Integer> indexes) {
+        List<WorkOrder> workOrders = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            workOrders.add(toEntity(requests.get(index)));
+        }
+        workOrderRepository.saveAll(workOrders);
+        workOrderRepository.flush();
+
+        List<BatchItemResult> results = new ArrayList<>(indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            WorkOrder workOrder = workOrders.get(i);
+            eventPublisher.publishEvent(
+                WorkOrderChangedEvent.created(workOrderMapper.toSummary(workOrder), workOrder.bookedLaborHours()));
+            eventPublisher.publishEvent(WorkOrderTextChangedEvent.created(workOrder));
+            results.add(BatchItemResult.builder()
+                .index(indexes.get(i))
+                .created(true)
+                .id(workOrder.getId())
+                .workOrderNumber(workOrder.getWorkOrderNumber())
+                .errors(List.of())
+                .build());
+        }
+        return results;
+    }
+
+    private WorkOrder toEntity(CreateWorkOrderRequest request) {
+        WorkOrder workOrder = workOrderMapper.toEntity(request);
+        workOrder.setWorkOrderNumber(workOrderNumberAllocator.nextWorkOrderNumber());
+        geocoder.locate(workOrder);
+        if (workOrder.getItems() == null) {
+            workOrder.setItems(new ArrayList<>());
+        }
+        if (request.getItems() != null) {
+            request.getItems().stream()
+                .map(workOrderMapper::toItemEntity)
+                .forEach(workOrder::addItem);
+        }
+        return workOrder;
+    }
+
+    private static BatchItemResult failed(int index, List<String> errors) {
+        return BatchItemResult.builder()
+            .index(index)
+            .created(false)
+            .errors(errors)
+            .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@link OverdueWorkOrderTracker} when an open work order passes its
+ * scheduled date, or is saved with a scheduled date already in the past.
+ *
+ * @param workOrder  the work order as last seen by the tracker
+ * @param detectedAt when the tracker noticed the deadline had passed
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderBecameOverdueEvent(WorkOrderSummary workOrder, LocalDateTime detectedAt) {
+}
@@ -0,0 +1,196 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded read-through cache of {@link WorkOrderDto}s for single work order lookups.
+ *
+ * <p>Every entry carries the optimistic-lock version it was read at. Writes replace the
+ * entry only after their transaction commits, and leave behind a version floor so that a
+ * reader that loaded an older snapshot concurrently can never put it back, so a single
+ * node never serves a stale hit and a hit costs no database call. With several nodes,
+ * enable {@code verify-version}: each hit is then also checked against the committed
+ * version with a primary-key probe, which picks up other nodes' writes at the cost of one
+ * indexed lookup per hit.
+ *
+ * <p>Cached DTOs are shared between callers and must be treated as read-only.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderCache {
+
+    /**
+     * Version floor left behind by a delete; no later read may repopulate the entry
+     */
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final boolean enabled;
+    private final boolean verifyVersion;
+    private final Cache<Long, Entry> byId;
+    private final Cache<String, Long> idsByNumber;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+
+    public WorkOrderCache(WorkOrderRepository workOrderRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${workorder.cache.enabled:true}") boolean enabled,
+                          @Value("${workorder.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${workorder.cache.ttl:10m}") Duration ttl,
+                          @Value("${workorder.cache.verify-version:false}") boolean verifyVersion) {
+        this.workOrderRepository = workOrderRepository;
+        this.enabled = enabled;
+        this.verifyVersion = verifyVersion;
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.idsByNumber = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.stale = lookupCounter(meterRegistry, "stale");
+        Gauge.builder("workorder.cache.size", byId, Cache::estimatedSize)
+            .description("Work order DTO cache entries, including version floors")
+            .register(meterRegistry);
+        log.info("Work order cache {} (maximumSize={}, ttl={}, verifyVersion={})",
+            enabled ? "enabled" : "disabled", maximumSize, ttl, verifyVersion);
+    }
+
+    /**
+     * Look up a cached work order by ID
+     */
+    public Optional<WorkOrderDto> getById(Long id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Entry entry = byId.getIfPresent(id);
+        if (entry == null || entry.dto() == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (verifyVersion) {
+            Optional<Long> committed = workOrderRepository.findVersionById(id);
+            if (committed.isEmpty() || committed.get() != entry.version()) {
+                stale.increment();
+                byId.asMap().remove(id, entry);
+                return Optional.empty();
+            }
+        }
+        hits.increment();
+        return Optional.of(entry.dto());
+    }
+
+    /**
+     * Look up a cached work order by its work order number
+     */
+    public Optional<WorkOrderDto> getByWorkOrderNumber(String workOrderNumber) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long id = idsByNumber.getIfPresent(workOrderNumber);
+        if (id == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return getById(id);
+    }
+
+    /**
+     * Cache a freshly read work order unless a newer version has already been seen
+     */
+    public void put(WorkOrderDto dto) {
+        if (!enabled || dto == null || dto.getId() == null || dto.getVersion() == null) {
+            return;
+        }
+        byId.asMap().compute(dto.getId(), (id, existing) ->
+            existing != null && existing.version() > dto.getVersion() ? existing : new Entry(dto, dto.getVersion()));
+        if (dto.getWorkOrderNumber() != null) {
+            idsByNumber.put(dto.getWorkOrderNumber(), dto.getId());
+        }
+    }
+
+    /**
+     * Replace the cached entry with the written state once the current transaction commits
+     */
+    public void putAfterCommit(WorkOrderDto dto) {
+        afterCommit(() -> put(dto));
+    }
+
+    /**
+     * Drop a deleted work order once the current transaction commits
+     */
+    public void evictAfterCommit(Long id) {
+        afterCommit(() -> byId.put(id, new Entry(null, DELETED)));
+    }
+
+    /**
+     * Drop work orders changed by a bulk update once the current transaction commits. Each
+     * work order gets a floor at the version the update committed, whether or not it was
+     * cached, so that a snapshot read before the update cannot be put back.
+     *
+     * @param versions committed version by work order ID
+     */
+    public void invalidateAfterCommit(Map<Long, Long> versions) {
+        afterCommit(() -> versions.forEach((id, version) -> byId.asMap().compute(id,
+            (key, existing) -> existing != null && existing.version() >= version ? existing : new Entry(null, version))));
+    }
+
+    /**
+     * Discard every cached entry
+     */
+    public void clear() {
+        byId.invalidateAll();
+        idsByNumber.invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("workorder.cache.lookups")
+            .description("Work order cache lookups by outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Cached DTO and the version it was read at; a null DTO is a version floor only
+     */
+    private record Entry(WorkOrderDto dto, long version) {
+    }
+}
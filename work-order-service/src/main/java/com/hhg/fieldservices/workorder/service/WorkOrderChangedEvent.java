@@ -0,0 +1,63 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+
+import java.util.Objects;
+
+/**
+ * Published inside the writing transaction whenever a work order is created, changed or
+ * deleted, by the single-record, bulk and batch paths alike. Listeners that maintain derived
+ * state should consume it with {@code @TransactionalEventListener} so they only see
+ * committed changes.
+ *
+ * @param before     state before the change, or {@code null} for a new work order
+ * @param after      state after the change, or {@code null} for a deleted work order
+ * @param laborHours hours booked as labor items, set only for a new work order since
+ *                   items do not change after creation
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderChangedEvent(WorkOrderSummary before, WorkOrderSummary after, Long laborHours) {
+
+    public WorkOrderChangedEvent(WorkOrderSummary before, WorkOrderSummary after) {
+        this(before, after, null);
+    }
+
+    public static WorkOrderChangedEvent created(WorkOrderSummary after) {
+        return new WorkOrderChangedEvent(null, after);
+    }
+
+    public static WorkOrderChangedEvent created(WorkOrderSummary after, long laborHours) {
+        return new WorkOrderChangedEvent(null, after, laborHours);
+    }
+
+    public static WorkOrderChangedEvent deleted(WorkOrderSummary before) {
+        return new WorkOrderChangedEvent(before, null);
+    }
+
+    public Long id() {
+        return after != null ? after.id() : before.id();
+    }
+
+    /**
+     * Kind of change, as recorded in the event log
+     */
+    public WorkOrderEventType type() {
+        if (before == null) {
+            return WorkOrderEventType.CREATED;
+        }
+        if (after == null) {
+            return WorkOrderEventType.DELETED;
+        }
+        // Assigning also moves the status to ASSIGNED; the technician is the more specific change
+        if (!Objects.equals(before.assignedTechnicianId(), after.assignedTechnicianId())) {
+            return WorkOrderEventType.ASSIGNED;
+        }
+        if (before.status() != after.status()) {
+            return WorkOrderEventType.STATUS_CHANGED;
+        }
+        return WorkOrderEventType.UPDATED;
+    }
+}
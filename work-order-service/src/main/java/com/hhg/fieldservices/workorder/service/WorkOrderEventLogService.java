@@ -0,0 +1,95 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.ConsumerOffset;
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventConsumer;
+import com.hhg.fieldservices.workorder.repository.WorkOrderEventConsumerRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Read access to the published work order event log and the committed offsets of its
+ * consumers, so downstream services can follow changes instead of polling the list endpoints.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class WorkOrderEventLogService {
+
+    /**
+     * Most events returned by one read
+     */
+    public static final int MAX_READ_SIZE = 1000;
+
+    private static final Pattern CONSUMER_NAME = Pattern.compile("[A-Za-z0-9._-]{1,100}");
+
+    private final WorkOrderEventRepository workOrderEventRepository;
+    private final WorkOrderEventConsumerRepository workOrderEventConsumerRepository;
+
+    /**
+     * Published events after a log position, in log order
+     */
+    @Transactional(readOnly = true)
+    public List<WorkOrderEventMessage> read(long after, int limit) {
+        if (after < 0) {
+            throw new WorkOrderValidationException("Position must not be negative");
+        }
+        if (limit < 1 || limit > MAX_READ_SIZE) {
+            throw new WorkOrderValidationException("Limit must be between 1 and " + MAX_READ_SIZE);
+        }
+        return workOrderEventRepository.findPublishedAfter(after, PageRequest.ofSize(limit)).stream()
+            .map(WorkOrderEventMessage::of)
+            .toList();
+    }
+
+    /**
+     * Committed offset of a consumer; position 0 if it has never committed
+     */
+    @Transactional(readOnly = true)
+    public ConsumerOffset getOffset(String consumer) {
+        checkConsumer(consumer);
+        return workOrderEventConsumerRepository.findById(consumer)
+            .map(WorkOrderEventLogService::toOffset)
+            .orElse(new ConsumerOffset(consumer, 0L, null));
+    }
+
+    /**
+     * Commit a consumer's offset. It may move backwards to replay events, but not past the end of the log.
+     */
+    public ConsumerOffset commitOffset(String consumer, long position) {
+        checkConsumer(consumer);
+        long end = workOrderEventRepository.findMaxLogPosition().orElse(0L);
+        if (position < 0 || position > end) {
+            throw new WorkOrderValidationException("Position must be between 0 and " + end);
+        }
+        WorkOrderEventConsumer offset = workOrderEventConsumerRepository.findById(consumer)
+            .orElseGet(() -> WorkOrderEventConsumer.builder().consumer(consumer).build());
+        offset.setLogPosition(position);
+        offset = workOrderEventConsumerRepository.saveAndFlush(offset);
+        log.debug("Consumer {} committed offset {}", consumer, position);
+        return toOffset(offset);
+    }
+
+    private static void checkConsumer(String consumer) {
+        if (consumer == null || !CONSUMER_NAME.matcher(consumer).matches()) {
+            throw new WorkOrderValidationException(
+                "Consumer name must be 1-100 letters, digits, dots, underscores or hyphens");
+        }
+    }
+
+    private static ConsumerOffset toOffset(WorkOrderEventConsumer consumer) {
+        return new ConsumerOffset(consumer.getConsumer(), consumer.getLogPosition(), consumer.getUpdatedAt());
+    }
+}
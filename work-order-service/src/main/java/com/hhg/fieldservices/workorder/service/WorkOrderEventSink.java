@@ -0,0 +1,25 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+
+import java.util.List;
+
+/**
+ * Destination the outbox relay hands published work order events to.
+ *
+ * <p>{@code workorder.outbox.sink} selects a built-in sink: {@code memory} (the default,
+ * {@link InMemoryWorkOrderEventSink}) or {@code file} ({@link FileWorkOrderEventSink}). To
+ * deliver to a message broker, set it to any other value and declare a bean implementing
+ * this interface.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public interface WorkOrderEventSink {
+
+    /**
+     * Deliver a batch of events in log order. Throwing leaves the whole batch unpublished so
+     * the relay retries it; a batch may therefore be delivered more than once.
+     */
+    void publish(List<WorkOrderEventMessage> events);
+}
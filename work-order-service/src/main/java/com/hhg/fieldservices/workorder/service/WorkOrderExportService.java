@@ -0,0 +1,109 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service for bulk export of work orders as newline-delimited JSON.
+ * Rows are read through a forward-only cursor and written in fixed-size chunks,
+ * with the persistence context cleared after each chunk so heap use stays flat
+ * regardless of how many rows match.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class WorkOrderExportService {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderMapper workOrderMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public WorkOrderExportService(WorkOrderRepository workOrderRepository,
+                                  WorkOrderMapper workOrderMapper,
+                                  EntityManager entityManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${workorder.export.chunk-size:500}") int chunkSize) {
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderMapper = workOrderMapper;
+        this.entityManager = entityManager;
+        this.writer = objectMapper.writerFor(WorkOrderDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Write every matching work order to the output stream, one JSON document per line.
+     * All filters are optional.
+     *
+     * @return number of work orders written
+     */
+    @Transactional(readOnly = true)
+    public long export(WorkOrderStatus status, Long customerId,
+                       LocalDateTime scheduledFrom, LocalDateTime scheduledTo,
+                       OutputStream out) throws IOException {
+        log.debug("Exporting work orders (status={}, customerId={}, scheduledFrom={}, scheduledTo={})",
+            status, customerId, scheduledFrom, scheduledTo);
+
+        long written = 0;
+        List<WorkOrder> chunk = new ArrayList<>(chunkSize);
+        try (Stream<WorkOrder> rows = workOrderRepository.streamForExport(status, customerId, scheduledFrom, scheduledTo);
+             JsonGenerator generator = writer.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            Iterator<WorkOrder> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    written += writeChunk(chunk, generator);
+                }
+            }
+            written += writeChunk(chunk, generator);
+        }
+
+        log.info("Exported {} work orders", written);
+        return written;
+    }
+
+    /**
+     * Map and write one chunk, then detach it. Mapping touches each lazy items
+     * collection, which batch fetching initializes for the whole chunk at once.
+     */
+    private int writeChunk(List<WorkOrder> chunk, JsonGenerator generator) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        for (WorkOrderDto dto : workOrderMapper.toDtoList(chunk)) {
+            writer.writeValue(generator, dto);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+
+        int size = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return size;
+    }
+}
@@ -0,0 +1,161 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Geocodes open work orders that have no coordinates, so they show up in nearby searches.
+ *
+ * <p>Work orders are located when they are created, which misses rows created before
+ * coordinates were introduced and rows whose address the geocoder could not place at the
+ * time, such as a ZIP code added to {@code zip_code_centroids} later. Once the
+ * application has started and then every {@code backfill-interval}, the geocoder's
+ * reference data is refreshed and every open work order without coordinates is run through
+ * it again, in one transaction per {@code backfill-chunk-size} rows. Located work orders get a new version and publish a
+ * {@link WorkOrderChangedEvent}, which places them in the spatial index.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderLocationBackfill {
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderMapper workOrderMapper;
+    private final WorkOrderCache workOrderCache;
+    private final Geocoder geocoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Counter located;
+    private final Counter failures;
+
+    public WorkOrderLocationBackfill(WorkOrderRepository workOrderRepository,
+                                     WorkOrderMapper workOrderMapper,
+                                     WorkOrderCache workOrderCache,
+                                     Geocoder geocoder,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${workorder.geo.enabled:true}") boolean enabled,
+                                     @Value("${workorder.geo.backfill-chunk-size:500}") int chunkSize) {
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderMapper = workOrderMapper;
+        this.workOrderCache = workOrderCache;
+        this.geocoder = geocoder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.located = Counter.builder("workorder.geo.backfilled")
+            .description("Open work orders located after they were created")
+            .register(meterRegistry);
+        this.failures = Counter.builder("workorder.geo.backfill.failures")
+            .description("Location backfill chunks that failed and will be retried on the next run")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Locate every open work order without coordinates that the geocoder can place now, once
+     * the application has started and then periodically
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${workorder.geo.backfill-interval:PT1H}",
+               fixedDelayString = "${workorder.geo.backfill-interval:PT1H}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        backfill();
+    }
+
+    /**
+     * Run the open work orders without coordinates through the geocoder, chunk by chunk until
+     * all have been tried or a chunk fails
+     *
+     * @return the number of work orders located
+     */
+    public int backfill() {
+        geocoder.refresh();
+        int total = 0;
+        long afterId = 0;
+        long started = System.nanoTime();
+        while (true) {
+            long from = afterId;
+            Chunk chunk;
+            try {
+                chunk = transactionTemplate.execute(status -> locateChunk(from));
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Locating open work orders failed after {} were located, will retry: {}", total,
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                break;
+            }
+            located.increment(chunk.located());
+            total += chunk.located();
+            if (chunk.read() < chunkSize) {
+                break;
+            }
+            afterId = chunk.lastId();
+        }
+        if (total > 0) {
+            log.info("Located {} open work orders without coordinates in {} ms", total,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+        return total;
+    }
+
+    private Chunk locateChunk(long afterId) {
+        List<WorkOrder> chunk = workOrderRepository.findUnlocatedOpen(afterId, PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            return new Chunk(0, 0, afterId);
+        }
+        List<WorkOrder> changed = new ArrayList<>();
+        Map<Long, WorkOrderSummary> before = new HashMap<>();
+        for (WorkOrder workOrder : chunk) {
+            WorkOrderSummary summary = workOrderMapper.toSummary(workOrder);
+            if (geocoder.locate(workOrder)) {
+                changed.add(workOrder);
+                before.put(workOrder.getId(), summary);
+            }
+        }
+        // Flush so the events and the cache floors carry the incremented versions
+        workOrderRepository.flush();
+        Map<Long, Long> versions = new HashMap<>();
+        for (WorkOrder workOrder : changed) {
+            WorkOrderSummary after = workOrderMapper.toSummary(workOrder);
+            versions.put(after.id(), after.version());
+            eventPublisher.publishEvent(new WorkOrderChangedEvent(before.get(after.id()), after));
+        }
+        workOrderCache.invalidateAfterCommit(versions);
+        return new Chunk(chunk.size(), changed.size(), chunk.get(chunk.size() - 1).getId());
+    }
+
+    /**
+     * Rows read by one chunk, how many of them were located, and the last ID read
+     */
+    private record Chunk(int read, int located, long lastId) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.hhg.fieldservices.workorder.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates unique work order numbers from blocks reserved in the
+ * {@code work_order_number_seq} database sequence (hi/lo style).
+ *
+ * <p>Each sequence call reserves {@link #BLOCK_SIZE} consecutive numbers for this node,
+ * so numbers are unique across nodes and increase monotonically on each node. Handing
+ * out a number within a block is a single atomic increment; only the thread that
+ * exhausts a block takes a lock to reserve the next one. The lock is a {@link ReentrantLock}
+ * rather than a monitor because it is held across a database call, which would pin the
+ * carrier thread of a virtual thread.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderNumberAllocator {
+
+    /**
+     * Numbers reserved per sequence call; must equal the sequence's INCREMENT BY
+     */
+    static final int BLOCK_SIZE = 100;
+
+    private static final String SEQUENCE_NAME = "work_order_number_seq";
+    private static final String PREFIX = "WO-";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextBlockSql;
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block current = new Block(0, 0);
+
+    public WorkOrderNumberAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextBlockSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect()
+            .getSequenceSupport()
+            .getSequenceNextValString(SEQUENCE_NAME);
+    }
+
+    /**
+     * Allocate the next work order number, e.g. {@code WO-0000000101}
+     */
+    public String nextWorkOrderNumber() {
+        return format(nextValue());
+    }
+
+    long nextValue() {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    /**
+     * Zero-padded to ten digits so numbers sort lexically and never clash with
+     * the fourteen-digit timestamp numbers issued before the sequence existed
+     */
+    static String format(long value) {
+        return PREFIX + String.format("%010d", value);
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            Long start = jdbcTemplate.queryForObject(nextBlockSql, Long.class);
+            if (start == null) {
+                throw new IllegalStateException("Sequence " + SEQUENCE_NAME + " returned no value");
+            }
+            current = new Block(start, start + BLOCK_SIZE);
+            log.debug("Reserved work order number block [{}, {})", start, start + BLOCK_SIZE);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
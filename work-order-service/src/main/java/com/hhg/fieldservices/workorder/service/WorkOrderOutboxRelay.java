@@ -0,0 +1,122 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.model.WorkOrderEvent;
+import com.hhg.fieldservices.workorder.repository.WorkOrderEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves outbox rows to the {@link WorkOrderEventSink} in batches.
+ *
+ * <p>Each batch is handled in one transaction: the oldest unpublished rows are stamped with
+ * the next log positions and flushed, handed to the sink, and only then committed. A sink
+ * failure rolls the stamps back so the batch is retried on the next poll; a failure after the
+ * sink accepted the batch redelivers it later. Delivery is therefore at-least-once, and
+ * consumers recognise redeliveries by {@code eventId}.
+ *
+ * <p>Events are published in outbox ID order. Outbox IDs come from an unpooled sequence and
+ * the changes of one work order are serialized by its version, so the events of one work order
+ * keep their order whichever instances wrote them. Log positions are unique, so a second relay
+ * running by mistake fails its batch instead of publishing duplicates under new positions.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderOutboxRelay {
+
+    /**
+     * Most batches relayed per poll, so one poll cannot run indefinitely under sustained load
+     */
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final WorkOrderEventRepository workOrderEventRepository;
+    private final WorkOrderEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Counter published;
+    private final Counter failures;
+
+    public WorkOrderOutboxRelay(WorkOrderEventRepository workOrderEventRepository,
+                                WorkOrderEventSink sink,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${workorder.outbox.relay-enabled:true}") boolean enabled,
+                                @Value("${workorder.outbox.batch-size:500}") int batchSize) {
+        this.workOrderEventRepository = workOrderEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.published = Counter.builder("workorder.outbox.published")
+            .description("Work order events handed to the event sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("workorder.outbox.failures")
+            .description("Outbox batches that failed and will be retried")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relay every pending batch, up to a per-poll limit
+     */
+    @Scheduled(initialDelayString = "${workorder.outbox.poll-interval:PT1S}",
+               fixedDelayString = "${workorder.outbox.poll-interval:PT1S}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publish the oldest unpublished events
+     *
+     * @return the number of events published, 0 if none were pending or the batch failed
+     */
+    int relayBatch() {
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<WorkOrderEvent> events = workOrderEventRepository.findUnpublished(PageRequest.ofSize(batchSize));
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                long position = workOrderEventRepository.findMaxLogPosition().orElse(0L);
+                LocalDateTime now = LocalDateTime.now();
+                List<WorkOrderEventMessage> messages = new ArrayList<>(events.size());
+                for (WorkOrderEvent event : events) {
+                    event.setLogPosition(++position);
+                    event.setPublishedAt(now);
+                    messages.add(WorkOrderEventMessage.of(event));
+                }
+                workOrderEventRepository.flush();
+                sink.publish(messages);
+                return events.size();
+            });
+            published.increment(count);
+            return count;
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Relaying work order events failed, will retry: {}",
+                NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            return 0;
+        }
+    }
+}
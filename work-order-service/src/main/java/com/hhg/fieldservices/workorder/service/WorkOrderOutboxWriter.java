@@ -0,0 +1,58 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderEvent;
+import com.hhg.fieldservices.workorder.repository.WorkOrderEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes an outbox row for every {@link WorkOrderChangedEvent}. Runs synchronously while the
+ * event is published, i.e. inside the writing transaction, so the row commits or rolls back
+ * together with the change itself; every create, update, assign, status change, delete, bulk
+ * and batch path is covered.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+public class WorkOrderOutboxWriter {
+
+    private final WorkOrderEventRepository workOrderEventRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public WorkOrderOutboxWriter(WorkOrderEventRepository workOrderEventRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${workorder.outbox.enabled:true}") boolean enabled) {
+        this.workOrderEventRepository = workOrderEventRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        WorkOrderSummary state = event.after() != null ? event.after() : event.before();
+        workOrderEventRepository.save(WorkOrderEvent.builder()
+            .workOrderId(state.id())
+            .workOrderVersion(state.version() == null ? 0 : state.version())
+            .type(event.type())
+            .payload(toJson(state))
+            .build());
+    }
+
+    private String toJson(WorkOrderSummary state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException ex) {
+            // Failing the write is the only way to keep the outbox complete
+            throw new IllegalStateException("Cannot serialize work order " + state.id() + " for the outbox", ex);
+        }
+    }
+}
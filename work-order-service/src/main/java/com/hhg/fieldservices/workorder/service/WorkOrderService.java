@@ -2,22 +2,40 @@ package com.hhg.fieldservices.workorder.service;
 
 import com.hhg.fieldservices.workorder.dto.*;
 import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderPreconditionFailedException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderSearchUnavailableException;
 import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
 import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
 import com.hhg.fieldservices.workorder.model.WorkOrder;
 import com.hhg.fieldservices.workorder.model.WorkOrderItem;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import com.hhg.fieldservices.workorder.repository.ArchivedWorkOrderRepository;
 import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderSpecifications;
+import com.hhg.fieldservices.workorder.repository.WorkOrderStatusChangeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -33,89 +51,380 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WorkOrderService {
     
+    /**
+     * Largest page a client may request from the list endpoints
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    /**
+     * Largest number of work orders a single bulk operation may change
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+    
+    /**
+     * Largest number of work orders a nearby search may return
+     */
+    public static final int MAX_NEARBY_LIMIT = 100;
+    
+    /**
+     * Largest radius a nearby search may cover
+     */
+    public static final double MAX_NEARBY_RADIUS_KM = 500;
+    
+    /**
+     * Longest free-text query accepted by search
+     */
+    public static final int MAX_QUERY_LENGTH = 200;
+    
+    /**
+     * Most ranked search hits checked against the other filters in one query
+     */
+    private static final int TEXT_FILTER_CHUNK = 500;
+    
+    /**
+     * Most candidate rows the database fallback of a nearby search reads from its bounding box
+     */
+    private static final int MAX_NEARBY_CANDIDATES = 10_000;
+    
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+    
     private final WorkOrderRepository workOrderRepository;
     private final WorkOrderMapper workOrderMapper;
+    private final WorkOrderCache workOrderCache;
+    private final WorkOrderNumberAllocator workOrderNumberAllocator;
+    private final OverdueWorkOrderTracker overdueWorkOrderTracker;
+    private final WorkOrderSpatialIndex workOrderSpatialIndex;
+    private final WorkOrderTextIndex workOrderTextIndex;
+    private final Geocoder geocoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkOrderStatusChangeRepository statusChangeRepository;
+    private final ArchivedWorkOrderRepository archivedWorkOrderRepository;
     
     /**
-     * Find all work orders
+     * Find a page of all work orders
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findAll() {
-        log.debug("Fetching all work orders");
-        List<WorkOrder> workOrders = workOrderRepository.findAll();
-        return workOrderMapper.toDtoList(workOrders);
+    public CursorPage<WorkOrderDto> findAll(String cursor, int size) {
+        log.debug("Fetching page of work orders after cursor: {}", cursor);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findPageAfter(
+            after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
     }
     
     /**
-     * Find work order by ID
+     * Find work order by ID, falling back to the archive
      */
     @Transactional(readOnly = true)
     public WorkOrderDto findById(Long id) {
         log.debug("Fetching work order with id: {}", id);
-        WorkOrder workOrder = workOrderRepository.findById(id)
+        return workOrderCache.getById(id).orElseGet(() -> workOrderRepository.findById(id)
+            .map(workOrder -> cache(workOrderMapper.toDto(workOrder)))
+            .or(() -> archivedWorkOrderRepository.findById(id).map(workOrderMapper::toDto))
+            .orElseThrow(() -> new WorkOrderNotFoundException(id)));
+    }
+    
+    /**
+     * Find the current version of a work order without loading it, falling back to the archive
+     */
+    @Transactional(readOnly = true)
+    public long findVersion(Long id) {
+        return workOrderRepository.findVersionById(id)
+            .or(() -> archivedWorkOrderRepository.findVersionById(id))
             .orElseThrow(() -> new WorkOrderNotFoundException(id));
-        return workOrderMapper.toDto(workOrder);
     }
     
     /**
-     * Find work order by work order number
+     * Find work order by work order number, falling back to the archive
      */
     @Transactional(readOnly = true)
     public WorkOrderDto findByWorkOrderNumber(String workOrderNumber) {
         log.debug("Fetching work order with number: {}", workOrderNumber);
-        WorkOrder workOrder = workOrderRepository.findByWorkOrderNumber(workOrderNumber)
-            .orElseThrow(() -> new WorkOrderNotFoundException(workOrderNumber));
-        return workOrderMapper.toDto(workOrder);
+        return workOrderCache.getByWorkOrderNumber(workOrderNumber).orElseGet(() ->
+            workOrderRepository.findByWorkOrderNumber(workOrderNumber)
+                .map(workOrder -> cache(workOrderMapper.toDto(workOrder)))
+                .or(() -> archivedWorkOrderRepository.findByWorkOrderNumber(workOrderNumber).map(workOrderMapper::toDto))
+                .orElseThrow(() -> new WorkOrderNotFoundException(workOrderNumber)));
     }
     
     /**
-     * Find work orders by status
+     * Find a page of work orders by status
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findByStatus(WorkOrderStatus status) {
+    public CursorPage<WorkOrderDto> findByStatus(WorkOrderStatus status, String cursor, int size) {
         log.debug("Fetching work orders with status: {}", status);
-        List<WorkOrder> workOrders = workOrderRepository.findByStatus(status);
-        return workOrderMapper.toDtoList(workOrders);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findPageByStatusAfter(
+            status, after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
     }
     
     /**
-     * Find work orders by priority
+     * Find a page of work orders by priority
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findByPriority(WorkOrderPriority priority) {
+    public CursorPage<WorkOrderDto> findByPriority(WorkOrderPriority priority, String cursor, int size) {
         log.debug("Fetching work orders with priority: {}", priority);
-        List<WorkOrder> workOrders = workOrderRepository.findByPriority(priority);
-        return workOrderMapper.toDtoList(workOrders);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findPageByPriorityAfter(
+            priority, after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
     }
     
     /**
-     * Find work orders by customer ID
+     * Find a page of work orders by customer ID
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findByCustomerId(Long customerId) {
+    public CursorPage<WorkOrderDto> findByCustomerId(Long customerId, String cursor, int size) {
         log.debug("Fetching work orders for customer: {}", customerId);
-        List<WorkOrder> workOrders = workOrderRepository.findByCustomerId(customerId);
-        return workOrderMapper.toDtoList(workOrders);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findPageByCustomerIdAfter(
+            customerId, after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
     }
     
     /**
-     * Find work orders assigned to a technician
+     * Find a page of work orders assigned to a technician
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findByAssignedTechnicianId(Long technicianId) {
+    public CursorPage<WorkOrderDto> findByAssignedTechnicianId(Long technicianId, String cursor, int size) {
         log.debug("Fetching work orders for technician: {}", technicianId);
-        List<WorkOrder> workOrders = workOrderRepository.findByAssignedTechnicianId(technicianId);
-        return workOrderMapper.toDtoList(workOrders);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findPageByAssignedTechnicianIdAfter(
+            technicianId, after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
     }
     
     /**
-     * Find overdue work orders
+     * Find a page of overdue work orders
      */
     @Transactional(readOnly = true)
-    public List<WorkOrderDto> findOverdueWorkOrders() {
+    public CursorPage<WorkOrderDto> findOverdueWorkOrders(String cursor, int size) {
         log.debug("Fetching overdue work orders");
-        List<WorkOrder> workOrders = workOrderRepository.findOverdueWorkOrders(LocalDateTime.now());
-        return workOrderMapper.toDtoList(workOrders);
+        if (overdueWorkOrderTracker.isReady()) {
+            CursorPage<WorkOrderSummary> rows = findOverdueSummaries(cursor, size);
+            return CursorPage.<WorkOrderDto>builder()
+                .content(findAllInOrder(rows.getContent().stream().map(WorkOrderSummary::id).toList()))
+                .size(size)
+                .nextCursor(rows.getNextCursor())
+                .hasNext(rows.isHasNext())
+                .build();
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findOverduePageAfter(
+            LocalDateTime.now(), after.createdAt(), after.id(), pageRequest(size));
+        return toPage(workOrders, size);
+    }
+    
+    /**
+     * Search work orders by any combination of criteria. All supplied filters are
+     * combined into a single query, paginated on the same keyset as the list endpoints.
+     * With a free-text query, results come from the search index ranked by relevance.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderDto> search(WorkOrderSearchCriteria criteria, String cursor, int size) {
+        log.debug("Searching work orders with criteria: {}", criteria);
+        checkPageSize(size);
+        if (hasText(criteria)) {
+            CursorPage<WorkOrderSummary> rows = textSearch(criteria, cursor, size);
+            return CursorPage.<WorkOrderDto>builder()
+                .content(findAllInOrder(rows.getContent().stream().map(WorkOrderSummary::id).toList()))
+                .size(size)
+                .nextCursor(rows.getNextCursor())
+                .hasNext(rows.isHasNext())
+                .build();
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrder> workOrders = workOrderRepository.findBy(
+            WorkOrderSpecifications.matching(criteria)
+                .and(WorkOrderSpecifications.after(after.createdAt(), after.id())),
+            query -> query.sortBy(KEYSET_ORDER).limit(size + 1).all());
+        return toPage(workOrders, size);
+    }
+    
+    /**
+     * Find a page of work order summaries matching the criteria. Serves the
+     * {@code view=summary} variant of every list endpoint with a query that reads only
+     * the list columns.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderSummary> findSummaries(WorkOrderSearchCriteria criteria, String cursor, int size) {
+        log.debug("Fetching work order summaries with criteria: {}", criteria);
+        if (hasText(criteria)) {
+            checkPageSize(size);
+            return textSearch(criteria, cursor, size);
+        }
+        return summaryPage(WorkOrderSpecifications.matching(criteria), cursor, size);
+    }
+    
+    /**
+     * Rank the work orders matching the free-text query with the search index, then keep those
+     * that also match the other filters, checking the ranked IDs against the database in chunks
+     */
+    private CursorPage<WorkOrderSummary> textSearch(WorkOrderSearchCriteria criteria, String cursor, int size) {
+        if (criteria.getQ().length() > MAX_QUERY_LENGTH) {
+            throw new WorkOrderValidationException("Query must not be longer than " + MAX_QUERY_LENGTH + " characters");
+        }
+        RelevanceCursor after = RelevanceCursor.decode(cursor);
+        if (!workOrderTextIndex.isReady()) {
+            throw new WorkOrderSearchUnavailableException("Full-text search is not available yet; retry shortly");
+        }
+        
+        List<WorkOrderTextIndex.Hit> hits = workOrderTextIndex.search(criteria.getQ());
+        int start = 0;
+        if (after != null) {
+            while (start < hits.size() && !after.precedes(hits.get(start))) {
+                start++;
+            }
+        }
+        Specification<WorkOrder> filters = WorkOrderSpecifications.matching(criteria);
+        List<WorkOrderTextIndex.Hit> matched = new ArrayList<>(size + 1);
+        List<WorkOrderSummary> rows = new ArrayList<>(size + 1);
+        for (int from = start; from < hits.size() && rows.size() <= size; from += TEXT_FILTER_CHUNK) {
+            List<WorkOrderTextIndex.Hit> chunk = hits.subList(from, Math.min(from + TEXT_FILTER_CHUNK, hits.size()));
+            Map<Long, WorkOrderSummary> found = new HashMap<>();
+            workOrderRepository.findSummaries(
+                    filters.and(WorkOrderSpecifications.idIn(chunk.stream().map(WorkOrderTextIndex.Hit::id).toList())),
+                    chunk.size())
+                .forEach(summary -> found.put(summary.id(), summary));
+            for (WorkOrderTextIndex.Hit hit : chunk) {
+                WorkOrderSummary summary = found.get(hit.id());
+                if (summary != null && rows.size() <= size) {
+                    matched.add(hit);
+                    rows.add(summary);
+                }
+            }
+        }
+        
+        boolean hasNext = rows.size() > size;
+        List<WorkOrderSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            WorkOrderTextIndex.Hit last = matched.get(size - 1);
+            nextCursor = new RelevanceCursor(last.score(), last.id()).encode();
+        }
+        return CursorPage.<WorkOrderSummary>builder()
+            .content(content)
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+    
+    private static boolean hasText(WorkOrderSearchCriteria criteria) {
+        return criteria.getQ() != null && !criteria.getQ().isBlank();
+    }
+    
+    /**
+     * Find a page of overdue work order summaries
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderSummary> findOverdueSummaries(String cursor, int size) {
+        log.debug("Fetching overdue work order summaries");
+        if (overdueWorkOrderTracker.isReady()) {
+            checkPageSize(size);
+            return toSummaryPage(overdueWorkOrderTracker.findOverdue(KeysetCursor.decode(cursor), size + 1), size);
+        }
+        return summaryPage(WorkOrderSpecifications.overdueAt(LocalDateTime.now()), cursor, size);
+    }
+    
+    /**
+     * Find a page of the statuses a work order went through, in the order they were committed.
+     * Recent changes may take up to the history writer's flush interval to appear.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WorkOrderStatusHistoryEntry> findStatusHistory(Long id, String cursor, int size) {
+        log.debug("Fetching status history of work order {} after cursor: {}", id, cursor);
+        VersionCursor after = VersionCursor.decode(cursor);
+        List<WorkOrderStatusChange> changes = statusChangeRepository.findHistoryAfter(
+            id, after.version(), pageRequest(size));
+        if (changes.isEmpty() && after == VersionCursor.START
+                && !workOrderRepository.existsById(id) && !archivedWorkOrderRepository.existsById(id)) {
+            throw new WorkOrderNotFoundException(id);
+        }
+        boolean hasNext = changes.size() > size;
+        List<WorkOrderStatusHistoryEntry> content = new ArrayList<>(Math.min(changes.size(), size));
+        for (int i = 0; i < changes.size() && i < size; i++) {
+            WorkOrderStatusChange change = changes.get(i);
+            // The look-ahead row, when present, ends the last status on the page. Recording
+            // times can trail commit order slightly, so a status left at once counts as zero.
+            Long secondsInStatus = i + 1 < changes.size()
+                ? Math.max(0, Duration.between(change.getChangedAt(), changes.get(i + 1).getChangedAt()).toSeconds())
+                : null;
+            content.add(new WorkOrderStatusHistoryEntry(change.getFromStatus(), change.getToStatus(),
+                change.getTechnicianId(), change.getWorkOrderVersion(), change.getChangedAt(), secondsInStatus));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new VersionCursor(changes.get(size - 1).getWorkOrderVersion()).encode();
+        }
+        return CursorPage.<WorkOrderStatusHistoryEntry>builder()
+            .content(content)
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+    
+    /**
+     * Find the open work orders nearest a point, nearest first. Served from the spatial
+     * index once it is seeded; until then, from a bounding-box query.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyWorkOrder> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        log.debug("Finding work orders within {} km of {}, {}", radiusKm, latitude, longitude);
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            throw new WorkOrderValidationException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            throw new WorkOrderValidationException("Radius must be greater than 0 and at most " + MAX_NEARBY_RADIUS_KM + " km");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new WorkOrderValidationException("Limit must be between 1 and " + MAX_NEARBY_LIMIT);
+        }
+        
+        GeoPoint point = new GeoPoint(latitude, longitude);
+        if (workOrderSpatialIndex.isReady()) {
+            List<WorkOrderSpatialIndex.Neighbor> neighbors = workOrderSpatialIndex.findNearest(point, radiusKm, limit);
+            Map<Long, WorkOrderSummary> summaries = neighbors.isEmpty() ? Map.of()
+                : findSummariesById(neighbors.stream().map(WorkOrderSpatialIndex.Neighbor::id).toList());
+            List<NearbyWorkOrder> nearby = new ArrayList<>(neighbors.size());
+            for (WorkOrderSpatialIndex.Neighbor neighbor : neighbors) {
+                WorkOrderSummary summary = summaries.get(neighbor.id());
+                // Skip rows deleted since the index was read
+                if (summary != null) {
+                    nearby.add(new NearbyWorkOrder(summary, neighbor.distanceKm()));
+                }
+            }
+            return nearby;
+        }
+        
+        log.debug("Spatial index not seeded; searching a bounding box in the database");
+        double latitudeDelta = radiusKm / WorkOrderSpatialIndex.KM_PER_DEGREE;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+        double narrowest = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeDelta = narrowest < 1e-9 ? 180 : latitudeDelta / narrowest;
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -180 || maxLongitude > 180) {
+            // The box crosses the antimeridian; search the full band of latitudes instead
+            minLongitude = -180;
+            maxLongitude = 180;
+        }
+        List<WorkOrderSummary> candidates = workOrderRepository.findSummaries(
+            WorkOrderSpecifications.openWithin(minLatitude, maxLatitude, minLongitude, maxLongitude),
+            MAX_NEARBY_CANDIDATES);
+        if (candidates.size() == MAX_NEARBY_CANDIDATES) {
+            log.warn("Nearby search read the maximum of {} candidates; results may be incomplete", MAX_NEARBY_CANDIDATES);
+        }
+        return candidates.stream()
+            .map(summary -> new NearbyWorkOrder(summary, point.distanceKm(summary.latitude(), summary.longitude())))
+            .filter(nearby -> nearby.distanceKm() <= radiusKm)
+            .sorted(Comparator.comparingDouble(NearbyWorkOrder::distanceKm)
+                .thenComparing(nearby -> nearby.workOrder().id()))
+            .limit(limit)
+            .toList();
     }
     
     /**
@@ -125,7 +434,8 @@ public class WorkOrderService {
         log.debug("Creating new work order: {}", request.getTitle());
         
         WorkOrder workOrder = workOrderMapper.toEntity(request);
-        workOrder.setWorkOrderNumber(generateWorkOrderNumber());
+        workOrder.setWorkOrderNumber(workOrderNumberAllocator.nextWorkOrderNumber());
+        geocoder.locate(workOrder);
         
         // Initialize items list if null (MapStruct doesn't call builder)
         if (workOrder.getItems() == null) {
@@ -142,6 +452,9 @@ public class WorkOrderService {
         
         workOrder = workOrderRepository.save(workOrder);
         log.info("Created work order with id: {} and number: {}", workOrder.getId(), workOrder.getWorkOrderNumber());
+        eventPublisher.publishEvent(
+            WorkOrderChangedEvent.created(workOrderMapper.toSummary(workOrder), workOrder.bookedLaborHours()));
+        eventPublisher.publishEvent(WorkOrderTextChangedEvent.created(workOrder));
         
         return workOrderMapper.toDto(workOrder);
     }
@@ -150,10 +463,17 @@ public class WorkOrderService {
      * Update an existing work order
      */
     public WorkOrderDto update(Long id, UpdateWorkOrderRequest request) {
+        return update(id, request, null);
+    }
+    
+    /**
+     * Update an existing work order if it is still at the expected version (null for any version)
+     */
+    public WorkOrderDto update(Long id, UpdateWorkOrderRequest request, Long expectedVersion) {
         log.debug("Updating work order with id: {}", id);
         
-        WorkOrder workOrder = workOrderRepository.findById(id)
-            .orElseThrow(() -> new WorkOrderNotFoundException(id));
+        WorkOrder workOrder = findForUpdate(id, expectedVersion);
+        WorkOrderSummary before = workOrderMapper.toSummary(workOrder);
         
         workOrderMapper.updateEntityFromDto(request, workOrder);
         
@@ -162,10 +482,13 @@ public class WorkOrderService {
             handleStatusTransition(workOrder, request.getStatus());
         }
         
-        workOrder = workOrderRepository.save(workOrder);
+        workOrder = saveAndFlush(workOrder, expectedVersion, before);
+        eventPublisher.publishEvent(WorkOrderTextChangedEvent.updated(workOrder));
         log.info("Updated work order with id: {}", id);
         
-        return workOrderMapper.toDto(workOrder);
+        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
+        workOrderCache.putAfterCommit(dto);
+        return dto;
     }
     
     /**
@@ -174,11 +497,12 @@ public class WorkOrderService {
     public void delete(Long id) {
         log.debug("Deleting work order with id: {}", id);
         
-        if (!workOrderRepository.existsById(id)) {
-            throw new WorkOrderNotFoundException(id);
-        }
+        WorkOrder workOrder = workOrderRepository.findById(id)
+            .orElseThrow(() -> new WorkOrderNotFoundException(id));
         
-        workOrderRepository.deleteById(id);
+        workOrderRepository.delete(workOrder);
+        workOrderCache.evictAfterCommit(id);
+        eventPublisher.publishEvent(WorkOrderChangedEvent.deleted(workOrderMapper.toSummary(workOrder)));
         log.info("Deleted work order with id: {}", id);
     }
     
@@ -186,10 +510,18 @@ public class WorkOrderService {
      * Assign work order to a technician
      */
     public WorkOrderDto assignToTechnician(Long id, Long technicianId, String technicianName) {
+        return assignToTechnician(id, technicianId, technicianName, null);
+    }
+    
+    /**
+     * Assign work order to a technician if it is still at the expected version (null for any version)
+     */
+    public WorkOrderDto assignToTechnician(Long id, Long technicianId, String technicianName,
+                                           Long expectedVersion) {
         log.debug("Assigning work order {} to technician {}", id, technicianId);
         
-        WorkOrder workOrder = workOrderRepository.findById(id)
-            .orElseThrow(() -> new WorkOrderNotFoundException(id));
+        WorkOrder workOrder = findForUpdate(id, expectedVersion);
+        WorkOrderSummary before = workOrderMapper.toSummary(workOrder);
         
         if (workOrder.getStatus() == WorkOrderStatus.COMPLETED || 
             workOrder.getStatus() == WorkOrderStatus.CANCELLED) {
@@ -201,29 +533,217 @@ public class WorkOrderService {
         workOrder.setAssignedTechnicianName(technicianName);
         workOrder.setStatus(WorkOrderStatus.ASSIGNED);
         
-        workOrder = workOrderRepository.save(workOrder);
+        workOrder = saveAndFlush(workOrder, expectedVersion, before);
         log.info("Assigned work order {} to technician {}", id, technicianId);
         
-        return workOrderMapper.toDto(workOrder);
+        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
+        workOrderCache.putAfterCommit(dto);
+        return dto;
     }
     
     /**
      * Update work order status
      */
     public WorkOrderDto updateStatus(Long id, WorkOrderStatus newStatus) {
+        return updateStatus(id, newStatus, null);
+    }
+    
+    /**
+     * Update work order status if it is still at the expected version (null for any version)
+     */
+    public WorkOrderDto updateStatus(Long id, WorkOrderStatus newStatus, Long expectedVersion) {
         log.debug("Updating status of work order {} to {}", id, newStatus);
         
-        WorkOrder workOrder = workOrderRepository.findById(id)
-            .orElseThrow(() -> new WorkOrderNotFoundException(id));
+        WorkOrder workOrder = findForUpdate(id, expectedVersion);
+        WorkOrderSummary before = workOrderMapper.toSummary(workOrder);
         
         handleStatusTransition(workOrder, newStatus);
         
-        workOrder = workOrderRepository.save(workOrder);
+        workOrder = saveAndFlush(workOrder, expectedVersion, before);
         log.info("Updated status of work order {} to {}", id, newStatus);
         
-        return workOrderMapper.toDto(workOrder);
+        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
+        workOrderCache.putAfterCommit(dto);
+        return dto;
+    }
+    
+    /**
+     * Move many work orders to one status with a single set-based update. The same rules as
+     * {@link #updateStatus} apply: closed work orders are skipped, {@code startedAt} and
+     * {@code completedAt} are set only when first reached, and every changed row gets a new version.
+     */
+    public BulkUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        WorkOrderStatus newStatus = request.getStatus();
+        log.debug("Bulk updating status to {}", newStatus);
+        
+        Map<Long, WorkOrderSummary> targets = resolveBulkTargets(request.getIds(), request.getFilter());
+        List<Long> eligible = new ArrayList<>();
+        List<SkippedWorkOrder> skipped = new ArrayList<>();
+        targets.forEach((id, target) -> {
+            if (target == null) {
+                skipped.add(skip(id, "Work order not found"));
+            } else if (target.status() == newStatus) {
+                skipped.add(skip(id, "Work order is already " + newStatus));
+            } else if (isClosed(target.status())) {
+                skipped.add(skip(id, "Cannot change status from " + target.status() + " to " + newStatus));
+            } else {
+                eligible.add(id);
+            }
+        });
+        
+        int updated = 0;
+        if (!eligible.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            updated = workOrderRepository.updateStatusWhereOpen(eligible, newStatus,
+                newStatus == WorkOrderStatus.IN_PROGRESS ? now : null,
+                newStatus == WorkOrderStatus.COMPLETED ? now : null,
+                now);
+        }
+        log.info("Bulk updated status of {} work orders to {}", updated, newStatus);
+        
+        return bulkResponse(targets, eligible, updated, skipped, current -> current.status() == newStatus);
+    }
+    
+    /**
+     * Assign many work orders to one technician with a single set-based update.
+     * Closed work orders are skipped, as in {@link #assignToTechnician}.
+     */
+    public BulkUpdateResponse bulkAssign(BulkAssignRequest request) {
+        Long technicianId = request.getTechnicianId();
+        log.debug("Bulk assigning work orders to technician {}", technicianId);
+        
+        Map<Long, WorkOrderSummary> targets = resolveBulkTargets(request.getIds(), request.getFilter());
+        List<Long> eligible = new ArrayList<>();
+        List<SkippedWorkOrder> skipped = new ArrayList<>();
+        targets.forEach((id, target) -> {
+            if (target == null) {
+                skipped.add(skip(id, "Work order not found"));
+            } else if (isClosed(target.status())) {
+                skipped.add(skip(id, "Cannot assign work order with status: " + target.status()));
+            } else {
+                eligible.add(id);
+            }
+        });
+        
+        int updated = eligible.isEmpty() ? 0 : workOrderRepository.assignWhereOpen(
+            eligible, technicianId, request.getTechnicianName(), LocalDateTime.now());
+        log.info("Bulk assigned {} work orders to technician {}", updated, technicianId);
+        
+        return bulkResponse(targets, eligible, updated, skipped,
+            current -> current.status() == WorkOrderStatus.ASSIGNED && technicianId.equals(current.assignedTechnicianId()));
     }
     
+    /**
+     * Resolve the targets of a bulk operation to their current state, keyed by ID in
+     * request order. Unknown IDs map to {@code null}.
+     */
+    private Map<Long, WorkOrderSummary> resolveBulkTargets(List<Long> ids, WorkOrderSearchCriteria filter) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        if (hasIds == (filter != null)) {
+            throw new WorkOrderValidationException("Provide either ids or filter");
+        }
+        
+        Map<Long, WorkOrderSummary> targets = new LinkedHashMap<>();
+        if (hasIds) {
+            ids.stream().filter(Objects::nonNull).forEach(id -> targets.put(id, null));
+            checkBulkSize(targets.size());
+            targets.putAll(findSummariesById(targets.keySet()));
+        } else {
+            if (hasText(filter)) {
+                throw new WorkOrderValidationException("Bulk filters do not support free-text queries");
+            }
+            List<WorkOrderSummary> rows = workOrderRepository.findSummaries(
+                WorkOrderSpecifications.matching(filter), MAX_BULK_SIZE + 1);
+            checkBulkSize(rows.size());
+            rows.forEach(row -> targets.put(row.id(), row));
+        }
+        return targets;
+    }
+    
+    private Map<Long, WorkOrderSummary> findSummariesById(Collection<Long> ids) {
+        Map<Long, WorkOrderSummary> summaries = new HashMap<>();
+        workOrderRepository.findSummaries(WorkOrderSpecifications.idIn(ids), ids.size())
+            .forEach(summary -> summaries.put(summary.id(), summary));
+        return summaries;
+    }
+    
+    private void checkBulkSize(int size) {
+        if (size > MAX_BULK_SIZE) {
+            throw new WorkOrderValidationException(
+                "Bulk operations are limited to " + MAX_BULK_SIZE + " work orders");
+        }
+    }
+    
+    /**
+     * Build the bulk response and publish a change event per updated work order. The
+     * eligible rows are re-read to get their new state; if fewer rows changed than were
+     * eligible, a target was closed or deleted between the read and the update, and the
+     * re-read also shows which.
+     */
+    private BulkUpdateResponse bulkResponse(Map<Long, WorkOrderSummary> targets, List<Long> eligible, int updated,
+                                            List<SkippedWorkOrder> skipped,
+                                            Predicate<WorkOrderSummary> applied) {
+        List<Long> updatedIds = new ArrayList<>(updated);
+        Map<Long, Long> updatedVersions = new HashMap<>();
+        Map<Long, WorkOrderSummary> current = eligible.isEmpty() ? Map.of() : findSummariesById(eligible);
+        for (Long id : eligible) {
+            WorkOrderSummary after = current.get(id);
+            if (after == null) {
+                skipped.add(skip(id, "Work order not found"));
+            } else if (updated == eligible.size() || applied.test(after)) {
+                updatedIds.add(id);
+                updatedVersions.put(id, after.version());
+                eventPublisher.publishEvent(new WorkOrderChangedEvent(targets.get(id), after));
+            } else {
+                skipped.add(skip(id, "Work order changed concurrently to status: " + after.status()));
+            }
+        }
+        workOrderCache.invalidateAfterCommit(updatedVersions);
+        
+        return BulkUpdateResponse.builder()
+            .requested(targets.size())
+            .updatedIds(updatedIds)
+            .skipped(skipped)
+            .build();
+    }
+    
+    private static boolean isClosed(WorkOrderStatus status) {
+        return status == WorkOrderStatus.COMPLETED || status == WorkOrderStatus.CANCELLED;
+    }
+    
+    private static SkippedWorkOrder skip(Long id, String reason) {
+        return SkippedWorkOrder.builder().id(id).reason(reason).build();
+    }
+    
+    private WorkOrder findForUpdate(Long id, Long expectedVersion) {
+        WorkOrder workOrder = workOrderRepository.findById(id)
+            .orElseThrow(() -> new WorkOrderNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(workOrder.getVersion())) {
+            throw new WorkOrderPreconditionFailedException(id);
+        }
+        return workOrder;
+    }
+
+    /**
+     * Flush so the returned DTO and the change event carry the incremented version. A
+     * conditional write that loses a race after its version check surfaces as a failed
+     * precondition as well.
+     */
+    private WorkOrder saveAndFlush(WorkOrder workOrder, Long expectedVersion, WorkOrderSummary before) {
+        try {
+            WorkOrder saved = workOrderRepository.save(workOrder);
+            workOrderRepository.flush();
+            eventPublisher.publishEvent(new WorkOrderChangedEvent(before, workOrderMapper.toSummary(saved)));
+            return saved;
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion == null) {
+                throw ex;
+            }
+            throw new WorkOrderPreconditionFailedException(
+                "Work order " + workOrder.getId() + " has been modified since it was read", ex);
+        }
+    }
+
     /**
      * Handle status transitions and set timestamps accordingly
      */
@@ -256,10 +776,73 @@ public class WorkOrderService {
     }
     
     /**
-     * Generate a unique work order number
+     * Offer a freshly loaded work order to the lookup cache
+     */
+    private WorkOrderDto cache(WorkOrderDto dto) {
+        workOrderCache.put(dto);
+        return dto;
+    }
+    
+    /**
+     * Build a LIMIT-only page request that fetches one extra row to detect a following page
+     */
+    private PageRequest pageRequest(int size) {
+        checkPageSize(size);
+        return PageRequest.ofSize(size + 1);
+    }
+    
+    private void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new WorkOrderValidationException(
+                "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+    
+    private CursorPage<WorkOrderSummary> summaryPage(Specification<WorkOrder> specification, String cursor, int size) {
+        checkPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<WorkOrderSummary> rows = workOrderRepository.findSummaries(
+            specification.and(WorkOrderSpecifications.after(after.createdAt(), after.id())), size + 1);
+        return toSummaryPage(rows, size);
+    }
+    
+    private CursorPage<WorkOrderSummary> toSummaryPage(List<WorkOrderSummary> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<WorkOrderSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            WorkOrderSummary last = content.get(size - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return CursorPage.<WorkOrderSummary>builder()
+            .content(content)
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+    
+    /**
+     * Load and map work orders by ID, keeping the order of the IDs and dropping any that no longer exist
+     */
+    private List<WorkOrderDto> findAllInOrder(List<Long> ids) {
+        Map<Long, WorkOrder> byId = new HashMap<>();
+        workOrderRepository.findAllById(ids).forEach(workOrder -> byId.put(workOrder.getId(), workOrder));
+        return workOrderMapper.toDtoList(ids.stream().map(byId::get).filter(Objects::nonNull).toList());
+    }
+    
+    /**
+     * Trim the look-ahead row and derive the cursor for the next page
      */
-    private String generateWorkOrderNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        return "WO-" + timestamp;
+    private CursorPage<WorkOrderDto> toPage(List<WorkOrder> workOrders, int size) {
+        boolean hasNext = workOrders.size() > size;
+        List<WorkOrder> content = hasNext ? workOrders.subList(0, size) : workOrders;
+        String nextCursor = hasNext ? KeysetCursor.of(content.get(size - 1)).encode() : null;
+        return CursorPage.<WorkOrderDto>builder()
+            .content(workOrderMapper.toDtoList(content))
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
     }
 }
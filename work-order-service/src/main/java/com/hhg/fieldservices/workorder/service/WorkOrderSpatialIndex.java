@@ -0,0 +1,288 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderLocation;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid index of open work order locations, so "nearest open jobs" is answered
+ * without scanning the table.
+ *
+ * <p>The globe is divided into cells of {@code cell-size} degrees. A query scans rings of
+ * cells outward from the one containing the query point and stops as soon as no unscanned
+ * cell can hold anything closer than the k-th best match, so its cost depends on the
+ * density around the point rather than on the number of work orders. Changes arrive as
+ * committed {@link WorkOrderChangedEvent}s.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderSpatialIndex extends AbstractReconciledIndex<Long, List<WorkOrderLocation>> {
+
+    /**
+     * Length of one degree of latitude (and of longitude at the equator)
+     */
+    static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final int maxTracked;
+    private final double cellSize;
+    private final int latitudeCells;
+    private final int longitudeCells;
+
+    /**
+     * Located open work orders by cell; written under the write lock, read without locking
+     */
+    private final Map<Long, Map<Long, Location>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Every indexed work order by ID; guarded by the lock
+     */
+    private final Map<Long, Location> locations = new HashMap<>();
+
+    public WorkOrderSpatialIndex(WorkOrderRepository workOrderRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${workorder.geo.enabled:true}") boolean enabled,
+                                 @Value("${workorder.geo.max-tracked:1000000}") int maxTracked,
+                                 @Value("${workorder.geo.cell-size:0.05}") double cellSize) {
+        super("Spatial index", enabled, Counter.builder("workorder.geo.corrections")
+            .description("Indexed locations corrected by reconciliation against the database")
+            .register(meterRegistry));
+        this.workOrderRepository = workOrderRepository;
+        this.maxTracked = maxTracked;
+        this.cellSize = cellSize;
+        this.latitudeCells = (int) Math.ceil(180 / cellSize);
+        this.longitudeCells = (int) Math.ceil(360 / cellSize);
+        Gauge.builder("workorder.geo.indexed", this, index -> index.size())
+            .description("Open work orders held by the spatial index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Up to {@code limit} indexed work orders within {@code radiusKm} of a point, nearest first
+     */
+    public List<Neighbor> findNearest(GeoPoint point, double radiusKm, int limit) {
+        int centerRow = row(point.latitude());
+        int centerColumn = column(point.longitude());
+        double cellHeightKm = cellSize * KM_PER_DEGREE;
+        // Cells are narrowest at the latitude furthest from the equator that the radius reaches
+        double widestLatitude = Math.min(90, Math.abs(point.latitude()) + radiusKm / KM_PER_DEGREE);
+        double cellWidthKm = cellHeightKm * Math.cos(Math.toRadians(widestLatitude));
+        int maxColumnRing = (longitudeCells - 1) / 2;
+        int rowRings = (int) Math.ceil(radiusKm / cellHeightKm);
+        int columnRings = cellWidthKm < 1e-9 ? maxColumnRing
+            : (int) Math.min(maxColumnRing, Math.ceil(radiusKm / cellWidthKm));
+        double ringKm = Math.min(cellHeightKm, cellWidthKm);
+
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(limit + 1,
+            Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+        int rings = Math.max(rowRings, columnRings);
+        for (int ring = 0; ring <= rings; ring++) {
+            // Every cell in this ring is at least (ring - 1) cells away from the query point
+            if (best.size() == limit && best.peek().distanceKm() <= (ring - 1) * ringKm) {
+                break;
+            }
+            int rowReach = Math.min(ring, rowRings);
+            for (int dRow = -rowReach; dRow <= rowReach; dRow++) {
+                int row = centerRow + dRow;
+                if (row < 0 || row >= latitudeCells) {
+                    continue;
+                }
+                if (Math.abs(dRow) == ring) {
+                    int columnReach = Math.min(ring, columnRings);
+                    for (int dColumn = -columnReach; dColumn <= columnReach; dColumn++) {
+                        scan(row, centerColumn + dColumn, point, radiusKm, limit, best);
+                    }
+                } else if (ring <= columnRings) {
+                    scan(row, centerColumn - ring, point, radiusKm, limit, best);
+                    scan(row, centerColumn + ring, point, radiusKm, limit, best);
+                }
+            }
+        }
+
+        List<Neighbor> nearest = new ArrayList<>(best);
+        nearest.sort(Comparator.comparingDouble(Neighbor::distanceKm).thenComparingLong(Neighbor::id));
+        return nearest;
+    }
+
+    /**
+     * Apply a committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Long id = event.id();
+            changed(id);
+            Location current = locations.get(id);
+            WorkOrderSummary after = event.after();
+            if (after != null && current != null && isOlder(after.version(), current.version())) {
+                return;
+            }
+            remove(current);
+            if (after != null && !isClosed(after.status()) && after.latitude() != null && after.longitude() != null) {
+                add(new Location(id, after.latitude(), after.longitude(), version(after.version())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${workorder.geo.reconcile-interval:PT5M}",
+               fixedDelayString = "${workorder.geo.reconcile-interval:PT5M}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected List<WorkOrderLocation> loadSnapshot() {
+        return workOrderRepository.findOpenLocations(PageRequest.ofSize(maxTracked + 1));
+    }
+
+    @Override
+    protected boolean exceedsLimit(List<WorkOrderLocation> rows) {
+        return rows.size() > maxTracked;
+    }
+
+    @Override
+    protected int merge(List<WorkOrderLocation> rows, Set<Long> changed) {
+        Map<Long, Location> snapshot = new HashMap<>();
+        rows.forEach(row -> snapshot.put(row.id(),
+            new Location(row.id(), row.latitude(), row.longitude(), version(row.version()))));
+        int corrected = 0;
+        for (Location current : new ArrayList<>(locations.values())) {
+            if (!snapshot.containsKey(current.id()) && !changed.contains(current.id())) {
+                remove(current);
+                corrected++;
+            }
+        }
+        for (Location row : snapshot.values()) {
+            Location current = locations.get(row.id());
+            if (changed.contains(row.id()) || row.equals(current)) {
+                continue;
+            }
+            remove(current);
+            add(row);
+            corrected++;
+        }
+        return corrected;
+    }
+
+    @Override
+    protected void disable() {
+        log.warn("More than {} located open work orders; spatial index disabled", maxTracked);
+        locations.clear();
+        cells.clear();
+    }
+
+    @Override
+    protected String describe() {
+        return locations.size() + " located open work orders in " + cells.size() + " cells";
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scan(int row, int column, GeoPoint point, double radiusKm, int limit, PriorityQueue<Neighbor> best) {
+        Map<Long, Location> cell = cells.get(key(row, Math.floorMod(column, longitudeCells)));
+        if (cell == null) {
+            return;
+        }
+        for (Location location : cell.values()) {
+            double distanceKm = point.distanceKm(location.latitude(), location.longitude());
+            if (distanceKm > radiusKm) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new Neighbor(location.id(), distanceKm));
+            } else if (distanceKm < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Neighbor(location.id(), distanceKm));
+            }
+        }
+    }
+
+    private void add(Location location) {
+        locations.put(location.id(), location);
+        cells.computeIfAbsent(cellOf(location), key -> new ConcurrentHashMap<>()).put(location.id(), location);
+    }
+
+    private void remove(Location location) {
+        if (location == null) {
+            return;
+        }
+        locations.remove(location.id());
+        long key = cellOf(location);
+        Map<Long, Location> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(location.id());
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cellOf(Location location) {
+        return key(row(location.latitude()), column(location.longitude()));
+    }
+
+    private int row(double latitude) {
+        return Math.max(0, Math.min(latitudeCells - 1, (int) Math.floor((latitude + 90) / cellSize)));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellSize), longitudeCells);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private static long version(Long version) {
+        return version == null ? 0 : version;
+    }
+
+    private static boolean isClosed(WorkOrderStatus status) {
+        return status == WorkOrderStatus.COMPLETED || status == WorkOrderStatus.CANCELLED;
+    }
+
+    /**
+     * An indexed work order and its distance from the query point
+     */
+    public record Neighbor(long id, double distanceKm) {
+    }
+
+    private record Location(long id, double latitude, double longitude, long version) {
+    }
+}
@@ -0,0 +1,274 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderCount;
+import com.hhg.fieldservices.workorder.dto.WorkOrderStats;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counters of work orders by status, priority and assigned technician, held in
+ * memory so {@code /stats} never runs a COUNT query.
+ *
+ * <p>Each status × priority × technician cell is a {@link LongAdder}, moved by committed
+ * {@link WorkOrderChangedEvent}s from every create, update, assign, status change, delete,
+ * bulk and batch path. The per-status, per-priority and per-technician totals are adders of
+ * their own, moved together with the cell, so reading them never sums cells. Reconciliation
+ * is a single GROUP BY query, which also drops cells that reached zero. Until seeded, stats
+ * are read from the database.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class WorkOrderStatsService extends AbstractReconciledIndex<WorkOrderStatsService.Cell, List<WorkOrderCount>> {
+
+    private final WorkOrderRepository workOrderRepository;
+
+    private final Map<Cell, LongAdder> cells = new ConcurrentHashMap<>();
+    private final Map<WorkOrderStatus, LongAdder> byStatus = adders(WorkOrderStatus.class);
+    private final Map<WorkOrderPriority, LongAdder> byPriority = adders(WorkOrderPriority.class);
+    private final Map<Long, LongAdder> byTechnician = new ConcurrentHashMap<>();
+    private final LongAdder unassigned = new LongAdder();
+
+    public WorkOrderStatsService(WorkOrderRepository workOrderRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${workorder.stats.enabled:true}") boolean enabled) {
+        super("Stats counters", enabled, Counter.builder("workorder.stats.corrections")
+            .description("Dashboard counters corrected by reconciliation against the database")
+            .register(meterRegistry));
+        this.workOrderRepository = workOrderRepository;
+        Gauge.builder("workorder.stats.cells", cells, Map::size)
+            .description("Status, priority and technician combinations held in memory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Current counts. Once seeded, the totals are read from their own adders and the breakdown
+     * is a copy of the live cells; cost depends on the number of distinct status, priority and
+     * technician combinations, not on the number of work orders.
+     */
+    public WorkOrderStats getStats() {
+        if (isReady()) {
+            return fromCounters();
+        }
+        log.debug("Stats counters not seeded; counting in the database");
+        return toStats(workOrderRepository.countByStatusPriorityAndTechnician());
+    }
+
+    /**
+     * Apply a committed change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        Cell before = Cell.of(event.before());
+        Cell after = Cell.of(event.after());
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        // Adders take concurrent changes, so applying one only excludes reconciliation
+        lock.readLock().lock();
+        try {
+            if (before != null) {
+                add(before, -1);
+                changed(before);
+            }
+            if (after != null) {
+                add(after, 1);
+                changed(after);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stop counting work orders moved to the archive
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrdersArchived(WorkOrdersArchivedEvent event) {
+        event.archived().forEach(summary -> onWorkOrderChanged(WorkOrderChangedEvent.deleted(summary)));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${workorder.stats.reconcile-interval:PT5M}",
+               fixedDelayString = "${workorder.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected List<WorkOrderCount> loadSnapshot() {
+        return workOrderRepository.countByStatusPriorityAndTechnician();
+    }
+
+    /**
+     * Compare every cell with the GROUP BY and correct the ones that differ; changed cells
+     * are checked again on the next pass. Cells and technicians whose count is zero are
+     * removed, so combinations that no longer occur stop costing reads; a later change
+     * recreates them.
+     */
+    @Override
+    protected int merge(List<WorkOrderCount> rows, Set<Cell> changed) {
+        Map<Cell, Long> snapshot = new HashMap<>();
+        rows.forEach(row -> snapshot.put(
+            new Cell(row.status(), row.priority(), row.assignedTechnicianId()), row.count()));
+        for (Cell cell : cells.keySet()) {
+            snapshot.putIfAbsent(cell, 0L);
+        }
+
+        int corrected = 0;
+        for (Map.Entry<Cell, Long> entry : snapshot.entrySet()) {
+            if (changed.contains(entry.getKey())) {
+                continue;
+            }
+            long drift = entry.getValue() - adder(entry.getKey()).sum();
+            if (drift != 0) {
+                add(entry.getKey(), drift);
+                corrected++;
+            }
+        }
+        // Changes only touch adders under the read lock, so a zero adder removed here
+        // cannot lose a concurrent increment
+        cells.values().removeIf(adder -> adder.sum() == 0);
+        byTechnician.values().removeIf(adder -> adder.sum() == 0);
+        return corrected;
+    }
+
+    @Override
+    protected String describe() {
+        return cells.size() + " status, priority and technician combinations";
+    }
+
+    private LongAdder adder(Cell cell) {
+        return cells.computeIfAbsent(cell, key -> new LongAdder());
+    }
+
+    /**
+     * Move a cell and the status, priority and technician totals it belongs to
+     */
+    private void add(Cell cell, long delta) {
+        adder(cell).add(delta);
+        byStatus.get(cell.status()).add(delta);
+        byPriority.get(cell.priority()).add(delta);
+        if (cell.technicianId() == null) {
+            unassigned.add(delta);
+        } else {
+            byTechnician.computeIfAbsent(cell.technicianId(), key -> new LongAdder()).add(delta);
+        }
+    }
+
+    private WorkOrderStats fromCounters() {
+        Map<WorkOrderStatus, Long> statusCounts = new EnumMap<>(WorkOrderStatus.class);
+        long total = 0;
+        for (Map.Entry<WorkOrderStatus, LongAdder> entry : byStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            statusCounts.put(entry.getKey(), count);
+            total += count;
+        }
+        Map<WorkOrderPriority, Long> priorityCounts = new EnumMap<>(WorkOrderPriority.class);
+        byPriority.forEach((priority, adder) -> priorityCounts.put(priority, adder.sum()));
+        Map<Long, Long> technicianCounts = new TreeMap<>();
+        byTechnician.forEach((technicianId, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                technicianCounts.put(technicianId, count);
+            }
+        });
+        List<WorkOrderCount> breakdown = new ArrayList<>(cells.size());
+        cells.forEach((cell, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                breakdown.add(new WorkOrderCount(cell.status(), cell.priority(), cell.technicianId(), count));
+            }
+        });
+        return WorkOrderStats.builder()
+            .total(total)
+            .byStatus(statusCounts)
+            .byPriority(priorityCounts)
+            .byTechnician(technicianCounts)
+            .unassigned(unassigned.sum())
+            .breakdown(breakdown)
+            .asOf(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * One adder per constant; the map itself never changes after construction
+     */
+    private static <E extends Enum<E>> Map<E, LongAdder> adders(Class<E> type) {
+        Map<E, LongAdder> adders = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            adders.put(constant, new LongAdder());
+        }
+        return adders;
+    }
+
+    private static WorkOrderStats toStats(List<WorkOrderCount> counts) {
+        Map<WorkOrderStatus, Long> byStatus = new EnumMap<>(WorkOrderStatus.class);
+        for (WorkOrderStatus status : WorkOrderStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<WorkOrderPriority, Long> byPriority = new EnumMap<>(WorkOrderPriority.class);
+        for (WorkOrderPriority priority : WorkOrderPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        Map<Long, Long> byTechnician = new TreeMap<>();
+        long total = 0;
+        long unassigned = 0;
+        for (WorkOrderCount count : counts) {
+            total += count.count();
+            byStatus.merge(count.status(), count.count(), Long::sum);
+            byPriority.merge(count.priority(), count.count(), Long::sum);
+            if (count.assignedTechnicianId() == null) {
+                unassigned += count.count();
+            } else {
+                byTechnician.merge(count.assignedTechnicianId(), count.count(), Long::sum);
+            }
+        }
+        return WorkOrderStats.builder()
+            .total(total)
+            .byStatus(byStatus)
+            .byPriority(byPriority)
+            .byTechnician(byTechnician)
+            .unassigned(unassigned)
+            .breakdown(counts)
+            .asOf(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * One status × priority × technician combination
+     */
+    record Cell(WorkOrderStatus status, WorkOrderPriority priority, Long technicianId) {
+
+        static Cell of(WorkOrderSummary summary) {
+            return summary == null ? null
+                : new Cell(summary.status(), summary.priority(), summary.assignedTechnicianId());
+        }
+    }
+}
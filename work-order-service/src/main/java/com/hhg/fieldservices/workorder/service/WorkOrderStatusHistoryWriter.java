@@ -0,0 +1,377 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import com.hhg.fieldservices.workorder.repository.WorkOrderStatusChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Records every status a work order enters in {@code work_order_status_history}, off the
+ * request path.
+ *
+ * <p>Committed {@link WorkOrderChangedEvent}s that create a work order or change its status
+ * are queued, and a single writer thread inserts them in batches of up to
+ * {@code batch-size}, waiting at most {@code flush-interval} to fill a batch. Every create,
+ * update, assign, status change, bulk and batch path is covered, and none of them waits for
+ * the insert.
+ *
+ * <p>Nothing accepted is dropped unless it cannot be written at all:
+ * <ul>
+ *   <li>A failed batch is retried with backoff, up to {@code max-attempts} times. A batch
+ *       that still fails is written entry by entry, and only the entries that fail on their
+ *       own are dropped, logged and counted, so one bad entry cannot stall the writer.</li>
+ *   <li>When the queue is full, or the writer is not running, the change is written by the
+ *       thread that committed it instead, in a new transaction of its own: the one that
+ *       published the change has already committed.</li>
+ *   <li>On shutdown the writer stops after the web server, once in-flight requests have
+ *       finished, and writes everything still queued before the database is closed.</li>
+ * </ul>
+ * Only a crash of the process loses the changes of the last {@code flush-interval}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderStatusHistoryWriter implements SmartLifecycle {
+
+    /**
+     * Below the web server's graceful shutdown and stop phases, so the writer stops last
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * Queued by {@link #stop()} to wake the writer and end its loop
+     */
+    private static final WorkOrderStatusChange END = new WorkOrderStatusChange();
+
+    private static final long MIN_RETRY_MILLIS = 100;
+    private static final long MAX_RETRY_MILLIS = 10_000;
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private final WorkOrderStatusChangeRepository repository;
+
+    /**
+     * Always starts its own transaction, so writes from an after-commit callback do not join
+     * the transaction that just committed
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<WorkOrderStatusChange> queue;
+    private final Counter written;
+    private final Counter failures;
+    private final Counter inline;
+    private final Counter dropped;
+
+    /**
+     * Held for reading while a change is queued and for writing while the writer starts or
+     * stops, so no change is queued after the final drain
+     */
+    private final ReadWriteLock state = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public WorkOrderStatusHistoryWriter(WorkOrderStatusChangeRepository repository,
+                                        TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${workorder.history.enabled:true}") boolean enabled,
+                                        @Value("${workorder.history.batch-size:200}") int batchSize,
+                                        @Value("${workorder.history.flush-interval:PT0.2S}") Duration flushInterval,
+                                        @Value("${workorder.history.capacity:10000}") int capacity,
+                                        @Value("${workorder.history.max-attempts:10}") int maxAttempts,
+                                        @Value("${workorder.history.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(),
+            transactionTemplate);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.written = Counter.builder("workorder.history.written")
+            .description("Status history entries written")
+            .register(meterRegistry);
+        this.failures = Counter.builder("workorder.history.failures")
+            .description("Status history writes that failed")
+            .register(meterRegistry);
+        this.inline = Counter.builder("workorder.history.inline")
+            .description("Status history entries written by the committing thread because the queue was full or stopped")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("workorder.history.dropped")
+            .description("Status history entries given up on after every attempt to write them failed")
+            .register(meterRegistry);
+        Gauge.builder("workorder.history.queued", queue, BlockingQueue::size)
+            .description("Status history entries waiting to be written")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue the status a committed change entered, if it created the work order or changed its status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        WorkOrderSummary before = event.before();
+        WorkOrderSummary after = event.after();
+        if (after == null || (before != null && before.status() == after.status())) {
+            return;
+        }
+        record(WorkOrderStatusChange.builder()
+            .workOrderId(after.id())
+            .workOrderVersion(after.version() == null ? 0 : after.version())
+            .fromStatus(before == null ? null : before.status())
+            .toStatus(after.status())
+            .technicianId(after.assignedTechnicianId())
+            .changedAt(LocalDateTime.now())
+            .build());
+    }
+
+    void record(WorkOrderStatusChange change) {
+        state.readLock().lock();
+        try {
+            if (running && queue.offer(change)) {
+                return;
+            }
+        } finally {
+            state.readLock().unlock();
+        }
+        inline.increment();
+        try {
+            write(List.of(change));
+        } catch (RuntimeException ex) {
+            failures.increment();
+            drop(change, ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        state.writeLock().lock();
+        try {
+            if (running || !enabled) {
+                return;
+            }
+            running = true;
+            writer = new Thread(this::run, "status-history-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } finally {
+            state.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop queueing, then wait for the writer to write everything already queued
+     */
+    @Override
+    public void stop() {
+        Thread stopping;
+        state.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = writer;
+        } finally {
+            state.writeLock().unlock();
+        }
+        // Sent outside the queue's capacity check: a full queue wakes the writer anyway
+        if (!queue.offer(END)) {
+            log.debug("Status history queue full at shutdown; writer is already busy");
+        }
+        try {
+            stopping.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (stopping.isAlive()) {
+            log.error("Status history writer did not finish within {}; {} entries not written",
+                shutdownTimeout, queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        List<WorkOrderStatusChange> batch = new ArrayList<>(batchSize);
+        boolean ending = false;
+        while (!ending) {
+            try {
+                ending = fill(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            // A batch interrupted while backing off is left for the drain
+            if (!batch.isEmpty() && writeRetrying(batch)) {
+                batch.clear();
+            }
+            ending |= Thread.currentThread().isInterrupted() || (!running && queue.isEmpty());
+        }
+        if (Thread.interrupted()) {
+            log.warn("Status history writer interrupted; committing threads write their own entries from now on");
+            state.writeLock().lock();
+            try {
+                running = false;
+            } finally {
+                state.writeLock().unlock();
+            }
+        }
+        drain(batch);
+    }
+
+    /**
+     * Collect the next batch: block for its first entry, then wait up to the flush interval
+     * for the batch to fill
+     *
+     * @return whether the writer was told to stop
+     */
+    private boolean fill(List<WorkOrderStatusChange> batch) throws InterruptedException {
+        WorkOrderStatusChange first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return false;
+        }
+        if (first == END) {
+            return true;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            WorkOrderStatusChange next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return false;
+            }
+            if (next == END) {
+                return true;
+            }
+            batch.add(next);
+        }
+        return false;
+    }
+
+    /**
+     * Write a batch, retrying with backoff up to {@code max-attempts} times, or a few times
+     * once stopping. A batch that still fails is written entry by entry.
+     *
+     * @return {@code false} if the writer was interrupted while backing off, leaving the
+     *         batch unwritten
+     */
+    private boolean writeRetrying(List<WorkOrderStatusChange> batch) {
+        int attempts = running ? maxAttempts : Math.min(maxAttempts, SHUTDOWN_ATTEMPTS);
+        long backoff = MIN_RETRY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(batch);
+                return true;
+            } catch (RuntimeException ex) {
+                failures.increment();
+                if (attempt >= attempts) {
+                    log.error("Writing {} status history entries failed {} times, writing them one by one: {}",
+                        batch.size(), attempt, NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                    writeEach(batch);
+                    return true;
+                }
+                log.warn("Writing {} status history entries failed, retrying in {} ms: {}", batch.size(), backoff,
+                    NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoff = Math.min(backoff * 2, MAX_RETRY_MILLIS);
+        }
+    }
+
+    /**
+     * Write the entries of a failed batch one at a time, dropping those that still fail
+     */
+    private void writeEach(List<WorkOrderStatusChange> batch) {
+        for (WorkOrderStatusChange change : batch) {
+            try {
+                write(List.of(change));
+            } catch (RuntimeException ex) {
+                failures.increment();
+                drop(change, ex);
+            }
+        }
+    }
+
+    /**
+     * Write whatever is left in the queue once stopped
+     */
+    private void drain(List<WorkOrderStatusChange> batch) {
+        int remaining = 0;
+        while (true) {
+            queue.drainTo(batch, Math.max(0, batchSize - batch.size()));
+            batch.removeIf(change -> change == END);
+            if (batch.isEmpty()) {
+                break;
+            }
+            remaining += batch.size();
+            if (!writeRetrying(batch)) {
+                // Interrupted again while backing off: no more waiting, give the batch one last try
+                Thread.interrupted();
+                writeEach(batch);
+            }
+            batch.clear();
+        }
+        if (remaining > 0) {
+            log.info("Wrote {} queued status history entries at shutdown", remaining);
+        }
+    }
+
+    private void drop(WorkOrderStatusChange change, RuntimeException ex) {
+        dropped.increment();
+        log.error("Dropped status history of work order {} version {} ({} -> {}): {}", change.getWorkOrderId(),
+            change.getWorkOrderVersion(), change.getFromStatus(), change.getToStatus(),
+            NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+    }
+
+    private void write(List<WorkOrderStatusChange> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.saveAll(batch);
+            repository.flush();
+        });
+        written.increment(batch.size());
+    }
+}
@@ -0,0 +1,384 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderChangeNotification;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed work order changes out to live Server-Sent Events clients, so open screens
+ * are told what changed instead of re-fetching whole lists.
+ *
+ * <p>Every committed {@link WorkOrderChangedEvent} gets the next sequence number, is kept in a
+ * replay buffer of the last {@code replay-size} changes and is offered to the bounded queue of
+ * each client whose filter it matches. A small pool of sender threads drains the queues, so a
+ * client on a slow connection never delays a commit or other clients: once its queue is full it
+ * is disconnected and may reconnect. Event IDs are {@code <instance>-<sequence>}; a client
+ * reconnecting with {@code Last-Event-ID} gets the changes it missed from the replay buffer, or a
+ * {@code reset} event telling it to reload if they are no longer buffered or were seen by another
+ * instance.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderStreamBroadcaster {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final boolean enabled;
+    private final int replaySize;
+    private final int clientBuffer;
+    private final Duration timeout;
+    private final Executor sender;
+    private final Counter dropped;
+
+    /**
+     * Identifies this instance's sequence, so IDs issued before a restart or by another
+     * instance are recognised as not resumable
+     */
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * Most recent changes, oldest first; guarded by the monitor
+     */
+    private final Deque<Change> replay = new ArrayDeque<>();
+
+    /**
+     * Connected clients; added and offered changes under the monitor
+     */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sequence number of the latest change; guarded by the monitor
+     */
+    private long sequence;
+
+    @Autowired
+    public WorkOrderStreamBroadcaster(MeterRegistry meterRegistry,
+                                      @Value("${workorder.stream.enabled:true}") boolean enabled,
+                                      @Value("${workorder.stream.replay-size:1000}") int replaySize,
+                                      @Value("${workorder.stream.client-buffer:256}") int clientBuffer,
+                                      @Value("${workorder.stream.timeout:PT30M}") Duration timeout,
+                                      @Value("${workorder.stream.sender-threads:4}") int senderThreads,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(meterRegistry, enabled, replaySize, clientBuffer, timeout, senderExecutor(senderThreads, virtualThreads));
+    }
+
+    WorkOrderStreamBroadcaster(MeterRegistry meterRegistry, boolean enabled, int replaySize, int clientBuffer,
+                               Duration timeout, Executor sender) {
+        this.enabled = enabled;
+        this.replaySize = replaySize;
+        this.clientBuffer = clientBuffer;
+        this.timeout = timeout;
+        this.sender = sender;
+        this.dropped = Counter.builder("workorder.stream.dropped")
+            .description("Live stream clients disconnected because they fell behind")
+            .register(meterRegistry);
+        Gauge.builder("workorder.stream.clients", subscribers, Set::size)
+            .description("Connected live stream clients")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Connect a client. Changes missed since {@code lastEventId} are sent first when still
+     * buffered; otherwise the client is told to reload.
+     *
+     * @param filter      changes the client wants
+     * @param lastEventId ID of the last event the client received, or null for a new client
+     */
+    public SseEmitter subscribe(Filter filter, String lastEventId) {
+        if (!enabled) {
+            SseEmitter emitter = newEmitter();
+            emitter.complete();
+            return emitter;
+        }
+        Subscriber subscriber = new Subscriber(newEmitter(), filter);
+        synchronized (this) {
+            if (lastEventId != null) {
+                List<Change> missed = missedSince(lastEventId, filter);
+                if (missed == null || missed.size() >= clientBuffer) {
+                    subscriber.queue.add(new Reset(eventId(sequence)));
+                } else {
+                    subscriber.queue.addAll(missed);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return subscriber.emitter;
+    }
+
+    /**
+     * Offer a committed change to every interested client
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<Subscriber> slow = new ArrayList<>();
+        synchronized (this) {
+            Change change = new Change(++sequence, event, notificationOf(event));
+            replay.addLast(change);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filter.matches(event) && !subscriber.offer(change)) {
+                    slow.add(subscriber);
+                }
+            }
+        }
+        slow.forEach(this::drop);
+    }
+
+    /**
+     * Keep idle connections open through proxies and notice clients that have gone away
+     */
+    @Scheduled(initialDelayString = "${workorder.stream.heartbeat-interval:PT15S}",
+               fixedDelayString = "${workorder.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(HEARTBEAT)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    int clientCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * Buffered changes after an event ID that match a filter, or null if the ID cannot be resumed
+     */
+    private List<Change> missedSince(String lastEventId, Filter filter) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(instanceId)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        // The buffer holds sequences (sequence - replay.size(), sequence]
+        if (last > sequence || last < sequence - replay.size()) {
+            return null;
+        }
+        List<Change> missed = new ArrayList<>();
+        for (Change change : replay) {
+            if (change.sequence() > last && filter.matches(change.event())) {
+                missed.add(change);
+            }
+        }
+        return missed;
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            dropped.increment();
+            log.debug("Dropped live stream client that fell {} events behind", clientBuffer);
+        }
+        subscriber.closing = true;
+        subscriber.schedule();
+    }
+
+    private String eventId(long sequence) {
+        return instanceId + "-" + sequence;
+    }
+
+    private static WorkOrderChangeNotification notificationOf(WorkOrderChangedEvent event) {
+        WorkOrderSummary state = event.after() != null ? event.after() : event.before();
+        return new WorkOrderChangeNotification(event.type(), state.id(), state.workOrderNumber(), state.status(),
+            state.priority(), state.customerId(), state.assignedTechnicianId(), state.assignedTechnicianName(),
+            state.version());
+    }
+
+    /**
+     * A virtual thread per drain when virtual threads are on, so a client stuck in a write never
+     * holds up the others; otherwise a small fixed pool
+     */
+    private static Executor senderExecutor(int threads, boolean virtualThreads) {
+        if (virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("work-order-stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("work-order-stream-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * Changes a client is interested in; a change matches when the work order matched before
+     * or after it, so clients also learn when a work order leaves their view. Null criteria
+     * match everything.
+     */
+    public record Filter(Set<WorkOrderStatus> statuses, Long technicianId, Long customerId) {
+
+        public static final Filter ALL = new Filter(null, null, null);
+
+        boolean matches(WorkOrderChangedEvent event) {
+            return matches(event.before()) || matches(event.after());
+        }
+
+        private boolean matches(WorkOrderSummary summary) {
+            return summary != null
+                && (statuses == null || statuses.isEmpty() || statuses.contains(summary.status()))
+                && (technicianId == null || technicianId.equals(summary.assignedTechnicianId()))
+                && (customerId == null || customerId.equals(summary.customerId()));
+        }
+    }
+
+    private record Change(long sequence, WorkOrderChangedEvent event, WorkOrderChangeNotification notification) {
+    }
+
+    private record Reset(String id) {
+    }
+
+    /**
+     * One connected client. Items are queued by any thread and sent by at most one sender
+     * task at a time.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(clientBuffer);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closing;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter, Filter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+            emitter.onCompletion(this::disconnected);
+            emitter.onTimeout(this::disconnected);
+            emitter.onError(ex -> disconnected());
+        }
+
+        /**
+         * Queue an item for sending
+         *
+         * @return false if the client's queue is full
+         */
+        boolean offer(Object item) {
+            if (closing) {
+                return true;
+            }
+            if (!queue.offer(item)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while (!closing && (item = queue.poll()) != null) {
+                    send(item);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; the emitter's error callback removes it
+                closing = true;
+            } finally {
+                if (closing) {
+                    close();
+                }
+                scheduled.set(false);
+                if (!closing && !queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (item instanceof Reset reset) {
+                emitter.send(SseEmitter.event().id(reset.id()).name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+            } else {
+                Change change = (Change) item;
+                emitter.send(SseEmitter.event()
+                    .id(eventId(change.sequence()))
+                    .name(CHANGE_EVENT)
+                    .data(change.notification(), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        synchronized void close() {
+            closing = true;
+            if (!closed) {
+                closed = true;
+                queue.clear();
+                emitter.complete();
+            }
+        }
+
+        private synchronized void disconnected() {
+            closing = true;
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
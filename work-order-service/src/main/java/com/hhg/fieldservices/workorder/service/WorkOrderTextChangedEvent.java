@@ -0,0 +1,37 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderItem;
+import com.hhg.fieldservices.workorder.repository.WorkOrderText;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever the free-text fields of a work order
+ * may have changed: on create, batch create and update. Deletes are seen through
+ * {@link WorkOrderChangedEvent}.
+ *
+ * @param text             free-text fields after the change
+ * @param itemDescriptions descriptions of the work order's items, set only for a new work
+ *                         order since items do not change after creation
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrderTextChangedEvent(WorkOrderText text, List<String> itemDescriptions) {
+
+    public static WorkOrderTextChangedEvent created(WorkOrder workOrder) {
+        List<String> items = workOrder.getItems() == null ? List.of()
+            : workOrder.getItems().stream().map(WorkOrderItem::getDescription).toList();
+        return new WorkOrderTextChangedEvent(textOf(workOrder), items);
+    }
+
+    public static WorkOrderTextChangedEvent updated(WorkOrder workOrder) {
+        return new WorkOrderTextChangedEvent(textOf(workOrder), null);
+    }
+
+    private static WorkOrderText textOf(WorkOrder workOrder) {
+        return new WorkOrderText(workOrder.getId(), workOrder.getVersion(), workOrder.getTitle(),
+            workOrder.getDescription(), workOrder.getNotes(), workOrder.getServiceAddress(), workOrder.getCity());
+    }
+}
@@ -0,0 +1,420 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderText;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the free text of every work order (title, description,
+ * notes, service address, city and item descriptions), so {@code /search?q=} never scans
+ * the table with {@code LIKE '%...%'}.
+ *
+ * <p>Text is lower-cased and split into letter/digit tokens; common stop words are dropped.
+ * Every query token must match a document, either exactly or as a prefix of an indexed term,
+ * and matches are ranked with BM25, title terms counting {@value #TITLE_WEIGHT} times.
+ *
+ * <p>Changes arrive as committed {@link WorkOrderTextChangedEvent}s and
+ * {@link WorkOrderChangedEvent}s (for deletes). Reconciliation reads the table in pages of
+ * {@value #PAGE_SIZE} work orders and merges each page before reading the next, so the
+ * snapshot never has to fit in memory beside the index.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class WorkOrderTextIndex extends AbstractReconciledIndex<Long, WorkOrderTextIndex.Part> {
+
+    static final float TITLE_WEIGHT = 3.0f;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to", "with");
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    /**
+     * Query tokens shorter than this only match exactly
+     */
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    /**
+     * Most indexed terms a single prefix may expand to
+     */
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    /**
+     * Score of a prefix match relative to an exact match of the same term
+     */
+    private static final double PREFIX_FACTOR = 0.8;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderItemRepository workOrderItemRepository;
+    private final int maxTracked;
+    private final int maxResults;
+
+    /**
+     * Indexed documents by ID; this and the fields below are read by searches under the read
+     * lock and written under the write lock
+     */
+    private final NavigableMap<Long, Document> documents = new TreeMap<>();
+
+    /**
+     * Weighted term frequency by document, per term
+     */
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+    private double totalLength;
+
+    public WorkOrderTextIndex(WorkOrderRepository workOrderRepository,
+                              WorkOrderItemRepository workOrderItemRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${workorder.text.enabled:true}") boolean enabled,
+                              @Value("${workorder.text.max-tracked:1000000}") int maxTracked,
+                              @Value("${workorder.text.max-results:1000}") int maxResults) {
+        super("Search index", enabled, Counter.builder("workorder.text.corrections")
+            .description("Search index documents corrected by reconciliation against the database")
+            .register(meterRegistry));
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderItemRepository = workOrderItemRepository;
+        this.maxTracked = maxTracked;
+        this.maxResults = maxResults;
+        Gauge.builder("workorder.text.terms", this, index -> index.termCount())
+            .description("Distinct terms held by the search index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Work orders matching every token of the query, best first (ties by ID), at most
+     * {@code max-results} of them. A query with no searchable tokens matches nothing.
+     */
+    public List<Hit> search(String query) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = totalLength / documents.size();
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = score(token, averageLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id))
+                .limit(maxResults)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index the new text of a created or updated work order
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTextChanged(WorkOrderTextChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        WorkOrderText text = event.text();
+        lock.writeLock().lock();
+        try {
+            changed(text.id());
+            Document current = documents.get(text.id());
+            if (current != null && isOlder(text.version(), current.version())) {
+                return;
+            }
+            Map<String, Float> itemTerms = event.itemDescriptions() != null ? itemTerms(event.itemDescriptions())
+                : current != null ? current.itemTerms() : Map.of();
+            remove(text.id());
+            add(text.id(), document(text, itemTerms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop deleted work orders
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        if (!isEnabled() || event.after() != null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changed(event.id());
+            remove(event.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop work orders moved to the archive, which search does not cover
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrdersArchived(WorkOrdersArchivedEvent event) {
+        event.archived().forEach(summary -> onWorkOrderChanged(WorkOrderChangedEvent.deleted(summary)));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${workorder.text.reconcile-interval:PT15M}",
+               fixedDelayString = "${workorder.text.reconcile-interval:PT15M}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected Part loadSnapshot() {
+        return loadPart(0, 0);
+    }
+
+    /**
+     * The next page, then a final empty part covering every ID after the last page so
+     * documents deleted there are dropped too
+     */
+    @Override
+    protected Part loadNextPart(Part previous) {
+        return previous.upToId() == Long.MAX_VALUE ? null : loadPart(previous.upToId(), previous.seen());
+    }
+
+    @Override
+    protected boolean exceedsLimit(Part part) {
+        return part.seen() > maxTracked;
+    }
+
+    /**
+     * Bring the documents with IDs in the part's range in line with the part
+     */
+    @Override
+    protected int merge(Part part, Set<Long> changed) {
+        Map<Long, Document> snapshot = part.documents();
+        int corrected = 0;
+        for (Long id : new ArrayList<>(documents.subMap(part.afterId(), false, part.upToId(), true).keySet())) {
+            if (!snapshot.containsKey(id) && !changed.contains(id)) {
+                remove(id);
+                corrected++;
+            }
+        }
+        for (Map.Entry<Long, Document> entry : snapshot.entrySet()) {
+            Long id = entry.getKey();
+            Document current = documents.get(id);
+            if (changed.contains(id) || entry.getValue().equals(current)) {
+                continue;
+            }
+            if (current != null && entry.getValue().terms().equals(current.terms())) {
+                // Only the version moved, e.g. after a status change
+                documents.put(id, entry.getValue());
+                continue;
+            }
+            remove(id);
+            add(id, entry.getValue());
+            corrected++;
+        }
+        return corrected;
+    }
+
+    @Override
+    protected void disable() {
+        log.warn("More than {} work orders; search index disabled", maxTracked);
+        documents.clear();
+        postings.clear();
+        totalLength = 0;
+    }
+
+    @Override
+    protected String describe() {
+        return documents.size() + " work orders and " + postings.size() + " terms";
+    }
+
+    /**
+     * Lower-case letter/digit tokens of a text, without stop words
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 score of every document matching one query token, exactly or by prefix
+     */
+    private Map<Long, Double> score(String token, double averageLength) {
+        Collection<Map.Entry<String, Map<Long, Float>>> terms;
+        if (token.length() < MIN_PREFIX_LENGTH) {
+            Map<Long, Float> exact = postings.get(token);
+            terms = exact == null ? List.of() : List.of(Map.entry(token, exact));
+        } else {
+            terms = postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Float>> term : terms) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Map<Long, Float> matches = term.getValue();
+            double idf = Math.log(1 + (documents.size() - matches.size() + 0.5) / (matches.size() + 0.5));
+            double factor = term.getKey().equals(token) ? 1.0 : PREFIX_FACTOR;
+            for (Map.Entry<Long, Float> match : matches.entrySet()) {
+                double frequency = match.getValue();
+                double length = documents.get(match.getKey()).length();
+                double score = factor * idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(match.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * The work orders after {@code afterId}, one page of them, with their item descriptions
+     */
+    private Part loadPart(long afterId, int seen) {
+        List<WorkOrderText> page = workOrderRepository.findTextsAfter(afterId, PageRequest.ofSize(PAGE_SIZE));
+        if (page.isEmpty()) {
+            return new Part(Map.of(), afterId, Long.MAX_VALUE, seen);
+        }
+        long upToId = page.get(page.size() - 1).id();
+        seen += page.size();
+        if (seen > maxTracked) {
+            return new Part(Map.of(), afterId, upToId, seen);
+        }
+        Map<Long, List<String>> descriptions = new HashMap<>();
+        workOrderItemRepository.findTextsBetween(afterId, upToId)
+            .forEach(item -> descriptions.computeIfAbsent(item.workOrderId(), id -> new ArrayList<>())
+                .add(item.description()));
+        Map<Long, Document> snapshot = new HashMap<>();
+        for (WorkOrderText text : page) {
+            snapshot.put(text.id(), document(text, itemTerms(descriptions.getOrDefault(text.id(), List.of()))));
+        }
+        return new Part(snapshot, afterId, upToId, seen);
+    }
+
+    private void add(long id, Document document) {
+        documents.put(id, document);
+        totalLength += document.length();
+        document.terms().forEach((term, frequency) ->
+            postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+    }
+
+    private void remove(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length();
+        for (String term : document.terms().keySet()) {
+            Map<Long, Float> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(id);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static Document document(WorkOrderText text, Map<String, Float> itemTerms) {
+        Map<String, Float> terms = new HashMap<>(itemTerms);
+        addTerms(terms, text.title(), TITLE_WEIGHT);
+        addTerms(terms, text.description(), 1.0f);
+        addTerms(terms, text.notes(), 1.0f);
+        addTerms(terms, text.serviceAddress(), 1.0f);
+        addTerms(terms, text.city(), 1.0f);
+        float length = 0;
+        for (float frequency : terms.values()) {
+            length += frequency;
+        }
+        return new Document(text.version() == null ? 0 : text.version(), terms, itemTerms, length);
+    }
+
+    private static Map<String, Float> itemTerms(List<String> descriptions) {
+        Map<String, Float> terms = new HashMap<>();
+        descriptions.forEach(description -> addTerms(terms, description, 1.0f));
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    /**
+     * A matching work order and its relevance score
+     */
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * Indexed terms of one work order; item terms are kept apart because updates do not carry items
+     */
+    private record Document(long version, Map<String, Float> terms, Map<String, Float> itemTerms, float length) {
+    }
+
+    /**
+     * Snapshot of the work orders with IDs in {@code (afterId, upToId]}, and how many have
+     * been read so far
+     */
+    record Part(Map<Long, Document> documents, long afterId, long upToId, int seen) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+
+import java.util.List;
+
+/**
+ * Published inside the archiver's transaction for each chunk of closed work orders moved to
+ * the archive. Archiving is not a change to the work orders, so it is not a
+ * {@link WorkOrderChangedEvent} and is neither logged nor streamed; listeners that hold
+ * state about work orders in the hot table drop the archived ones after commit.
+ *
+ * @param archived last state of the archived work orders
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public record WorkOrdersArchivedEvent(List<WorkOrderSummary> archived) {
+}
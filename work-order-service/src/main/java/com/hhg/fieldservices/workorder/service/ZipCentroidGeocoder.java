@@ -0,0 +1,70 @@
+package com.hhg.fieldservices.workorder.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Offline {@link Geocoder} that places an address at the centroid of its ZIP code, read
+ * from the {@code zip_code_centroids} table. Street, city and state are ignored.
+ *
+ * <p>The table is loaded into memory on first use, so geocoding a bulk create costs no
+ * queries per work order. {@link #refresh()} reloads it on next use, picking up ZIP codes
+ * added since.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ZipCentroidGeocoder implements Geocoder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Map<String, GeoPoint> centroids;
+
+    public ZipCentroidGeocoder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String serviceAddress, String city, String state, String zipCode) {
+        if (zipCode == null || zipCode.length() < 5) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(centroids().get(zipCode.substring(0, 5)));
+    }
+
+    @Override
+    public void refresh() {
+        centroids = null;
+    }
+
+    private Map<String, GeoPoint> centroids() {
+        Map<String, GeoPoint> loaded = centroids;
+        if (loaded == null) {
+            // A lock rather than a monitor: the load is a query, which would pin a virtual thread's carrier
+            loadLock.lock();
+            try {
+                loaded = centroids;
+                if (loaded == null) {
+                    Map<String, GeoPoint> rows = new HashMap<>();
+                    jdbcTemplate.query("SELECT zip_code, latitude, longitude FROM zip_code_centroids",
+                        rs -> {
+                            rows.put(rs.getString(1), new GeoPoint(rs.getDouble(2), rs.getDouble(3)));
+                        });
+                    log.info("Loaded {} ZIP code centroids", rows.size());
+                    centroids = loaded = rows;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,60 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates the sequences for pooled ID generation, which lets Hibernate batch inserts
+ * (IDENTITY columns force one INSERT round trip per row).
+ *
+ * <p>The identity columns stay in place; Hibernate now always supplies the id. Each
+ * sequence starts above the table's current {@code MAX(id)}, so a database that already
+ * holds rows keeps inserting without primary key collisions.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+public class V5__switch_ids_to_pooled_sequences extends BaseJavaMigration {
+
+    /**
+     * INCREMENT BY of both sequences; must match allocationSize on the entity's
+     * {@code @SequenceGenerator}
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            createSequence(statement, "work_orders_seq", "work_orders");
+            createSequence(statement, "work_order_items_seq", "work_order_items");
+        }
+    }
+
+    private static void createSequence(Statement statement, String sequence, String table) throws SQLException {
+        long maxId;
+        try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+        statement.execute("CREATE SEQUENCE " + sequence + " START WITH " + startAbove(maxId)
+            + " INCREMENT BY " + ALLOCATION_SIZE);
+    }
+
+    /**
+     * First sequence value for a table whose highest ID is {@code maxId}. Hibernate's pooled
+     * optimizer hands out the {@link #ALLOCATION_SIZE} IDs ending at each sequence value, so
+     * the value must be at least {@code maxId + ALLOCATION_SIZE}. It is rounded up onto the
+     * 1, 51, 101, ... grid an empty table starts with.
+     */
+    static long startAbove(long maxId) {
+        if (maxId <= 0) {
+            return 1;
+        }
+        long lowest = maxId + ALLOCATION_SIZE;
+        return (lowest - 1 + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE * ALLOCATION_SIZE + 1;
+    }
+}
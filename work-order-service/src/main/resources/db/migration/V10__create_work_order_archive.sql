@@ -0,0 +1,53 @@
+-- Cold storage for closed work orders. The archiver moves COMPLETED and CANCELLED
+-- work orders older than workorder.archive.min-age here with their items, keeping
+-- their IDs, so the hot tables and their indexes only hold live work.
+-- Only the lookups by ID and number read these tables, so they carry just those indexes.
+CREATE TABLE work_orders_archive (
+    id BIGINT PRIMARY KEY,
+    work_order_number VARCHAR(50) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(2000),
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    customer_id BIGINT NOT NULL,
+    customer_name VARCHAR(200),
+    customer_phone VARCHAR(20),
+    customer_email VARCHAR(100),
+    service_address VARCHAR(500),
+    city VARCHAR(100),
+    state VARCHAR(50),
+    zip_code VARCHAR(20),
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    assigned_technician_id BIGINT,
+    assigned_technician_name VARCHAR(200),
+    scheduled_date TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    estimated_cost DECIMAL(10, 2),
+    actual_cost DECIMAL(10, 2),
+    notes VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX idx_archive_work_order_number ON work_orders_archive(work_order_number);
+
+CREATE TABLE work_order_items_archive (
+    id BIGINT PRIMARY KEY,
+    work_order_id BIGINT NOT NULL,
+    item_type VARCHAR(20) NOT NULL,
+    description VARCHAR(200) NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DECIMAL(10, 2),
+    total_price DECIMAL(10, 2),
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT fk_work_order_items_archive_work_order FOREIGN KEY (work_order_id) REFERENCES work_orders_archive(id)
+);
+
+CREATE INDEX idx_archive_item_work_order_id ON work_order_items_archive(work_order_id);
@@ -0,0 +1,7 @@
+-- Outbox IDs come from the sequence one at a time instead of in per-instance blocks of 50.
+-- Changes to one work order are serialized by its optimistic lock, so each of its events
+-- now gets a higher ID than the last on every instance, and the relay's ID order keeps
+-- them in order. Pooled IDs never run past the sequence's current value, so the next
+-- single-step value is free. Stop every instance before migrating: one still allocating
+-- blocks of 50 would reuse the IDs handed out after this change.
+ALTER SEQUENCE work_order_events_seq INCREMENT BY 1;
@@ -0,0 +1,6 @@
+-- Status history is ordered and paginated by the work order version each change produced,
+-- which is unique per work order and follows commit order. changed_at is taken when the
+-- entry is written after the commit, so it is kept for display only.
+DROP INDEX idx_status_history_work_order;
+
+CREATE UNIQUE INDEX idx_status_history_work_order ON work_order_status_history(work_order_id, work_order_version);
@@ -0,0 +1,8 @@
+-- Composite indexes backing keyset pagination on (created_at, id).
+-- Each list filter gets an index whose trailing columns match the ORDER BY,
+-- so any page is served by an index range scan plus LIMIT with no OFFSET.
+CREATE INDEX idx_created_at_id ON work_orders(created_at, id);
+CREATE INDEX idx_status_created_at_id ON work_orders(status, created_at, id);
+CREATE INDEX idx_priority_created_at_id ON work_orders(priority, created_at, id);
+CREATE INDEX idx_customer_created_at_id ON work_orders(customer_id, created_at, id);
+CREATE INDEX idx_technician_created_at_id ON work_orders(assigned_technician_id, created_at, id);
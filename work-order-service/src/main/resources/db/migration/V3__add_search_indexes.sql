@@ -0,0 +1,11 @@
+-- Composite indexes matched to the common dispatcher search shapes.
+-- Equality columns lead, the range column (scheduled_date) trails.
+
+-- status [+ priority] [+ scheduled-date range]
+CREATE INDEX idx_status_priority_scheduled ON work_orders(status, priority, scheduled_date);
+
+-- technician workload views: technician [+ status]
+CREATE INDEX idx_technician_status ON work_orders(assigned_technician_id, status);
+
+-- regional dispatch: city [+ status] [+ scheduled-date range]
+CREATE INDEX idx_city_status_scheduled ON work_orders(city, status, scheduled_date);
@@ -0,0 +1,4 @@
+-- Source of work order number blocks.
+-- Each NEXT VALUE reserves INCREMENT BY consecutive numbers for one node;
+-- WorkOrderNumberAllocator.BLOCK_SIZE must match the increment.
+CREATE SEQUENCE work_order_number_seq START WITH 1 INCREMENT BY 100;
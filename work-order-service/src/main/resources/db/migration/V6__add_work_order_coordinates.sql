@@ -0,0 +1,36 @@
+-- Service location of each work order, filled by the geocoder on create.
+-- Used by the nearest-open-jobs query; the in-memory spatial index is built from these columns.
+ALTER TABLE work_orders ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE work_orders ADD COLUMN longitude DOUBLE PRECISION;
+
+-- bounding-box fallback while the spatial index is not yet seeded
+CREATE INDEX idx_latitude_longitude ON work_orders(latitude, longitude);
+
+-- ZIP code centroids for the offline geocoder. Only a sample is loaded here;
+-- deployments load the full national table (e.g. the census ZCTA gazetteer) into it.
+CREATE TABLE zip_code_centroids (
+    zip_code VARCHAR(5) PRIMARY KEY,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL
+);
+
+INSERT INTO zip_code_centroids (zip_code, latitude, longitude) VALUES
+    ('62701', 39.8000, -89.6495),
+    ('62702', 39.8232, -89.6440),
+    ('62703', 39.7623, -89.6270),
+    ('62704', 39.7718, -89.6862),
+    ('62707', 39.8530, -89.6500),
+    ('60601', 41.8858, -87.6181),
+    ('60614', 41.9227, -87.6533),
+    ('10001', 40.7506, -73.9972),
+    ('02108', 42.3576, -71.0684),
+    ('30303', 33.7525, -84.3888),
+    ('33101', 25.7794, -80.1977),
+    ('75201', 32.7876, -96.7994),
+    ('77002', 29.7560, -95.3652),
+    ('78701', 30.2713, -97.7426),
+    ('80202', 39.7525, -104.9995),
+    ('85004', 33.4513, -112.0686),
+    ('94105', 37.7898, -122.3942),
+    ('90012', 34.0614, -118.2385),
+    ('98101', 47.6114, -122.3305);
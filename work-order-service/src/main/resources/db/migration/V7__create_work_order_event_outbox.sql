@@ -0,0 +1,26 @@
+-- Transactional outbox: one row per work order change, written in the same
+-- transaction as the change. The relay stamps log_position (gap-free, in
+-- publication order) and published_at when it hands the row to the sink.
+CREATE SEQUENCE work_order_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE work_order_events (
+    id BIGINT PRIMARY KEY,
+    work_order_id BIGINT NOT NULL,
+    work_order_version BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    log_position BIGINT,
+    published_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_work_order_events_log_position ON work_order_events(log_position);
+CREATE INDEX idx_work_order_events_published_at_id ON work_order_events(published_at, id);
+CREATE INDEX idx_work_order_events_work_order ON work_order_events(work_order_id, work_order_version);
+
+-- Last log position each downstream consumer has processed
+CREATE TABLE work_order_event_consumers (
+    consumer VARCHAR(100) PRIMARY KEY,
+    log_position BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,8 @@
+-- Single heartbeat row advanced on the primary and read back from read replicas
+-- to measure replication lag. beat_millis is epoch milliseconds.
+CREATE TABLE replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, 0);
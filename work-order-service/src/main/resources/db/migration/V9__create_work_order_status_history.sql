@@ -0,0 +1,16 @@
+-- One row per status a work order enters, written asynchronously after the change
+-- commits. No foreign key to work_orders: the history outlives deleted and archived
+-- work orders.
+CREATE SEQUENCE work_order_status_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE work_order_status_history (
+    id BIGINT PRIMARY KEY,
+    work_order_id BIGINT NOT NULL,
+    work_order_version BIGINT NOT NULL,
+    from_status VARCHAR(20),
+    to_status VARCHAR(20) NOT NULL,
+    technician_id BIGINT,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_status_history_work_order ON work_order_status_history(work_order_id, changed_at, id);
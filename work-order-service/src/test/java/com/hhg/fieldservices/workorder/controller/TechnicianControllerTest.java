@@ -0,0 +1,77 @@
+package com.hhg.fieldservices.workorder.controller;
+
+import com.hhg.fieldservices.workorder.dto.TechnicianWorkload;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.TechnicianWorkloadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for TechnicianController.
+ * 
+ * @author Field Services Team
+ * @version 1.0
+ */
+@WebMvcTest(TechnicianController.class)
+class TechnicianControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private TechnicianWorkloadService technicianWorkloadService;
+    
+    @Test
+    void givenLimit_whenGetWorkloads_thenReturnLeastLoadedTechnicians() throws Exception {
+        // Given
+        TechnicianWorkload workload = new TechnicianWorkload(200L, "Jane Smith", 1,
+            Map.of(WorkOrderStatus.ASSIGNED, 1), 3, 1L, "WO-0000000101", LocalDateTime.of(2025, 3, 1, 9, 0));
+        when(technicianWorkloadService.findWorkloads(null, 1)).thenReturn(List.of(workload));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/technicians/workload").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].technicianId").value(200))
+            .andExpect(jsonPath("$[0].openWorkOrders").value(1))
+            .andExpect(jsonPath("$[0].bookedHours").value(3))
+            .andExpect(jsonPath("$[0].byStatus.ASSIGNED").value(1));
+    }
+    
+    @Test
+    void givenTechnicianIds_whenGetWorkloads_thenPassThemToService() throws Exception {
+        // Given
+        when(technicianWorkloadService.findWorkloads(any(), anyInt())).thenReturn(List.of());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/technicians/workload").param("technicianId", "200", "300"))
+            .andExpect(status().isOk());
+        
+        verify(technicianWorkloadService).findWorkloads(eq(List.of(200L, 300L)), eq(2000));
+    }
+    
+    @Test
+    void givenInvalidLimit_whenGetWorkloads_thenReturnBadRequest() throws Exception {
+        // Given
+        when(technicianWorkloadService.findWorkloads(any(), eq(0)))
+            .thenThrow(new WorkOrderValidationException("Limit must be at least 1"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/technicians/workload").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -1,27 +1,55 @@
 package com.hhg.fieldservices.workorder.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhg.fieldservices.workorder.dto.BatchCreateResponse;
+import com.hhg.fieldservices.workorder.dto.BatchItemResult;
+import com.hhg.fieldservices.workorder.dto.BulkStatusUpdateRequest;
+import com.hhg.fieldservices.workorder.dto.BulkUpdateResponse;
 import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.CursorPage;
+import com.hhg.fieldservices.workorder.dto.NearbyWorkOrder;
+import com.hhg.fieldservices.workorder.dto.SkippedWorkOrder;
 import com.hhg.fieldservices.workorder.dto.UpdateWorkOrderRequest;
 import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSearchCriteria;
+import com.hhg.fieldservices.workorder.dto.WorkOrderStats;
+import com.hhg.fieldservices.workorder.dto.WorkOrderStatusHistoryEntry;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.exception.WorkOrderSearchUnavailableException;
 import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderBatchService;
+import com.hhg.fieldservices.workorder.service.WorkOrderExportService;
 import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import com.hhg.fieldservices.workorder.service.WorkOrderStatsService;
+import com.hhg.fieldservices.workorder.service.WorkOrderStreamBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +72,18 @@ class WorkOrderControllerTest {
     @MockBean
     private WorkOrderService workOrderService;
     
+    @MockBean
+    private WorkOrderExportService workOrderExportService;
+    
+    @MockBean
+    private WorkOrderBatchService workOrderBatchService;
+    
+    @MockBean
+    private WorkOrderStatsService workOrderStatsService;
+    
+    @MockBean
+    private WorkOrderStreamBroadcaster workOrderStreamBroadcaster;
+    
     private WorkOrderDto testWorkOrderDto;
     private CreateWorkOrderRequest createRequest;
     
@@ -59,6 +99,7 @@ class WorkOrderControllerTest {
             .customerId(100L)
             .customerName("John Doe")
             .estimatedCost(BigDecimal.valueOf(500.00))
+            .version(3L)
             .build();
         
         createRequest = CreateWorkOrderRequest.builder()
@@ -72,18 +113,41 @@ class WorkOrderControllerTest {
     }
     
     @Test
-    void whenGetAllWorkOrders_thenReturnWorkOrdersList() throws Exception {
+    void whenGetAllWorkOrders_thenReturnWorkOrdersPage() throws Exception {
         // Given
-        when(workOrderService.findAll()).thenReturn(List.of(testWorkOrderDto));
+        when(workOrderService.findAll(null, 20)).thenReturn(page(testWorkOrderDto));
         
         // When & Then
         mockMvc.perform(get("/api/v1/work-orders"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(1)))
-            .andExpect(jsonPath("$[0].id").value(1))
-            .andExpect(jsonPath("$[0].title").value("Test Work Order"));
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Test Work Order"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+        
+        verify(workOrderService).findAll(null, 20);
+    }
+    
+    @Test
+    void givenCursorAndSize_whenGetAllWorkOrders_thenPassThroughToService() throws Exception {
+        // Given
+        CursorPage<WorkOrderDto> firstPage = CursorPage.<WorkOrderDto>builder()
+            .content(List.of(testWorkOrderDto))
+            .size(1)
+            .nextCursor("next-token")
+            .hasNext(true)
+            .build();
+        when(workOrderService.findAll("abc", 1)).thenReturn(firstPage);
         
-        verify(workOrderService).findAll();
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders")
+                .param("cursor", "abc")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextCursor").value("next-token"))
+            .andExpect(jsonPath("$.hasNext").value(true));
+        
+        verify(workOrderService).findAll("abc", 1);
     }
     
     @Test
@@ -94,6 +158,7 @@ class WorkOrderControllerTest {
         // When & Then
         mockMvc.perform(get("/api/v1/work-orders/1"))
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-3\""))
             .andExpect(jsonPath("$.id").value(1))
             .andExpect(jsonPath("$.title").value("Test Work Order"))
             .andExpect(jsonPath("$.status").value("PENDING"));
@@ -101,6 +166,69 @@ class WorkOrderControllerTest {
         verify(workOrderService).findById(1L);
     }
     
+    @Test
+    void givenCurrentETag_whenGetWorkOrderByIdIfNoneMatch_thenReturnNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(workOrderService.findVersion(1L)).thenReturn(3L);
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/1").header("If-None-Match", "\"1-3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"1-3\""))
+            .andExpect(content().string(""));
+        
+        verify(workOrderService, never()).findById(any());
+    }
+    
+    @Test
+    void givenStaleETag_whenGetWorkOrderByIdIfNoneMatch_thenReturnWorkOrder() throws Exception {
+        // Given
+        when(workOrderService.findVersion(1L)).thenReturn(3L);
+        when(workOrderService.findById(1L)).thenReturn(testWorkOrderDto);
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/1").header("If-None-Match", "\"1-2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-3\""))
+            .andExpect(jsonPath("$.id").value(1));
+    }
+    
+    @Test
+    void givenStatusHistory_whenGetWorkOrderHistory_thenReturnEntriesOldestFirst() throws Exception {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 8, 0);
+        CursorPage<WorkOrderStatusHistoryEntry> history = CursorPage.<WorkOrderStatusHistoryEntry>builder()
+            .content(List.of(
+                new WorkOrderStatusHistoryEntry(null, WorkOrderStatus.PENDING, null, 0L, created, 1800L),
+                new WorkOrderStatusHistoryEntry(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED, 200L, 1L,
+                    created.plusMinutes(30), null)))
+            .size(2)
+            .hasNext(false)
+            .build();
+        when(workOrderService.findStatusHistory(1L, null, 2)).thenReturn(history);
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/1/history").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.content[0].toStatus").value("PENDING"))
+            .andExpect(jsonPath("$.content[0].secondsInStatus").value(1800))
+            .andExpect(jsonPath("$.content[1].fromStatus").value("PENDING"))
+            .andExpect(jsonPath("$.content[1].technicianId").value(200))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+    
+    @Test
+    void givenUnknownId_whenGetWorkOrderHistory_thenReturnNotFound() throws Exception {
+        // Given
+        when(workOrderService.findStatusHistory(eq(999L), isNull(), anyInt()))
+            .thenThrow(new WorkOrderNotFoundException(999L));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/999/history"))
+            .andExpect(status().isNotFound());
+    }
+    
     @Test
     void givenInvalidId_whenGetWorkOrderById_thenReturnNotFound() throws Exception {
         // Given
@@ -147,6 +275,70 @@ class WorkOrderControllerTest {
             .andExpect(jsonPath("$.message").value("Validation failed"));
     }
     
+    @Test
+    void givenBatch_whenCreateWorkOrders_thenReturnPerEntryResults() throws Exception {
+        // Given
+        BatchCreateResponse response = BatchCreateResponse.builder()
+            .requested(2)
+            .created(1)
+            .failed(1)
+            .results(List.of(
+                BatchItemResult.builder().index(0).created(true).id(1L).workOrderNumber("WO-0000000101")
+                    .errors(List.of()).build(),
+                BatchItemResult.builder().index(1).created(false).errors(List.of("title: Title is required"))
+                    .build()))
+            .build();
+        when(workOrderBatchService.createAll(anyList())).thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/work-orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(createRequest, CreateWorkOrderRequest.builder().build()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.results[0].workOrderNumber").value("WO-0000000101"))
+            .andExpect(jsonPath("$.results[1].errors[0]").value("title: Title is required"));
+        
+        verify(workOrderBatchService).createAll(argThat(requests -> requests.size() == 2));
+    }
+    
+    @Test
+    void givenIds_whenBulkUpdateStatus_thenReturnUpdatedAndSkipped() throws Exception {
+        // Given
+        BulkUpdateResponse response = BulkUpdateResponse.builder()
+            .requested(2)
+            .updatedIds(List.of(1L))
+            .skipped(List.of(SkippedWorkOrder.builder().id(2L)
+                .reason("Cannot change status from COMPLETED to CANCELLED").build()))
+            .build();
+        when(workOrderService.bulkUpdateStatus(any(BulkStatusUpdateRequest.class))).thenReturn(response);
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+            .ids(List.of(1L, 2L))
+            .status(WorkOrderStatus.CANCELLED)
+            .build();
+        
+        // When & Then
+        mockMvc.perform(patch("/api/v1/work-orders/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updatedIds[0]").value(1))
+            .andExpect(jsonPath("$.skipped[0].id").value(2));
+        
+        verify(workOrderService).bulkUpdateStatus(argThat(r -> r.getStatus() == WorkOrderStatus.CANCELLED));
+    }
+    
+    @Test
+    void givenMissingTechnician_whenBulkAssign_thenReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/work-orders/bulk/assign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2]}"))
+            .andExpect(status().isBadRequest());
+        
+        verify(workOrderService, never()).bulkAssign(any());
+    }
+    
     @Test
     void givenValidIdAndRequest_whenUpdateWorkOrder_thenReturnUpdated() throws Exception {
         // Given
@@ -160,9 +352,10 @@ class WorkOrderControllerTest {
             .workOrderNumber("WO-20250101120000")
             .title("Updated Title")
             .priority(WorkOrderPriority.HIGH)
+            .version(4L)
             .build();
         
-        when(workOrderService.update(eq(1L), any(UpdateWorkOrderRequest.class))).thenReturn(updatedDto);
+        when(workOrderService.update(eq(1L), any(UpdateWorkOrderRequest.class), isNull())).thenReturn(updatedDto);
         
         // When & Then
         mockMvc.perform(put("/api/v1/work-orders/1")
@@ -170,9 +363,27 @@ class WorkOrderControllerTest {
                 .content(objectMapper.writeValueAsString(updateRequest)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1))
+            .andExpect(header().string("ETag", "\"1-4\""))
             .andExpect(jsonPath("$.title").value("Updated Title"));
         
-        verify(workOrderService).update(eq(1L), any(UpdateWorkOrderRequest.class));
+        verify(workOrderService).update(eq(1L), any(UpdateWorkOrderRequest.class), isNull());
+    }
+    
+    @Test
+    void givenStaleIfMatch_whenUpdateWorkOrder_thenReturnPreconditionFailed() throws Exception {
+        // Given
+        UpdateWorkOrderRequest updateRequest = UpdateWorkOrderRequest.builder().title("Updated Title").build();
+        when(workOrderService.findVersion(1L)).thenReturn(4L);
+        
+        // When & Then
+        mockMvc.perform(put("/api/v1/work-orders/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.status").value(412));
+        
+        verify(workOrderService, never()).update(any(), any(), any());
     }
     
     @Test
@@ -190,42 +401,137 @@ class WorkOrderControllerTest {
     @Test
     void givenStatus_whenGetWorkOrdersByStatus_thenReturnFilteredList() throws Exception {
         // Given
-        when(workOrderService.findByStatus(WorkOrderStatus.PENDING)).thenReturn(List.of(testWorkOrderDto));
+        when(workOrderService.findByStatus(WorkOrderStatus.PENDING, null, 20)).thenReturn(page(testWorkOrderDto));
         
         // When & Then
         mockMvc.perform(get("/api/v1/work-orders/status/PENDING"))
             .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].status").value("PENDING"));
+        
+        verify(workOrderService).findByStatus(WorkOrderStatus.PENDING, null, 20);
+    }
+    
+    @Test
+    void givenSummaryView_whenGetWorkOrdersByStatus_thenReturnSummaryRows() throws Exception {
+        // Given
+        WorkOrderSummary summary = new WorkOrderSummary(1L, "WO-0000000101", "Test Work Order",
+            WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, 100L, "John Doe", null, null, null, null, 0L, null, null);
+        when(workOrderService.findSummaries(any(WorkOrderSearchCriteria.class), isNull(), eq(20)))
+            .thenReturn(CursorPage.<WorkOrderSummary>builder().content(List.of(summary)).size(20).build());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/status/PENDING").param("view", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].workOrderNumber").value("WO-0000000101"))
+            .andExpect(jsonPath("$.content[0].description").doesNotExist());
+        
+        verify(workOrderService).findSummaries(
+            argThat(criteria -> criteria.getStatus().equals(List.of(WorkOrderStatus.PENDING))), isNull(), eq(20));
+        verify(workOrderService, never()).findByStatus(any(), any(), anyInt());
+    }
+    
+    @Test
+    void whenGetWorkOrderStats_thenReturnCounters() throws Exception {
+        // Given
+        when(workOrderStatsService.getStats()).thenReturn(WorkOrderStats.builder()
+            .total(5)
+            .byStatus(Map.of(WorkOrderStatus.PENDING, 3L, WorkOrderStatus.ASSIGNED, 2L))
+            .byTechnician(Map.of(200L, 2L))
+            .unassigned(3)
+            .build());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(5))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(3))
+            .andExpect(jsonPath("$.byTechnician.200").value(2));
+        
+        verifyNoInteractions(workOrderService);
+    }
+    
+    @Test
+    void givenLocation_whenGetNearbyWorkOrders_thenReturnNearestFirst() throws Exception {
+        // Given
+        WorkOrderSummary summary = new WorkOrderSummary(1L, "WO-0000000001", "Nearby", WorkOrderStatus.PENDING,
+            WorkOrderPriority.NORMAL, null, null, null, null, null, null, 0L, 39.78, -89.65);
+        when(workOrderService.findNearby(39.7817, -89.6501, 10.0, 5))
+            .thenReturn(List.of(new NearbyWorkOrder(summary, 0.2)));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/nearby")
+                .param("latitude", "39.7817")
+                .param("longitude", "-89.6501")
+                .param("radiusKm", "10")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(1)))
-            .andExpect(jsonPath("$[0].status").value("PENDING"));
+            .andExpect(jsonPath("$[0].workOrder.id").value(1))
+            .andExpect(jsonPath("$[0].workOrder.latitude").value(39.78))
+            .andExpect(jsonPath("$[0].distanceKm").value(0.2));
+    }
+    
+    @Test
+    void givenFiltersAndLastEventId_whenStreamChanges_thenSubscribeWithThem() throws Exception {
+        // Given
+        when(workOrderStreamBroadcaster.subscribe(any(), any())).thenReturn(new SseEmitter());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/stream")
+                .param("status", "PENDING", "ASSIGNED")
+                .param("technicianId", "200")
+                .header("Last-Event-ID", "lx2k9a-41"))
+            .andExpect(request().asyncStarted());
         
-        verify(workOrderService).findByStatus(WorkOrderStatus.PENDING);
+        verify(workOrderStreamBroadcaster).subscribe(
+            new WorkOrderStreamBroadcaster.Filter(Set.of(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED), 200L, null),
+            "lx2k9a-41");
+    }
+    
+    @Test
+    void givenMissingLongitude_whenGetNearbyWorkOrders_thenReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/nearby").param("latitude", "39.7817"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("longitude")));
+        
+        verifyNoInteractions(workOrderService);
+    }
+    
+    @Test
+    void givenUnknownView_whenGetAllWorkOrders_thenReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders").param("view", "compact"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("view")));
     }
     
     @Test
     void givenCustomerId_whenGetWorkOrdersByCustomerId_thenReturnCustomerOrders() throws Exception {
         // Given
-        when(workOrderService.findByCustomerId(100L)).thenReturn(List.of(testWorkOrderDto));
+        when(workOrderService.findByCustomerId(100L, null, 20)).thenReturn(page(testWorkOrderDto));
         
         // When & Then
         mockMvc.perform(get("/api/v1/work-orders/customer/100"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(1)))
-            .andExpect(jsonPath("$[0].customerId").value(100));
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].customerId").value(100));
         
-        verify(workOrderService).findByCustomerId(100L);
+        verify(workOrderService).findByCustomerId(100L, null, 20);
     }
     
     @Test
     void whenGetOverdueWorkOrders_thenReturnOverdueList() throws Exception {
         // Given
-        when(workOrderService.findOverdueWorkOrders()).thenReturn(List.of(testWorkOrderDto));
+        when(workOrderService.findOverdueWorkOrders(null, 20)).thenReturn(page(testWorkOrderDto));
         
         // When & Then
         mockMvc.perform(get("/api/v1/work-orders/overdue"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(1)));
+            .andExpect(jsonPath("$.content", hasSize(1)));
         
-        verify(workOrderService).findOverdueWorkOrders();
+        verify(workOrderService).findOverdueWorkOrders(null, 20);
     }
     
     @Test
@@ -237,9 +543,10 @@ class WorkOrderControllerTest {
             .status(WorkOrderStatus.ASSIGNED)
             .assignedTechnicianId(200L)
             .assignedTechnicianName("Tech Name")
+            .version(4L)
             .build();
         
-        when(workOrderService.assignToTechnician(1L, 200L, "Tech Name")).thenReturn(assignedDto);
+        when(workOrderService.assignToTechnician(1L, 200L, "Tech Name", null)).thenReturn(assignedDto);
         
         // When & Then
         mockMvc.perform(post("/api/v1/work-orders/1/assign")
@@ -249,7 +556,7 @@ class WorkOrderControllerTest {
             .andExpect(jsonPath("$.status").value("ASSIGNED"))
             .andExpect(jsonPath("$.assignedTechnicianId").value(200));
         
-        verify(workOrderService).assignToTechnician(1L, 200L, "Tech Name");
+        verify(workOrderService).assignToTechnician(1L, 200L, "Tech Name", null);
     }
     
     @Test
@@ -259,9 +566,10 @@ class WorkOrderControllerTest {
             .id(1L)
             .workOrderNumber("WO-20250101120000")
             .status(WorkOrderStatus.IN_PROGRESS)
+            .version(4L)
             .build();
         
-        when(workOrderService.updateStatus(1L, WorkOrderStatus.IN_PROGRESS)).thenReturn(updatedDto);
+        when(workOrderService.updateStatus(1L, WorkOrderStatus.IN_PROGRESS, null)).thenReturn(updatedDto);
         
         // When & Then
         mockMvc.perform(patch("/api/v1/work-orders/1/status")
@@ -269,6 +577,107 @@ class WorkOrderControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
         
-        verify(workOrderService).updateStatus(1L, WorkOrderStatus.IN_PROGRESS);
+        verify(workOrderService).updateStatus(1L, WorkOrderStatus.IN_PROGRESS, null);
+    }
+    
+    @Test
+    void givenCurrentIfMatch_whenUpdateStatus_thenUpdateAtThatVersion() throws Exception {
+        // Given
+        WorkOrderDto updatedDto = WorkOrderDto.builder()
+            .id(1L)
+            .status(WorkOrderStatus.IN_PROGRESS)
+            .version(4L)
+            .build();
+        when(workOrderService.findVersion(1L)).thenReturn(3L);
+        when(workOrderService.updateStatus(1L, WorkOrderStatus.IN_PROGRESS, 3L)).thenReturn(updatedDto);
+        
+        // When & Then
+        mockMvc.perform(patch("/api/v1/work-orders/1/status")
+                .header("If-Match", "\"1-3\"")
+                .param("status", "IN_PROGRESS"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-4\""));
+        
+        verify(workOrderService).updateStatus(1L, WorkOrderStatus.IN_PROGRESS, 3L);
+    }
+    
+    @Test
+    void givenStatusFilter_whenExportWorkOrders_thenStreamNdjson() throws Exception {
+        // Given
+        when(workOrderExportService.export(eq(WorkOrderStatus.PENDING), isNull(), isNull(), isNull(),
+                any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(4);
+                out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                return 2L;
+            });
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/work-orders/export").param("status", "PENDING"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+    
+    @Test
+    void givenMultipleFilters_whenSearchWorkOrders_thenBindCriteriaAndReturnPage() throws Exception {
+        // Given
+        when(workOrderService.search(any(WorkOrderSearchCriteria.class), isNull(), eq(20)))
+            .thenReturn(page(testWorkOrderDto));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/search")
+                .param("status", "PENDING", "ASSIGNED")
+                .param("priority", "HIGH")
+                .param("city", "Springfield")
+                .param("technicianId", "200")
+                .param("scheduledFrom", "2025-10-01T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)));
+        
+        verify(workOrderService).search(argThat(criteria ->
+            criteria.getStatus().equals(List.of(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED))
+                && criteria.getPriority().equals(List.of(WorkOrderPriority.HIGH))
+                && "Springfield".equals(criteria.getCity())
+                && Long.valueOf(200L).equals(criteria.getTechnicianId())
+                && criteria.getScheduledFrom() != null
+                && criteria.getScheduledTo() == null), isNull(), eq(20));
+    }
+    
+    @Test
+    void givenTextQuery_whenSearchWorkOrders_thenBindQuery() throws Exception {
+        // Given
+        when(workOrderService.search(argThat(criteria -> "water heater leak".equals(criteria.getQ())), isNull(), eq(20)))
+            .thenReturn(page(testWorkOrderDto));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/search").param("q", "water heater leak"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+    
+    @Test
+    void givenSearchIndexNotReady_whenSearchWorkOrders_thenReturnServiceUnavailable() throws Exception {
+        // Given
+        when(workOrderService.search(any(WorkOrderSearchCriteria.class), isNull(), eq(20)))
+            .thenThrow(new WorkOrderSearchUnavailableException("Full-text search is not available yet; retry shortly"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-orders/search").param("q", "leak"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+    
+    private static CursorPage<WorkOrderDto> page(WorkOrderDto... workOrders) {
+        return CursorPage.<WorkOrderDto>builder()
+            .content(List.of(workOrders))
+            .size(20)
+            .hasNext(false)
+            .build();
     }
 }
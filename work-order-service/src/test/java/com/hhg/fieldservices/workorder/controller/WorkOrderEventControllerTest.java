@@ -0,0 +1,98 @@
+package com.hhg.fieldservices.workorder.controller;
+
+import com.hhg.fieldservices.workorder.dto.ConsumerOffset;
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import com.hhg.fieldservices.workorder.service.WorkOrderEventLogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for WorkOrderEventController.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@WebMvcTest(WorkOrderEventController.class)
+class WorkOrderEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WorkOrderEventLogService workOrderEventLogService;
+
+    @Test
+    void givenPublishedEvents_whenGetEvents_thenReturnPayloadAsJson() throws Exception {
+        // Given
+        WorkOrderEventMessage event = new WorkOrderEventMessage(1043L, 5120L, 1L, 2L,
+            WorkOrderEventType.STATUS_CHANGED, LocalDateTime.of(2025, 3, 1, 9, 0), "{\"status\":\"IN_PROGRESS\"}");
+        when(workOrderEventLogService.read(1042L, 100)).thenReturn(List.of(event));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-order-events").param("after", "1042"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].position").value(1043))
+            .andExpect(jsonPath("$[0].type").value("STATUS_CHANGED"))
+            .andExpect(jsonPath("$[0].payload.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void givenConsumerWithoutAfter_whenGetEvents_thenReadFromCommittedOffset() throws Exception {
+        // Given
+        when(workOrderEventLogService.getOffset("billing")).thenReturn(new ConsumerOffset("billing", 900L, null));
+        when(workOrderEventLogService.read(900L, 10)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/work-order-events").param("consumer", "billing").param("limit", "10"))
+            .andExpect(status().isOk());
+
+        verify(workOrderEventLogService).read(900L, 10);
+    }
+
+    @Test
+    void givenPosition_whenCommitOffset_thenReturnOffset() throws Exception {
+        // Given
+        when(workOrderEventLogService.commitOffset("billing", 1142L))
+            .thenReturn(new ConsumerOffset("billing", 1142L, LocalDateTime.of(2025, 3, 1, 9, 0)));
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/work-order-events/consumers/billing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"position\": 1142}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consumer").value("billing"))
+            .andExpect(jsonPath("$.position").value(1142));
+    }
+
+    @Test
+    void givenInvalidOffset_whenCommitOffset_thenReturnBadRequest() throws Exception {
+        // Given
+        when(workOrderEventLogService.commitOffset(anyString(), anyLong()))
+            .thenThrow(new WorkOrderValidationException("Position must be between 0 and 1142"));
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/work-order-events/consumers/billing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"position\": 5000}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/work-order-events/consumers/billing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,151 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for read/write splitting against two embedded H2 databases. Nothing
+ * replicates between them, so a read shows which database served it, and the replica's
+ * heartbeat row is set by hand to simulate replication progress.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+    "workorder.datasource.replica.enabled=true",
+    "workorder.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+    "workorder.datasource.replica.max-lag=PT5S",
+    "workorder.datasource.replica.heartbeat-interval=PT1H",
+    "workorder.datasource.replica.check-interval=PT1H",
+    "workorder.cache.enabled=false",
+    "workorder.outbox.poll-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    static {
+        // Replication would bring the schema over; here the replica is migrated up front
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        replicate(System.currentTimeMillis());
+    }
+
+    @Test
+    void givenFreshReplica_whenReadOnlyTransaction_thenReadFromReplica() {
+        // When
+        String database = databaseName(true);
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("routing-replica");
+        assertThat(databaseName(false)).isEqualToIgnoringCase("routing-primary");
+    }
+
+    @Test
+    void givenReplicaBeyondMaxLag_whenReadOnlyTransaction_thenReadFromPrimary() {
+        // Given
+        replicate(System.currentTimeMillis() - 60_000);
+
+        // When
+        String database = databaseName(true);
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("routing-primary");
+    }
+
+    @Test
+    void givenConsistencyToken_whenReplicaHasNotCaughtUp_thenReadYourWritesFromPrimary() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/v1/work-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateWorkOrderRequest.builder()
+                    .title("Routed order")
+                    .priority(WorkOrderPriority.NORMAL)
+                    .customerId(100L)
+                    .build())))
+            .andExpect(status().isCreated())
+            .andExpect(header().exists(ConsistencyTokenFilter.HEADER))
+            .andReturn();
+        String token = created.getResponse().getHeader(ConsistencyTokenFilter.HEADER);
+        Long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        replicate(Long.parseLong(token) - 1);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/work-orders/{id}", id))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/work-orders/{id}", id).header(ConsistencyTokenFilter.HEADER, token))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void givenPinnedToPrimary_whenReadOnlyTransaction_thenReadFromPrimary() {
+        // When
+        String database = ReadConsistency.onPrimary(() -> databaseName(true));
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("routing-primary");
+    }
+
+    /**
+     * Simulate the replica having applied every commit up to the given time
+     */
+    private void replicate(long caughtUpTo) {
+        new JdbcTemplate(replicaDataSource).update("UPDATE replication_heartbeat SET beat_millis = ?", caughtUpTo);
+        replicaLagMonitor.check();
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+            new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicaLagMonitor against an embedded H2 database serving as both primary
+ * and replica, read by an instance whose clock runs an hour ahead.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class ReplicaLagMonitorTest {
+
+    private static final String URL = "jdbc:h2:mem:lag-monitor;DB_CLOSE_DELAY=-1";
+    private static final Duration SKEW = Duration.ofHours(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE replication_heartbeat SET beat_millis = 0");
+        monitor = new ReplicaLagMonitor(dataSource, dataSource, Clock.offset(Clock.systemUTC(), SKEW), true,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenInstanceClockAhead_whenBeat_thenHeartbeatCarriesPrimaryTime() {
+        // When
+        monitor.beat();
+        long after = System.currentTimeMillis();
+
+        // Then
+        Long beat = jdbcTemplate.queryForObject("SELECT beat_millis FROM replication_heartbeat", Long.class);
+        assertThat(beat).isLessThanOrEqualTo(after);
+    }
+
+    @Test
+    void givenInstanceClockAhead_whenPrimaryMillis_thenReportPrimaryTimeNoEarlierThanActual() {
+        // Given
+        monitor.check();
+        long before = System.currentTimeMillis();
+
+        // When
+        long primaryMillis = monitor.primaryMillis();
+
+        // Then
+        assertThat(primaryMillis).isGreaterThanOrEqualTo(before).isLessThan(before + SKEW.toMillis() / 2);
+    }
+
+    @Test
+    void givenCommitBeforeHeartbeat_whenReplicaCaughtUp_thenHeartbeatIsPastCommitToken() throws Exception {
+        // Given
+        long token = monitor.primaryMillis();
+        Thread.sleep(20);
+
+        // When
+        monitor.beat();
+        monitor.check();
+
+        // Then
+        assertThat(monitor.caughtUpTo()).isGreaterThan(token);
+        assertThat(monitor.lagMillis()).isLessThan(SKEW.toMillis() / 2);
+    }
+}
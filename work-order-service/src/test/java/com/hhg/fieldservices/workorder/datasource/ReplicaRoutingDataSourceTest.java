@@ -0,0 +1,143 @@
+package com.hhg.fieldservices.workorder.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReadConsistency.end();
+    }
+
+    @Test
+    void givenReplicaWithinLagTolerance_whenReadOnly_thenRouteToReplica() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.primaryMillis()).thenReturn(NOW);
+        when(lagMonitor.caughtUpTo()).thenReturn(NOW - 5000);
+
+        // When
+        ReplicaRoutingDataSource.Target target = routing.determineCurrentLookupKey();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+        assertThat(meterRegistry.counter("workorder.datasource.reads", "target", "replica").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenReplicaBeyondLagTolerance_whenReadOnly_thenRouteToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.primaryMillis()).thenReturn(NOW);
+        when(lagMonitor.caughtUpTo()).thenReturn(NOW - 5001);
+
+        // When
+        ReplicaRoutingDataSource.Target target = routing.determineCurrentLookupKey();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(meterRegistry.counter("workorder.datasource.reads", "target", "primary").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenWriteTransaction_whenRouted_thenUsePrimaryWithoutCheckingLag() {
+        // When
+        ReplicaRoutingDataSource.Target target = routing.determineCurrentLookupKey();
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    void givenTokenNotYetReplicated_whenReadOnly_thenRouteToPrimaryUntilReplicaCatchesUp() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.begin(NOW - 1000, committedAt -> { });
+        when(lagMonitor.primaryMillis()).thenReturn(NOW);
+        when(lagMonitor.caughtUpTo()).thenReturn(NOW - 1000, NOW - 999);
+
+        // When / Then
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    void givenPinnedToPrimary_whenReadOnly_thenRouteToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        ReplicaRoutingDataSource.Target target = ReadConsistency.onPrimary(routing::determineCurrentLookupKey);
+
+        // Then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(ReadConsistency.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void givenWriteCommitted_whenLaterRead_thenRequireCommitAndIssueToken() {
+        // Given
+        when(lagMonitor.primaryMillis()).thenReturn(NOW);
+        List<Long> tokens = new ArrayList<>();
+        ReadConsistency.begin(0, tokens::add);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routing.determineCurrentLookupKey();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(tokens).containsExactly(NOW);
+        assertThat(ReadConsistency.required()).isEqualTo(NOW);
+    }
+}
@@ -0,0 +1,117 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for {@code /actuator/queries}.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.com.hhg.fieldservices.workorder.diagnostics=ERROR",
+    "workorder.outbox.poll-interval=PT1H",
+    "workorder.queries.slow-threshold=0ms"
+})
+@AutoConfigureMockMvc
+class QueriesEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        workOrderRepository.deleteAll();
+        mockMvc.perform(delete("/actuator/queries")).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void givenApiRequests_whenQueriesRead_thenReportStatementsSlowLogAndRequests() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/work-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateWorkOrderRequest.builder()
+                    .title("Diagnosed order")
+                    .priority(WorkOrderPriority.HIGH)
+                    .customerId(100L)
+                    .build())))
+            .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/work-orders").param("size", "5")).andExpect(status().isOk());
+
+        // When
+        JsonNode report = objectMapper.readTree(mockMvc.perform(get("/actuator/queries")
+                .param("orderBy", "calls")
+                .param("limit", "3"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+
+        // Then
+        assertThat(report.get("orderBy").asText()).isEqualTo("CALLS");
+        JsonNode statements = report.get("statements");
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0).get("calls").asLong())
+            .isGreaterThanOrEqualTo(statements.get(1).get("calls").asLong());
+        assertThat(report.get("slowQueries")).isNotEmpty();
+        assertThat(texts(report.get("slowQueries"), "sql")).anyMatch(sql -> sql.startsWith("insert into work_orders"));
+        assertThat(report.get("slowQueries").toString()).doesNotContain("Diagnosed order").contains("String(15)");
+        assertThat(texts(report.get("requests"), "endpoint"))
+            .contains("POST /api/v1/work-orders", "GET /api/v1/work-orders");
+        assertThat(meterRegistry.get("workorder.request.statements")
+            .tags("method", "POST", "uri", "/api/v1/work-orders")
+            .summary().max()).isPositive();
+    }
+
+    @Test
+    void givenStatistics_whenReset_thenStartOver() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v1/work-orders")).andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(delete("/actuator/queries")).andExpect(status().isNoContent());
+
+        // Then
+        JsonNode report = objectMapper.readTree(mockMvc.perform(get("/actuator/queries"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(report.get("orderBy").asText()).isEqualTo("TOTAL_TIME");
+        assertThat(report.get("statements")).isEmpty();
+        assertThat(report.get("slowQueries")).isEmpty();
+    }
+
+    private static List<String> texts(JsonNode nodes, String field) {
+        List<String> texts = new ArrayList<>();
+        nodes.forEach(node -> texts.add(node.get(field).asText()));
+        return texts;
+    }
+}
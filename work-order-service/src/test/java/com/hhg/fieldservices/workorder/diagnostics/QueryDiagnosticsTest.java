@@ -0,0 +1,221 @@
+package com.hhg.fieldservices.workorder.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for QueryDiagnostics and StatementTrackingDataSource against an embedded H2
+ * database.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class QueryDiagnosticsTest {
+
+    private static final String INSERT = "insert into parts (id, name) values (?, ?)";
+    private static final String SELECT_ALL = "select id, name from parts";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcDataSource database;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:query-diagnostics-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = database.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table parts (id bigint primary key, name varchar(100))");
+        }
+    }
+
+    @Test
+    void givenStatements_whenExecuted_thenRankByTotalTimeCallsAndRows() throws SQLException {
+        // Given
+        QueryDiagnostics diagnostics = diagnostics(Duration.ofHours(1), 500);
+        DataSource dataSource = tracked(diagnostics);
+
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (long id = 1; id <= 5; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "part-" + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            for (int i = 0; i < 3; i++) {
+                try (PreparedStatement select = connection.prepareStatement(SELECT_ALL);
+                     ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getString(2);
+                    }
+                }
+            }
+        }
+
+        // Then
+        QueryReport byCalls = diagnostics.report(QueryOrder.CALLS, 10);
+        assertThat(byCalls.statements()).extracting(QueryReport.Statement::sql).containsExactly(SELECT_ALL, INSERT);
+        assertThat(byCalls.statements().get(0).calls()).isEqualTo(3);
+        assertThat(byCalls.statements().get(0).rows()).isEqualTo(15);
+        assertThat(byCalls.statements().get(1).rows()).isEqualTo(5);
+        assertThat(byCalls.statements().get(0).totalTimeMs()).isPositive();
+        assertThat(diagnostics.report(QueryOrder.ROWS, 1).statements())
+            .extracting(QueryReport.Statement::sql).containsExactly(SELECT_ALL);
+        assertThat(byCalls.slowQueries()).isEmpty();
+    }
+
+    @Test
+    void givenInListsOfDifferentLengths_whenExecuted_thenTrackOneStatement() throws SQLException {
+        // Given
+        QueryDiagnostics diagnostics = diagnostics(Duration.ofHours(1), 500);
+        DataSource dataSource = tracked(diagnostics);
+
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            select(connection, "select name from parts where id in (?,?)", 1, 2);
+            select(connection, "select name from parts where id in (?, ?, ?)", 1, 2, 3);
+        }
+
+        // Then
+        QueryReport report = diagnostics.report(QueryOrder.CALLS, 10);
+        assertThat(report.statements()).singleElement().satisfies(statement -> {
+            assertThat(statement.sql()).isEqualTo("select name from parts where id in (?, ...)");
+            assertThat(statement.calls()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void givenSlowStatement_whenExecuted_thenLogParameterShapesWithoutValues() throws SQLException {
+        // Given
+        QueryDiagnostics diagnostics = diagnostics(Duration.ZERO, 2);
+        DataSource dataSource = tracked(diagnostics);
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            insert.setLong(1, 42L);
+            insert.setString(2, "valve");
+            insert.executeUpdate();
+            insert.setLong(1, 43L);
+            insert.setNull(2, Types.VARCHAR);
+            insert.executeUpdate();
+        }
+
+        // Then
+        QueryReport report = diagnostics.report(QueryOrder.TOTAL_TIME, 10);
+        assertThat(report.slowQueries()).hasSize(2);
+        QueryReport.SlowQuery newest = report.slowQueries().get(0);
+        assertThat(newest.sql()).isEqualTo(INSERT);
+        assertThat(newest.parameters()).containsExactly("Long", "null");
+        assertThat(newest.rows()).isEqualTo(1);
+        assertThat(newest.timestamp()).isEqualTo(Instant.EPOCH);
+        assertThat(report.slowQueries().get(1).parameters()).containsExactly("Long", "String(5)");
+        assertThat(report.slowQueries().toString()).doesNotContain("valve");
+        assertThat(report.statements().get(0).slowCalls()).isEqualTo(2);
+        assertThat(meterRegistry.get("workorder.queries.slow").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMoreDistinctStatementsThanTracked_whenExecuted_thenSumTheRestUnderOther() throws SQLException {
+        // Given
+        QueryDiagnostics diagnostics = diagnostics(Duration.ofHours(1), 2);
+        DataSource dataSource = tracked(diagnostics);
+
+        // When
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 0; i < 5; i++) {
+                statement.executeQuery("select " + i).close();
+            }
+        }
+
+        // Then
+        QueryReport report = diagnostics.report(QueryOrder.CALLS, 10);
+        assertThat(report.trackedStatements()).isEqualTo(2);
+        assertThat(report.statements()).hasSize(3);
+        assertThat(report.statements().get(0).sql()).isEqualTo(QueryDiagnostics.OTHER);
+        assertThat(report.statements().get(0).calls()).isEqualTo(3);
+    }
+
+    @Test
+    void givenRequests_whenTheyRunStatements_thenCountPerEndpoint() throws SQLException {
+        // Given
+        QueryDiagnostics diagnostics = diagnostics(Duration.ofHours(1), 500);
+        DataSource dataSource = tracked(diagnostics);
+
+        // When
+        for (int statements : List.of(1, 3)) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/work-orders/7");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/work-orders/{id}");
+            diagnostics.beginRequest(request);
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < statements; i++) {
+                    select(connection, SELECT_ALL);
+                }
+            } finally {
+                diagnostics.endRequest(request);
+            }
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            select(connection, SELECT_ALL);
+        }
+
+        // Then
+        QueryReport.Endpoint endpoint = diagnostics.report(QueryOrder.CALLS, 10).requests().get(0);
+        assertThat(endpoint.endpoint()).isEqualTo("GET /api/v1/work-orders/{id}");
+        assertThat(endpoint.requests()).isEqualTo(2);
+        assertThat(endpoint.statements()).isEqualTo(4);
+        assertThat(endpoint.maxStatements()).isEqualTo(3);
+        DistributionSummary summary = meterRegistry.get("workorder.request.statements")
+            .tags("method", "GET", "uri", "/api/v1/work-orders/{id}")
+            .summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(4);
+    }
+
+    private QueryDiagnostics diagnostics(Duration slowThreshold, int maxStatements) {
+        return new QueryDiagnostics(meterRegistry, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), slowThreshold, 10,
+            maxStatements, 50);
+    }
+
+    private DataSource tracked(QueryDiagnostics diagnostics) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("queryDiagnostics", diagnostics);
+        return new StatementTrackingDataSource(database, beanFactory.getBeanProvider(QueryDiagnostics.class));
+    }
+
+    private static void select(Connection connection, String sql, long... ids) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ids.length; i++) {
+                select.setLong(i + 1, ids[i]);
+            }
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    rows.getString(1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.hhg.fieldservices.workorder.load;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Drives a burst of database-bound reads against the running application and reports p99
+ * latency and the most requests in flight at once, so the thread models can be compared.
+ * Tagged {@code load}: run with {@code mvn test -Pload-test}. Results are appended to
+ * {@code target/load-test/thread-model.txt}.
+ *
+ * <p>Every statement is delayed by {@link #DB_LATENCY} to stand in for a remote database,
+ * and the connection pool is twice the size of the Tomcat thread pool, the shape in which
+ * platform threads run out before the database is saturated. The work order cache is off,
+ * so every read reaches the database.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.com.hhg.fieldservices.workorder=INFO",
+    "server.tomcat.threads.max=" + AbstractThreadModelLoadTest.TOMCAT_THREADS,
+    "spring.datasource.hikari.maximum-pool-size=64",
+    "workorder.cache.enabled=false",
+    "workorder.outbox.poll-interval=PT1H"
+})
+@Import(LoadTestConfiguration.class)
+@Tag("load")
+@Slf4j
+abstract class AbstractThreadModelLoadTest {
+
+    static final int CLIENTS = 256;
+    static final int TOMCAT_THREADS = 32;
+    static final Duration DB_LATENCY = Duration.ofMillis(20);
+    static final Duration WARMUP = Duration.ofSeconds(3);
+    static final Duration MEASUREMENT = Duration.ofSeconds(15);
+
+    private static final int WORK_ORDERS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private LoadTestConfiguration.DatabaseLatency databaseLatency;
+
+    @Autowired
+    private LoadTestConfiguration.InFlightRequests inFlightRequests;
+
+    /**
+     * Name of the thread model under test, used in the report
+     */
+    abstract String threadModel();
+
+    @AfterEach
+    void tearDown() {
+        databaseLatency.set(Duration.ZERO);
+        workOrderRepository.deleteAll();
+    }
+
+    @Test
+    void givenBurstOfDatabaseBoundRequests_whenLoadApplied_thenReportP99AndInFlight() throws Exception {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < WORK_ORDERS; i++) {
+            ids.add(workOrderService.create(CreateWorkOrderRequest.builder()
+                .title("Load test order " + i)
+                .priority(WorkOrderPriority.NORMAL)
+                .customerId(100L)
+                .build()).getId());
+        }
+        databaseLatency.set(DB_LATENCY);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        drive(client, ids, WARMUP);
+        inFlightRequests.reset();
+        long statementsBefore = databaseLatency.statements();
+
+        // When
+        Result result = drive(client, ids, MEASUREMENT);
+
+        // Then
+        long statements = databaseLatency.statements() - statementsBefore;
+        report(result, inFlightRequests.max(), statements);
+        assertThat(result.errors()).isZero();
+        assertThat(result.latenciesNanos()).isNotEmpty();
+        assertThat(statements).as("statements per request").isGreaterThanOrEqualTo(result.latenciesNanos().length);
+        assertThat(inFlightRequests.max()).as("most requests in flight").isGreaterThanOrEqualTo(TOMCAT_THREADS);
+    }
+
+    private Result drive(HttpClient client, List<Long> ids, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    int errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/v1/work-orders/" + id)).build();
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException ex) {
+                            status = -1;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                        if (status != 200) {
+                            errors++;
+                        }
+                    }
+                    return new Result(Arrays.copyOf(latencies, count), errors);
+                }));
+            }
+            List<long[]> latencies = new ArrayList<>();
+            int errors = 0;
+            for (Future<Result> future : futures) {
+                latencies.add(future.get().latenciesNanos());
+                errors += future.get().errors();
+            }
+            long[] merged = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(merged, errors);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void report(Result result, int maxInFlight, long statements) throws IOException {
+        long[] sorted = result.latenciesNanos();
+        String line = String.format("%-8s java=%s clients=%d dbLatency=%dms requests=%d statements/request=%.2f "
+                + "throughput=%.0f/s p50=%.1fms p99=%.1fms max=%.1fms maxInFlight=%d errors=%d",
+            threadModel(), Runtime.version().feature(), CLIENTS, DB_LATENCY.toMillis(), sorted.length,
+            statements / (double) sorted.length,
+            sorted.length / (double) MEASUREMENT.toSeconds(), millis(percentile(sorted, 0.50)),
+            millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]), maxInFlight, result.errors());
+        log.info("Load test result: {}", line);
+        Path report = Path.of("target", "load-test", "thread-model.txt");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, line + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record Result(long[] latenciesNanos, int errors) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.hhg.fieldservices.workorder.load;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test beans for load tests: a switchable delay on every statement, standing in for the
+ * round trip to a remote database, and a count of requests in flight on the server.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@TestConfiguration
+class LoadTestConfiguration {
+
+    @Bean
+    DatabaseLatency databaseLatency() {
+        return new DatabaseLatency();
+    }
+
+    @Bean
+    static BeanPostProcessor slowDataSourcePostProcessor(ObjectProvider<DatabaseLatency> latency) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new SlowDataSource(dataSource, latency.getObject()) : bean;
+            }
+        };
+    }
+
+    @Bean
+    InFlightRequests inFlightRequests() {
+        return new InFlightRequests();
+    }
+
+    /**
+     * Delay added to every statement execution; zero while the application starts and seeds
+     */
+    static class DatabaseLatency {
+
+        private final AtomicLong statements = new AtomicLong();
+        private volatile long millis;
+
+        void set(Duration latency) {
+            millis = latency.toMillis();
+        }
+
+        void apply() throws InterruptedException {
+            statements.incrementAndGet();
+            long delay = millis;
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        }
+
+        /**
+         * Statements executed so far
+         */
+        long statements() {
+            return statements.get();
+        }
+    }
+
+    /**
+     * Requests currently being served and the most seen at once since the last reset
+     */
+    static class InFlightRequests implements Filter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+
+        void reset() {
+            max.set(current.get());
+        }
+
+        int max() {
+            return max.get();
+        }
+    }
+
+    /**
+     * Delays statements while they hold a pooled connection, as a remote database would
+     */
+    private static class SlowDataSource extends DelegatingDataSource {
+
+        private final DatabaseLatency latency;
+
+        SlowDataSource(DataSource target, DatabaseLatency latency) {
+            super(target);
+            this.latency = latency;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return wrap(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+        }
+
+        private Object wrap(Statement statement, Class<?> type) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        latency.apply();
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.hhg.fieldservices.workorder.load;
+
+/**
+ * Load test with the default platform-thread Tomcat pool.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class PlatformThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    String threadModel() {
+        return "platform";
+    }
+}
@@ -0,0 +1,22 @@
+package com.hhg.fieldservices.workorder.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Load test with the {@code virtual-threads} profile. Skipped on JVMs older than 21, where
+ * Spring Boot would silently fall back to platform threads.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ActiveProfiles("virtual-threads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    String threadModel() {
+        return "virtual";
+    }
+}
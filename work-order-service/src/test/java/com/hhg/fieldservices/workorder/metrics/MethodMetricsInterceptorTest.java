@@ -0,0 +1,136 @@
+package com.hhg.fieldservices.workorder.metrics;
+
+import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MethodMetricsInterceptor.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class MethodMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Finder finder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new StubFinder());
+        proxyFactory.addInterface(Finder.class);
+        proxyFactory.addAdvice(new MethodMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class),
+            "test.repository", "repository", "Finder", true));
+        finder = (Finder) proxyFactory.getProxy();
+    }
+
+    @Test
+    void givenSuccessfulCalls_whenInvoked_thenTimeUnderSuccessOutcome() {
+        // When
+        finder.findAll(3);
+        finder.findAll(5);
+
+        // Then
+        assertThat(meterRegistry.get("test.repository.calls")
+            .tags("repository", "Finder", "method", "findAll", "outcome", "success", "exception", "none")
+            .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenFailures_whenInvoked_thenTagOutcomeAndException() {
+        // When
+        assertThatThrownBy(() -> finder.fail(new WorkOrderValidationException("bad")))
+            .isInstanceOf(WorkOrderValidationException.class);
+        assertThatThrownBy(() -> finder.fail(new OptimisticLockingFailureException("stale")))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> finder.fail(new WorkOrderNotFoundException(1L)))
+            .isInstanceOf(WorkOrderNotFoundException.class);
+
+        // Then
+        assertThat(meterRegistry.get("test.repository.calls")
+            .tags("method", "fail", "outcome", "validation", "exception", "WorkOrderValidationException")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.repository.calls")
+            .tags("method", "fail", "outcome", "conflict", "exception", "OptimisticLockingFailureException")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.repository.calls")
+            .tags("method", "fail", "outcome", "not_found", "exception", "WorkOrderNotFoundException")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRowResults_whenInvoked_thenRecordCollectionAndPageSizesOnly() {
+        // When
+        finder.findAll(3);
+        finder.findPage(4);
+        finder.findOne(false);
+        finder.count();
+
+        // Then
+        assertThat(meterRegistry.get("test.repository.rows").tags("method", "findAll").summary().totalAmount())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("test.repository.rows").tags("method", "findPage").summary().totalAmount())
+            .isEqualTo(4);
+        assertThat(meterRegistry.find("test.repository.rows").tags("method", "findOne").summary()).isNull();
+        assertThat(meterRegistry.find("test.repository.rows").tags("method", "count").summary()).isNull();
+    }
+
+    interface Finder {
+
+        List<Integer> findAll(int size);
+
+        Slice<Integer> findPage(int size);
+
+        Optional<Integer> findOne(boolean present);
+
+        long count();
+
+        void fail(RuntimeException ex);
+    }
+
+    static class StubFinder implements Finder {
+
+        @Override
+        public List<Integer> findAll(int size) {
+            return IntStream.range(0, size).boxed().toList();
+        }
+
+        @Override
+        public Slice<Integer> findPage(int size) {
+            return new PageImpl<>(findAll(size));
+        }
+
+        @Override
+        public Optional<Integer> findOne(boolean present) {
+            return present ? Optional.of(1) : Optional.empty();
+        }
+
+        @Override
+        public long count() {
+            return 42;
+        }
+
+        @Override
+        public void fail(RuntimeException ex) {
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hhg.fieldservices.workorder.metrics;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the service, repository and connection pool metrics.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "workorder.outbox.poll-interval=PT1H"
+})
+@AutoConfigureObservability(tracing = false)
+class MethodMetricsTest {
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private PrometheusMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+    }
+
+    @Test
+    void givenServiceCalls_whenTheySucceedOrFailValidation_thenTimeEachOutcomeWithHistogram() {
+        // Given
+        WorkOrderDto created = workOrderService.create(CreateWorkOrderRequest.builder()
+            .title("Metrics order")
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .build());
+        workOrderService.updateStatus(created.getId(), WorkOrderStatus.COMPLETED);
+
+        // When
+        assertThatThrownBy(() -> workOrderService.updateStatus(created.getId(), WorkOrderStatus.PENDING))
+            .isInstanceOf(WorkOrderValidationException.class);
+
+        // Then
+        Timer createTimer = meterRegistry.get("workorder.service.calls")
+            .tags("service", "WorkOrderService", "method", "create", "outcome", "success")
+            .timer();
+        assertThat(createTimer.count()).isPositive();
+        assertThat(meterRegistry.scrape()).contains(
+            "workorder_service_calls_seconds_bucket{exception=\"none\",method=\"create\",outcome=\"success\",service=\"WorkOrderService\",le=");
+        assertThat(meterRegistry.get("workorder.service.calls")
+            .tags("method", "updateStatus", "outcome", "validation", "exception", "WorkOrderValidationException")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRepositoryQueries_whenCalled_thenTimeAndCountRows() {
+        // Given
+        workOrderService.create(CreateWorkOrderRequest.builder()
+            .title("Rows order")
+            .priority(WorkOrderPriority.LOW)
+            .customerId(101L)
+            .build());
+
+        // When
+        workOrderRepository.findAll();
+
+        // Then
+        assertThat(meterRegistry.get("workorder.repository.calls")
+            .tags("repository", "WorkOrderRepository", "method", "findAll", "outcome", "success")
+            .timer().count()).isPositive();
+        assertThat(meterRegistry.get("workorder.repository.rows")
+            .tags("repository", "WorkOrderRepository", "method", "findAll")
+            .summary().max()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.scrape()).contains(
+            "workorder_repository_rows_bucket{method=\"findAll\",repository=\"WorkOrderRepository\",le=\"10.0\",}");
+        assertThat(meterRegistry.find("spring.data.repository.invocations").timer()).isNull();
+    }
+
+    @Test
+    void givenConnectionPool_whenQueried_thenPublishWaitsAndPendingThreads() {
+        // When
+        workOrderRepository.count();
+
+        // Then
+        assertThat(meterRegistry.get("hikaricp.connections.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.scrape()).contains("hikaricp_connections_acquire_seconds_bucket{");
+    }
+}
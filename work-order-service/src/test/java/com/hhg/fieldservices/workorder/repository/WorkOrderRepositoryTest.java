@@ -1,18 +1,31 @@
 package com.hhg.fieldservices.workorder.repository;
 
+import com.hhg.fieldservices.workorder.dto.WorkOrderCount;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSearchCriteria;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
 import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderItem;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.service.WorkOrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -22,7 +35,7 @@ import static org.assertj.core.api.Assertions.*;
  * @author Field Services Team
  * @version 1.0
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class WorkOrderRepositoryTest {
     
     @Autowired
@@ -31,6 +44,9 @@ class WorkOrderRepositoryTest {
     @Autowired
     private WorkOrderRepository workOrderRepository;
     
+    @Autowired
+    private WorkOrderItemRepository workOrderItemRepository;
+    
     private WorkOrder testWorkOrder;
     
     @BeforeEach
@@ -213,4 +229,406 @@ class WorkOrderRepositoryTest {
         // Then
         assertThat(count).isEqualTo(2);
     }
+    
+    @Test
+    void givenKeysetPosition_whenFindPageByStatusAfter_thenReturnFollowingRowsInOrder() {
+        // Given - rows 1 and 2 share a creation time so the id tiebreaker is exercised
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        int[] minuteOffsets = {0, 1, 1, 2, 3};
+        for (int i = 0; i < minuteOffsets.length; i++) {
+            LocalDateTime createdAt = base.plusMinutes(minuteOffsets[i]);
+            entityManager.persist(WorkOrder.builder()
+                .workOrderNumber("WO-PAGE-" + i)
+                .title("Paged Order " + i)
+                .status(WorkOrderStatus.PENDING)
+                .priority(WorkOrderPriority.NORMAL)
+                .customerId(100L)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+        }
+        entityManager.flush();
+        List<WorkOrder> all = workOrderRepository.findPageByStatusAfter(
+            WorkOrderStatus.PENDING, base.minusYears(10), 0L, PageRequest.ofSize(10));
+        WorkOrder second = all.get(1);
+        
+        // When
+        List<WorkOrder> page = workOrderRepository.findPageByStatusAfter(
+            WorkOrderStatus.PENDING, second.getCreatedAt(), second.getId(), PageRequest.ofSize(2));
+        
+        // Then
+        assertThat(all).hasSize(5);
+        assertThat(page).extracting(WorkOrder::getId)
+            .containsExactly(all.get(2).getId(), all.get(3).getId());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50, WorkOrderService.MAX_PAGE_SIZE + 1})
+    void givenPageOfWorkOrdersWithItems_whenItemsAreAccessed_thenStatementCountIsConstant(int orderCount) {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < orderCount; i++) {
+            WorkOrder workOrder = WorkOrder.builder()
+                .workOrderNumber("WO-BATCH-" + i)
+                .title("Batch Order " + i)
+                .status(WorkOrderStatus.PENDING)
+                .priority(WorkOrderPriority.NORMAL)
+                .customerId(100L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+            for (int j = 0; j < 3; j++) {
+                workOrder.addItem(WorkOrderItem.builder()
+                    .itemType("LABOR")
+                    .description("Task " + j)
+                    .quantity(1)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            }
+            entityManager.persist(workOrder);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        List<WorkOrder> page = workOrderRepository.findPageByStatusAfter(
+            WorkOrderStatus.PENDING, now.minusDays(1), 0L, PageRequest.ofSize(WorkOrderService.MAX_PAGE_SIZE + 1));
+        int itemCount = page.stream().mapToInt(workOrder -> workOrder.getItems().size()).sum();
+        
+        // Then - one query for the page and one batched query for all of its items
+        assertThat(page).hasSize(orderCount);
+        assertThat(itemCount).isEqualTo(orderCount * 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void givenFilters_whenStreamForExport_thenStreamOnlyMatchingWorkOrders() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        testWorkOrder.setScheduledDate(now.plusDays(1));
+        entityManager.persist(testWorkOrder);
+        entityManager.persist(WorkOrder.builder()
+            .workOrderNumber("WO-TEST-005")
+            .title("Other Customer Order")
+            .status(WorkOrderStatus.PENDING)
+            .priority(WorkOrderPriority.LOW)
+            .customerId(101L)
+            .scheduledDate(now.plusDays(1))
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+        entityManager.persist(WorkOrder.builder()
+            .workOrderNumber("WO-TEST-006")
+            .title("Next Month Order")
+            .status(WorkOrderStatus.PENDING)
+            .priority(WorkOrderPriority.LOW)
+            .customerId(100L)
+            .scheduledDate(now.plusDays(40))
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+        entityManager.flush();
+        
+        // When
+        List<String> all;
+        List<String> filtered;
+        try (Stream<WorkOrder> stream = workOrderRepository.streamForExport(null, null, null, null)) {
+            all = stream.map(WorkOrder::getWorkOrderNumber).toList();
+        }
+        try (Stream<WorkOrder> stream = workOrderRepository.streamForExport(
+                WorkOrderStatus.PENDING, 100L, now, now.plusDays(7))) {
+            filtered = stream.map(WorkOrder::getWorkOrderNumber).toList();
+        }
+        
+        // Then
+        assertThat(all).containsExactly("WO-TEST-001", "WO-TEST-005", "WO-TEST-006");
+        assertThat(filtered).containsExactly("WO-TEST-001");
+    }
+    
+    @Test
+    void givenCombinedCriteria_whenFindBySpecification_thenReturnOnlyMatchingWorkOrders() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        testWorkOrder.setPriority(WorkOrderPriority.HIGH);
+        testWorkOrder.setAssignedTechnicianId(200L);
+        testWorkOrder.setStatus(WorkOrderStatus.ASSIGNED);
+        entityManager.persist(testWorkOrder);
+        entityManager.persist(WorkOrder.builder()
+            .workOrderNumber("WO-TEST-007")
+            .title("Wrong City")
+            .status(WorkOrderStatus.ASSIGNED)
+            .priority(WorkOrderPriority.HIGH)
+            .customerId(100L)
+            .city("Shelbyville")
+            .assignedTechnicianId(200L)
+            .scheduledDate(now.plusDays(1))
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+        entityManager.persist(WorkOrder.builder()
+            .workOrderNumber("WO-TEST-008")
+            .title("Wrong Priority")
+            .status(WorkOrderStatus.PENDING)
+            .priority(WorkOrderPriority.LOW)
+            .customerId(100L)
+            .city("Springfield")
+            .scheduledDate(now.plusDays(1))
+            .createdAt(now)
+            .updatedAt(now)
+            .build());
+        entityManager.flush();
+        
+        WorkOrderSearchCriteria criteria = WorkOrderSearchCriteria.builder()
+            .status(List.of(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED))
+            .priority(List.of(WorkOrderPriority.HIGH))
+            .city("Springfield")
+            .technicianId(200L)
+            .scheduledFrom(now)
+            .scheduledTo(now.plusDays(2))
+            .build();
+        
+        // When
+        List<WorkOrder> matches = workOrderRepository.findAll(WorkOrderSpecifications.matching(criteria));
+        List<WorkOrder> unfiltered = workOrderRepository.findAll(
+            WorkOrderSpecifications.matching(new WorkOrderSearchCriteria()), Sort.by("id"));
+        
+        // Then
+        assertThat(matches).extracting(WorkOrder::getWorkOrderNumber).containsExactly("WO-TEST-001");
+        assertThat(unfiltered).hasSize(3);
+    }
+    
+    @Test
+    void givenDispatcherSearchShapes_whenExplained_thenCompositeIndexesAreUsed() {
+        // When
+        String statusPriorityDate = explain(
+            "SELECT id FROM work_orders WHERE status = 'PENDING' AND priority = 'HIGH' " +
+            "AND scheduled_date >= TIMESTAMP '2025-01-01 00:00:00' AND scheduled_date < TIMESTAMP '2025-02-01 00:00:00'");
+        String technicianStatus = explain(
+            "SELECT id FROM work_orders WHERE assigned_technician_id = 200 AND status = 'ASSIGNED'");
+        String cityStatusDate = explain(
+            "SELECT id FROM work_orders WHERE city = 'Springfield' AND status = 'PENDING' " +
+            "AND scheduled_date >= TIMESTAMP '2025-01-01 00:00:00'");
+        
+        // Then
+        assertThat(statusPriorityDate).containsIgnoringCase("idx_status_priority_scheduled");
+        assertThat(technicianStatus).containsIgnoringCase("idx_technician_status");
+        assertThat(cityStatusDate).containsIgnoringCase("idx_city_status_scheduled");
+    }
+    
+    @Test
+    void givenMixedStatuses_whenUpdateStatusWhereOpen_thenOnlyOpenRowsChangeWithTimestampsAndVersion() {
+        // Given
+        LocalDateTime startedEarlier = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        testWorkOrder.setStatus(WorkOrderStatus.IN_PROGRESS);
+        testWorkOrder.setStartedAt(startedEarlier);
+        WorkOrder inProgress = entityManager.persist(testWorkOrder);
+        WorkOrder pending = entityManager.persist(workOrder("WO-TEST-009", WorkOrderStatus.PENDING));
+        WorkOrder cancelled = entityManager.persist(workOrder("WO-TEST-010", WorkOrderStatus.CANCELLED));
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        
+        // When
+        int updated = workOrderRepository.updateStatusWhereOpen(
+            List.of(inProgress.getId(), pending.getId(), cancelled.getId()),
+            WorkOrderStatus.COMPLETED, null, now, now);
+        
+        // Then
+        assertThat(updated).isEqualTo(2);
+        WorkOrder completed = entityManager.find(WorkOrder.class, inProgress.getId());
+        assertThat(completed.getStatus()).isEqualTo(WorkOrderStatus.COMPLETED);
+        assertThat(completed.getStartedAt()).isEqualTo(startedEarlier);
+        assertThat(completed.getCompletedAt()).isEqualTo(now);
+        assertThat(completed.getVersion()).isEqualTo(1L);
+        assertThat(entityManager.find(WorkOrder.class, pending.getId()).getStartedAt()).isNull();
+        WorkOrder untouched = entityManager.find(WorkOrder.class, cancelled.getId());
+        assertThat(untouched.getStatus()).isEqualTo(WorkOrderStatus.CANCELLED);
+        assertThat(untouched.getVersion()).isZero();
+    }
+    
+    @Test
+    void givenClosedWorkOrder_whenAssignWhereOpen_thenClosedWorkOrderIsSkipped() {
+        // Given
+        WorkOrder pending = entityManager.persist(testWorkOrder);
+        WorkOrder completed = entityManager.persist(workOrder("WO-TEST-011", WorkOrderStatus.COMPLETED));
+        entityManager.flush();
+        
+        // When
+        int updated = workOrderRepository.assignWhereOpen(
+            List.of(pending.getId(), completed.getId()), 300L, "Storm Crew", LocalDateTime.now());
+        
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(workOrderRepository.findSummaries(
+                WorkOrderSpecifications.idIn(List.of(pending.getId(), completed.getId())), 10))
+            .extracting(WorkOrderSummary::status, WorkOrderSummary::assignedTechnicianId)
+            .containsExactlyInAnyOrder(
+                tuple(WorkOrderStatus.ASSIGNED, 300L),
+                tuple(WorkOrderStatus.COMPLETED, null));
+    }
+    
+    @Test
+    void givenSpecification_whenFindSummaries_thenSelectListColumnsWithoutLoadingEntities() {
+        // Given
+        testWorkOrder.setAssignedTechnicianName("Jane Smith");
+        entityManager.persist(testWorkOrder);
+        entityManager.persist(workOrder("WO-TEST-012", WorkOrderStatus.PENDING));
+        entityManager.persist(workOrder("WO-TEST-013", WorkOrderStatus.COMPLETED));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        List<WorkOrderSummary> summaries = workOrderRepository.findSummaries(
+            WorkOrderSpecifications.hasStatusIn(List.of(WorkOrderStatus.PENDING)), 10);
+        
+        // Then
+        assertThat(summaries).extracting(WorkOrderSummary::workOrderNumber)
+            .containsExactly("WO-TEST-001", "WO-TEST-012");
+        assertThat(summaries.get(0).assignedTechnicianName()).isEqualTo("Jane Smith");
+        assertThat(summaries.get(0).customerName()).isEqualTo("John Doe");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void givenMixedWorkOrders_whenCountByStatusPriorityAndTechnician_thenGroupInOneQuery() {
+        // Given
+        testWorkOrder.setStatus(WorkOrderStatus.ASSIGNED);
+        testWorkOrder.setAssignedTechnicianId(200L);
+        entityManager.persist(testWorkOrder);
+        entityManager.persist(workOrder("WO-TEST-014", WorkOrderStatus.PENDING));
+        entityManager.persist(workOrder("WO-TEST-015", WorkOrderStatus.PENDING));
+        entityManager.flush();
+        
+        // When
+        List<WorkOrderCount> counts = workOrderRepository.countByStatusPriorityAndTechnician();
+        
+        // Then
+        assertThat(counts).containsExactlyInAnyOrder(
+            new WorkOrderCount(WorkOrderStatus.ASSIGNED, WorkOrderPriority.NORMAL, 200L, 1L),
+            new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 2L));
+    }
+    
+    @Test
+    void givenLaborItems_whenSumOpenLaborHours_thenOnlyOpenWorkOrdersAreSummed() {
+        // Given
+        WorkOrder open = workOrder("WO-TEST-016", WorkOrderStatus.ASSIGNED);
+        open.setAssignedTechnicianId(200L);
+        open.setAssignedTechnicianName("Jane Smith");
+        open.addItem(item(WorkOrderItem.LABOR, 2));
+        open.addItem(item(WorkOrderItem.LABOR, 3));
+        open.addItem(item("MATERIAL", 10));
+        WorkOrder closed = workOrder("WO-TEST-017", WorkOrderStatus.COMPLETED);
+        closed.setAssignedTechnicianId(300L);
+        closed.addItem(item(WorkOrderItem.LABOR, 4));
+        entityManager.persist(open);
+        entityManager.persist(closed);
+        entityManager.flush();
+        
+        // When
+        List<WorkOrderLaborHours> hours = workOrderItemRepository.sumOpenLaborHours();
+        List<AssignedTechnician> technicians = workOrderRepository.findAssignedTechnicians();
+        
+        // Then
+        assertThat(hours).containsExactly(new WorkOrderLaborHours(open.getId(), 5L));
+        assertThat(open.bookedLaborHours()).isEqualTo(5);
+        assertThat(technicians).containsExactlyInAnyOrder(
+            new AssignedTechnician(200L, "Jane Smith"), new AssignedTechnician(300L, null));
+    }
+    
+    @Test
+    void givenLocatedWorkOrders_whenFindOpenLocationsAndWithinBox_thenOnlyOpenLocatedRowsAreReturned() {
+        // Given
+        WorkOrder near = located("WO-TEST-018", WorkOrderStatus.PENDING, 39.78, -89.65);
+        WorkOrder far = located("WO-TEST-019", WorkOrderStatus.PENDING, 41.88, -87.63);
+        WorkOrder closed = located("WO-TEST-020", WorkOrderStatus.COMPLETED, 39.78, -89.65);
+        entityManager.persist(near);
+        entityManager.persist(far);
+        entityManager.persist(closed);
+        entityManager.persist(workOrder("WO-TEST-021", WorkOrderStatus.PENDING));
+        entityManager.flush();
+        
+        // When
+        List<WorkOrderLocation> locations = workOrderRepository.findOpenLocations(PageRequest.ofSize(10));
+        List<WorkOrderSummary> inBox = workOrderRepository.findSummaries(
+            WorkOrderSpecifications.openWithin(39.5, 40.0, -90.0, -89.5), 10);
+        String plan = explain(
+            "SELECT id FROM work_orders WHERE latitude BETWEEN 39.5 AND 40.0 AND longitude BETWEEN -90.0 AND -89.5");
+        
+        // Then
+        assertThat(locations).containsExactlyInAnyOrder(
+            new WorkOrderLocation(near.getId(), 39.78, -89.65, 0L),
+            new WorkOrderLocation(far.getId(), 41.88, -87.63, 0L));
+        assertThat(inBox).extracting(WorkOrderSummary::id).containsExactly(near.getId());
+        assertThat(inBox.get(0).latitude()).isEqualTo(39.78);
+        assertThat(plan).containsIgnoringCase("idx_latitude_longitude");
+    }
+    
+    @Test
+    void givenWorkOrdersWithItems_whenFindTexts_thenPageByIdWithItemDescriptions() {
+        // Given
+        WorkOrder first = workOrder("WO-TEST-022", WorkOrderStatus.PENDING);
+        first.setTitle("Water heater leak");
+        first.setNotes("Gate code 1234");
+        first.addItem(item(WorkOrderItem.LABOR, 2));
+        WorkOrder second = workOrder("WO-TEST-023", WorkOrderStatus.COMPLETED);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+        
+        // When
+        List<WorkOrderText> page = workOrderRepository.findTextsAfter(0L, PageRequest.ofSize(1));
+        List<WorkOrderText> rest = workOrderRepository.findTextsAfter(first.getId(), PageRequest.ofSize(10));
+        List<WorkOrderItemText> items = workOrderItemRepository.findTextsBetween(0L, first.getId());
+        
+        // Then
+        assertThat(page).containsExactly(
+            new WorkOrderText(first.getId(), 0L, "Water heater leak", null, "Gate code 1234", null, null));
+        assertThat(rest).extracting(WorkOrderText::id).containsExactly(second.getId());
+        assertThat(items).containsExactly(new WorkOrderItemText(first.getId(), "Task"));
+    }
+    
+    private static WorkOrder located(String number, WorkOrderStatus status, double latitude, double longitude) {
+        WorkOrder workOrder = workOrder(number, status);
+        workOrder.setLatitude(latitude);
+        workOrder.setLongitude(longitude);
+        return workOrder;
+    }
+    
+    private static WorkOrderItem item(String type, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return WorkOrderItem.builder()
+            .itemType(type)
+            .description("Task")
+            .quantity(quantity)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+    
+    private static WorkOrder workOrder(String number, WorkOrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return WorkOrder.builder()
+            .workOrderNumber(number)
+            .title("Bulk Target")
+            .status(status)
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+    
+    private String explain(String sql) {
+        return String.valueOf(entityManager.getEntityManager()
+            .createNativeQuery("EXPLAIN " + sql)
+            .getSingleResult());
+    }
 }
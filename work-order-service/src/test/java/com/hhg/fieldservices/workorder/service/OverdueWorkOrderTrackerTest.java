@@ -0,0 +1,174 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OverdueWorkOrderTracker.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OverdueWorkOrderTrackerTest {
+
+    private static final LocalDateTime CREATED = WorkOrderSummaries.CREATED_AT;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OverdueWorkOrderTracker tracker;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OverdueWorkOrderTracker(workOrderRepository, eventPublisher, new SimpleMeterRegistry(), true, 1000);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void givenSnapshot_whenSeeded_thenOnlyPastDeadlinesAreOverdueInListOrder() {
+        // Given
+        WorkOrderSummary late = summary(2L).scheduled(now.minusHours(1)).build();
+        WorkOrderSummary later = summary(1L).scheduled(now.minusDays(1)).createdAt(CREATED.plusMinutes(1)).build();
+        WorkOrderSummary upcoming = summary(3L).scheduled(now.plusHours(1)).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(late, later, upcoming));
+
+        // When
+        tracker.seed();
+
+        // Then
+        assertThat(tracker.isReady()).isTrue();
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).containsExactly(late, later);
+        assertThat(tracker.findOverdue(new KeysetCursor(CREATED, 2L), 10)).containsExactly(later);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void givenPendingDeadline_whenItPasses_thenBecameOverdueIsPublished() {
+        // Given
+        seed();
+        WorkOrderSummary upcoming = summary(1L).scheduled(now.plusMinutes(5)).build();
+        tracker.onWorkOrderChanged(WorkOrderChangedEvent.created(upcoming));
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).isEmpty();
+
+        // When
+        tracker.advance(now.plusMinutes(6));
+        tracker.tick();
+
+        // Then
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).containsExactly(upcoming);
+        ArgumentCaptor<WorkOrderBecameOverdueEvent> event = ArgumentCaptor.forClass(WorkOrderBecameOverdueEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().workOrder()).isEqualTo(upcoming);
+    }
+
+    @Test
+    void givenOverdueWorkOrder_whenCompletedOrRescheduled_thenItLeavesTheOverdueSet() {
+        // Given
+        seed();
+        WorkOrderSummary first = summary(1L).scheduled(now.minusHours(1)).build();
+        WorkOrderSummary second = summary(2L).scheduled(now.minusHours(1)).build();
+        tracker.onWorkOrderChanged(WorkOrderChangedEvent.created(first));
+        tracker.onWorkOrderChanged(WorkOrderChangedEvent.created(second));
+
+        // When
+        tracker.onWorkOrderChanged(new WorkOrderChangedEvent(first,
+            summary(first).status(WorkOrderStatus.COMPLETED).version(1L).build()));
+        tracker.onWorkOrderChanged(new WorkOrderChangedEvent(second,
+            summary(second).scheduled(now.plusDays(1)).version(1L).build()));
+
+        // Then
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).isEmpty();
+    }
+
+    @Test
+    void givenChangesDeliveredOutOfOrder_whenApplied_thenOlderVersionIsIgnored() {
+        // Given
+        seed();
+        WorkOrderSummary v0 = summary(1L).scheduled(now.plusDays(1)).build();
+        WorkOrderSummary v1 = summary(v0).scheduled(now.minusHours(1)).version(1L).build();
+        tracker.onWorkOrderChanged(WorkOrderChangedEvent.created(v0));
+
+        // When
+        tracker.onWorkOrderChanged(new WorkOrderChangedEvent(v0, v1));
+        tracker.onWorkOrderChanged(WorkOrderChangedEvent.created(v0));
+
+        // Then
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).containsExactly(v1);
+    }
+
+    @Test
+    void givenChangeCommittedDuringReconcile_whenSnapshotIsOlder_thenInMemoryStateWins() {
+        // Given
+        seed();
+        WorkOrderSummary stale = summary(1L).scheduled(now.minusHours(1)).build();
+        WorkOrderSummary completed = summary(stale).status(WorkOrderStatus.COMPLETED).version(1L).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt())).thenAnswer(invocation -> {
+            tracker.onWorkOrderChanged(new WorkOrderChangedEvent(stale, completed));
+            return List.of(stale);
+        });
+
+        // When
+        tracker.reconcile();
+
+        // Then
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).isEmpty();
+    }
+
+    @Test
+    void givenMissedChange_whenReconciled_thenDriftIsCorrected() {
+        // Given
+        seed();
+        WorkOrderSummary missed = summary(1L).scheduled(now.minusHours(1)).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt())).thenReturn(List.of(missed));
+
+        // When
+        tracker.reconcile();
+
+        // Then
+        assertThat(tracker.findOverdue(KeysetCursor.START, 10)).containsExactly(missed);
+    }
+
+    @Test
+    void givenMoreWorkOrdersThanLimit_whenSeeded_thenTrackerIsNotReady() {
+        // Given
+        tracker = new OverdueWorkOrderTracker(workOrderRepository, eventPublisher, new SimpleMeterRegistry(), true, 1);
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt())).thenReturn(List.of(
+            summary(1L).scheduled(now.minusHours(1)).build(), summary(2L).scheduled(now.minusHours(1)).build()));
+
+        // When
+        tracker.seed();
+
+        // Then
+        assertThat(tracker.isReady()).isFalse();
+    }
+
+    private void seed() {
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt())).thenReturn(List.of());
+        tracker.seed();
+    }
+}
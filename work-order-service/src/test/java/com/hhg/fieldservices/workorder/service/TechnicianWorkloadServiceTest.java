@@ -0,0 +1,176 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.TechnicianWorkload;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.AssignedTechnician;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderLaborHours;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TechnicianWorkloadService.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TechnicianWorkloadServiceTest {
+
+    private static final LocalDateTime SCHEDULED = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private WorkOrderItemRepository workOrderItemRepository;
+
+    private TechnicianWorkloadService workloadService;
+
+    @BeforeEach
+    void setUp() {
+        workloadService = new TechnicianWorkloadService(
+            workOrderRepository, workOrderItemRepository, new SimpleMeterRegistry(), true, 1000);
+    }
+
+    @Test
+    void givenSnapshot_whenSeeded_thenWorkloadsAreLeastLoadedFirst() {
+        // Given
+        seed(List.of(new AssignedTechnician(200L, "Jane Smith"), new AssignedTechnician(300L, "Storm Crew"),
+                new AssignedTechnician(400L, "Idle Crew")),
+            List.of(new WorkOrderLaborHours(1L, 3L), new WorkOrderLaborHours(2L, 5L)),
+            List.of(summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).scheduled(SCHEDULED.plusDays(1)).build(),
+                summary(2L).status(WorkOrderStatus.IN_PROGRESS).technician(200L).scheduled(SCHEDULED).build(),
+                summary(3L).status(WorkOrderStatus.ASSIGNED).technician(300L).scheduled(SCHEDULED).build()));
+
+        // When
+        List<TechnicianWorkload> workloads = workloadService.findWorkloads(null, 10);
+
+        // Then
+        assertThat(workloads).extracting(TechnicianWorkload::technicianId).containsExactly(400L, 300L, 200L);
+        TechnicianWorkload busiest = workloads.get(2);
+        assertThat(busiest.openWorkOrders()).isEqualTo(2);
+        assertThat(busiest.bookedHours()).isEqualTo(8);
+        assertThat(busiest.byStatus()).containsEntry(WorkOrderStatus.IN_PROGRESS, 1);
+        assertThat(busiest.nextWorkOrderId()).isEqualTo(2L);
+        assertThat(workloadService.findWorkloads(null, 1)).extracting(TechnicianWorkload::technicianId)
+            .containsExactly(400L);
+    }
+
+    @Test
+    void givenSeeded_whenWorkOrderIsCreatedAssignedAndCompleted_thenWorkloadFollowsWithoutQuerying() {
+        // Given
+        seed(List.of(), List.of(), List.of());
+        WorkOrderSummary pending = summary(1L).scheduled(SCHEDULED).build();
+        WorkOrderSummary assigned = summary(pending).status(WorkOrderStatus.ASSIGNED).technician(200L).version(1L).build();
+        WorkOrderSummary completed = summary(assigned).status(WorkOrderStatus.COMPLETED).version(2L).build();
+
+        // When
+        workloadService.onWorkOrderChanged(WorkOrderChangedEvent.created(pending, 4));
+        workloadService.onWorkOrderChanged(new WorkOrderChangedEvent(pending, assigned));
+        TechnicianWorkload afterAssign = workloadService.findWorkloads(List.of(200L), 10).get(0);
+        workloadService.onWorkOrderChanged(new WorkOrderChangedEvent(assigned, completed));
+        TechnicianWorkload afterComplete = workloadService.findWorkloads(List.of(200L), 10).get(0);
+
+        // Then
+        assertThat(afterAssign.openWorkOrders()).isEqualTo(1);
+        assertThat(afterAssign.bookedHours()).isEqualTo(4);
+        assertThat(afterAssign.technicianName()).isEqualTo("Technician 200");
+        assertThat(afterComplete.openWorkOrders()).isZero();
+        assertThat(afterComplete.bookedHours()).isZero();
+        verify(workOrderRepository, times(1)).findSummaries(any(Specification.class), anyInt());
+    }
+
+    @Test
+    void givenReassignment_whenApplied_thenWorkMovesBetweenTechnicians() {
+        // Given
+        WorkOrderSummary first = summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).scheduled(SCHEDULED).build();
+        seed(List.of(), List.of(new WorkOrderLaborHours(1L, 2L)), List.of(first));
+
+        // When
+        workloadService.onWorkOrderChanged(
+            new WorkOrderChangedEvent(first, summary(first).technician(300L).version(1L).build()));
+
+        // Then
+        assertThat(workloadService.findWorkloads(List.of(200L, 300L), 10))
+            .extracting(TechnicianWorkload::technicianId, TechnicianWorkload::openWorkOrders,
+                TechnicianWorkload::bookedHours)
+            .containsExactly(tuple(200L, 0, 0L), tuple(300L, 1, 2L));
+    }
+
+    @Test
+    void givenChangesDeliveredOutOfOrder_whenApplied_thenOlderVersionIsIgnored() {
+        // Given
+        seed(List.of(), List.of(), List.of());
+        WorkOrderSummary v1 = summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).scheduled(SCHEDULED)
+            .version(1L).build();
+        WorkOrderSummary v2 = summary(v1).technician(300L).version(2L).build();
+
+        // When
+        workloadService.onWorkOrderChanged(new WorkOrderChangedEvent(v1, v2));
+        workloadService.onWorkOrderChanged(new WorkOrderChangedEvent(null, v1));
+
+        // Then
+        assertThat(workloadService.findWorkloads(List.of(300L), 10).get(0).openWorkOrders()).isEqualTo(1);
+        assertThat(workloadService.findWorkloads(List.of(200L), 10).get(0).openWorkOrders()).isZero();
+    }
+
+    @Test
+    void givenMissedChange_whenReconciled_thenDriftIsCorrected() {
+        // Given
+        seed(List.of(), List.of(), List.of());
+        seed(List.of(), List.of(),
+            List.of(summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).scheduled(SCHEDULED).build()));
+
+        // When
+        List<TechnicianWorkload> workloads = workloadService.findWorkloads(null, 10);
+
+        // Then
+        assertThat(workloads).extracting(TechnicianWorkload::technicianId, TechnicianWorkload::openWorkOrders)
+            .containsExactly(tuple(200L, 1));
+    }
+
+    @Test
+    void givenNotSeeded_whenFindWorkloads_thenLoadFromDatabase() {
+        // Given
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).scheduled(SCHEDULED).build()));
+
+        // When
+        List<TechnicianWorkload> workloads = workloadService.findWorkloads(null, 10);
+
+        // Then
+        assertThat(workloads).extracting(TechnicianWorkload::technicianId).containsExactly(200L);
+    }
+
+    @Test
+    void givenInvalidLimit_whenFindWorkloads_thenThrowValidationException() {
+        assertThatThrownBy(() -> workloadService.findWorkloads(null, 0))
+            .isInstanceOf(WorkOrderValidationException.class);
+    }
+
+    private void seed(List<AssignedTechnician> technicians, List<WorkOrderLaborHours> hours,
+                      List<WorkOrderSummary> assigned) {
+        when(workOrderRepository.findAssignedTechnicians()).thenReturn(technicians);
+        when(workOrderItemRepository.sumOpenLaborHours()).thenReturn(hours);
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt())).thenReturn(assigned);
+        workloadService.reconcile();
+    }
+}
@@ -0,0 +1,143 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderItemRequest;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.UpdateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.ArchivedWorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for WorkOrderArchiver against the Flyway schema.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "workorder.archive.chunk-size=2"
+})
+class WorkOrderArchiverTest {
+
+    @Autowired
+    private WorkOrderArchiver archiver;
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderStatsService statsService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkOrderItemRepository workOrderItemRepository;
+
+    @Autowired
+    private ArchivedWorkOrderRepository archivedWorkOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM work_order_items_archive");
+        jdbcTemplate.update("DELETE FROM work_orders_archive");
+    }
+
+    @Test
+    void givenOldClosedWorkOrders_whenArchive_thenMoveThemWithTheirItemsInChunks() {
+        // Given
+        List<WorkOrderDto> oldClosed = List.of(
+            closed("Old completed 1", WorkOrderStatus.COMPLETED),
+            closed("Old completed 2", WorkOrderStatus.COMPLETED),
+            closed("Old cancelled", WorkOrderStatus.CANCELLED));
+        WorkOrderDto recentClosed = closed("Recently completed", WorkOrderStatus.COMPLETED);
+        WorkOrderDto oldOpen = workOrderService.create(request("Old but open"));
+        LocalDateTime lastMonth = LocalDateTime.now().minusDays(30);
+        oldClosed.forEach(dto -> backdate(dto.getId(), lastMonth));
+        backdate(oldOpen.getId(), lastMonth);
+        long completedBefore = statsService.getStats().getByStatus().get(WorkOrderStatus.COMPLETED);
+
+        // When
+        int archived = archiver.archiveClosedBefore(LocalDateTime.now().minusDays(7));
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        assertThat(workOrderRepository.findAll()).extracting(wo -> wo.getId())
+            .containsExactlyInAnyOrder(recentClosed.getId(), oldOpen.getId());
+        assertThat(archivedWorkOrderRepository.count()).isEqualTo(3);
+        assertThat(workOrderItemRepository.count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_order_items_archive", Long.class))
+            .isEqualTo(3);
+        assertThat(statsService.getStats().getByStatus().get(WorkOrderStatus.COMPLETED))
+            .isEqualTo(completedBefore - 2);
+
+        WorkOrderDto byId = workOrderService.findById(oldClosed.get(0).getId());
+        assertThat(byId.getTitle()).isEqualTo("Old completed 1");
+        assertThat(byId.getStatus()).isEqualTo(WorkOrderStatus.COMPLETED);
+        assertThat(byId.getArchivedAt()).isNotNull();
+        assertThat(byId.getItems()).singleElement()
+            .satisfies(item -> assertThat(item.getTotalPrice()).isEqualByComparingTo("50.00"));
+        WorkOrderDto byNumber = workOrderService.findByWorkOrderNumber(oldClosed.get(2).getWorkOrderNumber());
+        assertThat(byNumber.getStatus()).isEqualTo(WorkOrderStatus.CANCELLED);
+        assertThat(workOrderService.findVersion(byNumber.getId())).isEqualTo(byNumber.getVersion());
+        assertThat(workOrderService.findById(recentClosed.getId()).getArchivedAt()).isNull();
+    }
+
+    @Test
+    void givenArchivedWorkOrder_whenUpdatedOrHistoryRead_thenReadOnlyButStillFound() {
+        // Given
+        WorkOrderDto closed = closed("Archived order", WorkOrderStatus.COMPLETED);
+        archiver.archiveClosedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.update(closed.getId(),
+                UpdateWorkOrderRequest.builder().title("Reopened").build()))
+            .isInstanceOf(WorkOrderNotFoundException.class);
+        assertThatCode(() -> workOrderService.findStatusHistory(closed.getId(), null, 20))
+            .doesNotThrowAnyException();
+        assertThatThrownBy(() -> workOrderService.findById(closed.getId() + 1000))
+            .isInstanceOf(WorkOrderNotFoundException.class);
+    }
+
+    private WorkOrderDto closed(String title, WorkOrderStatus status) {
+        WorkOrderDto created = workOrderService.create(request(title));
+        return workOrderService.updateStatus(created.getId(), status);
+    }
+
+    private void backdate(Long id, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE work_orders SET updated_at = ? WHERE id = ?", updatedAt, id);
+    }
+
+    private static CreateWorkOrderRequest request(String title) {
+        return CreateWorkOrderRequest.builder()
+            .title(title)
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .items(List.of(CreateWorkOrderItemRequest.builder()
+                .itemType("PART")
+                .description("Filter")
+                .quantity(2)
+                .unitPrice(new BigDecimal("25.00"))
+                .build()))
+            .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.BatchCreateResponse;
+import com.hhg.fieldservices.workorder.dto.BatchItemResult;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderItemRequest;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for WorkOrderBatchService against the real schema.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "workorder.batch.chunk-size=500",
+    "workorder.history.enabled=false"
+})
+class WorkOrderBatchServiceTest {
+
+    @Autowired
+    private WorkOrderBatchService workOrderBatchService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkOrderItemRepository workOrderItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+    }
+
+    @Test
+    void givenThousandWorkOrdersWithItems_whenCreateAll_thenRowsAreInsertedInJdbcBatches() {
+        // Given
+        List<CreateWorkOrderRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            requests.add(request("Batch order " + i, item("Filter"), item("Labor")));
+        }
+
+        // When
+        BatchCreateResponse response = workOrderBatchService.createAll(requests);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(1000);
+        assertThat(response.getFailed()).isZero();
+        assertThat(workOrderRepository.count()).isEqualTo(1000);
+        assertThat(workOrderItemRepository.count()).isEqualTo(2000);
+        // 1000 work orders, 2000 items and 1000 outbox events
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(4000);
+        // 4000 rows at batch_size 50 is 80 batches, plus pooled sequence and number-block fetches
+        // and one unpooled outbox ID fetch per event
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(1000 + 200);
+    }
+
+    @Test
+    void givenInvalidEntries_whenCreateAll_thenOnlyInvalidEntriesAreRejected() {
+        // Given
+        List<CreateWorkOrderRequest> requests = List.of(
+            request("Valid order"),
+            CreateWorkOrderRequest.builder().priority(WorkOrderPriority.LOW).customerId(1L).build(),
+            request("Another valid order"));
+
+        // When
+        BatchCreateResponse response = workOrderBatchService.createAll(requests);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(response.getResults().get(1).isCreated()).isFalse();
+        assertThat(response.getResults().get(1).getErrors()).anyMatch(error -> error.startsWith("title:"));
+        assertThat(response.getResults().get(2).getWorkOrderNumber()).startsWith("WO-");
+    }
+
+    @Test
+    void givenEntryRejectedByDatabase_whenCreateAll_thenRestOfChunkIsCreated() {
+        // Given - total price overflows DECIMAL(10, 2) although each field passes validation
+        CreateWorkOrderItemRequest overflowing = CreateWorkOrderItemRequest.builder()
+            .itemType("PART")
+            .description("Compressor")
+            .quantity(1000)
+            .unitPrice(new BigDecimal("99999999.99"))
+            .build();
+        List<CreateWorkOrderRequest> requests = List.of(
+            request("First order", item("Filter")),
+            request("Overflowing order", overflowing),
+            request("Third order", item("Labor")));
+
+        // When
+        BatchCreateResponse response = workOrderBatchService.createAll(requests);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchItemResult::isCreated).containsExactly(true, false, true);
+        assertThat(response.getResults().get(1).getErrors()).isNotEmpty();
+        assertThat(workOrderRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenEmptyBatch_whenCreateAll_thenThrowValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> workOrderBatchService.createAll(List.of()))
+            .isInstanceOf(WorkOrderValidationException.class);
+    }
+
+    private static CreateWorkOrderRequest request(String title, CreateWorkOrderItemRequest... items) {
+        return CreateWorkOrderRequest.builder()
+            .title(title)
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .items(List.of(items))
+            .build();
+    }
+
+    private static CreateWorkOrderItemRequest item(String description) {
+        return CreateWorkOrderItemRequest.builder()
+            .itemType("PART")
+            .description(description)
+            .quantity(1)
+            .unitPrice(new BigDecimal("25.00"))
+            .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderCache.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderCacheTest {
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    private MeterRegistry meterRegistry;
+    private WorkOrderCache workOrderCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        workOrderCache = new WorkOrderCache(workOrderRepository, meterRegistry, true, 100, Duration.ofMinutes(10), true);
+    }
+
+    @Test
+    void givenCachedCurrentVersion_whenGetById_thenReturnHit() {
+        // Given
+        workOrderCache.put(dto(1L, 3L));
+        when(workOrderRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // When
+        Optional<WorkOrderDto> result = workOrderCache.getById(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(lookups("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenCommittedVersionMoved_whenGetById_thenReturnStaleMiss() {
+        // Given
+        workOrderCache.put(dto(1L, 3L));
+        when(workOrderRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        // When
+        Optional<WorkOrderDto> result = workOrderCache.getById(1L);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(lookups("stale")).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenVersionProbeDisabled_whenGetById_thenReturnHitWithoutQuery() {
+        // Given
+        WorkOrderCache singleNode = new WorkOrderCache(workOrderRepository, meterRegistry, true, 100,
+            Duration.ofMinutes(10), false);
+        singleNode.put(dto(1L, 3L));
+
+        // When
+        Optional<WorkOrderDto> result = singleNode.getById(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        verifyNoInteractions(workOrderRepository);
+    }
+
+    @Test
+    void givenNewerVersionCached_whenPutOlderVersion_thenOlderVersionIsRejected() {
+        // Given
+        workOrderCache.put(dto(1L, 5L));
+        when(workOrderRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        // When
+        workOrderCache.put(dto(1L, 4L));
+
+        // Then
+        assertThat(workOrderCache.getById(1L)).get()
+            .extracting(WorkOrderDto::getVersion).isEqualTo(5L);
+    }
+
+    @Test
+    void givenDeletedWorkOrder_whenPutOldSnapshot_thenLookupMisses() {
+        // Given
+        workOrderCache.put(dto(1L, 2L));
+        workOrderCache.evictAfterCommit(1L);
+
+        // When
+        workOrderCache.put(dto(1L, 2L));
+
+        // Then
+        assertThat(workOrderCache.getById(1L)).isEmpty();
+        verifyNoInteractions(workOrderRepository);
+    }
+
+    @Test
+    void givenUncachedWorkOrder_whenSnapshotReadBeforeBulkUpdateIsPutAfterIt_thenLookupMisses() {
+        // Given
+        WorkOrderDto readBeforeUpdate = dto(1L, 2L);
+        workOrderCache.invalidateAfterCommit(Map.of(1L, 3L));
+
+        // When
+        workOrderCache.put(readBeforeUpdate);
+
+        // Then
+        assertThat(workOrderCache.getById(1L)).isEmpty();
+        verifyNoInteractions(workOrderRepository);
+    }
+
+    @Test
+    void givenConsecutiveBulkUpdates_whenSnapshotBetweenThemIsPut_thenLookupMisses() {
+        // Given
+        workOrderCache.put(dto(1L, 2L));
+        workOrderCache.invalidateAfterCommit(Map.of(1L, 3L));
+        WorkOrderDto readBetweenUpdates = dto(1L, 3L);
+        workOrderCache.invalidateAfterCommit(Map.of(1L, 4L));
+
+        // When
+        workOrderCache.put(readBetweenUpdates);
+
+        // Then
+        assertThat(workOrderCache.getById(1L)).isEmpty();
+        verifyNoInteractions(workOrderRepository);
+    }
+
+    @Test
+    void givenBulkUpdate_whenCommittedVersionIsPut_thenLookupHits() {
+        // Given
+        workOrderCache.invalidateAfterCommit(Map.of(1L, 3L));
+        when(workOrderRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // When
+        workOrderCache.put(dto(1L, 3L));
+
+        // Then
+        assertThat(workOrderCache.getById(1L)).get()
+            .extracting(WorkOrderDto::getVersion).isEqualTo(3L);
+    }
+
+    @Test
+    void givenCachedWorkOrder_whenGetByWorkOrderNumber_thenResolveThroughId() {
+        // Given
+        workOrderCache.put(dto(1L, 0L));
+        when(workOrderRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+
+        // When
+        Optional<WorkOrderDto> result = workOrderCache.getByWorkOrderNumber("WO-1");
+
+        // Then
+        assertThat(result).get().extracting(WorkOrderDto::getId).isEqualTo(1L);
+    }
+
+    private static WorkOrderDto dto(Long id, Long version) {
+        return WorkOrderDto.builder()
+            .id(id)
+            .workOrderNumber("WO-" + id)
+            .version(version)
+            .build();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("workorder.cache.lookups").tag("result", result).counter().count();
+    }
+}
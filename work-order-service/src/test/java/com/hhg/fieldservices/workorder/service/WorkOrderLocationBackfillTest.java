@@ -0,0 +1,83 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for WorkOrderLocationBackfill against the Flyway schema.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "workorder.geo.backfill-chunk-size=2"
+})
+class WorkOrderLocationBackfillTest {
+
+    private static final String ANCHORAGE = "99501";
+
+    @Autowired
+    private WorkOrderLocationBackfill backfill;
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM zip_code_centroids WHERE zip_code = ?", ANCHORAGE);
+    }
+
+    @Test
+    void givenZipCodeAddedAfterCreate_whenBackfill_thenOpenWorkOrdersAreLocatedAndFoundNearby() {
+        // Given
+        WorkOrderDto first = workOrderService.create(request("First"));
+        WorkOrderDto second = workOrderService.create(request("Second"));
+        WorkOrderDto third = workOrderService.create(request("Third"));
+        WorkOrderDto closed = workOrderService.create(request("Closed"));
+        workOrderService.updateStatus(closed.getId(), WorkOrderStatus.CANCELLED);
+        assertThat(workOrderService.findById(first.getId()).getLatitude()).isNull();
+        jdbcTemplate.update("INSERT INTO zip_code_centroids (zip_code, latitude, longitude) VALUES (?, ?, ?)",
+            ANCHORAGE, 61.2167, -149.8949);
+
+        // When
+        int located = backfill.backfill();
+
+        // Then
+        assertThat(located).isEqualTo(3);
+        WorkOrderDto reloaded = workOrderService.findById(first.getId());
+        assertThat(reloaded.getLatitude()).isEqualTo(61.2167);
+        assertThat(reloaded.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(workOrderService.findById(closed.getId()).getLatitude()).isNull();
+        assertThat(workOrderService.findNearby(61.2167, -149.8949, 5, 10))
+            .extracting(nearby -> nearby.workOrder().id())
+            .containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId());
+        assertThat(backfill.backfill()).isZero();
+    }
+
+    private static CreateWorkOrderRequest request(String title) {
+        return CreateWorkOrderRequest.builder()
+            .title(title)
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .zipCode(ANCHORAGE)
+            .build();
+    }
+}
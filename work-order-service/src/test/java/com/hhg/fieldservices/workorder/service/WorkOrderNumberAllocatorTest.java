@@ -0,0 +1,127 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.model.WorkOrder;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrency tests for WorkOrderNumberAllocator against the real sequence.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "logging.level.org.hibernate.SQL=INFO")
+class WorkOrderNumberAllocatorTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+    }
+
+    @Test
+    void givenThousandsOfParallelCreates_whenCreate_thenEveryNumberIsUnique() throws Exception {
+        // Given
+        int creates = 3000;
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < creates; i++) {
+            CreateWorkOrderRequest request = CreateWorkOrderRequest.builder()
+                .title("Parallel create " + i)
+                .priority(WorkOrderPriority.NORMAL)
+                .customerId(100L)
+                .build();
+            tasks.add(() -> workOrderService.create(request).getWorkOrderNumber());
+        }
+
+        // When
+        List<String> numbers = runAll(tasks);
+
+        // Then
+        assertThat(numbers).doesNotHaveDuplicates().hasSize(creates);
+        assertThat(workOrderRepository.findAll())
+            .extracting(WorkOrder::getWorkOrderNumber)
+            .doesNotHaveDuplicates()
+            .hasSize(creates);
+    }
+
+    @Test
+    void givenTwoNodes_whenAllocatingInParallel_thenNumbersAreUniqueAndMonotonicPerNode() throws Exception {
+        // Given
+        WorkOrderNumberAllocator nodeA = new WorkOrderNumberAllocator(jdbcTemplate, entityManagerFactory);
+        WorkOrderNumberAllocator nodeB = new WorkOrderNumberAllocator(jdbcTemplate, entityManagerFactory);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            WorkOrderNumberAllocator node = t % 2 == 0 ? nodeA : nodeB;
+            tasks.add(() -> {
+                long previous = -1;
+                for (int i = 0; i < 1000; i++) {
+                    long value = node.nextValue();
+                    if (value <= previous || !seen.add(value)) {
+                        return false;
+                    }
+                    previous = value;
+                }
+                return true;
+            });
+        }
+
+        // When
+        List<Boolean> results = runAll(tasks);
+
+        // Then
+        assertThat(results).containsOnly(true);
+        assertThat(seen).hasSize(THREADS * 1000);
+    }
+
+    @Test
+    void givenValue_whenFormat_thenZeroPaddedWithPrefix() {
+        // When & Then
+        assertThat(WorkOrderNumberAllocator.format(101)).isEqualTo("WO-0000000101");
+    }
+
+    private static <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
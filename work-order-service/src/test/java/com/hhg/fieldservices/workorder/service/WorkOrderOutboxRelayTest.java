@@ -0,0 +1,115 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.model.WorkOrderEvent;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import com.hhg.fieldservices.workorder.repository.WorkOrderEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderOutboxRelay.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderOutboxRelayTest {
+
+    @Mock
+    private WorkOrderEventRepository workOrderEventRepository;
+
+    @Mock
+    private WorkOrderEventSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new WorkOrderOutboxRelay(workOrderEventRepository, sink, new TransactionTemplate(transactionManager),
+            meterRegistry, true, 2);
+    }
+
+    @Test
+    void givenPendingEvents_whenRelay_thenStampNextPositionsAndPublishInOrder() {
+        // Given
+        List<WorkOrderEvent> events = List.of(event(11L), event(12L), event(13L));
+        when(workOrderEventRepository.findUnpublished(any(Pageable.class)))
+            .thenReturn(events.subList(0, 2))
+            .thenReturn(events.subList(2, 3));
+        when(workOrderEventRepository.findMaxLogPosition()).thenReturn(Optional.of(40L), Optional.of(42L));
+        List<WorkOrderEventMessage> published = new ArrayList<>();
+        doAnswer(invocation -> published.addAll(invocation.getArgument(0))).when(sink).publish(anyList());
+
+        // When
+        relay.relay();
+
+        // Then
+        assertThat(published).extracting(WorkOrderEventMessage::eventId).containsExactly(11L, 12L, 13L);
+        assertThat(published).extracting(WorkOrderEventMessage::position).containsExactly(41L, 42L, 43L);
+        assertThat(events).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+        assertThat(meterRegistry.counter("workorder.outbox.published").count()).isEqualTo(3.0);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void givenSinkFails_whenRelay_thenRollBackAndCountFailure() {
+        // Given
+        when(workOrderEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(event(11L)));
+        when(workOrderEventRepository.findMaxLogPosition()).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("sink unavailable")).when(sink).publish(anyList());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.counter("workorder.outbox.failures").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("workorder.outbox.published").count()).isZero();
+    }
+
+    @Test
+    void givenRelayDisabled_whenRelay_thenOutboxIsNotRead() {
+        // Given
+        relay = new WorkOrderOutboxRelay(workOrderEventRepository, sink, new TransactionTemplate(transactionManager),
+            meterRegistry, false, 2);
+
+        // When
+        relay.relay();
+
+        // Then
+        verifyNoInteractions(workOrderEventRepository, sink);
+    }
+
+    private static WorkOrderEvent event(Long id) {
+        return WorkOrderEvent.builder()
+            .id(id)
+            .workOrderId(1L)
+            .workOrderVersion(id)
+            .type(WorkOrderEventType.UPDATED)
+            .payload("{}")
+            .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.BulkStatusUpdateRequest;
+import com.hhg.fieldservices.workorder.dto.ConsumerOffset;
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.dto.WorkOrderEventMessage;
+import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the work order event outbox, relay and event log against the real schema.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO",
+    "workorder.outbox.poll-interval=PT1H"
+})
+class WorkOrderOutboxTest {
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderOutboxRelay relay;
+
+    @Autowired
+    private WorkOrderEventLogService workOrderEventLogService;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @AfterEach
+    void tearDown() {
+        workOrderRepository.deleteAll();
+    }
+
+    @Test
+    void givenWorkOrderChanges_whenRelayed_thenLogHoldsOneEventPerChangeInOrder() {
+        // Given
+        WorkOrderDto created = workOrderService.create(request("Outbox order"));
+        workOrderService.assignToTechnician(created.getId(), 200L, "Jane Smith");
+        workOrderService.bulkUpdateStatus(BulkStatusUpdateRequest.builder()
+            .ids(List.of(created.getId()))
+            .status(WorkOrderStatus.IN_PROGRESS)
+            .build());
+        workOrderService.delete(created.getId());
+
+        // When
+        relay.relay();
+
+        // Then
+        List<WorkOrderEventMessage> events = readAll().stream()
+            .filter(event -> event.workOrderId().equals(created.getId()))
+            .toList();
+        assertThat(events).extracting(WorkOrderEventMessage::type).containsExactly(
+            WorkOrderEventType.CREATED, WorkOrderEventType.ASSIGNED,
+            WorkOrderEventType.STATUS_CHANGED, WorkOrderEventType.DELETED);
+        assertThat(events).extracting(WorkOrderEventMessage::position).isSorted().doesNotHaveDuplicates();
+        assertThat(events).extracting(WorkOrderEventMessage::workOrderVersion).isSorted();
+        assertThat(events.get(0).payload()).contains("\"title\":\"Outbox order\"");
+    }
+
+    @Test
+    void givenConsumer_whenCommitOffset_thenReadResumesAfterIt() {
+        // Given
+        workOrderService.create(request("First"));
+        workOrderService.create(request("Second"));
+        relay.relay();
+        List<WorkOrderEventMessage> events = readAll();
+        long committed = events.get(events.size() - 2).position();
+
+        // When
+        ConsumerOffset offset = workOrderEventLogService.commitOffset("outbox-test", committed);
+
+        // Then
+        assertThat(offset.updatedAt()).isNotNull();
+        assertThat(workOrderEventLogService.getOffset("outbox-test").position()).isEqualTo(committed);
+        assertThat(workOrderEventLogService.read(committed, 10)).hasSize(1);
+        assertThat(workOrderEventLogService.getOffset("never-committed").position()).isZero();
+    }
+
+    @Test
+    void givenOffsetPastEndOfLog_whenCommitOffset_thenThrowValidationException() {
+        // Given
+        workOrderService.create(request("Only"));
+        relay.relay();
+        List<WorkOrderEventMessage> events = readAll();
+        long end = events.get(events.size() - 1).position();
+
+        // When & Then
+        assertThatThrownBy(() -> workOrderEventLogService.commitOffset("outbox-test", end + 1))
+            .isInstanceOf(WorkOrderValidationException.class);
+        assertThatThrownBy(() -> workOrderEventLogService.getOffset("bad name!"))
+            .isInstanceOf(WorkOrderValidationException.class);
+    }
+
+    private List<WorkOrderEventMessage> readAll() {
+        List<WorkOrderEventMessage> all = new ArrayList<>();
+        List<WorkOrderEventMessage> page;
+        long after = 0;
+        do {
+            page = workOrderEventLogService.read(after, WorkOrderEventLogService.MAX_READ_SIZE);
+            all.addAll(page);
+            after = page.isEmpty() ? after : page.get(page.size() - 1).position();
+        } while (page.size() == WorkOrderEventLogService.MAX_READ_SIZE);
+        return all;
+    }
+
+    private static CreateWorkOrderRequest request(String title) {
+        return CreateWorkOrderRequest.builder()
+            .title(title)
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .build();
+    }
+}
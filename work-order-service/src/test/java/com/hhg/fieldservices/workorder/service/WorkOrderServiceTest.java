@@ -1,29 +1,52 @@
 package com.hhg.fieldservices.workorder.service;
 
+import com.hhg.fieldservices.workorder.dto.BulkAssignRequest;
+import com.hhg.fieldservices.workorder.dto.BulkStatusUpdateRequest;
+import com.hhg.fieldservices.workorder.dto.BulkUpdateResponse;
 import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.CursorPage;
+import com.hhg.fieldservices.workorder.dto.NearbyWorkOrder;
 import com.hhg.fieldservices.workorder.dto.UpdateWorkOrderRequest;
 import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.dto.SkippedWorkOrder;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSearchCriteria;
+import com.hhg.fieldservices.workorder.dto.WorkOrderStatusHistoryEntry;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
 import com.hhg.fieldservices.workorder.exception.WorkOrderNotFoundException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderPreconditionFailedException;
+import com.hhg.fieldservices.workorder.exception.WorkOrderSearchUnavailableException;
 import com.hhg.fieldservices.workorder.exception.WorkOrderValidationException;
 import com.hhg.fieldservices.workorder.mapper.WorkOrderMapper;
 import com.hhg.fieldservices.workorder.model.WorkOrder;
 import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
 import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import com.hhg.fieldservices.workorder.repository.ArchivedWorkOrderRepository;
 import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderStatusChangeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,6 +64,33 @@ class WorkOrderServiceTest {
     @Mock
     private WorkOrderMapper workOrderMapper;
     
+    @Mock
+    private WorkOrderCache workOrderCache;
+    
+    @Mock
+    private WorkOrderNumberAllocator workOrderNumberAllocator;
+    
+    @Mock
+    private OverdueWorkOrderTracker overdueWorkOrderTracker;
+    
+    @Mock
+    private WorkOrderSpatialIndex workOrderSpatialIndex;
+    
+    @Mock
+    private WorkOrderTextIndex workOrderTextIndex;
+    
+    @Mock
+    private Geocoder geocoder;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private WorkOrderStatusChangeRepository statusChangeRepository;
+    
+    @Mock
+    private ArchivedWorkOrderRepository archivedWorkOrderRepository;
+    
     @InjectMocks
     private WorkOrderService workOrderService;
     
@@ -86,20 +136,128 @@ class WorkOrderServiceTest {
     }
     
     @Test
-    void givenWorkOrdersExist_whenFindAll_thenReturnAllWorkOrders() {
+    void givenWorkOrdersExist_whenFindAll_thenReturnFirstPage() {
         // Given
         List<WorkOrder> workOrders = List.of(testWorkOrder);
         List<WorkOrderDto> workOrderDtos = List.of(testWorkOrderDto);
-        when(workOrderRepository.findAll()).thenReturn(workOrders);
+        when(workOrderRepository.findPageAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(workOrders);
         when(workOrderMapper.toDtoList(workOrders)).thenReturn(workOrderDtos);
         
         // When
-        List<WorkOrderDto> result = workOrderService.findAll();
+        CursorPage<WorkOrderDto> result = workOrderService.findAll(null, 20);
         
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Test Work Order");
-        verify(workOrderRepository).findAll();
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Work Order");
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+    
+    @Test
+    void givenMoreRowsThanPageSize_whenFindAll_thenReturnCursorForNextPage() {
+        // Given
+        WorkOrder second = WorkOrder.builder()
+            .id(2L)
+            .createdAt(testWorkOrder.getCreatedAt().plusSeconds(1))
+            .build();
+        when(workOrderRepository.findPageAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(testWorkOrder, second));
+        when(workOrderMapper.toDtoList(List.of(testWorkOrder))).thenReturn(List.of(testWorkOrderDto));
+        
+        // When
+        CursorPage<WorkOrderDto> result = workOrderService.findAll(null, 1);
+        
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertThat(next.id()).isEqualTo(1L);
+        assertThat(next.createdAt()).isEqualTo(testWorkOrder.getCreatedAt());
+    }
+    
+    @Test
+    void givenMalformedCursor_whenFindAll_thenThrowValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.findAll("not-a-cursor", 20))
+            .isInstanceOf(WorkOrderValidationException.class)
+            .hasMessageContaining("cursor");
+    }
+    
+    @Test
+    void givenPageSizeAboveMaximum_whenFindAll_thenThrowValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.findAll(null, WorkOrderService.MAX_PAGE_SIZE + 1))
+            .isInstanceOf(WorkOrderValidationException.class)
+            .hasMessageContaining("Page size");
+    }
+    
+    @Test
+    void givenStatusChanges_whenFindStatusHistory_thenReturnTimeInEachStatusAndCursor() {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 8, 0);
+        WorkOrderStatusChange pending = WorkOrderStatusChange.builder()
+            .id(10L).workOrderId(1L).workOrderVersion(0L)
+            .toStatus(WorkOrderStatus.PENDING).changedAt(created).build();
+        WorkOrderStatusChange assigned = WorkOrderStatusChange.builder()
+            .id(11L).workOrderId(1L).workOrderVersion(1L).technicianId(200L)
+            .fromStatus(WorkOrderStatus.PENDING).toStatus(WorkOrderStatus.ASSIGNED)
+            .changedAt(created.plusMinutes(30)).build();
+        WorkOrderStatusChange started = WorkOrderStatusChange.builder()
+            .id(12L).workOrderId(1L).workOrderVersion(2L).technicianId(200L)
+            .fromStatus(WorkOrderStatus.ASSIGNED).toStatus(WorkOrderStatus.IN_PROGRESS)
+            .changedAt(created.plusMinutes(90)).build();
+        when(statusChangeRepository.findHistoryAfter(eq(1L), eq(-1L), any(Pageable.class)))
+            .thenReturn(List.of(pending, assigned, started));
+        
+        // When
+        CursorPage<WorkOrderStatusHistoryEntry> result = workOrderService.findStatusHistory(1L, null, 2);
+        
+        // Then
+        assertThat(result.getContent()).extracting(WorkOrderStatusHistoryEntry::toStatus)
+            .containsExactly(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED);
+        assertThat(result.getContent()).extracting(WorkOrderStatusHistoryEntry::secondsInStatus)
+            .containsExactly(1800L, 3600L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(VersionCursor.decode(result.getNextCursor())).isEqualTo(new VersionCursor(1L));
+        verify(workOrderRepository, never()).existsById(any());
+    }
+    
+    @Test
+    void givenLaterVersionRecordedFirst_whenFindStatusHistory_thenKeepVersionOrderWithoutNegativeTime() {
+        // Given
+        LocalDateTime recorded = LocalDateTime.of(2024, 3, 1, 8, 0);
+        WorkOrderStatusChange assigned = WorkOrderStatusChange.builder()
+            .id(21L).workOrderId(1L).workOrderVersion(1L).technicianId(200L)
+            .fromStatus(WorkOrderStatus.PENDING).toStatus(WorkOrderStatus.ASSIGNED)
+            .changedAt(recorded.plusSeconds(2)).build();
+        WorkOrderStatusChange started = WorkOrderStatusChange.builder()
+            .id(20L).workOrderId(1L).workOrderVersion(2L).technicianId(200L)
+            .fromStatus(WorkOrderStatus.ASSIGNED).toStatus(WorkOrderStatus.IN_PROGRESS)
+            .changedAt(recorded).build();
+        when(statusChangeRepository.findHistoryAfter(eq(1L), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(assigned, started));
+        
+        // When
+        CursorPage<WorkOrderStatusHistoryEntry> result =
+            workOrderService.findStatusHistory(1L, new VersionCursor(0L).encode(), 20);
+        
+        // Then
+        assertThat(result.getContent()).extracting(WorkOrderStatusHistoryEntry::version).containsExactly(1L, 2L);
+        assertThat(result.getContent()).extracting(WorkOrderStatusHistoryEntry::secondsInStatus)
+            .containsExactly(0L, null);
+    }
+    
+    @Test
+    void givenUnknownWorkOrder_whenFindStatusHistory_thenThrowNotFound() {
+        // Given
+        when(statusChangeRepository.findHistoryAfter(eq(999L), eq(-1L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(workOrderRepository.existsById(999L)).thenReturn(false);
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.findStatusHistory(999L, null, 20))
+            .isInstanceOf(WorkOrderNotFoundException.class);
     }
     
     @Test
@@ -118,6 +276,32 @@ class WorkOrderServiceTest {
         verify(workOrderRepository).findById(1L);
     }
     
+    @Test
+    void givenCachedWorkOrder_whenFindById_thenRepositoryIsNotQueried() {
+        // Given
+        when(workOrderCache.getById(1L)).thenReturn(Optional.of(testWorkOrderDto));
+        
+        // When
+        WorkOrderDto result = workOrderService.findById(1L);
+        
+        // Then
+        assertThat(result).isSameAs(testWorkOrderDto);
+        verify(workOrderRepository, never()).findById(any());
+    }
+    
+    @Test
+    void givenCacheMiss_whenFindById_thenLoadedWorkOrderIsCached() {
+        // Given
+        when(workOrderRepository.findById(1L)).thenReturn(Optional.of(testWorkOrder));
+        when(workOrderMapper.toDto(testWorkOrder)).thenReturn(testWorkOrderDto);
+        
+        // When
+        workOrderService.findById(1L);
+        
+        // Then
+        verify(workOrderCache).put(testWorkOrderDto);
+    }
+    
     @Test
     void givenInvalidId_whenFindById_thenThrowNotFoundException() {
         // Given
@@ -133,6 +317,7 @@ class WorkOrderServiceTest {
     void givenValidRequest_whenCreate_thenReturnCreatedWorkOrder() {
         // Given
         when(workOrderMapper.toEntity(createRequest)).thenReturn(testWorkOrder);
+        when(workOrderNumberAllocator.nextWorkOrderNumber()).thenReturn("WO-0000000101");
         when(workOrderRepository.save(any(WorkOrder.class))).thenReturn(testWorkOrder);
         when(workOrderMapper.toDto(testWorkOrder)).thenReturn(testWorkOrderDto);
         
@@ -142,9 +327,27 @@ class WorkOrderServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
+        assertThat(testWorkOrder.getWorkOrderNumber()).isEqualTo("WO-0000000101");
         verify(workOrderRepository).save(any(WorkOrder.class));
     }
     
+    @Test
+    void givenLocatableAddress_whenCreate_thenStoreCoordinates() {
+        // Given
+        testWorkOrder.setZipCode("62701");
+        when(workOrderMapper.toEntity(createRequest)).thenReturn(testWorkOrder);
+        when(geocoder.locate(testWorkOrder)).thenCallRealMethod();
+        when(geocoder.geocode(null, null, null, "62701")).thenReturn(Optional.of(new GeoPoint(39.8, -89.65)));
+        when(workOrderRepository.save(any(WorkOrder.class))).thenReturn(testWorkOrder);
+        
+        // When
+        workOrderService.create(createRequest);
+        
+        // Then
+        assertThat(testWorkOrder.getLatitude()).isEqualTo(39.8);
+        assertThat(testWorkOrder.getLongitude()).isEqualTo(-89.65);
+    }
+    
     @Test
     void givenValidIdAndRequest_whenUpdate_thenReturnUpdatedWorkOrder() {
         // Given
@@ -164,25 +367,30 @@ class WorkOrderServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(workOrderRepository).save(testWorkOrder);
+        verify(workOrderRepository).flush();
+        verify(workOrderCache).putAfterCommit(testWorkOrderDto);
     }
     
     @Test
     void givenValidId_whenDelete_thenWorkOrderIsDeleted() {
         // Given
-        when(workOrderRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(workOrderRepository).deleteById(1L);
+        WorkOrderSummary before = summary(1L).createdAt(LocalDateTime.now()).build();
+        when(workOrderRepository.findById(1L)).thenReturn(Optional.of(testWorkOrder));
+        when(workOrderMapper.toSummary(testWorkOrder)).thenReturn(before);
         
         // When
         workOrderService.delete(1L);
         
         // Then
-        verify(workOrderRepository).deleteById(1L);
+        verify(workOrderRepository).delete(testWorkOrder);
+        verify(workOrderCache).evictAfterCommit(1L);
+        verify(eventPublisher).publishEvent(WorkOrderChangedEvent.deleted(before));
     }
     
     @Test
     void givenInvalidId_whenDelete_thenThrowNotFoundException() {
         // Given
-        when(workOrderRepository.existsById(999L)).thenReturn(false);
+        when(workOrderRepository.findById(999L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThatThrownBy(() -> workOrderService.delete(999L))
@@ -221,9 +429,12 @@ class WorkOrderServiceTest {
     @Test
     void givenValidStatus_whenUpdateStatus_thenStatusIsUpdated() {
         // Given
+        WorkOrderSummary before = summary(1L).createdAt(LocalDateTime.now()).build();
+        WorkOrderSummary after = summary(1L).createdAt(before.createdAt()).build();
         when(workOrderRepository.findById(1L)).thenReturn(Optional.of(testWorkOrder));
         when(workOrderRepository.save(testWorkOrder)).thenReturn(testWorkOrder);
         when(workOrderMapper.toDto(testWorkOrder)).thenReturn(testWorkOrderDto);
+        when(workOrderMapper.toSummary(testWorkOrder)).thenReturn(before, after);
         
         // When
         WorkOrderDto result = workOrderService.updateStatus(1L, WorkOrderStatus.IN_PROGRESS);
@@ -233,6 +444,43 @@ class WorkOrderServiceTest {
         assertThat(testWorkOrder.getStatus()).isEqualTo(WorkOrderStatus.IN_PROGRESS);
         assertThat(testWorkOrder.getStartedAt()).isNotNull();
         verify(workOrderRepository).save(testWorkOrder);
+        verify(eventPublisher).publishEvent(new WorkOrderChangedEvent(before, after));
+    }
+    
+    @Test
+    void givenStaleExpectedVersion_whenUpdateStatus_thenThrowPreconditionFailed() {
+        // Given
+        when(workOrderRepository.findById(1L)).thenReturn(Optional.of(testWorkOrder));
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.updateStatus(1L, WorkOrderStatus.IN_PROGRESS, 7L))
+            .isInstanceOf(WorkOrderPreconditionFailedException.class);
+        assertThat(testWorkOrder.getStatus()).isEqualTo(WorkOrderStatus.PENDING);
+        verify(workOrderRepository, never()).save(any());
+    }
+    
+    @Test
+    void givenConcurrentCommitAfterVersionCheck_whenConditionalUpdate_thenThrowPreconditionFailed() {
+        // Given
+        UpdateWorkOrderRequest request = UpdateWorkOrderRequest.builder().title("Updated Title").build();
+        when(workOrderRepository.findById(1L)).thenReturn(Optional.of(testWorkOrder));
+        when(workOrderRepository.save(testWorkOrder)).thenReturn(testWorkOrder);
+        doThrow(new OptimisticLockingFailureException("Row was updated")).when(workOrderRepository).flush();
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.update(1L, request, 0L))
+            .isInstanceOf(WorkOrderPreconditionFailedException.class);
+        verify(workOrderCache, never()).putAfterCommit(any());
+    }
+    
+    @Test
+    void givenUnknownId_whenFindVersion_thenThrowNotFound() {
+        // Given
+        when(workOrderRepository.findVersionById(999L)).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.findVersion(999L))
+            .isInstanceOf(WorkOrderNotFoundException.class);
     }
     
     @Test
@@ -240,15 +488,18 @@ class WorkOrderServiceTest {
         // Given
         List<WorkOrder> workOrders = List.of(testWorkOrder);
         List<WorkOrderDto> workOrderDtos = List.of(testWorkOrderDto);
-        when(workOrderRepository.findByStatus(WorkOrderStatus.PENDING)).thenReturn(workOrders);
+        when(workOrderRepository.findPageByStatusAfter(
+                eq(WorkOrderStatus.PENDING), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(workOrders);
         when(workOrderMapper.toDtoList(workOrders)).thenReturn(workOrderDtos);
         
         // When
-        List<WorkOrderDto> result = workOrderService.findByStatus(WorkOrderStatus.PENDING);
+        CursorPage<WorkOrderDto> result = workOrderService.findByStatus(WorkOrderStatus.PENDING, null, 20);
         
         // Then
-        assertThat(result).hasSize(1);
-        verify(workOrderRepository).findByStatus(WorkOrderStatus.PENDING);
+        assertThat(result.getContent()).hasSize(1);
+        verify(workOrderRepository).findPageByStatusAfter(
+            eq(WorkOrderStatus.PENDING), any(LocalDateTime.class), eq(0L), any(Pageable.class));
     }
     
     @Test
@@ -256,14 +507,293 @@ class WorkOrderServiceTest {
         // Given
         List<WorkOrder> workOrders = List.of(testWorkOrder);
         List<WorkOrderDto> workOrderDtos = List.of(testWorkOrderDto);
-        when(workOrderRepository.findByCustomerId(100L)).thenReturn(workOrders);
+        when(workOrderRepository.findPageByCustomerIdAfter(
+                eq(100L), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(workOrders);
         when(workOrderMapper.toDtoList(workOrders)).thenReturn(workOrderDtos);
         
         // When
-        List<WorkOrderDto> result = workOrderService.findByCustomerId(100L);
+        CursorPage<WorkOrderDto> result = workOrderService.findByCustomerId(100L, null, 20);
+        
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(workOrderRepository).findPageByCustomerIdAfter(
+            eq(100L), any(LocalDateTime.class), eq(0L), any(Pageable.class));
+    }
+    
+    @Test
+    void givenCriteria_whenSearch_thenRunSingleSpecificationQuery() {
+        // Given
+        WorkOrderSearchCriteria criteria = WorkOrderSearchCriteria.builder()
+            .status(List.of(WorkOrderStatus.PENDING))
+            .city("Springfield")
+            .build();
+        List<WorkOrder> workOrders = List.of(testWorkOrder);
+        when(workOrderRepository.findBy(any(Specification.class), any())).thenReturn(workOrders);
+        when(workOrderMapper.toDtoList(workOrders)).thenReturn(List.of(testWorkOrderDto));
+        
+        // When
+        CursorPage<WorkOrderDto> result = workOrderService.search(criteria, null, 20);
+        
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        verify(workOrderRepository).findBy(any(Specification.class), any());
+    }
+    
+    @Test
+    void givenMoreSummariesThanPageSize_whenFindSummaries_thenReturnCursorFromLastSummary() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        WorkOrderSummary first = summary(1L).createdAt(createdAt).build();
+        WorkOrderSummary second = summary(2L).createdAt(createdAt.plusSeconds(1)).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), eq(2))).thenReturn(List.of(first, second));
+        
+        // When
+        CursorPage<WorkOrderSummary> result = workOrderService.findSummaries(new WorkOrderSearchCriteria(), null, 1);
         
         // Then
-        assertThat(result).hasSize(1);
-        verify(workOrderRepository).findByCustomerId(100L);
+        assertThat(result.getContent()).containsExactly(first);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(result.getNextCursor())).isEqualTo(new KeysetCursor(createdAt, 1L));
+        verifyNoInteractions(workOrderMapper);
+    }
+    
+    @Test
+    void givenTrackerReady_whenFindOverdueSummaries_thenServeFromTrackerWithoutQuery() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        WorkOrderSummary first = summary(1L).createdAt(createdAt).build();
+        WorkOrderSummary second = summary(2L).createdAt(createdAt.plusSeconds(1)).build();
+        when(overdueWorkOrderTracker.isReady()).thenReturn(true);
+        when(overdueWorkOrderTracker.findOverdue(KeysetCursor.START, 2)).thenReturn(List.of(first, second));
+        
+        // When
+        CursorPage<WorkOrderSummary> result = workOrderService.findOverdueSummaries(null, 1);
+        
+        // Then
+        assertThat(result.getContent()).containsExactly(first);
+        assertThat(result.isHasNext()).isTrue();
+        verifyNoInteractions(workOrderRepository);
+    }
+    
+    @Test
+    void givenTrackerReady_whenFindOverdueWorkOrders_thenLoadOnlyTrackedIds() {
+        // Given
+        WorkOrderSummary overdue = summary(1L).createdAt(LocalDateTime.of(2025, 1, 1, 12, 0)).build();
+        when(overdueWorkOrderTracker.isReady()).thenReturn(true);
+        when(overdueWorkOrderTracker.findOverdue(KeysetCursor.START, 21)).thenReturn(List.of(overdue));
+        when(workOrderRepository.findAllById(List.of(1L))).thenReturn(List.of(testWorkOrder));
+        when(workOrderMapper.toDtoList(List.of(testWorkOrder))).thenReturn(List.of(testWorkOrderDto));
+        
+        // When
+        CursorPage<WorkOrderDto> result = workOrderService.findOverdueWorkOrders(null, 20);
+        
+        // Then
+        assertThat(result.getContent()).containsExactly(testWorkOrderDto);
+        assertThat(result.isHasNext()).isFalse();
+        verify(workOrderRepository, never()).findOverduePageAfter(any(), any(), any(), any());
+    }
+    
+    @Test
+    void givenTextQuery_whenFindSummaries_thenReturnFilteredHitsInRankOrderWithRelevanceCursor() {
+        // Given
+        WorkOrderSearchCriteria criteria = WorkOrderSearchCriteria.builder()
+            .q("water heater")
+            .status(List.of(WorkOrderStatus.PENDING))
+            .build();
+        when(workOrderTextIndex.isReady()).thenReturn(true);
+        when(workOrderTextIndex.search("water heater")).thenReturn(List.of(
+            new WorkOrderTextIndex.Hit(3L, 9.0),
+            new WorkOrderTextIndex.Hit(1L, 7.5),
+            new WorkOrderTextIndex.Hit(2L, 7.5),
+            new WorkOrderTextIndex.Hit(4L, 1.0)));
+        // Work order 1 does not match the status filter
+        when(workOrderRepository.findSummaries(any(Specification.class), eq(4))).thenReturn(List.of(
+            summary(4L).build(),
+            summary(2L).build(),
+            summary(3L).build()));
+        
+        // When
+        CursorPage<WorkOrderSummary> first = workOrderService.findSummaries(criteria, null, 2);
+        
+        // Then
+        assertThat(first.getContent()).extracting(WorkOrderSummary::id).containsExactly(3L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+        
+        // Given
+        when(workOrderRepository.findSummaries(any(Specification.class), eq(1)))
+            .thenReturn(List.of(summary(4L).build()));
+        
+        // When
+        CursorPage<WorkOrderSummary> second = workOrderService.findSummaries(criteria, first.getNextCursor(), 2);
+        
+        // Then
+        assertThat(second.getContent()).extracting(WorkOrderSummary::id).containsExactly(4L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+    
+    @Test
+    void givenTextIndexNotReady_whenSearch_thenThrowSearchUnavailable() {
+        // Given
+        WorkOrderSearchCriteria criteria = WorkOrderSearchCriteria.builder().q("leak").build();
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.search(criteria, null, 20))
+            .isInstanceOf(WorkOrderSearchUnavailableException.class);
+        verifyNoInteractions(workOrderRepository);
+    }
+    
+    @Test
+    void givenTextQueryInBulkFilter_whenBulkUpdateStatus_thenThrowValidationException() {
+        // Given
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+            .filter(WorkOrderSearchCriteria.builder().q("leak").build())
+            .status(WorkOrderStatus.CANCELLED)
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.bulkUpdateStatus(request))
+            .isInstanceOf(WorkOrderValidationException.class)
+            .hasMessageContaining("free-text");
+    }
+    
+    @Test
+    void givenIndexReady_whenFindNearby_thenReturnIndexedNeighborsInDistanceOrder() {
+        // Given
+        WorkOrderSummary near = summary(1L).build();
+        WorkOrderSummary far = summary(2L).build();
+        when(workOrderSpatialIndex.isReady()).thenReturn(true);
+        when(workOrderSpatialIndex.findNearest(new GeoPoint(39.8, -89.65), 25, 10)).thenReturn(List.of(
+            new WorkOrderSpatialIndex.Neighbor(1L, 1.5),
+            new WorkOrderSpatialIndex.Neighbor(2L, 7.0),
+            new WorkOrderSpatialIndex.Neighbor(3L, 9.0)));
+        when(workOrderRepository.findSummaries(any(Specification.class), eq(3))).thenReturn(List.of(far, near));
+        
+        // When
+        List<NearbyWorkOrder> result = workOrderService.findNearby(39.8, -89.65, 25, 10);
+        
+        // Then
+        assertThat(result).containsExactly(new NearbyWorkOrder(near, 1.5), new NearbyWorkOrder(far, 7.0));
+    }
+    
+    @Test
+    void givenIndexNotReady_whenFindNearby_thenFilterBoundingBoxByDistance() {
+        // Given
+        WorkOrderSummary near = summary(1L).location(39.80, -89.65).build();
+        WorkOrderSummary corner = summary(2L).location(39.99, -89.40).build();
+        WorkOrderSummary nearer = summary(3L).location(39.79, -89.65).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(near, corner, nearer));
+        
+        // When
+        List<NearbyWorkOrder> result = workOrderService.findNearby(39.78, -89.65, 25, 10);
+        
+        // Then
+        assertThat(result).extracting(nearby -> nearby.workOrder().id()).containsExactly(3L, 1L);
+        assertThat(result.get(0).distanceKm()).isCloseTo(1.11, within(0.01));
+    }
+    
+    @Test
+    void givenRadiusAboveMaximum_whenFindNearby_thenThrowValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.findNearby(39.8, -89.65, WorkOrderService.MAX_NEARBY_RADIUS_KM + 1, 10))
+            .isInstanceOf(WorkOrderValidationException.class)
+            .hasMessageContaining("Radius");
+        verifyNoInteractions(workOrderRepository, workOrderSpatialIndex);
+    }
+    
+    @Test
+    void givenMixedTargets_whenBulkUpdateStatus_thenUpdateOpenRowsAndReportSkipped() {
+        // Given
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+            .ids(List.of(1L, 2L, 3L, 4L))
+            .status(WorkOrderStatus.CANCELLED)
+            .build();
+        WorkOrderSummary cancelled = summary(1L).status(WorkOrderStatus.CANCELLED).build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(
+                summary(1L).build(),
+                summary(2L).status(WorkOrderStatus.COMPLETED).build(),
+                summary(3L).status(WorkOrderStatus.CANCELLED).build()))
+            .thenReturn(List.of(cancelled));
+        when(workOrderRepository.updateStatusWhereOpen(
+                eq(List.of(1L)), eq(WorkOrderStatus.CANCELLED), isNull(), isNull(), any(LocalDateTime.class)))
+            .thenReturn(1);
+        
+        // When
+        BulkUpdateResponse result = workOrderService.bulkUpdateStatus(request);
+        
+        // Then
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getUpdatedIds()).containsExactly(1L);
+        assertThat(result.getSkipped()).extracting(SkippedWorkOrder::getId, SkippedWorkOrder::getReason)
+            .containsExactly(
+                tuple(2L, "Cannot change status from COMPLETED to CANCELLED"),
+                tuple(3L, "Work order is already CANCELLED"),
+                tuple(4L, "Work order not found"));
+        verify(workOrderCache).invalidateAfterCommit(Map.of(1L, 0L));
+        verify(eventPublisher).publishEvent(
+            new WorkOrderChangedEvent(summary(1L).build(), cancelled));
+    }
+    
+    @Test
+    void givenStatusInProgress_whenBulkUpdateStatus_thenStartedAtIsSupplied() {
+        // Given
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+            .ids(List.of(1L))
+            .status(WorkOrderStatus.IN_PROGRESS)
+            .build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).build()))
+            .thenReturn(List.of(summary(1L).status(WorkOrderStatus.IN_PROGRESS).technician(200L).build()));
+        when(workOrderRepository.updateStatusWhereOpen(any(), any(), any(), any(), any())).thenReturn(1);
+        
+        // When
+        workOrderService.bulkUpdateStatus(request);
+        
+        // Then
+        verify(workOrderRepository).updateStatusWhereOpen(
+            eq(List.of(1L)), eq(WorkOrderStatus.IN_PROGRESS), any(LocalDateTime.class), isNull(), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void givenTargetClosedConcurrently_whenBulkAssign_thenReportItAsSkipped() {
+        // Given
+        BulkAssignRequest request = BulkAssignRequest.builder()
+            .ids(List.of(1L, 2L))
+            .technicianId(300L)
+            .technicianName("Storm Crew")
+            .build();
+        when(workOrderRepository.findSummaries(any(Specification.class), anyInt()))
+            .thenReturn(List.of(summary(1L).build(), summary(2L).build()))
+            .thenReturn(List.of(summary(1L).status(WorkOrderStatus.ASSIGNED).technician(300L).build(),
+                summary(2L).status(WorkOrderStatus.CANCELLED).build()));
+        when(workOrderRepository.assignWhereOpen(eq(List.of(1L, 2L)), eq(300L), eq("Storm Crew"), any(LocalDateTime.class)))
+            .thenReturn(1);
+        
+        // When
+        BulkUpdateResponse result = workOrderService.bulkAssign(request);
+        
+        // Then
+        assertThat(result.getUpdatedIds()).containsExactly(1L);
+        assertThat(result.getSkipped()).extracting(SkippedWorkOrder::getId).containsExactly(2L);
+        verify(eventPublisher, times(1)).publishEvent(any(WorkOrderChangedEvent.class));
+    }
+    
+    @Test
+    void givenIdsAndFilter_whenBulkAssign_thenThrowValidationException() {
+        // Given
+        BulkAssignRequest request = BulkAssignRequest.builder()
+            .ids(List.of(1L))
+            .filter(new WorkOrderSearchCriteria())
+            .technicianId(300L)
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> workOrderService.bulkAssign(request))
+            .isInstanceOf(WorkOrderValidationException.class)
+            .hasMessageContaining("either ids or filter");
+        verify(workOrderRepository, never()).assignWhereOpen(any(), any(), any(), any());
     }
 }
@@ -0,0 +1,169 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderLocation;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderSpatialIndex.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderSpatialIndexTest {
+
+    private static final GeoPoint SPRINGFIELD = new GeoPoint(39.7817, -89.6501);
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new WorkOrderSpatialIndex(workOrderRepository, meterRegistry, true, 1000, 0.05);
+    }
+
+    @Test
+    void givenRandomLocations_whenFindNearest_thenMatchBruteForce() {
+        // Given
+        Random random = new Random(42);
+        List<WorkOrderLocation> rows = new ArrayList<>();
+        for (long id = 1; id <= 800; id++) {
+            rows.add(new WorkOrderLocation(id, SPRINGFIELD.latitude() + random.nextGaussian(),
+                SPRINGFIELD.longitude() + random.nextGaussian(), 0L));
+        }
+        when(workOrderRepository.findOpenLocations(any(Pageable.class))).thenReturn(rows);
+        index.seed();
+
+        for (int query = 0; query < 50; query++) {
+            GeoPoint point = new GeoPoint(SPRINGFIELD.latitude() + random.nextGaussian(),
+                SPRINGFIELD.longitude() + random.nextGaussian());
+            double radiusKm = 1 + random.nextDouble() * 150;
+            int limit = 1 + random.nextInt(20);
+
+            // When
+            List<WorkOrderSpatialIndex.Neighbor> nearest = index.findNearest(point, radiusKm, limit);
+
+            // Then
+            List<Long> expected = rows.stream()
+                .filter(row -> point.distanceKm(row.latitude(), row.longitude()) <= radiusKm)
+                .sorted(Comparator.comparingDouble((WorkOrderLocation row) -> point.distanceKm(row.latitude(), row.longitude()))
+                    .thenComparingLong(WorkOrderLocation::id))
+                .limit(limit)
+                .map(WorkOrderLocation::id)
+                .toList();
+            assertThat(nearest).extracting(WorkOrderSpatialIndex.Neighbor::id).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void givenLocationsAcrossAntimeridian_whenFindNearest_thenWrapLongitude() {
+        // Given
+        when(workOrderRepository.findOpenLocations(any(Pageable.class))).thenReturn(List.of(
+            new WorkOrderLocation(1L, 0.0, 179.99, 0L),
+            new WorkOrderLocation(2L, 0.0, -179.99, 0L)));
+        index.seed();
+
+        // When
+        List<WorkOrderSpatialIndex.Neighbor> nearest = index.findNearest(new GeoPoint(0.0, 179.95), 20, 10);
+
+        // Then
+        assertThat(nearest).extracting(WorkOrderSpatialIndex.Neighbor::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void givenIndexedWorkOrder_whenMovedClosedOrDeleted_thenIndexFollows() {
+        // Given
+        when(workOrderRepository.findOpenLocations(any(Pageable.class))).thenReturn(List.of());
+        index.seed();
+        WorkOrderSummary created = summary(1L).location(39.78, -89.65).build();
+        index.onWorkOrderChanged(WorkOrderChangedEvent.created(created));
+        assertThat(index.findNearest(SPRINGFIELD, 5, 10)).hasSize(1);
+
+        // When
+        WorkOrderSummary completed = summary(created).status(WorkOrderStatus.COMPLETED).version(1L).build();
+        index.onWorkOrderChanged(new WorkOrderChangedEvent(created, completed));
+
+        // Then
+        assertThat(index.findNearest(SPRINGFIELD, 5, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+
+        // When
+        WorkOrderSummary other = summary(2L).location(39.78, -89.65).build();
+        index.onWorkOrderChanged(WorkOrderChangedEvent.created(other));
+        index.onWorkOrderChanged(WorkOrderChangedEvent.deleted(other));
+
+        // Then
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void givenStaleEvent_whenApplied_thenIgnored() {
+        // Given
+        when(workOrderRepository.findOpenLocations(any(Pageable.class))).thenReturn(List.of(
+            new WorkOrderLocation(1L, 39.78, -89.65, 3L)));
+        index.seed();
+
+        // When
+        index.onWorkOrderChanged(new WorkOrderChangedEvent(null,
+            summary(1L).status(WorkOrderStatus.CANCELLED).version(2L).location(39.78, -89.65).build()));
+
+        // Then
+        assertThat(index.findNearest(SPRINGFIELD, 5, 10)).extracting(WorkOrderSpatialIndex.Neighbor::id)
+            .containsExactly(1L);
+    }
+
+    @Test
+    void givenDrift_whenReconcile_thenCorrectIndexAndCountCorrections() {
+        // Given
+        when(workOrderRepository.findOpenLocations(any(Pageable.class)))
+            .thenReturn(List.of(new WorkOrderLocation(1L, 39.78, -89.65, 0L)))
+            .thenReturn(List.of(new WorkOrderLocation(2L, 39.79, -89.65, 0L)));
+        index.seed();
+
+        // When
+        index.reconcile();
+
+        // Then
+        assertThat(index.findNearest(SPRINGFIELD, 5, 10)).extracting(WorkOrderSpatialIndex.Neighbor::id)
+            .containsExactly(2L);
+        assertThat(meterRegistry.counter("workorder.geo.corrections").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void givenMoreLocationsThanTracked_whenSeeded_thenIndexIsNotReady() {
+        // Given
+        index = new WorkOrderSpatialIndex(workOrderRepository, meterRegistry, true, 1, 0.05);
+        when(workOrderRepository.findOpenLocations(any(Pageable.class))).thenReturn(List.of(
+            new WorkOrderLocation(1L, 39.78, -89.65, 0L),
+            new WorkOrderLocation(2L, 39.79, -89.65, 0L)));
+
+        // When
+        index.seed();
+
+        // Then
+        assertThat(index.isReady()).isFalse();
+    }
+}
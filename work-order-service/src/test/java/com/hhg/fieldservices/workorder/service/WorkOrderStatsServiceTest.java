@@ -0,0 +1,162 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderCount;
+import com.hhg.fieldservices.workorder.dto.WorkOrderStats;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderStatsService.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderStatsServiceTest {
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsService = new WorkOrderStatsService(workOrderRepository, meterRegistry, true);
+    }
+
+    @Test
+    void givenNotSeeded_whenGetStats_thenCountInDatabase() {
+        // Given
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenReturn(List.of(
+            new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.HIGH, null, 3L),
+            new WorkOrderCount(WorkOrderStatus.ASSIGNED, WorkOrderPriority.HIGH, 200L, 2L)));
+
+        // When
+        WorkOrderStats stats = statsService.getStats();
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getUnassigned()).isEqualTo(3);
+        assertThat(stats.getByTechnician()).containsExactly(entry(200L, 2L));
+        assertThat(stats.getByPriority()).containsEntry(WorkOrderPriority.HIGH, 5L)
+            .containsEntry(WorkOrderPriority.LOW, 0L);
+    }
+
+    @Test
+    void givenSeeded_whenChangesCommit_thenCountersMoveWithoutQuerying() {
+        // Given
+        seed(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 4L));
+        WorkOrderSummary pending = summary(1L).build();
+        WorkOrderSummary assigned = summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).build();
+
+        // When
+        statsService.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(2L).build()));
+        statsService.onWorkOrderChanged(new WorkOrderChangedEvent(pending, assigned));
+        statsService.onWorkOrderChanged(WorkOrderChangedEvent.deleted(summary(3L).build()));
+        WorkOrderStats stats = statsService.getStats();
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getByStatus()).containsEntry(WorkOrderStatus.PENDING, 3L)
+            .containsEntry(WorkOrderStatus.ASSIGNED, 1L);
+        assertThat(stats.getBreakdown()).containsExactlyInAnyOrder(
+            new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 3L),
+            new WorkOrderCount(WorkOrderStatus.ASSIGNED, WorkOrderPriority.NORMAL, 200L, 1L));
+        verify(workOrderRepository, times(1)).countByStatusPriorityAndTechnician();
+    }
+
+    @Test
+    void givenMissedChange_whenReconciled_thenDriftIsCorrected() {
+        // Given
+        seed(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 4L));
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenReturn(List.of(
+            new WorkOrderCount(WorkOrderStatus.COMPLETED, WorkOrderPriority.NORMAL, 200L, 4L)));
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        assertThat(statsService.getStats().getBreakdown()).containsExactly(
+            new WorkOrderCount(WorkOrderStatus.COMPLETED, WorkOrderPriority.NORMAL, 200L, 4L));
+    }
+
+    @Test
+    void givenMissedChange_whenReconciled_thenTotalsFollowTheCorrectedCells() {
+        // Given
+        seed(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 4L));
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenReturn(List.of(
+            new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 1L),
+            new WorkOrderCount(WorkOrderStatus.ASSIGNED, WorkOrderPriority.HIGH, 200L, 3L)));
+
+        // When
+        statsService.reconcile();
+        WorkOrderStats stats = statsService.getStats();
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getUnassigned()).isEqualTo(1);
+        assertThat(stats.getByTechnician()).containsExactly(entry(200L, 3L));
+        assertThat(stats.getByStatus()).containsEntry(WorkOrderStatus.PENDING, 1L)
+            .containsEntry(WorkOrderStatus.ASSIGNED, 3L);
+        assertThat(stats.getByPriority()).containsEntry(WorkOrderPriority.NORMAL, 1L)
+            .containsEntry(WorkOrderPriority.HIGH, 3L);
+    }
+
+    @Test
+    void givenCellsDrainedToZero_whenReconciled_thenTheyAreRemoved() {
+        // Given
+        seed(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 1L));
+        statsService.onWorkOrderChanged(new WorkOrderChangedEvent(
+            summary(1L).build(), summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).build()));
+        statsService.onWorkOrderChanged(new WorkOrderChangedEvent(
+            summary(1L).status(WorkOrderStatus.ASSIGNED).technician(200L).build(),
+            summary(1L).status(WorkOrderStatus.IN_PROGRESS).technician(200L).build()));
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenReturn(List.of(
+            new WorkOrderCount(WorkOrderStatus.IN_PROGRESS, WorkOrderPriority.NORMAL, 200L, 1L)));
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        assertThat(meterRegistry.get("workorder.stats.cells").gauge().value()).isEqualTo(1.0);
+        assertThat(statsService.getStats().getBreakdown()).containsExactly(
+            new WorkOrderCount(WorkOrderStatus.IN_PROGRESS, WorkOrderPriority.NORMAL, 200L, 1L));
+    }
+
+    @Test
+    void givenChangeCommittedDuringReconcile_whenSnapshotIsOlder_thenChangedCellIsLeftAlone() {
+        // Given
+        seed(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 4L));
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenAnswer(invocation -> {
+            statsService.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(5L).build()));
+            return List.of(new WorkOrderCount(WorkOrderStatus.PENDING, WorkOrderPriority.NORMAL, null, 4L));
+        });
+
+        // When
+        statsService.reconcile();
+
+        // Then
+        assertThat(statsService.getStats().getTotal()).isEqualTo(5);
+    }
+
+    private void seed(WorkOrderCount... counts) {
+        when(workOrderRepository.countByStatusPriorityAndTechnician()).thenReturn(List.of(counts));
+        statsService.seed();
+    }
+}
@@ -0,0 +1,78 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.CreateWorkOrderRequest;
+import com.hhg.fieldservices.workorder.dto.WorkOrderDto;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderStatusChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the status history writer against the real transaction manager and schema.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "logging.level.org.hibernate.SQL=INFO"
+})
+class WorkOrderStatusHistoryTest {
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private WorkOrderStatusHistoryWriter writer;
+
+    @Autowired
+    private WorkOrderStatusChangeRepository statusChangeRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        writer.start();
+        workOrderRepository.deleteAll();
+        statusChangeRepository.deleteAll();
+    }
+
+    @Test
+    void givenWriterStopped_whenStatusChanges_thenCommittingThreadWritesHistoryInItsOwnTransaction() {
+        // Given
+        writer.stop();
+        double dropped = meterRegistry.counter("workorder.history.dropped").count();
+        WorkOrderDto created = workOrderService.create(CreateWorkOrderRequest.builder()
+            .title("Inline history")
+            .priority(WorkOrderPriority.NORMAL)
+            .customerId(100L)
+            .build());
+
+        // When
+        workOrderService.updateStatus(created.getId(), WorkOrderStatus.IN_PROGRESS);
+
+        // Then
+        List<WorkOrderStatusChange> history = statusChangeRepository.findAll().stream()
+            .filter(change -> change.getWorkOrderId().equals(created.getId()))
+            .toList();
+        assertThat(history)
+            .extracting(WorkOrderStatusChange::getFromStatus, WorkOrderStatusChange::getToStatus)
+            .containsExactlyInAnyOrder(
+                tuple(null, WorkOrderStatus.PENDING),
+                tuple(WorkOrderStatus.PENDING, WorkOrderStatus.IN_PROGRESS));
+        assertThat(meterRegistry.counter("workorder.history.dropped").count()).isEqualTo(dropped);
+    }
+}
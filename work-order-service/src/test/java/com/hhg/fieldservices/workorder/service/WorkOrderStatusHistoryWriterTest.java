@@ -0,0 +1,198 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatusChange;
+import com.hhg.fieldservices.workorder.repository.WorkOrderStatusChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderStatusHistoryWriter.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderStatusHistoryWriterTest {
+
+    @Mock
+    private WorkOrderStatusChangeRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderStatusHistoryWriter writer;
+    private List<List<WorkOrderStatusChange>> batches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new WorkOrderStatusHistoryWriter(repository, new TransactionTemplate(transactionManager),
+            meterRegistry, true, 2, Duration.ofSeconds(5), 100, 2, Duration.ofSeconds(5));
+        batches = new ArrayList<>();
+        lenient().doAnswer(this::keepBatch).when(repository).saveAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    void givenQueuedChanges_whenStopped_thenWriteThemInBatchesBeforeReturning() {
+        // Given
+        writer.start();
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(1L).build()));
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(summary(1L).build(),
+            summary(1L).status(WorkOrderStatus.ASSIGNED).version(1L).build()));
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(summary(1L).status(WorkOrderStatus.ASSIGNED).version(1L).build(),
+            summary(1L).status(WorkOrderStatus.IN_PROGRESS).version(2L).build()));
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.stream().flatMap(List::stream).toList())
+            .extracting(WorkOrderStatusChange::getFromStatus, WorkOrderStatusChange::getToStatus,
+                WorkOrderStatusChange::getWorkOrderVersion)
+            .containsExactly(
+                tuple(null, WorkOrderStatus.PENDING, 0L),
+                tuple(WorkOrderStatus.PENDING, WorkOrderStatus.ASSIGNED, 1L),
+                tuple(WorkOrderStatus.ASSIGNED, WorkOrderStatus.IN_PROGRESS, 2L));
+        assertThat(meterRegistry.counter("workorder.history.written").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("workorder.history.queued").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenWriterNotRunning_whenStatusChanges_thenWriteOnCallingThread() {
+        // When
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(
+            summary(1L).status(WorkOrderStatus.IN_PROGRESS).technician(200L).version(3L).build(),
+            summary(1L).status(WorkOrderStatus.COMPLETED).technician(200L).version(4L).build()));
+
+        // Then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).get(0).getToStatus()).isEqualTo(WorkOrderStatus.COMPLETED);
+        assertThat(batches.get(0).get(0).getTechnicianId()).isEqualTo(200L);
+        assertThat(meterRegistry.counter("workorder.history.inline").count()).isEqualTo(1.0);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void givenChangeKeepsStatusOrDeletes_whenWorkOrderChanged_thenRecordNothing() {
+        // When
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(summary(1L).status(WorkOrderStatus.ASSIGNED).version(1L).build(),
+            summary(1L).status(WorkOrderStatus.ASSIGNED).version(2L).build()));
+        writer.onWorkOrderChanged(
+            new WorkOrderChangedEvent(summary(1L).status(WorkOrderStatus.ASSIGNED).version(2L).build(), null));
+
+        // Then
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    void givenWriteFails_whenFlushing_thenRetryUntilWritten() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("database unavailable"))
+            .doAnswer(this::keepBatch)
+            .when(repository).saveAll(anyList());
+        writer.start();
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(7L).build()));
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).get(0).getWorkOrderId()).isEqualTo(7L);
+        assertThat(meterRegistry.counter("workorder.history.failures").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("workorder.history.written").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenEntryThatCannotBeWritten_whenAttemptsRunOut_thenWriteTheOthersAndDropIt() {
+        // Given
+        doAnswer(invocation -> {
+            List<WorkOrderStatusChange> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(change -> change.getWorkOrderId() == 13L)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return keepBatch(invocation);
+        }).when(repository).saveAll(anyList());
+        writer.start();
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(12L).build()));
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(13L).build()));
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(14L).build()));
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(batches.stream().flatMap(List::stream).toList())
+            .extracting(WorkOrderStatusChange::getWorkOrderId)
+            .containsExactly(12L, 14L);
+        assertThat(meterRegistry.counter("workorder.history.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("workorder.history.written").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void givenWriterInterruptedWhileRetrying_whenDatabaseStaysDown_thenStopRetryingAndWriteInline() throws Exception {
+        // Given
+        doThrow(new DataAccessResourceFailureException("database unavailable")).when(repository).saveAll(anyList());
+        // Writers of Spring contexts cached by other tests run under the same name
+        Set<Thread> otherThreads = Thread.getAllStackTraces().keySet();
+        writer.start();
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(7L).build()));
+        Thread writerThread = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("status-history-writer") && !otherThreads.contains(thread))
+            .findFirst()
+            .orElseThrow();
+        while (meterRegistry.counter("workorder.history.failures").count() < 1) {
+            Thread.sleep(10);
+        }
+
+        // When
+        writerThread.interrupt();
+        writerThread.join(5_000);
+
+        // Then
+        assertThat(writerThread.isAlive()).isFalse();
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(meterRegistry.counter("workorder.history.failures").count()).isLessThan(10.0);
+        assertThat(meterRegistry.counter("workorder.history.dropped").count()).isEqualTo(1.0);
+        writer.onWorkOrderChanged(new WorkOrderChangedEvent(null, summary(8L).build()));
+        assertThat(meterRegistry.counter("workorder.history.inline").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * The writer reuses its batch list, so keep a copy of each one
+     */
+    private List<WorkOrderStatusChange> keepBatch(InvocationOnMock invocation) {
+        List<WorkOrderStatusChange> batch = List.copyOf(invocation.getArgument(0));
+        batches.add(batch);
+        return batch;
+    }
+}
@@ -0,0 +1,158 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderChangeNotification;
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderEventType;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WorkOrderStreamBroadcaster.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class WorkOrderStreamBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = broadcaster(16, Runnable::run);
+    }
+
+    @Test
+    void givenStatusFilter_whenChangesCommitted_thenSendChangesEnteringOrLeavingIt() {
+        // Given
+        RecordingEmitter client = subscribe(new WorkOrderStreamBroadcaster.Filter(
+            Set.of(WorkOrderStatus.PENDING), null, null), null);
+        WorkOrderSummary pending = summary(1L).customer(100L).build();
+
+        // When
+        broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(pending));
+        broadcaster.onWorkOrderChanged(
+            WorkOrderChangedEvent.created(summary(2L).status(WorkOrderStatus.IN_PROGRESS).build()));
+        broadcaster.onWorkOrderChanged(new WorkOrderChangedEvent(pending,
+            summary(pending).status(WorkOrderStatus.ASSIGNED).technician(200L).version(1L).build()));
+
+        // Then
+        assertThat(client.names).containsExactly("change", "change");
+        assertThat(client.notifications).extracting(WorkOrderChangeNotification::id).containsExactly(1L, 1L);
+        assertThat(client.notifications).extracting(WorkOrderChangeNotification::type)
+            .containsExactly(WorkOrderEventType.CREATED, WorkOrderEventType.ASSIGNED);
+        assertThat(client.notifications.get(1).customerId()).isEqualTo(100L);
+        assertThat(client.notifications.get(1).assignedTechnicianName()).isEqualTo("Technician 200");
+    }
+
+    @Test
+    void givenLastEventId_whenReconnect_thenResendMissedChanges() {
+        // Given
+        RecordingEmitter first = subscribe(WorkOrderStreamBroadcaster.Filter.ALL, null);
+        broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(1L).build()));
+        String lastEventId = first.ids.get(0);
+        broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(2L).build()));
+        broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(3L).build()));
+
+        // When
+        RecordingEmitter resumed = subscribe(WorkOrderStreamBroadcaster.Filter.ALL, lastEventId);
+
+        // Then
+        assertThat(resumed.notifications).extracting(WorkOrderChangeNotification::id).containsExactly(2L, 3L);
+        assertThat(resumed.ids).doesNotHaveDuplicates().doesNotContain(lastEventId);
+    }
+
+    @Test
+    void givenUnknownLastEventId_whenReconnect_thenSendReset() {
+        // Given
+        broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(1L).build()));
+
+        // When
+        RecordingEmitter client = subscribe(WorkOrderStreamBroadcaster.Filter.ALL, "restarted-7");
+
+        // Then
+        assertThat(client.names).containsExactly("reset");
+        assertThat(client.notifications).isEmpty();
+    }
+
+    @Test
+    void givenStalledClient_whenBufferFills_thenDropOnlyThatClient() {
+        // Given
+        List<Runnable> stalled = new ArrayList<>();
+        broadcaster = broadcaster(2, stalled::add);
+        RecordingEmitter slow = subscribe(WorkOrderStreamBroadcaster.Filter.ALL, null);
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onWorkOrderChanged(WorkOrderChangedEvent.created(summary(id).build()));
+        }
+        stalled.forEach(Runnable::run);
+
+        // Then
+        assertThat(broadcaster.clientCount()).isZero();
+        assertThat(meterRegistry.counter("workorder.stream.dropped").count()).isEqualTo(1.0);
+        assertThat(slow.completed).isTrue();
+    }
+
+    private WorkOrderStreamBroadcaster broadcaster(int clientBuffer, Executor sender) {
+        return new WorkOrderStreamBroadcaster(meterRegistry, true, 100, clientBuffer, Duration.ofMinutes(1), sender) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(WorkOrderStreamBroadcaster.Filter filter, String lastEventId) {
+        return (RecordingEmitter) broadcaster.subscribe(filter, lastEventId);
+    }
+
+    /**
+     * Emitter that records what would be written to the client
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern FIELD = Pattern.compile("^(id|event):(.*)$", Pattern.MULTILINE);
+
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<WorkOrderChangeNotification> notifications = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof WorkOrderChangeNotification notification) {
+                    notifications.add(notification);
+                } else {
+                    text.append(part.getData());
+                }
+            });
+            Matcher field = FIELD.matcher(text);
+            while (field.find()) {
+                (field.group(1).equals("id") ? ids : names).add(field.group(2));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.dto.WorkOrderSummary;
+import com.hhg.fieldservices.workorder.model.WorkOrderPriority;
+import com.hhg.fieldservices.workorder.model.WorkOrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Test fixture for {@link WorkOrderSummary} rows. Every field a test does not set gets a
+ * fixed default: a pending, normal-priority, unassigned and unscheduled work order created
+ * at noon on 2025-01-01, at version 0 and without a location.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+final class WorkOrderSummaries {
+
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private WorkOrderSummaries() {
+    }
+
+    static Builder summary(Long id) {
+        return new Builder(id);
+    }
+
+    /**
+     * Start from an existing row, e.g. to describe its next version
+     */
+    static Builder summary(WorkOrderSummary summary) {
+        return new Builder(summary.id())
+            .status(summary.status())
+            .priority(summary.priority())
+            .customer(summary.customerId())
+            .technician(summary.assignedTechnicianId(), summary.assignedTechnicianName())
+            .scheduled(summary.scheduledDate())
+            .createdAt(summary.createdAt())
+            .version(summary.version())
+            .location(summary.latitude(), summary.longitude());
+    }
+
+    static final class Builder {
+
+        private final Long id;
+        private WorkOrderStatus status = WorkOrderStatus.PENDING;
+        private WorkOrderPriority priority = WorkOrderPriority.NORMAL;
+        private Long customerId;
+        private Long technicianId;
+        private String technicianName;
+        private LocalDateTime scheduledDate;
+        private LocalDateTime createdAt = CREATED_AT;
+        private Long version = 0L;
+        private Double latitude;
+        private Double longitude;
+
+        private Builder(Long id) {
+            this.id = id;
+        }
+
+        Builder status(WorkOrderStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        Builder priority(WorkOrderPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        Builder customer(Long customerId) {
+            this.customerId = customerId;
+            return this;
+        }
+
+        /**
+         * Assign to a technician named "Technician {id}", or unassign when null
+         */
+        Builder technician(Long technicianId) {
+            return technician(technicianId, technicianId == null ? null : "Technician " + technicianId);
+        }
+
+        Builder technician(Long technicianId, String technicianName) {
+            this.technicianId = technicianId;
+            this.technicianName = technicianName;
+            return this;
+        }
+
+        Builder scheduled(LocalDateTime scheduledDate) {
+            this.scheduledDate = scheduledDate;
+            return this;
+        }
+
+        Builder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        Builder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        Builder location(Double latitude, Double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            return this;
+        }
+
+        WorkOrderSummary build() {
+            return new WorkOrderSummary(id, "WO-" + id, "Work order " + id, status, priority, customerId, null,
+                technicianId, technicianName, scheduledDate, createdAt, version, latitude, longitude);
+        }
+    }
+}
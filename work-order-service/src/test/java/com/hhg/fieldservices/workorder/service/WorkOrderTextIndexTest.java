@@ -0,0 +1,186 @@
+package com.hhg.fieldservices.workorder.service;
+
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderItemText;
+import com.hhg.fieldservices.workorder.repository.WorkOrderRepository;
+import com.hhg.fieldservices.workorder.repository.WorkOrderText;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static com.hhg.fieldservices.workorder.service.WorkOrderSummaries.summary;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkOrderTextIndex.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkOrderTextIndexTest {
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private WorkOrderItemRepository workOrderItemRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkOrderTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new WorkOrderTextIndex(workOrderRepository, workOrderItemRepository, meterRegistry, true, 1000, 1000);
+    }
+
+    @Test
+    void givenText_whenTokenize_thenLowerCaseWordsWithoutStopWords() {
+        // When
+        List<String> tokens = WorkOrderTextIndex.tokenize("Water-heater LEAK on 12 Elm St.");
+
+        // Then
+        assertThat(tokens).containsExactly("water", "heater", "leak", "12", "elm", "st");
+    }
+
+    @Test
+    void givenSeededIndex_whenSearch_thenEveryWordMustMatchAcrossFields() {
+        // Given
+        seed(List.of(
+            text(1L, "Water heater leak", "Tank dripping in basement", "123 Elm St"),
+            text(2L, "Water heater replacement", null, "9 Oak Ave"),
+            text(3L, "Roof leak", "Leak over garage", "44 Elm St")),
+            List.of(new WorkOrderItemText(2L, "Install gas water heater")));
+
+        // When
+        List<WorkOrderTextIndex.Hit> hits = index.search("water heater leak on Elm");
+
+        // Then
+        assertThat(hits).extracting(WorkOrderTextIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("gas")).extracting(WorkOrderTextIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("the on")).isEmpty();
+    }
+
+    @Test
+    void givenTitleAndDescriptionMatches_whenSearch_thenTitleMatchRanksFirst() {
+        // Given
+        seed(List.of(
+            text(1L, "Annual inspection", "Check furnace filter", null),
+            text(2L, "Furnace not igniting", "Customer reports no heat", null),
+            text(3L, "Gutter cleaning", null, null)),
+            List.of());
+
+        // When
+        List<WorkOrderTextIndex.Hit> hits = index.search("furnace");
+
+        // Then
+        assertThat(hits).extracting(WorkOrderTextIndex.Hit::id).containsExactly(2L, 1L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void givenPrefix_whenSearch_thenMatchLongerTermsBelowExactMatches() {
+        // Given
+        seed(List.of(
+            text(1L, "Leaking faucet", null, null),
+            text(2L, "Leak under sink", null, null)),
+            List.of());
+
+        // When
+        List<WorkOrderTextIndex.Hit> hits = index.search("leak");
+
+        // Then
+        assertThat(hits).extracting(WorkOrderTextIndex.Hit::id).containsExactly(2L, 1L);
+        assertThat(index.search("fauc")).extracting(WorkOrderTextIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("l")).isEmpty();
+    }
+
+    @Test
+    void givenIndexedWorkOrder_whenUpdatedThenDeleted_thenIndexFollowsAndKeepsItems() {
+        // Given
+        seed(List.of(), List.of());
+        index.onTextChanged(new WorkOrderTextChangedEvent(text(1L, "Broken window", null, null),
+            List.of("Double pane glass")));
+
+        // When
+        index.onTextChanged(new WorkOrderTextChangedEvent(
+            new WorkOrderText(1L, 1L, "Cracked window", null, null, null, null), null));
+
+        // Then
+        assertThat(index.search("broken")).isEmpty();
+        assertThat(index.search("cracked glass")).extracting(WorkOrderTextIndex.Hit::id).containsExactly(1L);
+
+        // When
+        index.onWorkOrderChanged(WorkOrderChangedEvent.deleted(summary(1L).build()));
+
+        // Then
+        assertThat(index.search("window")).isEmpty();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    void givenStaleEvent_whenApplied_thenIgnored() {
+        // Given
+        seed(List.of(new WorkOrderText(1L, 3L, "Fence repair", null, null, null, null)), List.of());
+
+        // When
+        index.onTextChanged(new WorkOrderTextChangedEvent(
+            new WorkOrderText(1L, 2L, "Gate repair", null, null, null, null), null));
+
+        // Then
+        assertThat(index.search("fence")).extracting(WorkOrderTextIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("gate")).isEmpty();
+    }
+
+    @Test
+    void givenDrift_whenReconcile_thenCorrectIndexAndCountCorrections() {
+        // Given
+        seed(List.of(text(1L, "Fence repair", null, null), text(2L, "Deck staining", null, null)), List.of());
+        when(workOrderRepository.findTextsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(text(2L, "Deck sealing", null, null)));
+
+        // When
+        index.reconcile();
+
+        // Then
+        assertThat(index.search("fence")).isEmpty();
+        assertThat(index.search("sealing")).extracting(WorkOrderTextIndex.Hit::id).containsExactly(2L);
+        assertThat(meterRegistry.counter("workorder.text.corrections").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void givenMoreWorkOrdersThanTracked_whenSeeded_thenIndexIsNotReady() {
+        // Given
+        index = new WorkOrderTextIndex(workOrderRepository, workOrderItemRepository, meterRegistry, true, 1, 1000);
+        when(workOrderRepository.findTextsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(text(1L, "Fence repair", null, null), text(2L, "Deck staining", null, null)));
+
+        // When
+        index.seed();
+
+        // Then
+        assertThat(index.isReady()).isFalse();
+    }
+
+    private void seed(List<WorkOrderText> texts, List<WorkOrderItemText> items) {
+        when(workOrderRepository.findTextsAfter(eq(0L), any(Pageable.class))).thenReturn(texts);
+        lenient().when(workOrderItemRepository.findTextsBetween(eq(0L), anyLong())).thenReturn(items);
+        index.seed();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private static WorkOrderText text(Long id, String title, String description, String serviceAddress) {
+        return new WorkOrderText(id, 0L, title, description, null, serviceAddress, null);
+    }
+}
@@ -0,0 +1,82 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the V5 migration that creates the pooled ID sequences.
+ *
+ * @author Field Services Team
+ * @version 1.0
+ */
+class V5SwitchIdsToPooledSequencesTest {
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:v5-migration");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE work_orders (id BIGINT PRIMARY KEY)");
+            statement.execute("CREATE TABLE work_order_items (id BIGINT PRIMARY KEY)");
+        }
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void givenEmptyTables_whenMigrate_thenSequencesStartAtOne() throws Exception {
+        // When
+        new V5__switch_ids_to_pooled_sequences().migrate(context);
+
+        // Then
+        assertThat(nextValue("work_orders_seq")).isEqualTo(1);
+        assertThat(nextValue("work_order_items_seq")).isEqualTo(1);
+    }
+
+    @Test
+    void givenExistingRows_whenMigrate_thenFirstPooledBlockStartsAboveMaxId() throws Exception {
+        // Given
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO work_orders VALUES (1), (120)");
+            statement.execute("INSERT INTO work_order_items VALUES (50)");
+        }
+
+        // When
+        new V5__switch_ids_to_pooled_sequences().migrate(context);
+
+        // Then
+        long workOrders = nextValue("work_orders_seq");
+        long items = nextValue("work_order_items_seq");
+        assertThat(workOrders - V5__switch_ids_to_pooled_sequences.ALLOCATION_SIZE + 1).isGreaterThan(120);
+        assertThat(items - V5__switch_ids_to_pooled_sequences.ALLOCATION_SIZE + 1).isGreaterThan(50);
+        assertThat(workOrders).isEqualTo(201);
+        assertThat(items).isEqualTo(101);
+        assertThat(nextValue("work_orders_seq")).isEqualTo(251);
+    }
+
+    private long nextValue(String sequence) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}